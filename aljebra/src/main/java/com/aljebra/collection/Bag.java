@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.collection;
+
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An immutable, array-backed collection of elements where order does not
+ * matter and duplicates count (a multiset). Two bags are equal if they contain
+ * the same elements with the same multiplicities. The hash code is computed once,
+ * and equality checks short-circuit on identity and on hash codes mismatch,
+ * so that nodes built over bags of (deep) nodes are not hashed again and again.
+ * @param <E> elements type
+ * @since 0.5
+ */
+public final class Bag<E> implements Iterable<E> {
+
+    /**
+     * Elements.
+     */
+    private final Object[] elements;
+
+    /**
+     * Cached hash code, zero if not computed yet.
+     */
+    private int hash;
+
+    /**
+     * Constructor.
+     * @param elements Bag elements
+     */
+    public Bag(final Iterable<? extends E> elements) {
+        this.elements = Lists.newArrayList(elements).toArray();
+    }
+
+    /**
+     * Gives the number of elements, counting duplicates.
+     * @return Bag size
+     */
+    public int size() {
+        return this.elements.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        return (Iterator<E>) Arrays.asList(this.elements).iterator();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.hash;
+        if (result == 0) {
+            for (final Object element : this.elements) {
+                result += element.hashCode();
+            }
+            this.hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        final boolean result;
+        if (this == obj) {
+            result = true;
+        } else if (obj instanceof Bag) {
+            final Bag<?> other = (Bag<?>) obj;
+            result = this.elements.length == other.elements.length
+                && this.hashCode() == other.hashCode()
+                && this.same(other);
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.elements);
+    }
+
+    /**
+     * Checks that this bag has the same elements as another bag of the same
+     * size, with the same multiplicities. Elements at the same position
+     * are compared first, which makes bags built in the same order
+     * compared in linear time.
+     * @param other Other bag
+     * @return True if both bags have the same elements
+     */
+    private boolean same(final Bag<?> other) {
+        final boolean[] matched = new boolean[other.elements.length];
+        boolean result = true;
+        for (int idx = 0; result && idx < this.elements.length; ++idx) {
+            result = false;
+            for (int cnt = 0; !result && cnt < matched.length; ++cnt) {
+                final int oth = (idx + cnt) % matched.length;
+                if (!matched[oth] && this.elements[idx].equals(other.elements[oth])) {
+                    matched[oth] = true;
+                    result = true;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.collection;
+
+import com.google.common.collect.Lists;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, array-backed list of elements, the ordered counterpart of
+ * {@link Bag}. The hash code is computed once, and equality checks with
+ * other tuples short-circuit on identity, size and hash codes mismatch,
+ * so that nodes holding their operands in tuples can rely on generated
+ * equality without hashing deep operands again and again.
+ * @param <E> elements type
+ * @since 0.5
+ */
+public final class Tuple<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Elements.
+     */
+    private final Object[] elements;
+
+    /**
+     * Cached hash code, zero if not computed yet.
+     */
+    private int hash;
+
+    /**
+     * Constructor.
+     * @param elements Tuple elements
+     */
+    public Tuple(final Iterable<? extends E> elements) {
+        super();
+        this.elements = Lists.newArrayList(elements).toArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        return (E) this.elements[index];
+    }
+
+    @Override
+    public int size() {
+        return this.elements.length;
+    }
+
+    @Override
+    public <A> A[] toArray(final A[] array) {
+        return Arrays.asList(this.elements).toArray(array);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.hash;
+        if (result == 0) {
+            result = super.hashCode();
+            this.hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        final boolean result;
+        if (this == obj) {
+            result = true;
+        } else if (obj instanceof Tuple) {
+            final Tuple<?> other = (Tuple<?>) obj;
+            result = this.elements.length == other.elements.length
+                && this.hashCode() == other.hashCode()
+                && super.equals(other);
+        } else {
+            result = super.equals(obj);
+        }
+        return result;
+    }
+}
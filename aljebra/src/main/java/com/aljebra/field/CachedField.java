@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.scalar.Scalar;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A metric space field decorator memoizing scalars actual values. Each scalar
+ * (identified by reference) is evaluated at most once by this field, which makes
+ * the evaluation of expression graphs sharing sub-expressions linear in their
+ * number of distinct nodes. Inner products given by this field resolve
+ * vectors coordinates through it too. An instance is intended to live during one
+ * evaluation pass (for example, one rendering of a figure): once scalars
+ * may hold different values (a new pass), a new instance should be used.
+ * This class is not thread-safe.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+public final class CachedField<T> implements MetricSpaceField<T> {
+
+    /**
+     * Decorated field.
+     */
+    private final MetricSpaceField<T> origin;
+
+    /**
+     * Already evaluated scalars.
+     */
+    private final Map<Scalar<T>, T> cache;
+
+    /**
+     * Constructor.
+     * @param origin Field to decorate
+     */
+    public CachedField(final MetricSpaceField<T> origin) {
+        this.origin = origin;
+        this.cache = new IdentityHashMap<>();
+    }
+
+    @Override
+    public Scalar<T> random() {
+        return this.origin.random();
+    }
+
+    @Override
+    public Scalar<T> other(final Scalar<T> scalar) {
+        return this.origin.other(this.resolved(scalar));
+    }
+
+    @Override
+    public boolean equals(final Scalar<T> scalar, final Scalar<T> other) {
+        return this.origin.equals(this.resolved(scalar), this.resolved(other));
+    }
+
+    @Override
+    public T actual(final Scalar<T> scalar) {
+        final T result;
+        if (this.cache.containsKey(scalar)) {
+            result = this.cache.get(scalar);
+        } else {
+            result = scalar.value(this);
+            this.cache.put(scalar, result);
+        }
+        return result;
+    }
+
+    @Override
+    public FieldAddition<T> addition() {
+        return this.origin.addition();
+    }
+
+    @Override
+    public FieldMultiplication<T> multiplication() {
+        return this.origin.multiplication();
+    }
+
+    @Override
+    public Scalar<T> between(final Scalar<T> lower, final Scalar<T> upper) {
+        return this.origin.between(this.resolved(lower), this.resolved(upper));
+    }
+
+    @Override
+    public Scalar<T> greater(final Scalar<T> lower) {
+        return this.origin.greater(this.resolved(lower));
+    }
+
+    @Override
+    public Scalar<T> lower(final Scalar<T> upper) {
+        return this.origin.lower(this.resolved(upper));
+    }
+
+    @Override
+    public InnerProduct<T> product() {
+        return new ResolvingProduct<>(this, this.origin.product());
+    }
+
+    /**
+     * Evaluates a scalar through this field cache and wraps its actual value,
+     * so that the decorated field does not evaluate it again.
+     * @param scalar Scalar to evaluate
+     * @return A scalar holding the actual value
+     */
+    private Scalar<T> resolved(final Scalar<T> scalar) {
+        return new Scalar.Default<>(this.actual(scalar));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.scalar.Scalar;
+
+/**
+ * Interface describing a metric space field of doubles that is able to
+ * operate on primitive doubles. Scalars implementing
+ * {@link com.aljebra.scalar.DoubleScalar} are evaluated by such a field
+ * without boxing intermediate values.
+ * @since 0.5
+ */
+public interface DoubleField extends MetricSpaceField<Double> {
+
+    /**
+     * Returns the primitive value represented by the given scalar.
+     * @param scalar Scalar
+     * @return The primitive value
+     */
+    double dactual(Scalar<?> scalar);
+
+    /**
+     * Operates equality on primitive values.
+     * @param first First value
+     * @param second Second value
+     * @return True if the two values are considered equal
+     */
+    boolean dequals(double first, double second);
+
+    /**
+     * Operates equality between the square root of a primitive value and
+     * another primitive value. Implementations may override it to avoid
+     * computing the square root.
+     * @param square Value whose square root is compared, positive or zero
+     * @param value Value to compare with
+     * @return True if the square root of the first value and the second value
+     *  are considered equal
+     * @since 0.5
+     */
+    default boolean dequalsroot(final double square, final double value) {
+        return this.dequals(Math.sqrt(square), value);
+    }
+
+    /**
+     * Returns the primitive field addition operation.
+     * @return A {@link DoubleFieldAddition} object
+     */
+    DoubleFieldAddition daddition();
+
+    /**
+     * Returns the primitive field multiplication operation.
+     * @return A {@link DoubleFieldMultiplication} object
+     */
+    DoubleFieldMultiplication dmultiplication();
+}
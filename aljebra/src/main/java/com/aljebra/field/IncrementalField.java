@@ -0,0 +1,375 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.scalar.Scalar;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A metric space field decorator memoizing scalars actual values, like
+ * {@link CachedField}, and recording which scalars each scalar evaluation
+ * depends on. When free scalars change (see {@link com.aljebra.scalar.Variable}),
+ * invalidating them forgets the memoized values of the scalars depending
+ * on them only, so that next evaluations recompute just these scalars.
+ * Scalars are identified by reference. Each scalar evaluation is given its
+ * own field instance, recording the scalars this evaluation reads.
+ * Scalars evaluated through this field directly are the roots of the
+ * memo: before each invalidation, the values of the scalars no root depends
+ * on anymore (like the nodes built afresh by a previous evaluation) are
+ * forgotten, so that the memo does not grow while free scalars keep changing.
+ * This class is not thread-safe.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+public final class IncrementalField<T> implements MetricSpaceField<T> {
+
+    /**
+     * Decorated field.
+     */
+    private final MetricSpaceField<T> origin;
+
+    /**
+     * Memoized values.
+     */
+    private final Map<Scalar<T>, T> values;
+
+    /**
+     * Scalars directly depending on a scalar.
+     */
+    private final Map<Scalar<T>, Set<Scalar<T>>> dependents;
+
+    /**
+     * Scalars a scalar directly depends on.
+     */
+    private final Map<Scalar<T>, Set<Scalar<T>>> dependencies;
+
+    /**
+     * Scalars evaluated through this field directly.
+     */
+    private final Set<Scalar<T>> roots;
+
+    /**
+     * Constructor.
+     * @param origin Field to decorate
+     */
+    public IncrementalField(final MetricSpaceField<T> origin) {
+        this.origin = origin;
+        this.values = new IdentityHashMap<>();
+        this.dependents = new IdentityHashMap<>();
+        this.dependencies = new IdentityHashMap<>();
+        this.roots = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Override
+    public Scalar<T> random() {
+        return this.origin.random();
+    }
+
+    @Override
+    public Scalar<T> other(final Scalar<T> scalar) {
+        return this.origin.other(this.resolved(scalar));
+    }
+
+    @Override
+    public boolean equals(final Scalar<T> scalar, final Scalar<T> other) {
+        return this.origin.equals(this.resolved(scalar), this.resolved(other));
+    }
+
+    @Override
+    public T actual(final Scalar<T> scalar) {
+        this.roots.add(scalar);
+        return this.memoized(scalar);
+    }
+
+    @Override
+    public FieldAddition<T> addition() {
+        return this.origin.addition();
+    }
+
+    @Override
+    public FieldMultiplication<T> multiplication() {
+        return this.origin.multiplication();
+    }
+
+    @Override
+    public Scalar<T> between(final Scalar<T> lower, final Scalar<T> upper) {
+        return this.origin.between(this.resolved(lower), this.resolved(upper));
+    }
+
+    @Override
+    public Scalar<T> greater(final Scalar<T> lower) {
+        return this.origin.greater(this.resolved(lower));
+    }
+
+    @Override
+    public Scalar<T> lower(final Scalar<T> upper) {
+        return this.origin.lower(this.resolved(upper));
+    }
+
+    @Override
+    public InnerProduct<T> product() {
+        return new ResolvingProduct<>(this, this.origin.product());
+    }
+
+    /**
+     * Gives the evaluated scalars depending, directly or not, on the given
+     * scalars (the given scalars included).
+     * @param scalars Scalars
+     * @return Dependent scalars, identified by reference
+     */
+    public Set<Scalar<T>> dependents(final Iterable<? extends Scalar<T>> scalars) {
+        return IncrementalField.closure(scalars, this.dependents);
+    }
+
+    /**
+     * Gives the scalars the given scalars depend on, directly or not
+     * (the given scalars included). Scalars are evaluated if needed.
+     * @param scalars Scalars
+     * @return Scalars dependencies, identified by reference
+     */
+    public Set<Scalar<T>> dependencies(final Iterable<? extends Scalar<T>> scalars) {
+        for (final Scalar<T> scalar : scalars) {
+            this.actual(scalar);
+        }
+        return IncrementalField.closure(scalars, this.dependencies);
+    }
+
+    /**
+     * Forgets the memoized values of the given scalars, which value changed,
+     * and of the scalars depending on them.
+     * @param scalars Changed scalars
+     * @return Scalars whose memoized values were forgotten
+     */
+    public Set<Scalar<T>> invalidate(final Iterable<? extends Scalar<T>> scalars) {
+        this.sweep();
+        final Set<Scalar<T>> result = this.dependents(scalars);
+        for (final Scalar<T> scalar : result) {
+            this.forget(scalar);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the number of memoized values.
+     * @return Memoized values count
+     */
+    public int size() {
+        return this.values.size();
+    }
+
+    /**
+     * Evaluates a scalar, or gives its memoized value.
+     * @param scalar Scalar to evaluate
+     * @return Scalar actual value
+     */
+    private T memoized(final Scalar<T> scalar) {
+        final T result;
+        if (this.values.containsKey(scalar)) {
+            result = this.values.get(scalar);
+        } else {
+            result = scalar.value(new IncrementalField.Node<>(this, scalar));
+            this.values.put(scalar, result);
+        }
+        return result;
+    }
+
+    /**
+     * Forgets the memoized value of a scalar and its recorded dependencies.
+     * @param scalar Scalar
+     */
+    private void forget(final Scalar<T> scalar) {
+        this.values.remove(scalar);
+        for (final Scalar<T> dep
+            : this.dependencies.getOrDefault(scalar, Collections.emptySet())) {
+            final Set<Scalar<T>> others = this.dependents.get(dep);
+            others.remove(scalar);
+            if (others.isEmpty()) {
+                this.dependents.remove(dep);
+            }
+        }
+        this.dependencies.remove(scalar);
+    }
+
+    /**
+     * Forgets the memoized values of the scalars no root depends on.
+     */
+    private void sweep() {
+        final Set<Scalar<T>> reached =
+            IncrementalField.closure(this.roots, this.dependencies);
+        final List<Scalar<T>> unreached = new ArrayList<>(0);
+        for (final Scalar<T> scalar : this.values.keySet()) {
+            if (!reached.contains(scalar)) {
+                unreached.add(scalar);
+            }
+        }
+        for (final Scalar<T> scalar : unreached) {
+            this.forget(scalar);
+        }
+    }
+
+    /**
+     * Records that a scalar evaluation depends on another scalar.
+     * @param dependent Evaluated scalar
+     * @param dependency Scalar it depends on
+     */
+    private void link(final Scalar<T> dependent, final Scalar<T> dependency) {
+        this.dependents.computeIfAbsent(
+            dependency, key -> Collections.newSetFromMap(new IdentityHashMap<>())
+        ).add(dependent);
+        this.dependencies.computeIfAbsent(
+            dependent, key -> Collections.newSetFromMap(new IdentityHashMap<>())
+        ).add(dependency);
+    }
+
+    /**
+     * Evaluates a scalar and wraps its actual value.
+     * @param scalar Scalar to evaluate
+     * @return A scalar holding the actual value
+     */
+    private Scalar<T> resolved(final Scalar<T> scalar) {
+        return new Scalar.Default<>(this.actual(scalar));
+    }
+
+    /**
+     * Follows links from scalars.
+     * @param scalars Starting scalars
+     * @param links Links to follow
+     * @param <T> scalar types
+     * @return Reached scalars, starting scalars included
+     */
+    private static <T> Set<Scalar<T>> closure(final Iterable<? extends Scalar<T>> scalars,
+        final Map<Scalar<T>, Set<Scalar<T>>> links) {
+        final Set<Scalar<T>> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Scalar<T>> pending = new ArrayDeque<>();
+        for (final Scalar<T> scalar : scalars) {
+            if (result.add(scalar)) {
+                pending.push(scalar);
+            }
+        }
+        while (!pending.isEmpty()) {
+            for (final Scalar<T> next : links.getOrDefault(pending.pop(), Collections.emptySet())) {
+                if (result.add(next)) {
+                    pending.push(next);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Field given to the evaluation of a scalar, recording the scalars
+     * this evaluation depends on.
+     * @param <T> scalar types
+     */
+    private static final class Node<T> implements MetricSpaceField<T> {
+
+        /**
+         * Incremental field.
+         */
+        private final IncrementalField<T> field;
+
+        /**
+         * Evaluated scalar.
+         */
+        private final Scalar<T> scalar;
+
+        /**
+         * Constructor.
+         * @param field Incremental field
+         * @param scalar Evaluated scalar
+         */
+        Node(final IncrementalField<T> field, final Scalar<T> scalar) {
+            this.field = field;
+            this.scalar = scalar;
+        }
+
+        @Override
+        public Scalar<T> random() {
+            return this.field.random();
+        }
+
+        @Override
+        public Scalar<T> other(final Scalar<T> other) {
+            return this.field.origin.other(this.resolved(other));
+        }
+
+        @Override
+        public boolean equals(final Scalar<T> first, final Scalar<T> second) {
+            return this.field.origin.equals(this.resolved(first), this.resolved(second));
+        }
+
+        @Override
+        public T actual(final Scalar<T> dependency) {
+            this.field.link(this.scalar, dependency);
+            return this.field.memoized(dependency);
+        }
+
+        @Override
+        public FieldAddition<T> addition() {
+            return this.field.addition();
+        }
+
+        @Override
+        public FieldMultiplication<T> multiplication() {
+            return this.field.multiplication();
+        }
+
+        @Override
+        public Scalar<T> between(final Scalar<T> lower, final Scalar<T> upper) {
+            return this.field.origin.between(this.resolved(lower), this.resolved(upper));
+        }
+
+        @Override
+        public Scalar<T> greater(final Scalar<T> lower) {
+            return this.field.origin.greater(this.resolved(lower));
+        }
+
+        @Override
+        public Scalar<T> lower(final Scalar<T> upper) {
+            return this.field.origin.lower(this.resolved(upper));
+        }
+
+        @Override
+        public InnerProduct<T> product() {
+            return new ResolvingProduct<>(this, this.field.origin.product());
+        }
+
+        /**
+         * Evaluates a scalar and wraps its actual value.
+         * @param other Scalar to evaluate
+         * @return A scalar holding the actual value
+         */
+        private Scalar<T> resolved(final Scalar<T> other) {
+            return new Scalar.Default<>(this.actual(other));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.metric.angle.Degrees;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inner product resolving vectors coordinates (and angles) through
+ * a field before delegating, so that the decorated inner product only sees
+ * actual values, and the field memoizes or records the coordinates.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+final class ResolvingProduct<T> implements InnerProduct<T> {
+
+    /**
+     * Field resolving coordinates.
+     */
+    private final Field<T> field;
+
+    /**
+     * Decorated inner product.
+     */
+    private final InnerProduct<T> origin;
+
+    /**
+     * Constructor.
+     * @param field Field resolving coordinates
+     * @param origin Inner product to decorate
+     */
+    ResolvingProduct(final Field<T> field, final InnerProduct<T> origin) {
+        this.field = field;
+        this.origin = origin;
+    }
+
+    @Override
+    public Scalar<T> product(final Vect<T> first, final Vect<T> second) {
+        return this.origin.product(this.resolved(first), this.resolved(second));
+    }
+
+    @Override
+    public Degrees<T> angle(final Vect<T> first, final Vect<T> second) {
+        return this.origin.angle(this.resolved(first), this.resolved(second));
+    }
+
+    @Override
+    public Scalar<T> norm(final Vect<T> vect) {
+        return this.origin.norm(this.resolved(vect));
+    }
+
+    @Override
+    public Vect<T> rot(final Vect<T> vect, final Degrees<T> angle) {
+        return this.origin.rot(
+            this.resolved(vect), new Degrees.Default<>(angle.resolve(this))
+        );
+    }
+
+    /**
+     * Resolves a vector coordinates.
+     * @param vect Vector
+     * @return A vector of actual coordinates
+     */
+    private Vect<T> resolved(final Vect<T> vect) {
+        final int dim = vect.dimension();
+        final List<Scalar<T>> coords = new ArrayList<>(dim);
+        for (int idx = 0; idx < dim; ++idx) {
+            coords.add(new Scalar.Default<>(this.field.actual(vect.coord(idx))));
+        }
+        return new FixedVector<>(coords);
+    }
+}
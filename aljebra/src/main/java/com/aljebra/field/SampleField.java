@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.metric.angle.Degrees;
+import com.aljebra.scalar.Between;
+import com.aljebra.scalar.Different;
+import com.aljebra.scalar.Greater;
+import com.aljebra.scalar.Lower;
+import com.aljebra.scalar.Random;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A metric space field decorator evaluating scalars as one new sample of
+ * their random leaves. Random nodes ({@link Random}, {@link Between},
+ * {@link Greater}, {@link Lower}, {@link Different}) evaluated by this field
+ * do not use (nor set) their own generated value: they are drawn again from
+ * the decorated field, once per instance of this field. Each scalar (identified
+ * by reference) is evaluated at most once, so a random node shared by several
+ * expressions has the same value in all of them. A new instance should be used
+ * for each sample. This class is not thread-safe, but many instances may
+ * decorate the same (thread-safe) field concurrently.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+public final class SampleField<T> implements MetricSpaceField<T> {
+
+    /**
+     * Decorated field.
+     */
+    private final MetricSpaceField<T> origin;
+
+    /**
+     * Already evaluated scalars.
+     */
+    private final Map<Scalar<T>, T> cache;
+
+    /**
+     * Constructor.
+     * @param origin Field to decorate
+     */
+    public SampleField(final MetricSpaceField<T> origin) {
+        this.origin = origin;
+        this.cache = new IdentityHashMap<>();
+    }
+
+    @Override
+    public Scalar<T> random() {
+        return this.origin.random();
+    }
+
+    @Override
+    public Scalar<T> other(final Scalar<T> scalar) {
+        return this.origin.other(this.resolved(scalar));
+    }
+
+    @Override
+    public boolean equals(final Scalar<T> scalar, final Scalar<T> other) {
+        return this.origin.equals(this.resolved(scalar), this.resolved(other));
+    }
+
+    @Override
+    public T actual(final Scalar<T> scalar) {
+        final T result;
+        if (this.cache.containsKey(scalar)) {
+            result = this.cache.get(scalar);
+        } else {
+            result = this.sample(scalar);
+            this.cache.put(scalar, result);
+        }
+        return result;
+    }
+
+    @Override
+    public FieldAddition<T> addition() {
+        return this.origin.addition();
+    }
+
+    @Override
+    public FieldMultiplication<T> multiplication() {
+        return this.origin.multiplication();
+    }
+
+    @Override
+    public Scalar<T> between(final Scalar<T> lower, final Scalar<T> upper) {
+        return this.origin.between(this.resolved(lower), this.resolved(upper));
+    }
+
+    @Override
+    public Scalar<T> greater(final Scalar<T> lower) {
+        return this.origin.greater(this.resolved(lower));
+    }
+
+    @Override
+    public Scalar<T> lower(final Scalar<T> upper) {
+        return this.origin.lower(this.resolved(upper));
+    }
+
+    @Override
+    public InnerProduct<T> product() {
+        return new SampleField.Product<>(this, this.origin.product());
+    }
+
+    /**
+     * Evaluates a scalar, drawing random nodes again.
+     * @param scalar Scalar to evaluate
+     * @return Scalar value in this sample
+     */
+    @SuppressWarnings("unchecked")
+    private T sample(final Scalar<T> scalar) {
+        final T result;
+        if (scalar instanceof Random) {
+            result = this.origin.actual(this.random());
+        } else if (scalar instanceof Between) {
+            final Between<T> btw = (Between<T>) scalar;
+            result = this.origin.actual(this.between(btw.lower(), btw.greater()));
+        } else if (scalar instanceof Greater) {
+            result = this.origin.actual(this.greater(((Greater<T>) scalar).lower()));
+        } else if (scalar instanceof Lower) {
+            result = this.origin.actual(this.lower(((Lower<T>) scalar).greater()));
+        } else if (scalar instanceof Different) {
+            result = this.origin.actual(
+                this.other(((Different<T>) scalar).scalar())
+            );
+        } else {
+            result = scalar.value(this);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates a scalar through this field and wraps its actual value,
+     * so that the decorated field does not evaluate it again.
+     * @param scalar Scalar to evaluate
+     * @return A scalar holding the actual value
+     */
+    private Scalar<T> resolved(final Scalar<T> scalar) {
+        return new Scalar.Default<>(this.actual(scalar));
+    }
+
+    /**
+     * Inner product resolving vectors coordinates in the sample before
+     * delegating to the decorated field inner product, which may evaluate
+     * them with another field.
+     * @param <T> scalar types
+     */
+    private static final class Product<T> implements InnerProduct<T> {
+
+        /**
+         * Sample field.
+         */
+        private final SampleField<T> field;
+
+        /**
+         * Decorated inner product.
+         */
+        private final InnerProduct<T> origin;
+
+        /**
+         * Constructor.
+         * @param field Sample field
+         * @param origin Decorated inner product
+         */
+        Product(final SampleField<T> field, final InnerProduct<T> origin) {
+            this.field = field;
+            this.origin = origin;
+        }
+
+        @Override
+        public Scalar<T> product(final Vect<T> first, final Vect<T> second) {
+            return this.origin.product(this.resolved(first), this.resolved(second));
+        }
+
+        @Override
+        public Degrees<T> angle(final Vect<T> first, final Vect<T> second) {
+            return this.origin.angle(this.resolved(first), this.resolved(second));
+        }
+
+        @Override
+        public Scalar<T> norm(final Vect<T> vect) {
+            return this.origin.norm(this.resolved(vect));
+        }
+
+        @Override
+        public Vect<T> rot(final Vect<T> vect, final Degrees<T> angle) {
+            return this.origin.rot(this.resolved(vect), angle);
+        }
+
+        /**
+         * Resolves a vector coordinates in the sample.
+         * @param vect Vector to resolve
+         * @return A vector holding actual coordinates
+         */
+        private Vect<T> resolved(final Vect<T> vect) {
+            final Scalar<T>[] coords = vect.coords();
+            final List<Scalar<T>> result = new ArrayList<>(coords.length);
+            for (final Scalar<T> coord : coords) {
+                result.add(this.field.resolved(coord));
+            }
+            return new FixedVector<>(result);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.condition.Predicate;
+import java.util.DoubleSummaryStatistics;
+import java.util.stream.IntStream;
+
+/**
+ * Monte-Carlo evaluation of scalars and predicates. Each sample evaluates
+ * the expression with a new {@link SampleField}, so that all its random
+ * leaves are drawn again, without rebuilding the expression. Samples are
+ * evaluated in parallel: the sampled field must be thread-safe.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+public final class Sampler<T> {
+
+    /**
+     * Sampled field.
+     */
+    private final MetricSpaceField<T> field;
+
+    /**
+     * Constructor.
+     * @param field Sampled field
+     */
+    public Sampler(final MetricSpaceField<T> field) {
+        this.field = field;
+    }
+
+    /**
+     * Evaluates a numeric scalar over many samples.
+     * @param scalar Scalar to evaluate
+     * @param samples Samples count
+     * @return Scalar values, one per sample
+     */
+    public double[] values(final Scalar<T> scalar, final int samples) {
+        return IntStream.range(0, samples).parallel()
+            .mapToDouble(idx -> this.value(scalar))
+            .toArray();
+    }
+
+    /**
+     * Gives statistics of a numeric scalar values over many samples.
+     * @param scalar Scalar to evaluate
+     * @param samples Samples count
+     * @return Scalar values statistics
+     */
+    public DoubleSummaryStatistics statistics(final Scalar<T> scalar,
+        final int samples) {
+        return IntStream.range(0, samples).parallel()
+            .mapToDouble(idx -> this.value(scalar))
+            .summaryStatistics();
+    }
+
+    /**
+     * Counts the samples satisfying a predicate.
+     * @param predicate Predicate to resolve
+     * @param samples Samples count
+     * @return Count of samples for which the predicate holds
+     */
+    public long count(final Predicate<? super MetricSpaceField<T>> predicate,
+        final int samples) {
+        return IntStream.range(0, samples).parallel()
+            .filter(idx -> predicate.resolve(new SampleField<>(this.field)))
+            .count();
+    }
+
+    /**
+     * Checks that a predicate holds for all samples.
+     * @param predicate Predicate to resolve
+     * @param samples Samples count
+     * @return True if the predicate holds for all samples
+     */
+    public boolean holds(final Predicate<? super MetricSpaceField<T>> predicate,
+        final int samples) {
+        return IntStream.range(0, samples).parallel()
+            .allMatch(idx -> predicate.resolve(new SampleField<>(this.field)));
+    }
+
+    /**
+     * Evaluates a numeric scalar in a new sample.
+     * @param scalar Scalar to evaluate
+     * @return Scalar value
+     */
+    private double value(final Scalar<T> scalar) {
+        return ((Number) new SampleField<>(this.field).actual(scalar)).doubleValue();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.condition.Predicate;
+import com.aljebra.vector.Vect;
+
+/**
+ * A predicate to determine exactly if four points of the plane lie
+ * on a same circle, based on {@link InCircle}. Unlike tolerance based
+ * predicates, the answer is exact for the points actual coordinates.
+ * @since 0.5
+ */
+public final class Cocircular implements Predicate<Field<Double>> {
+
+    /**
+     * Points.
+     */
+    private final Vect<Double>[] points;
+
+    /**
+     * Constructor.
+     * @param first First circle point
+     * @param second Second circle point
+     * @param third Third circle point
+     * @param point Tested point
+     */
+    @SuppressWarnings("unchecked")
+    public Cocircular(final Vect<Double> first, final Vect<Double> second,
+        final Vect<Double> third, final Vect<Double> point) {
+        this.points = new Vect[] {first, second, third, point};
+    }
+
+    @Override
+    public boolean resolve(final Field<Double> field) {
+        return new InCircle(
+            Collinear.coords(this.points[0], field),
+            Collinear.coords(this.points[1], field),
+            Collinear.coords(this.points[2], field),
+            Collinear.coords(this.points[3], field)
+        ).sign() == 0;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.Field;
+import com.aljebra.scalar.condition.Predicate;
+import com.aljebra.vector.Vect;
+
+/**
+ * A predicate to determine exactly if three points of the plane
+ * are collinear, based on {@link Orient2D}. Unlike tolerance based
+ * predicates, the answer is exact for the points actual coordinates.
+ * @since 0.5
+ */
+public final class Collinear implements Predicate<Field<Double>> {
+
+    /**
+     * First point.
+     */
+    private final Vect<Double> first;
+
+    /**
+     * Second point.
+     */
+    private final Vect<Double> second;
+
+    /**
+     * Third point.
+     */
+    private final Vect<Double> third;
+
+    /**
+     * Constructor.
+     * @param first First point
+     * @param second Second point
+     * @param third Third point
+     */
+    public Collinear(final Vect<Double> first, final Vect<Double> second,
+        final Vect<Double> third) {
+        this.first = first;
+        this.second = second;
+        this.third = third;
+    }
+
+    @Override
+    public boolean resolve(final Field<Double> field) {
+        return new Orient2D(
+            Collinear.coords(this.first, field),
+            Collinear.coords(this.second, field),
+            Collinear.coords(this.third, field)
+        ).sign() == 0;
+    }
+
+    /**
+     * Evaluates a point coordinates.
+     * @param point Point
+     * @param field Field to evaluate the coordinates
+     * @return Abscissa and ordinate of the point
+     */
+    static double[] coords(final Vect<Double> point, final Field<Double> field) {
+        final double[] result = new double[2];
+        if (field instanceof DoubleField) {
+            final DoubleField dfield = (DoubleField) field;
+            result[0] = dfield.dactual(point.coord(0));
+            result[1] = dfield.dactual(point.coord(1));
+        } else {
+            result[0] = field.actual(point.coord(0));
+            result[1] = field.actual(point.coord(1));
+        }
+        return result;
+    }
+}
@@ -23,26 +23,42 @@
  */
 package com.aljebra.field.impl.doubles;
 
+import com.aljebra.field.DoubleFieldAddition;
 import com.aljebra.field.FieldAddition;
 
 /**
  * Double addition implementation.
  * @since 0.1
  */
-public final class DblAddition implements FieldAddition<Double> {
+public final class DblAddition implements FieldAddition<Double>, DoubleFieldAddition {
 
     @Override
     public Double add(final Double operand, final Double second) {
-        return operand + second;
+        return this.dadd(operand, second);
     }
 
     @Override
     public Double neutral() {
-        return 0.;
+        return this.dneutral();
     }
 
     @Override
     public Double inverse(final Double elt) {
+        return this.dinverse(elt);
+    }
+
+    @Override
+    public double dadd(final double operand, final double second) {
+        return operand + second;
+    }
+
+    @Override
+    public double dneutral() {
+        return 0.;
+    }
+
+    @Override
+    public double dinverse(final double elt) {
         return -elt;
     }
 }
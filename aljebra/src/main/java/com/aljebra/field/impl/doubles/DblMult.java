@@ -23,27 +23,43 @@
  */
 package com.aljebra.field.impl.doubles;
 
+import com.aljebra.field.DoubleFieldMultiplication;
 import com.aljebra.field.FieldMultiplication;
 
 /**
  * Double multiplication implementation.
  * @since 0.1
  */
-public final class DblMult implements FieldMultiplication<Double> {
+public final class DblMult implements FieldMultiplication<Double>, DoubleFieldMultiplication {
 
     @Override
     public Double multiply(final Double operand, final Double second) {
-        return operand * second;
+        return this.dmultiply(operand, second);
     }
 
     @Override
     public Double neutral() {
-        return 1.;
+        return this.dneutral();
     }
 
     @Override
     public Double inverse(final Double elt) {
-        if (Double.valueOf(0).equals(elt)) {
+        return this.dinverse(elt);
+    }
+
+    @Override
+    public double dmultiply(final double operand, final double second) {
+        return operand * second;
+    }
+
+    @Override
+    public double dneutral() {
+        return 1.;
+    }
+
+    @Override
+    public double dinverse(final double elt) {
+        if (elt == 0.) {
             throw new IllegalArgumentException("Division by zero");
         }
         return 1. / elt;
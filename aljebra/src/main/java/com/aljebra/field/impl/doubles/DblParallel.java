@@ -0,0 +1,418 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.DoubleField;
+import com.aljebra.matrix.Image;
+import com.aljebra.matrix.Matrix;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Sum;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Primitive double kernels (dot products, sums, matrix-vector products,
+ * vector evaluation) splitting their work over a fork-join pool when
+ * the dimension reaches a threshold. Below the threshold, kernels
+ * run sequentially in the calling thread. Split ranges hold at most half
+ * the threshold, so that a dimension reaching the threshold is always
+ * split in at least two tasks.
+ * @since 0.5
+ */
+public final class DblParallel {
+
+    /**
+     * Default threshold, from which a dimension is split. This value is
+     * provisional: it was not measured on a multi-core host, and should be
+     * tuned for the target machine with {@code DblParallelBench} (in test
+     * sources), passing the measured crossover to the constructor.
+     */
+    private static final int THRESHOLD = 16_384;
+
+    /**
+     * Fork-join pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Threshold, from which a dimension is split.
+     */
+    private final int limit;
+
+    /**
+     * Constructor. Uses the common pool and the default threshold.
+     */
+    public DblParallel() {
+        this(DblParallel.THRESHOLD);
+    }
+
+    /**
+     * Constructor. Uses the common pool.
+     * @param threshold Dimension from which work is split
+     */
+    public DblParallel(final int threshold) {
+        this(ForkJoinPool.commonPool(), threshold);
+    }
+
+    /**
+     * Constructor.
+     * @param pool Fork-join pool
+     * @param threshold Dimension from which work is split
+     */
+    public DblParallel(final ForkJoinPool pool, final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException(
+                String.format("Threshold should be positive but was %d", threshold)
+            );
+        }
+        this.pool = pool;
+        this.limit = threshold;
+    }
+
+    /**
+     * Gives the dimension from which work is split.
+     * @return Threshold
+     */
+    public int threshold() {
+        return this.limit;
+    }
+
+    /**
+     * Calculates the dot product of two vectors.
+     * @param first First vector coordinates
+     * @param second Second vector coordinates
+     * @return Dot product
+     */
+    public double dot(final double[] first, final double[] second) {
+        return this.reduce(
+            first.length,
+            (from, to) -> {
+                double result = 0.;
+                for (int idx = from; idx < to; ++idx) {
+                    result += first[idx] * second[idx];
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Sums vectors.
+     * @param operands Vectors coordinates
+     * @param output Array receiving the sum coordinates
+     */
+    public void sum(final double[][] operands, final double[] output) {
+        this.run(
+            output.length,
+            (from, to) -> {
+                for (int idx = from; idx < to; ++idx) {
+                    double result = 0.;
+                    for (final double[] operand : operands) {
+                        result += operand[idx];
+                    }
+                    output[idx] = result;
+                }
+            }
+        );
+    }
+
+    /**
+     * Multiplies a vector by a matrix.
+     * @param matrix Matrix
+     * @param input Vector coordinates
+     * @param output Array receiving the result. Should not be the input array
+     */
+    public void apply(final DenseMatrix matrix, final double[] input,
+        final double[] output) {
+        this.run(matrix.lines(), (from, to) -> matrix.apply(input, output, from, to));
+    }
+
+    /**
+     * Evaluates a vector coordinates. The field should be thread-safe.
+     * Sums of vectors ({@link Sum}) and images of vectors by matrices
+     * ({@link Image}) reaching the threshold are evaluated by evaluating
+     * their operands, then running the sum or matrix-vector kernel.
+     * @param vect Vector to evaluate
+     * @param field Field to evaluate coordinates
+     * @return Coordinates values
+     */
+    public double[] values(final Vect<Double> vect, final DoubleField field) {
+        final double[] result;
+        if (vect.dimension() >= this.limit && vect instanceof Sum) {
+            result = this.sum((Sum<Double>) vect, field);
+        } else if (vect.dimension() >= this.limit && vect instanceof Image) {
+            result = this.image((Image<Double>) vect, field);
+        } else {
+            result = this.coords(vect, field);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates a sum of vectors with the sum kernel.
+     * @param vect Sum to evaluate
+     * @param field Field to evaluate operands
+     * @return Coordinates values
+     */
+    private double[] sum(final Sum<Double> vect, final DoubleField field) {
+        final List<double[]> operands = new ArrayList<>(2);
+        for (final Vect<Double> operand : vect.operands()) {
+            operands.add(this.values(operand, field));
+        }
+        final double[] result = new double[vect.dimension()];
+        this.sum(operands.toArray(new double[operands.size()][]), result);
+        return result;
+    }
+
+    /**
+     * Evaluates the image of a vector by a matrix with the matrix-vector
+     * kernel.
+     * @param vect Image to evaluate
+     * @param field Field to evaluate the matrix and the vector
+     * @return Coordinates values
+     */
+    private double[] image(final Image<Double> vect, final DoubleField field) {
+        final Matrix<Double> matrix = vect.matrix();
+        final double[] result = new double[matrix.lines()];
+        this.apply(
+            new DenseMatrix(
+                matrix.lines(), matrix.columns(),
+                this.values(new FixedVector<>(Arrays.asList(matrix.coords())), field)
+            ),
+            this.values(vect.input(), field),
+            result
+        );
+        return result;
+    }
+
+    /**
+     * Evaluates a vector coordinates one by one.
+     * @param vect Vector to evaluate
+     * @param field Field to evaluate coordinates
+     * @return Coordinates values
+     */
+    private double[] coords(final Vect<Double> vect, final DoubleField field) {
+        final double[] result = new double[vect.dimension()];
+        this.run(
+            result.length,
+            (from, to) -> {
+                for (int idx = from; idx < to; ++idx) {
+                    result[idx] = field.dactual(vect.coord(idx));
+                }
+            }
+        );
+        return result;
+    }
+
+    /**
+     * Runs a work over a range of indexes.
+     * @param length Range length
+     * @param work Work to run
+     */
+    private void run(final int length, final Work work) {
+        if (length < this.limit) {
+            work.run(0, length);
+        } else {
+            this.pool.invoke(new Split(work, 0, length, this.grain()));
+        }
+    }
+
+    /**
+     * Sums a reduction over a range of indexes.
+     * @param length Range length
+     * @param work Reduction to run
+     * @return Sum of the reductions
+     */
+    private double reduce(final int length, final Reduction work) {
+        final double result;
+        if (length < this.limit) {
+            result = work.run(0, length);
+        } else {
+            result = this.pool.invoke(new SplitSum(work, 0, length, this.grain()));
+        }
+        return result;
+    }
+
+    /**
+     * Gives the range length under which split work is not split again.
+     * @return Half the threshold, at least one
+     */
+    private int grain() {
+        return Math.max(1, this.limit / 2);
+    }
+
+    /**
+     * A work over a range of indexes.
+     */
+    private interface Work {
+        /**
+         * Runs the work.
+         * @param from First index (inclusive)
+         * @param to Last index (exclusive)
+         */
+        void run(int from, int to);
+    }
+
+    /**
+     * A reduction over a range of indexes.
+     */
+    private interface Reduction {
+        /**
+         * Runs the reduction.
+         * @param from First index (inclusive)
+         * @param to Last index (exclusive)
+         * @return Reduction result
+         */
+        double run(int from, int to);
+    }
+
+    /**
+     * Fork-join action splitting a work range in halves.
+     */
+    private static final class Split extends RecursiveAction {
+
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Work to run.
+         */
+        private final transient Work work;
+
+        /**
+         * First index (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Last index (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Range length under which work is not split.
+         */
+        private final int limit;
+
+        /**
+         * Constructor.
+         * @param work Work to run
+         * @param from First index (inclusive)
+         * @param to Last index (exclusive)
+         * @param limit Range length under which work is not split
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Split(final Work work, final int from, final int to, final int limit) {
+            super();
+            this.work = work;
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.limit) {
+                this.work.run(this.from, this.to);
+            } else {
+                final int mid = (this.from + this.to) >>> 1;
+                RecursiveAction.invokeAll(
+                    new Split(this.work, this.from, mid, this.limit),
+                    new Split(this.work, mid, this.to, this.limit)
+                );
+            }
+        }
+    }
+
+    /**
+     * Fork-join task splitting a reduction range in halves and summing
+     * the halves results.
+     */
+    private static final class SplitSum extends RecursiveTask<Double> {
+
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Reduction to run.
+         */
+        private final transient Reduction work;
+
+        /**
+         * First index (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Last index (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Range length under which reduction is not split.
+         */
+        private final int limit;
+
+        /**
+         * Constructor.
+         * @param work Reduction to run
+         * @param from First index (inclusive)
+         * @param to Last index (exclusive)
+         * @param limit Range length under which reduction is not split
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        SplitSum(final Reduction work, final int from, final int to,
+            final int limit) {
+            super();
+            this.work = work;
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+        }
+
+        @Override
+        protected Double compute() {
+            final double result;
+            if (this.to - this.from <= this.limit) {
+                result = this.work.run(this.from, this.to);
+            } else {
+                final int mid = (this.from + this.to) >>> 1;
+                final SplitSum left = new SplitSum(this.work, this.from, mid, this.limit);
+                left.fork();
+                result = new SplitSum(this.work, mid, this.to, this.limit).compute()
+                    + left.join();
+            }
+            return result;
+        }
+    }
+}
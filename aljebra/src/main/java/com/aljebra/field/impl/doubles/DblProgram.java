@@ -0,0 +1,607 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.Field;
+import com.aljebra.metric.scalar.Norm;
+import com.aljebra.metric.scalar.Product;
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.AddIdentity;
+import com.aljebra.scalar.AddInverse;
+import com.aljebra.scalar.Diff;
+import com.aljebra.scalar.Division;
+import com.aljebra.scalar.MultIdentity;
+import com.aljebra.scalar.MultInverse;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.condition.Predicate;
+import com.aljebra.scalar.condition.Ternary;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A double scalar expression compiled into a flat register-machine program.
+ * Arithmetic nodes ({@link Add}, {@link Multiplication}, {@link Diff},
+ * {@link Division}, {@link AddInverse}, {@link MultInverse}, {@link Ternary},
+ * {@link Norm} and {@link Product}) are translated into instructions operating
+ * on a primitive register file, and constants ({@link Scalar.Default},
+ * {@link AddIdentity} and {@link MultIdentity}) are folded into the program.
+ * Any other scalar is a leaf loaded through the field, and any predicate of
+ * a {@link Ternary} is resolved through the field, each time the program runs.
+ * The program follows {@link Decimal} semantics (norms and products are
+ * computed as with {@link Dot}), and branches of a {@link Ternary} are
+ * evaluated lazily. A shared node (by reference) is computed once per run.
+ * Programs are immutable and can be run concurrently as long as each run
+ * uses its own register file.
+ * @since 0.5
+ */
+public final class DblProgram {
+
+    /**
+     * Instruction width: operation code, destination and two arguments.
+     */
+    private static final int WIDTH = 4;
+
+    /**
+     * Loads a constant: dst = constants[a].
+     */
+    private static final int CONST = 0;
+
+    /**
+     * Loads a leaf: dst = field.actual(leaves[a]).
+     */
+    private static final int LOAD = 1;
+
+    /**
+     * Resolves a predicate: dst = predicates[a] ? 1 : 0.
+     */
+    private static final int TEST = 2;
+
+    /**
+     * Copies a register: dst = a.
+     */
+    private static final int MOVE = 3;
+
+    /**
+     * Addition: dst = a + b.
+     */
+    private static final int ADD = 4;
+
+    /**
+     * Difference: dst = a - b.
+     */
+    private static final int SUB = 5;
+
+    /**
+     * Multiplication: dst = a * b.
+     */
+    private static final int MUL = 6;
+
+    /**
+     * Division: dst = a * (1 / b).
+     */
+    private static final int DIV = 7;
+
+    /**
+     * Addition inverse: dst = -a.
+     */
+    private static final int NEG = 8;
+
+    /**
+     * Multiplication inverse: dst = 1 / a.
+     */
+    private static final int INV = 9;
+
+    /**
+     * Square root: dst = sqrt(a).
+     */
+    private static final int SQRT = 10;
+
+    /**
+     * Unconditional jump to instruction offset a.
+     */
+    private static final int JUMP = 11;
+
+    /**
+     * Jumps to instruction offset b if register a is zero (false).
+     */
+    private static final int JUMPF = 12;
+
+    /**
+     * Instructions.
+     */
+    private final int[] code;
+
+    /**
+     * Folded constants.
+     */
+    private final double[] consts;
+
+    /**
+     * Leaves scalars.
+     */
+    private final List<Scalar<Double>> lvs;
+
+    /**
+     * Ternary predicates.
+     */
+    private final List<Predicate<Field<Double>>> preds;
+
+    /**
+     * Register file size.
+     */
+    private final int size;
+
+    /**
+     * Register holding the result.
+     */
+    private final int result;
+
+    /**
+     * Constructor. Compiles the given scalar.
+     * @param scalar Scalar to compile
+     */
+    public DblProgram(final Scalar<Double> scalar) {
+        this(new DblProgram.Emitter(scalar));
+    }
+
+    /**
+     * Constructor.
+     * @param emitter Emitter holding the compiled program
+     */
+    private DblProgram(final DblProgram.Emitter emitter) {
+        this.code = emitter.code();
+        this.consts = emitter.constants();
+        this.lvs = emitter.leaves;
+        this.preds = emitter.predicates;
+        this.size = emitter.registers;
+        this.result = emitter.result;
+    }
+
+    /**
+     * Gives the leaves of the program, that is the scalars that are not
+     * compiled and are loaded through the field.
+     * @return Leaves scalars
+     */
+    public List<Scalar<Double>> leaves() {
+        return new ArrayList<>(this.lvs);
+    }
+
+    /**
+     * Gives the register file size needed to run this program.
+     * @return Registers count
+     */
+    public int registers() {
+        return this.size;
+    }
+
+    /**
+     * Runs the program.
+     * @param field Field used to load leaves and resolve predicates
+     * @return Scalar value
+     */
+    public double value(final Field<Double> field) {
+        return this.value(field, new double[this.size]);
+    }
+
+    /**
+     * Runs the program with the given register file. No allocation is made
+     * other than the ones done by the field when loading leaves.
+     * @param field Field used to load leaves and resolve predicates
+     * @param regs Register file, of at least {@link #registers()} size
+     * @return Scalar value
+     * @checkstyle CyclomaticComplexityCheck (60 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    public double value(final Field<Double> field, final double[] regs) {
+        final int[] ops = this.code;
+        int ptr = 0;
+        while (ptr < ops.length) {
+            final int dst = ops[ptr + 1];
+            final int arg = ops[ptr + 2];
+            final int sec = ops[ptr + 3];
+            int next = ptr + DblProgram.WIDTH;
+            switch (ops[ptr]) {
+                case DblProgram.CONST:
+                    regs[dst] = this.consts[arg];
+                    break;
+                case DblProgram.LOAD:
+                    regs[dst] = field.actual(this.lvs.get(arg));
+                    break;
+                case DblProgram.TEST:
+                    regs[dst] = DblProgram.bool(this.preds.get(arg).resolve(field));
+                    break;
+                case DblProgram.MOVE:
+                    regs[dst] = regs[arg];
+                    break;
+                case DblProgram.ADD:
+                    regs[dst] = regs[arg] + regs[sec];
+                    break;
+                case DblProgram.SUB:
+                    regs[dst] = regs[arg] - regs[sec];
+                    break;
+                case DblProgram.MUL:
+                    regs[dst] = regs[arg] * regs[sec];
+                    break;
+                case DblProgram.DIV:
+                    regs[dst] = regs[arg] * DblProgram.inverse(regs[sec]);
+                    break;
+                case DblProgram.NEG:
+                    regs[dst] = -regs[arg];
+                    break;
+                case DblProgram.INV:
+                    regs[dst] = DblProgram.invertible(regs[arg]);
+                    break;
+                case DblProgram.SQRT:
+                    regs[dst] = Math.sqrt(regs[arg]);
+                    break;
+                case DblProgram.JUMP:
+                    next = arg;
+                    break;
+                case DblProgram.JUMPF:
+                    if (regs[arg] == 0.) {
+                        next = sec;
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException(
+                        String.format("Unknown instruction %d", ops[ptr])
+                    );
+            }
+            ptr = next;
+        }
+        return regs[this.result];
+    }
+
+    /**
+     * Converts a boolean into a register value.
+     * @param bool Boolean
+     * @return One if true, zero otherwise
+     */
+    private static double bool(final boolean bool) {
+        final double res;
+        if (bool) {
+            res = 1.;
+        } else {
+            res = 0.;
+        }
+        return res;
+    }
+
+    /**
+     * Inverses a double as {@link DblMult} does.
+     * @param elt Double to inverse
+     * @return The inverse
+     */
+    private static double inverse(final double elt) {
+        if (elt == 0.) {
+            throw new IllegalArgumentException("Division by zero");
+        }
+        return 1. / elt;
+    }
+
+    /**
+     * Inverses a double as {@link MultInverse} does with {@link Decimal}.
+     * @param elt Double to inverse
+     * @return The inverse
+     */
+    private static double invertible(final double elt) {
+        if (Math.abs(elt) < Decimal.TOLERANCE) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Impossible to inverse addition neutral element: %s", elt
+                )
+            );
+        }
+        return DblProgram.inverse(elt);
+    }
+
+    /**
+     * Scalar expression compiler emitting the instructions.
+     * @since 0.5
+     */
+    private static final class Emitter {
+
+        /**
+         * Emitted instructions.
+         */
+        private final List<Integer> instructions;
+
+        /**
+         * Folded constants.
+         */
+        private final List<Double> folded;
+
+        /**
+         * Leaves scalars.
+         */
+        private final List<Scalar<Double>> leaves;
+
+        /**
+         * Ternary predicates.
+         */
+        private final List<Predicate<Field<Double>>> predicates;
+
+        /**
+         * Field used to fold constants.
+         */
+        private final Field<Double> field;
+
+        /**
+         * Registers count.
+         */
+        private int registers;
+
+        /**
+         * Register holding the result.
+         */
+        private final int result;
+
+        /**
+         * Constructor.
+         * @param scalar Scalar to compile
+         */
+        Emitter(final Scalar<Double> scalar) {
+            this.instructions = new ArrayList<>(DblProgram.WIDTH);
+            this.folded = new ArrayList<>(1);
+            this.leaves = new ArrayList<>(1);
+            this.predicates = new ArrayList<>(1);
+            this.field = new Decimal();
+            this.result = this.compile(scalar, new IdentityHashMap<>());
+        }
+
+        /**
+         * Gives the emitted instructions.
+         * @return Instructions array
+         */
+        public int[] code() {
+            final int[] res = new int[this.instructions.size()];
+            for (int idx = 0; idx < res.length; ++idx) {
+                res[idx] = this.instructions.get(idx);
+            }
+            return res;
+        }
+
+        /**
+         * Gives the folded constants.
+         * @return Constants array
+         */
+        public double[] constants() {
+            final double[] res = new double[this.folded.size()];
+            for (int idx = 0; idx < res.length; ++idx) {
+                res[idx] = this.folded.get(idx);
+            }
+            return res;
+        }
+
+        /**
+         * Compiles a scalar, reusing the register of an already compiled one.
+         * @param scalar Scalar to compile
+         * @param done Already compiled scalars registers
+         * @return Register holding the scalar value
+         */
+        private int compile(final Scalar<Double> scalar,
+            final Map<Scalar<Double>, Integer> done) {
+            final int reg;
+            if (done.containsKey(scalar)) {
+                reg = done.get(scalar);
+            } else {
+                reg = this.node(scalar, done);
+                done.put(scalar, reg);
+            }
+            return reg;
+        }
+
+        /**
+         * Emits the instructions of a scalar node.
+         * @param scalar Scalar to compile
+         * @param done Already compiled scalars registers
+         * @return Register holding the scalar value
+         * @checkstyle CyclomaticComplexityCheck (40 lines)
+         */
+        @SuppressWarnings({"unchecked", "PMD.CyclomaticComplexity"})
+        private int node(final Scalar<Double> scalar,
+            final Map<Scalar<Double>, Integer> done) {
+            final int reg;
+            if (scalar instanceof Add) {
+                reg = this.fold(
+                    DblProgram.ADD, ((Add<Double>) scalar).operands(), 0., done
+                );
+            } else if (scalar instanceof Multiplication) {
+                reg = this.fold(
+                    DblProgram.MUL, ((Multiplication<Double>) scalar).operands(), 1., done
+                );
+            } else if (scalar instanceof Diff) {
+                final Diff<Double> diff = (Diff<Double>) scalar;
+                reg = this.binary(DblProgram.SUB, diff.first(), diff.second(), done);
+            } else if (scalar instanceof Division) {
+                final Division<Double> div = (Division<Double>) scalar;
+                reg = this.binary(DblProgram.DIV, div.first(), div.second(), done);
+            } else if (scalar instanceof AddInverse) {
+                reg = this.unary(
+                    DblProgram.NEG, this.compile(((AddInverse<Double>) scalar).operand(), done)
+                );
+            } else if (scalar instanceof MultInverse) {
+                reg = this.unary(
+                    DblProgram.INV, this.compile(((MultInverse<Double>) scalar).operand(), done)
+                );
+            } else if (scalar instanceof Ternary) {
+                reg = this.ternary((Ternary<Double>) scalar, done);
+            } else if (scalar instanceof Norm) {
+                final Vect<Double> vect = ((Norm<Double>) scalar).vector();
+                reg = this.unary(DblProgram.SQRT, this.dot(vect, vect, done));
+            } else if (scalar instanceof Product) {
+                final Product<Double> pdt = (Product<Double>) scalar;
+                reg = this.dot(pdt.first(), pdt.second(), done);
+            } else {
+                reg = this.leaf(scalar);
+            }
+            return reg;
+        }
+
+        /**
+         * Emits the instructions of a leaf, folding it if it is a constant.
+         * @param scalar Leaf scalar
+         * @return Register holding the scalar value
+         */
+        private int leaf(final Scalar<Double> scalar) {
+            final int reg = this.register();
+            if (scalar instanceof Scalar.Default || scalar instanceof AddIdentity
+                || scalar instanceof MultIdentity) {
+                this.folded.add(this.field.actual(scalar));
+                this.emit(DblProgram.CONST, reg, this.folded.size() - 1, 0);
+            } else {
+                this.leaves.add(scalar);
+                this.emit(DblProgram.LOAD, reg, this.leaves.size() - 1, 0);
+            }
+            return reg;
+        }
+
+        /**
+         * Emits the instructions of a ternary. Each branch is compiled with
+         * its own copy of the already compiled scalars, as a branch
+         * may not be executed.
+         * @param ternary Ternary scalar
+         * @param done Already compiled scalars registers
+         * @return Register holding the scalar value
+         */
+        private int ternary(final Ternary<Double> ternary,
+            final Map<Scalar<Double>, Integer> done) {
+            final int reg = this.register();
+            final int cond = this.register();
+            this.predicates.add(ternary.condition());
+            this.emit(DblProgram.TEST, cond, this.predicates.size() - 1, 0);
+            final int branch = this.emit(DblProgram.JUMPF, 0, cond, 0);
+            this.emit(
+                DblProgram.MOVE, reg,
+                this.compile(ternary.positive(), new IdentityHashMap<>(done)), 0
+            );
+            final int jump = this.emit(DblProgram.JUMP, 0, 0, 0);
+            this.instructions.set(branch + DblProgram.WIDTH - 1, this.instructions.size());
+            this.emit(
+                DblProgram.MOVE, reg,
+                this.compile(ternary.negative(), new IdentityHashMap<>(done)), 0
+            );
+            this.instructions.set(jump + 2, this.instructions.size());
+            return reg;
+        }
+
+        /**
+         * Emits the instructions of an inner product of two vectors.
+         * @param first First vector
+         * @param second Second vector
+         * @param done Already compiled scalars registers
+         * @return Register holding the scalar value
+         */
+        private int dot(final Vect<Double> first, final Vect<Double> second,
+            final Map<Scalar<Double>, Integer> done) {
+            final int dim = first.dimension();
+            final List<Scalar<Double>> terms = new ArrayList<>(dim);
+            for (int idx = 0; idx < dim; ++idx) {
+                terms.add(new Multiplication<>(first.coord(idx), second.coord(idx)));
+            }
+            return this.fold(DblProgram.ADD, terms, 0., done);
+        }
+
+        /**
+         * Emits the instructions of an n-ary operation, starting from
+         * the operation neutral element.
+         * @param operation Operation code
+         * @param operands Operands
+         * @param neutral Operation neutral element
+         * @param done Already compiled scalars registers
+         * @return Register holding the scalar value
+         */
+        private int fold(final int operation, final Iterable<Scalar<Double>> operands,
+            final double neutral, final Map<Scalar<Double>, Integer> done) {
+            this.folded.add(neutral);
+            int acc = this.register();
+            this.emit(DblProgram.CONST, acc, this.folded.size() - 1, 0);
+            for (final Scalar<Double> operand : operands) {
+                final int reg = this.register();
+                this.emit(operation, reg, acc, this.compile(operand, done));
+                acc = reg;
+            }
+            return acc;
+        }
+
+        /**
+         * Emits the instructions of a binary operation.
+         * @param operation Operation code
+         * @param first First operand
+         * @param second Second operand
+         * @param done Already compiled scalars registers
+         * @return Register holding the scalar value
+         */
+        private int binary(final int operation, final Scalar<Double> first,
+            final Scalar<Double> second, final Map<Scalar<Double>, Integer> done) {
+            final int freg = this.compile(first, done);
+            final int sreg = this.compile(second, done);
+            final int reg = this.register();
+            this.emit(operation, reg, freg, sreg);
+            return reg;
+        }
+
+        /**
+         * Emits a unary operation.
+         * @param operation Operation code
+         * @param operand Operand register
+         * @return Register holding the scalar value
+         */
+        private int unary(final int operation, final int operand) {
+            final int reg = this.register();
+            this.emit(operation, reg, operand, 0);
+            return reg;
+        }
+
+        /**
+         * Allocates a new register.
+         * @return Register index
+         */
+        private int register() {
+            final int reg = this.registers;
+            this.registers += 1;
+            return reg;
+        }
+
+        /**
+         * Emits an instruction.
+         * @param operation Operation code
+         * @param dst Destination register
+         * @param arg First argument
+         * @param sec Second argument
+         * @return Instruction offset
+         */
+        private int emit(final int operation, final int dst, final int arg,
+            final int sec) {
+            final int offset = this.instructions.size();
+            this.instructions.addAll(Arrays.asList(operation, dst, arg, sec));
+            return offset;
+        }
+    }
+}
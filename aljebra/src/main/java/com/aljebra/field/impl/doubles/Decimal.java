@@ -24,18 +24,23 @@
 package com.aljebra.field.impl.doubles;
 
 import com.aljebra.field.AbstractOrderedField;
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.DoubleFieldAddition;
+import com.aljebra.field.DoubleFieldMultiplication;
 import com.aljebra.field.Field;
-import com.aljebra.field.MetricSpaceField;
 import com.aljebra.field.OrderedRandom;
 import com.aljebra.metric.InnerProduct;
+import com.aljebra.scalar.DoubleScalar;
 import com.aljebra.scalar.Scalar;
+import java.util.function.Function;
 
 /**
- * A {@link Field} implementation based on double.
+ * A {@link Field} implementation based on double. {@link DoubleScalar}s
+ * are evaluated on primitive doubles.
  * @since 0.1
  */
 public final class Decimal
-    extends AbstractOrderedField<Double> implements MetricSpaceField<Double> {
+    extends AbstractOrderedField<Double> implements DoubleField {
 
     /**
      * Minimum value to generate when randomizing a scalar.
@@ -50,13 +55,44 @@ public final class Decimal
     /**
      * A tolerance threshold to consider two values as equal.
      */
-    private static final double TOLERANCE = 1.E-6;
+    static final double TOLERANCE = 1.E-6;
+
+    /**
+     * Randomizer shared by decimal fields built without a randomizer.
+     */
+    private static final DecimalRandom RANDOM =
+        new DecimalRandom(Decimal.MINBOUND, Decimal.MAXBOUND);
+
+    /**
+     * Primitive addition.
+     */
+    private final DblAddition add;
+
+    /**
+     * Primitive multiplication.
+     */
+    private final DblMult mult;
+
+    /**
+     * Inner product.
+     */
+    private final InnerProduct<Double> inner;
 
     /**
      * Constructor.
      */
     public Decimal() {
-        this(new DecimalRandom(Decimal.MINBOUND, Decimal.MAXBOUND));
+        this(Decimal.RANDOM);
+    }
+
+    /**
+     * Constructor. Builds a decimal field generating reproducible
+     * random values.
+     * @param seed Seed of the generated random values
+     * @since 0.5
+     */
+    public Decimal(final long seed) {
+        this(new DecimalRandom(Decimal.MINBOUND, Decimal.MAXBOUND, seed));
     }
 
     /**
@@ -64,7 +100,37 @@ public final class Decimal
      * @param rand Randomizer
      */
     public Decimal(final OrderedRandom<Double> rand) {
-        super(new DblAddition(), new DblMult(), rand);
+        this(new DblAddition(), new DblMult(), rand, Dot::new);
+    }
+
+    /**
+     * Constructor. Builds a decimal field evaluating dot products of large
+     * dimension vectors in parallel.
+     * @param parallel Parallel kernels
+     * @since 0.5
+     */
+    public Decimal(final DblParallel parallel) {
+        this(
+            new DblAddition(), new DblMult(), Decimal.RANDOM,
+            field -> new ParallelDot(parallel, new Dot(field))
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param add Addition
+     * @param mult Multiplication
+     * @param rand Randomizer
+     * @param inner Inner product evaluating coordinates with a field
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Decimal(final DblAddition add, final DblMult mult,
+        final OrderedRandom<Double> rand,
+        final Function<DoubleField, InnerProduct<Double>> inner) {
+        super(add, mult, rand);
+        this.add = add;
+        this.mult = mult;
+        this.inner = inner.apply(this);
     }
 
     @Override
@@ -77,13 +143,46 @@ public final class Decimal
 
     @Override
     public boolean equals(final Scalar<Double> first, final Scalar<Double> second) {
-        return Math.abs(
-            this.actual(first) - this.actual(second)
-        ) < Decimal.TOLERANCE;
+        return this.dequals(this.dactual(first), this.dactual(second));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double dactual(final Scalar<?> scalar) {
+        final double result;
+        if (scalar instanceof DoubleScalar) {
+            result = ((DoubleScalar) scalar).dvalue(this);
+        } else {
+            result = this.actual((Scalar<Double>) scalar);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean dequals(final double first, final double second) {
+        return Math.abs(first - second) < Decimal.TOLERANCE;
+    }
+
+    @Override
+    public boolean dequalsroot(final double square, final double value) {
+        final double upper = value + Decimal.TOLERANCE;
+        final double lower = value - Decimal.TOLERANCE;
+        return upper > 0. && square < upper * upper
+            && (lower < 0. || square > lower * lower);
+    }
+
+    @Override
+    public DoubleFieldAddition daddition() {
+        return this.add;
+    }
+
+    @Override
+    public DoubleFieldMultiplication dmultiplication() {
+        return this.mult;
     }
 
     @Override
     public InnerProduct<Double> product() {
-        return new Dot();
+        return this.inner;
     }
 }
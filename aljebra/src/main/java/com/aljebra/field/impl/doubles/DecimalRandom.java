@@ -24,11 +24,14 @@
 package com.aljebra.field.impl.doubles;
 
 import com.aljebra.field.OrderedRandom;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * A Decimal randomizer. Implementation generates doubles within a minimum
- * and a maximum bounds.
+ * and a maximum bounds. Each thread draws from its own stream, split from
+ * a root {@link SplittableRandom}, so that concurrent generation is not
+ * contended. Given a seed, the values drawn by a single thread, and the ones
+ * drawn by randomizers obtained with {@link #split()}, are reproducible.
  * @since 0.1
  */
 public final class DecimalRandom implements OrderedRandom<Double> {
@@ -44,9 +47,14 @@ public final class DecimalRandom implements OrderedRandom<Double> {
     private final double max;
 
     /**
-     * Randomizer.
+     * Root randomizer, from which streams are split.
      */
-    private final transient Random rand;
+    private final transient SplittableRandom root;
+
+    /**
+     * Randomizer of the current thread.
+     */
+    private final transient ThreadLocal<SplittableRandom> rand;
 
     /**
      * Ctor.
@@ -54,9 +62,42 @@ public final class DecimalRandom implements OrderedRandom<Double> {
      * @param max Maximum value to generate when randomizing a double
      */
     public DecimalRandom(final double min, final double max) {
+        this(min, max, new SplittableRandom());
+    }
+
+    /**
+     * Ctor.
+     * @param min Minimum value to generate when randomizing a double
+     * @param max Maximum value to generate when randomizing a double
+     * @param seed Seed of the generated values
+     * @since 0.5
+     */
+    public DecimalRandom(final double min, final double max, final long seed) {
+        this(min, max, new SplittableRandom(seed));
+    }
+
+    /**
+     * Ctor.
+     * @param min Minimum value to generate when randomizing a double
+     * @param max Maximum value to generate when randomizing a double
+     * @param root Root randomizer
+     */
+    private DecimalRandom(final double min, final double max,
+        final SplittableRandom root) {
         this.min = min;
         this.max = max;
-        this.rand = new Random();
+        this.root = root;
+        this.rand = ThreadLocal.withInitial(this::stream);
+    }
+
+    /**
+     * Builds a randomizer with the same bounds, drawing from a stream
+     * independent from this randomizer streams.
+     * @return A randomizer
+     * @since 0.5
+     */
+    public DecimalRandom split() {
+        return new DecimalRandom(this.min, this.max, this.stream());
     }
 
     @Override
@@ -69,7 +110,7 @@ public final class DecimalRandom implements OrderedRandom<Double> {
                 )
             );
         }
-        return this.rand.nextDouble() * (upper - lower) + lower;
+        return this.rand.get().nextDouble() * (upper - lower) + lower;
     }
 
     @Override
@@ -82,4 +123,13 @@ public final class DecimalRandom implements OrderedRandom<Double> {
         return this.between(this.min, upper);
     }
 
+    /**
+     * Splits a new stream from the root randomizer.
+     * @return A randomizer stream
+     */
+    private SplittableRandom stream() {
+        synchronized (this.root) {
+            return this.root.split();
+        }
+    }
 }
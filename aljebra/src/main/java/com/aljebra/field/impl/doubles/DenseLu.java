@@ -0,0 +1,217 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.Arrays;
+
+/**
+ * LU decomposition, with partial pivoting, of a square {@link DenseMatrix}:
+ * P.A = L.U where P is a permutation matrix, L a lower triangular matrix with
+ * a unit diagonal and U an upper triangular matrix. L and U are stored together
+ * in one primitive array, column by column.
+ * @since 0.5
+ */
+public final class DenseLu {
+
+    /**
+     * L and U coordinates, column by column.
+     */
+    private final double[] factors;
+
+    /**
+     * Permutation: line of the original matrix for each line of P.A.
+     */
+    private final int[] pivots;
+
+    /**
+     * Matrix dimension.
+     */
+    private final int dim;
+
+    /**
+     * Permutation sign.
+     */
+    private final int sign;
+
+    /**
+     * Constructor.
+     * @param lines Matrix lines count
+     * @param columns Matrix columns count
+     * @param coords Matrix coordinates, column by column
+     */
+    DenseLu(final int lines, final int columns, final double... coords) {
+        if (lines != columns) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Expected a square matrix but got %d lines and %d columns",
+                    lines, columns
+                )
+            );
+        }
+        this.dim = lines;
+        this.factors = Arrays.copyOf(coords, coords.length);
+        this.pivots = new int[lines];
+        for (int idx = 0; idx < lines; ++idx) {
+            this.pivots[idx] = idx;
+        }
+        this.sign = this.decompose();
+    }
+
+    /**
+     * Checks if the decomposed matrix is singular.
+     * @return True if the matrix is not invertible
+     */
+    public boolean singular() {
+        boolean result = false;
+        for (int idx = 0; idx < this.dim; ++idx) {
+            result = result || this.factors[idx * this.dim + idx] == 0.;
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the decomposed matrix determinant.
+     * @return Determinant
+     */
+    public double determinant() {
+        double result = this.sign;
+        for (int idx = 0; idx < this.dim; ++idx) {
+            result *= this.factors[idx * this.dim + idx];
+        }
+        return result;
+    }
+
+    /**
+     * Solves A.x = b, without allocating.
+     * @param rhs Right hand side b
+     * @param output Array receiving the solution x. Should not be the rhs array
+     */
+    public void solve(final double[] rhs, final double[] output) {
+        this.check();
+        for (int idx = 0; idx < this.dim; ++idx) {
+            output[idx] = rhs[this.pivots[idx]];
+        }
+        for (int col = 0; col < this.dim; ++col) {
+            final double value = output[col];
+            for (int lin = col + 1; lin < this.dim; ++lin) {
+                output[lin] -= this.factors[col * this.dim + lin] * value;
+            }
+        }
+        for (int col = this.dim - 1; col >= 0; --col) {
+            output[col] /= this.factors[col * this.dim + col];
+            final double value = output[col];
+            for (int lin = 0; lin < col; ++lin) {
+                output[lin] -= this.factors[col * this.dim + lin] * value;
+            }
+        }
+    }
+
+    /**
+     * Calculates the decomposed matrix inverse.
+     * @return Inverse matrix
+     */
+    public DenseMatrix inverse() {
+        final double[] result = new double[this.dim * this.dim];
+        final double[] unit = new double[this.dim];
+        final double[] column = new double[this.dim];
+        for (int col = 0; col < this.dim; ++col) {
+            unit[col] = 1.;
+            this.solve(unit, column);
+            System.arraycopy(column, 0, result, col * this.dim, this.dim);
+            unit[col] = 0.;
+        }
+        return new DenseMatrix(this.dim, this.dim, result);
+    }
+
+    /**
+     * Decomposes the matrix in place (Doolittle algorithm, partial pivoting).
+     * @return Permutation sign
+     */
+    private int decompose() {
+        int result = 1;
+        for (int col = 0; col < this.dim; ++col) {
+            final int pivot = this.pivot(col);
+            if (pivot != col) {
+                this.swap(pivot, col);
+                result = -result;
+            }
+            final double diag = this.factors[col * this.dim + col];
+            if (diag != 0.) {
+                for (int lin = col + 1; lin < this.dim; ++lin) {
+                    this.factors[col * this.dim + lin] /= diag;
+                }
+                for (int next = col + 1; next < this.dim; ++next) {
+                    final double factor = this.factors[next * this.dim + col];
+                    for (int lin = col + 1; lin < this.dim; ++lin) {
+                        this.factors[next * this.dim + lin] -=
+                            this.factors[col * this.dim + lin] * factor;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the line having the greatest absolute value in a column,
+     * under the diagonal.
+     * @param col Column index
+     * @return Pivot line index
+     */
+    private int pivot(final int col) {
+        int result = col;
+        for (int lin = col + 1; lin < this.dim; ++lin) {
+            if (Math.abs(this.factors[col * this.dim + lin])
+                > Math.abs(this.factors[col * this.dim + result])) {
+                result = lin;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Swaps two lines.
+     * @param first First line index
+     * @param second Second line index
+     */
+    private void swap(final int first, final int second) {
+        for (int col = 0; col < this.dim; ++col) {
+            final double tmp = this.factors[col * this.dim + first];
+            this.factors[col * this.dim + first] = this.factors[col * this.dim + second];
+            this.factors[col * this.dim + second] = tmp;
+        }
+        final int tmp = this.pivots[first];
+        this.pivots[first] = this.pivots[second];
+        this.pivots[second] = tmp;
+    }
+
+    /**
+     * Checks that the decomposed matrix is invertible.
+     */
+    private void check() {
+        if (this.singular()) {
+            throw new IllegalStateException("Matrix is singular");
+        }
+    }
+}
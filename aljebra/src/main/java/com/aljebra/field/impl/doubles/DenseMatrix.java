@@ -0,0 +1,355 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.Field;
+import com.aljebra.matrix.FixedMatrix;
+import com.aljebra.matrix.Matrix;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A dense double matrix backed by a primitive array, with coordinates stored
+ * column by column (the same order as {@link Matrix#coords()}). Besides
+ * the {@link Matrix} contract, it gives allocation-free primitive products
+ * with vectors and matrices, and linear algebra operations based on
+ * {@link DenseLu} decomposition. Instances are immutable.
+ * @since 0.5
+ */
+public final class DenseMatrix implements Matrix<Double> {
+
+    /**
+     * Block size (in coordinates) used by matrices multiplication.
+     */
+    private static final int BLOCK = 64;
+
+    /**
+     * Matrix coordinates, column by column.
+     */
+    private final double[] values;
+
+    /**
+     * Lines count.
+     */
+    private final int target;
+
+    /**
+     * Columns count.
+     */
+    private final int source;
+
+    /**
+     * Constructor.
+     * @param lines Matrix lines count
+     * @param columns Matrix columns count
+     * @param coords Matrix coordinates, column by column
+     */
+    public DenseMatrix(final int lines, final int columns, final double... coords) {
+        if (coords.length != lines * columns) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Expected %d values for a matrix with %d lines and %d columns",
+                    lines * columns, lines, columns
+                )
+            );
+        }
+        this.target = lines;
+        this.source = columns;
+        this.values = Arrays.copyOf(coords, coords.length);
+    }
+
+    /**
+     * Constructor. Evaluates a matrix coordinates.
+     * @param matrix Matrix to evaluate
+     * @param field Field to evaluate the matrix coordinates
+     */
+    public DenseMatrix(final Matrix<Double> matrix, final Field<Double> field) {
+        this(matrix.lines(), matrix.columns(), DenseMatrix.evaluate(matrix, field));
+    }
+
+    /**
+     * Builds an identity matrix.
+     * @param dim Matrix dimension
+     * @return Identity matrix
+     */
+    public static DenseMatrix identity(final int dim) {
+        final double[] coords = new double[dim * dim];
+        for (int idx = 0; idx < dim; ++idx) {
+            coords[idx * dim + idx] = 1.;
+        }
+        return new DenseMatrix(dim, dim, coords);
+    }
+
+    /**
+     * Gives a matrix coordinate.
+     * @param line Line index, starting from 1
+     * @param column Column index, starting from 1
+     * @return Coordinate value
+     */
+    public double value(final int line, final int column) {
+        return this.values[(column - 1) * this.target + line - 1];
+    }
+
+    /**
+     * Gives a copy of the matrix coordinates, column by column.
+     * @return Matrix coordinates
+     */
+    public double[] values() {
+        return Arrays.copyOf(this.values, this.values.length);
+    }
+
+    /**
+     * Multiplies a vector by this matrix, without allocating.
+     * @param input Vector coordinates, of length columns count
+     * @param output Array receiving the result, of length lines count.
+     *  Should not be the input array
+     */
+    public void apply(final double[] input, final double[] output) {
+        this.apply(input, 0, output, 0);
+    }
+
+    /**
+     * Multiplies packed vectors by this matrix, without allocating.
+     * Vectors are stored one after the other in the arrays.
+     * @param inputs Vectors coordinates
+     * @param outputs Array receiving the results. Should not be the inputs array
+     * @param count Vectors count
+     */
+    public void applyAll(final double[] inputs, final double[] outputs,
+        final int count) {
+        for (int idx = 0; idx < count; ++idx) {
+            this.apply(inputs, idx * this.source, outputs, idx * this.target);
+        }
+    }
+
+    /**
+     * Multiplies this matrix by another one.
+     * @param other Matrix to multiply by (on the right)
+     * @return Product matrix
+     */
+    public DenseMatrix multiply(final DenseMatrix other) {
+        final double[] result = new double[this.target * other.source];
+        this.multiply(other, result);
+        return new DenseMatrix(this.target, other.source, result);
+    }
+
+    /**
+     * Multiplies this matrix by another one, without allocating. Multiplication
+     * is done by blocks so that the operands blocks stay in cache.
+     * @param other Matrix to multiply by (on the right)
+     * @param output Array receiving the product coordinates, column by column
+     */
+    public void multiply(final DenseMatrix other, final double[] output) {
+        if (this.source != other.target) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Incompatible matrices dimensions: %d columns and %d lines",
+                    this.source, other.target
+                )
+            );
+        }
+        final int lines = this.target;
+        final int inner = this.source;
+        final int cols = other.source;
+        Arrays.fill(output, 0, lines * cols, 0.);
+        for (int cblock = 0; cblock < cols; cblock += DenseMatrix.BLOCK) {
+            final int cend = Math.min(cblock + DenseMatrix.BLOCK, cols);
+            for (int iblock = 0; iblock < inner; iblock += DenseMatrix.BLOCK) {
+                final int iend = Math.min(iblock + DenseMatrix.BLOCK, inner);
+                for (int col = cblock; col < cend; ++col) {
+                    for (int idx = iblock; idx < iend; ++idx) {
+                        DenseMatrix.axpy(
+                            other.values[col * inner + idx], this.values,
+                            idx * lines, output, col * lines, lines
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives this matrix transpose.
+     * @return Transposed matrix
+     */
+    public DenseMatrix transpose() {
+        final double[] result = new double[this.values.length];
+        for (int col = 0; col < this.source; ++col) {
+            for (int lin = 0; lin < this.target; ++lin) {
+                result[lin * this.source + col] = this.values[col * this.target + lin];
+            }
+        }
+        return new DenseMatrix(this.source, this.target, result);
+    }
+
+    /**
+     * Decomposes this (square) matrix.
+     * @return LU decomposition of this matrix
+     */
+    public DenseLu lu() {
+        return new DenseLu(this.target, this.source, this.values);
+    }
+
+    /**
+     * Calculates this (square) matrix determinant.
+     * @return Determinant
+     */
+    public double determinant() {
+        return this.lu().determinant();
+    }
+
+    /**
+     * Calculates this (square) matrix inverse.
+     * @return Inverse matrix
+     */
+    public DenseMatrix inverse() {
+        return this.lu().inverse();
+    }
+
+    /**
+     * Solves the linear system of this (square) matrix.
+     * @param rhs Right hand side of the system
+     * @return The solution
+     */
+    public double[] solve(final double[] rhs) {
+        final double[] result = new double[rhs.length];
+        this.lu().solve(rhs, result);
+        return result;
+    }
+
+    @Override
+    public Scalar<Double>[] coords() {
+        return this.fixed().coords();
+    }
+
+    @Override
+    public Scalar<Double>[] column(final int index) {
+        return this.fixed().column(index);
+    }
+
+    @Override
+    public Scalar<Double>[] line(final int index) {
+        return this.fixed().line(index);
+    }
+
+    @Override
+    public Vect<Double> apply(final Vect<Double> input) {
+        return this.fixed().apply(input);
+    }
+
+    @Override
+    public int columns() {
+        return this.source;
+    }
+
+    @Override
+    public int lines() {
+        return this.target;
+    }
+
+    /**
+     * Multiplies a vector stored in an array by this matrix.
+     * @param input Vectors coordinates
+     * @param ifrom Index of the vector first coordinate in input
+     * @param output Array receiving the result
+     * @param ofrom Index of the result first coordinate in output
+     */
+    private void apply(final double[] input, final int ifrom,
+        final double[] output, final int ofrom) {
+        Arrays.fill(output, ofrom, ofrom + this.target, 0.);
+        for (int col = 0; col < this.source; ++col) {
+            DenseMatrix.axpy(
+                input[ifrom + col], this.values, col * this.target,
+                output, ofrom, this.target
+            );
+        }
+    }
+
+    /**
+     * Multiplies a vector by a range of this matrix lines.
+     * @param input Vector coordinates
+     * @param output Array receiving the result (only the range is written)
+     * @param from First line index, starting from 0 (inclusive)
+     * @param to Last line index, starting from 0 (exclusive)
+     */
+    void apply(final double[] input, final double[] output, final int from,
+        final int to) {
+        Arrays.fill(output, from, to, 0.);
+        for (int col = 0; col < this.source; ++col) {
+            DenseMatrix.axpy(
+                input[col], this.values, col * this.target + from, output, from, to - from
+            );
+        }
+    }
+
+    /**
+     * Builds the generic representation of this matrix.
+     * @return A matrix of constant scalars
+     */
+    private Matrix<Double> fixed() {
+        final List<Scalar<Double>> coords = new ArrayList<>(this.values.length);
+        for (final double value : this.values) {
+            coords.add(new Scalar.Default<>(value));
+        }
+        return new FixedMatrix<>(this.target, this.source, coords);
+    }
+
+    /**
+     * Adds a scaled column to another one.
+     * @param factor Scale factor
+     * @param column Array holding the column to scale
+     * @param cfrom Index of the column first coordinate
+     * @param output Array holding the column to add to
+     * @param ofrom Index of the column to add to first coordinate
+     * @param length Columns length
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void axpy(final double factor, final double[] column,
+        final int cfrom, final double[] output, final int ofrom, final int length) {
+        if (factor != 0.) {
+            for (int idx = 0; idx < length; ++idx) {
+                output[ofrom + idx] += factor * column[cfrom + idx];
+            }
+        }
+    }
+
+    /**
+     * Evaluates a matrix coordinates.
+     * @param matrix Matrix to evaluate
+     * @param field Field to evaluate the matrix coordinates
+     * @return Coordinates values, column by column
+     */
+    private static double[] evaluate(final Matrix<Double> matrix,
+        final Field<Double> field) {
+        final Scalar<Double>[] coords = matrix.coords();
+        final double[] result = new double[coords.length];
+        for (int idx = 0; idx < coords.length; ++idx) {
+            result[idx] = field.actual(coords[idx]);
+        }
+        return result;
+    }
+}
@@ -23,7 +23,7 @@
  */
 package com.aljebra.field.impl.doubles;
 
-import com.aljebra.matrix.Matrix;
+import com.aljebra.field.DoubleField;
 import com.aljebra.metric.InnerProduct;
 import com.aljebra.metric.angle.Degrees;
 import com.aljebra.scalar.Add;
@@ -37,63 +37,74 @@ import java.util.List;
  * Class implementing dot operation (scalar product) or inner product
  * of 2 vectors in Real numbers field. Current implementation suppose
  * a two dimension vector space in `rot` and `angle` methods implementation,
- * and rely on {@link Decimal} field implementation.
+ * and evaluates coordinates with a double field, usually the {@link Decimal}
+ * field giving this inner product.
  * @since 0.1
  */
 public final class Dot implements InnerProduct<Double> {
 
+    /**
+     * Field evaluating scalars.
+     */
+    private final DoubleField field;
+
+    /**
+     * Constructor. Evaluates coordinates with a new {@link Decimal} field.
+     */
+    public Dot() {
+        this(new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param field Field evaluating coordinates
+     * @since 0.5
+     */
+    public Dot(final DoubleField field) {
+        this.field = field;
+    }
+
     @Override
     public Scalar<Double> product(final Vect<Double> foperand, final Vect<Double> soperand) {
-        final Scalar<Double>[] first = foperand.coords();
-        final Scalar<Double>[] second = soperand.coords();
-        final List<Multiplication<Double>> multis = new ArrayList<>(first.length);
-        for (int idx = 0; idx < first.length; ++idx) {
-            multis.add(Dot.mult(first[idx], second[idx]));
+        final int dim = foperand.dimension();
+        final List<Multiplication<Double>> multis = new ArrayList<>(dim);
+        for (int idx = 0; idx < dim; ++idx) {
+            multis.add(Dot.mult(foperand.coord(idx), soperand.coord(idx)));
         }
         return new Add<Double>(multis);
     }
 
     @Override
     public Scalar<Double> norm(final Vect<Double> vect) {
-        return Dot.wrap(Math.sqrt(Dot.val(this.product(vect, vect))));
+        final int dim = vect.dimension();
+        double squares = 0.;
+        for (int idx = 0; idx < dim; ++idx) {
+            final double coord = this.val(vect.coord(idx));
+            squares += coord * coord;
+        }
+        return Dot.wrap(Math.sqrt(squares));
     }
 
     @Override
     public Degrees<Double> angle(final Vect<Double> first, final Vect<Double> second) {
-        final Double cross =
-            Dot.val(first.coords()[0]) * Dot.val(second.coords()[1])
-                - Dot.val(second.coords()[0]) * Dot.val(first.coords()[1]);
-        final Double norms = Dot.val(
-            new Multiplication<Double>(this.norm(first), this.norm(second))
-        );
-        final Double result;
-        if (norms == 0) {
-            result = 0.;
-        } else {
-            final Double arcsin = Math.asin(cross / norms);
-            final Double arcos = Math.acos(
-                Dot.val(this.product(first, second)) / norms
-            );
-            if (arcsin >= 0) {
-                result = arcos;
-            } else {
-                result = -arcos;
-            }
-        }
-        return new Degrees.Default<>(result);
+        final double fxcoor = this.val(first.coord(0));
+        final double fycoor = this.val(first.coord(1));
+        final double sxcoor = this.val(second.coord(0));
+        final double sycoor = this.val(second.coord(1));
+        final double cross = fxcoor * sycoor - sxcoor * fycoor;
+        final double dot = fxcoor * sxcoor + fycoor * sycoor;
+        return new Degrees.Default<>(Math.atan2(cross + 0., dot + 0.));
     }
 
     @Override
     public Vect<Double> rot(final Vect<Double> vect, final Degrees<Double> ang) {
-        final Double angle = ang.resolve(this).doubleValue();
-        final Matrix<Double> rot = new DblMatrix(
-            2, 2,
-            Math.cos(angle),
-            Math.sin(angle),
-            -Math.sin(angle),
-            Math.cos(angle)
+        final SinCos trigo = SinCos.of(ang.resolve(this).doubleValue());
+        final double xcoor = this.val(vect.coord(0));
+        final double ycoor = this.val(vect.coord(1));
+        return new DblVect(
+            xcoor * trigo.cos() - ycoor * trigo.sin(),
+            xcoor * trigo.sin() + ycoor * trigo.cos()
         );
-        return rot.apply(vect);
     }
 
     /**
@@ -112,8 +123,8 @@ public final class Dot implements InnerProduct<Double> {
      * @param input Scalar
      * @return A double
      */
-    private static Double val(final Scalar<Double> input) {
-        return new Decimal().actual(input);
+    private double val(final Scalar<Double> input) {
+        return this.field.dactual(input);
     }
 
     /**
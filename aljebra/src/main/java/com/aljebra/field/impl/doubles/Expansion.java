@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.Arrays;
+
+/**
+ * An exact real number represented as a sum of non-overlapping doubles of
+ * increasing magnitude (a floating-point expansion, after Shewchuk's
+ * "Adaptive Precision Floating-Point Arithmetic and Fast Robust Geometric
+ * Predicates"). Additions and multiplications of expansions are exact,
+ * as long as no overflow or underflow occurs.
+ * @since 0.5
+ */
+final class Expansion {
+
+    /**
+     * Splitter used to split a double into two halves of 26 bits.
+     */
+    private static final double SPLITTER = 134_217_729.;
+
+    /**
+     * Non-zero components, in increasing magnitude order.
+     */
+    private final double[] comps;
+
+    /**
+     * Constructor.
+     * @param comps Non-zero components, in increasing magnitude order
+     */
+    private Expansion(final double... comps) {
+        this.comps = comps;
+    }
+
+    /**
+     * Builds the exact difference of two doubles.
+     * @param first First double
+     * @param second Second double
+     * @return Expansion of the difference
+     */
+    static Expansion difference(final double first, final double second) {
+        final double sum = first - second;
+        final double virt = first - sum;
+        final double err = first - (sum + virt) + (virt - second);
+        return Expansion.nonzero(err, sum);
+    }
+
+    /**
+     * Builds the exact product of two doubles.
+     * @param first First double
+     * @param second Second double
+     * @return Expansion of the product
+     */
+    static Expansion product(final double first, final double second) {
+        final double prod = first * second;
+        final double fsplit = Expansion.SPLITTER * first;
+        final double fhigh = fsplit - (fsplit - first);
+        final double flow = first - fhigh;
+        final double ssplit = Expansion.SPLITTER * second;
+        final double shigh = ssplit - (ssplit - second);
+        final double slow = second - shigh;
+        final double err = flow * slow
+            - (prod - fhigh * shigh - flow * shigh - fhigh * slow);
+        return Expansion.nonzero(err, prod);
+    }
+
+    /**
+     * Adds an expansion to this one.
+     * @param other Expansion to add
+     * @return Expansion of the sum
+     */
+    Expansion plus(final Expansion other) {
+        double[] result = this.comps;
+        for (final double comp : other.comps) {
+            result = Expansion.grow(result, comp);
+        }
+        return new Expansion(result);
+    }
+
+    /**
+     * Subtracts an expansion from this one.
+     * @param other Expansion to subtract
+     * @return Expansion of the difference
+     */
+    Expansion minus(final Expansion other) {
+        final double[] opposite = new double[other.comps.length];
+        for (int idx = 0; idx < opposite.length; ++idx) {
+            opposite[idx] = -other.comps[idx];
+        }
+        return this.plus(new Expansion(opposite));
+    }
+
+    /**
+     * Multiplies this expansion by another one.
+     * @param other Expansion to multiply by
+     * @return Expansion of the product
+     */
+    Expansion times(final Expansion other) {
+        Expansion result = new Expansion();
+        for (final double comp : this.comps) {
+            for (final double ocomp : other.comps) {
+                result = result.plus(Expansion.product(comp, ocomp));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gives the sign of this expansion, which is the sign of its
+     * greatest component.
+     * @return 1, 0 or -1 as this expansion is positive, zero or negative
+     */
+    int signum() {
+        final int result;
+        if (this.comps.length == 0) {
+            result = 0;
+        } else {
+            result = (int) Math.signum(this.comps[this.comps.length - 1]);
+        }
+        return result;
+    }
+
+    /**
+     * Adds a double to an expansion, eliminating zero components.
+     * @param comps Expansion components
+     * @param value Double to add
+     * @return Components of the sum
+     */
+    private static double[] grow(final double[] comps, final double value) {
+        final double[] result = new double[comps.length + 1];
+        int size = 0;
+        double acc = value;
+        for (final double comp : comps) {
+            final double sum = acc + comp;
+            final double virt = sum - acc;
+            final double err = acc - (sum - virt) + (comp - virt);
+            if (err != 0.) {
+                result[size] = err;
+                ++size;
+            }
+            acc = sum;
+        }
+        if (acc != 0.) {
+            result[size] = acc;
+            ++size;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Builds an expansion from two components, dropping zeros.
+     * @param low Smaller component
+     * @param high Greater component
+     * @return An expansion
+     */
+    private static Expansion nonzero(final double low, final double high) {
+        return new Expansion(Expansion.grow(Expansion.grow(new double[0], high), low));
+    }
+}
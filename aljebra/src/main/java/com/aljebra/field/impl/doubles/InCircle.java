@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+/**
+ * Robust in-circle predicate of four points of the plane. The sign of
+ * the in-circle determinant is evaluated with doubles and an error bound
+ * first, and exactly (see {@link Expansion}) only when the error bound
+ * cannot guarantee the sign, after Shewchuk's "Adaptive Precision
+ * Floating-Point Arithmetic and Fast Robust Geometric Predicates".
+ * @since 0.5
+ */
+public final class InCircle {
+
+    /**
+     * Relative error bound of the floating-point evaluation.
+     */
+    private static final double BOUND = (10. + 96. * Math.ulp(1.) / 2.) * Math.ulp(1.) / 2.;
+
+    /**
+     * Points coordinates: first point abscissa and ordinate, then second,
+     * third and fourth points ones.
+     */
+    private final double[] coords;
+
+    /**
+     * Constructor.
+     * @param first First circle point coordinates (abscissa and ordinate)
+     * @param second Second circle point coordinates (abscissa and ordinate)
+     * @param third Third circle point coordinates (abscissa and ordinate)
+     * @param point Tested point coordinates (abscissa and ordinate)
+     */
+    public InCircle(final double[] first, final double[] second, final double[] third,
+        final double[] point) {
+        this.coords = new double[] {
+            first[0], first[1], second[0], second[1], third[0], third[1], point[0], point[1],
+        };
+    }
+
+    /**
+     * Gives the position of the tested point relatively to the circle passing
+     * through the three other points, given in counterclockwise order
+     * (the sign is reversed for clockwise order).
+     * @return 1 if the point is inside the circle, -1 if it is outside and
+     *  0 if it is on the circle
+     */
+    public int sign() {
+        final double adx = this.coords[0] - this.coords[6];
+        final double ady = this.coords[1] - this.coords[7];
+        final double bdx = this.coords[2] - this.coords[6];
+        final double bdy = this.coords[3] - this.coords[7];
+        final double cdx = this.coords[4] - this.coords[6];
+        final double cdy = this.coords[5] - this.coords[7];
+        final double bdxcdy = bdx * cdy;
+        final double cdxbdy = cdx * bdy;
+        final double cdxady = cdx * ady;
+        final double adxcdy = adx * cdy;
+        final double adxbdy = adx * bdy;
+        final double bdxady = bdx * ady;
+        final double alift = adx * adx + ady * ady;
+        final double blift = bdx * bdx + bdy * bdy;
+        final double clift = cdx * cdx + cdy * cdy;
+        final double det = alift * (bdxcdy - cdxbdy) + blift * (cdxady - adxcdy)
+            + clift * (adxbdy - bdxady);
+        final double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+            + (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+            + (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+        final int result;
+        if (Math.abs(det) > InCircle.BOUND * permanent) {
+            result = (int) Math.signum(det);
+        } else {
+            result = this.exact();
+        }
+        return result;
+    }
+
+    /**
+     * Gives the position of the tested point with exact arithmetic.
+     * @return The sign of the in-circle determinant
+     */
+    private int exact() {
+        final Expansion adx = Expansion.difference(this.coords[0], this.coords[6]);
+        final Expansion ady = Expansion.difference(this.coords[1], this.coords[7]);
+        final Expansion bdx = Expansion.difference(this.coords[2], this.coords[6]);
+        final Expansion bdy = Expansion.difference(this.coords[3], this.coords[7]);
+        final Expansion cdx = Expansion.difference(this.coords[4], this.coords[6]);
+        final Expansion cdy = Expansion.difference(this.coords[5], this.coords[7]);
+        return adx.times(adx).plus(ady.times(ady))
+            .times(bdx.times(cdy).minus(cdx.times(bdy)))
+            .plus(
+                bdx.times(bdx).plus(bdy.times(bdy))
+                    .times(cdx.times(ady).minus(adx.times(cdy)))
+            )
+            .plus(
+                cdx.times(cdx).plus(cdy.times(cdy))
+                    .times(adx.times(bdy).minus(bdx.times(ady)))
+            ).signum();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+/**
+ * Robust orientation predicate of three points of the plane. The sign of
+ * the orientation determinant is evaluated with doubles and an error bound
+ * first, and exactly (see {@link Expansion}) only when the error bound
+ * cannot guarantee the sign, after Shewchuk's "Adaptive Precision
+ * Floating-Point Arithmetic and Fast Robust Geometric Predicates".
+ * @since 0.5
+ */
+public final class Orient2D {
+
+    /**
+     * Relative error bound of the floating-point evaluation.
+     */
+    private static final double BOUND = (3. + 16. * Math.ulp(1.) / 2.) * Math.ulp(1.) / 2.;
+
+    /**
+     * Points coordinates: first point abscissa and ordinate, then second
+     * and third points ones.
+     */
+    private final double[] coords;
+
+    /**
+     * Constructor.
+     * @param first First point coordinates (abscissa and ordinate)
+     * @param second Second point coordinates (abscissa and ordinate)
+     * @param third Third point coordinates (abscissa and ordinate)
+     */
+    public Orient2D(final double[] first, final double[] second, final double[] third) {
+        this.coords = new double[] {
+            first[0], first[1], second[0], second[1], third[0], third[1],
+        };
+    }
+
+    /**
+     * Gives the orientation of the three points.
+     * @return 1 if the points are in counterclockwise order, -1 if they are
+     *  in clockwise order and 0 if they are collinear
+     */
+    public int sign() {
+        final double acx = this.coords[0] - this.coords[4];
+        final double bcx = this.coords[2] - this.coords[4];
+        final double acy = this.coords[1] - this.coords[5];
+        final double bcy = this.coords[3] - this.coords[5];
+        final double left = acx * bcy;
+        final double right = acy * bcx;
+        final double det = left - right;
+        final int result;
+        if (Math.abs(det) > Orient2D.BOUND * (Math.abs(left) + Math.abs(right))) {
+            result = (int) Math.signum(det);
+        } else {
+            result = this.exact();
+        }
+        return result;
+    }
+
+    /**
+     * Gives the orientation of the three points with exact arithmetic.
+     * @return The sign of the orientation determinant
+     */
+    private int exact() {
+        final Expansion acx = Expansion.difference(this.coords[0], this.coords[4]);
+        final Expansion bcx = Expansion.difference(this.coords[2], this.coords[4]);
+        final Expansion acy = Expansion.difference(this.coords[1], this.coords[5]);
+        final Expansion bcy = Expansion.difference(this.coords[3], this.coords[5]);
+        return acx.times(bcy).minus(acy.times(bcx)).signum();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.Field;
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.metric.angle.Degrees;
+import com.aljebra.scalar.DoubleScalar;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Dot product splitting the evaluation of large dimension vectors
+ * products over a fork-join pool (see {@link DblParallel}). Products of
+ * vectors whose dimension is lower than the threshold, as well as angles,
+ * norms and rotations, are delegated to {@link Dot}.
+ * @since 0.5
+ */
+public final class ParallelDot implements InnerProduct<Double> {
+
+    /**
+     * Sequential dot product.
+     */
+    private final Dot dot;
+
+    /**
+     * Parallel kernels.
+     */
+    private final DblParallel parallel;
+
+    /**
+     * Constructor.
+     * @param parallel Parallel kernels
+     */
+    public ParallelDot(final DblParallel parallel) {
+        this(parallel, new Dot());
+    }
+
+    /**
+     * Constructor.
+     * @param parallel Parallel kernels
+     * @param dot Sequential dot product
+     */
+    ParallelDot(final DblParallel parallel, final Dot dot) {
+        this.dot = dot;
+        this.parallel = parallel;
+    }
+
+    @Override
+    public Scalar<Double> product(final Vect<Double> foperand, final Vect<Double> soperand) {
+        final Scalar<Double> result;
+        if (foperand.dimension() < this.parallel.threshold()) {
+            result = this.dot.product(foperand, soperand);
+        } else {
+            result = new ParallelDot.Product(this.parallel, foperand, soperand);
+        }
+        return result;
+    }
+
+    @Override
+    public Degrees<Double> angle(final Vect<Double> first, final Vect<Double> second) {
+        return this.dot.angle(first, second);
+    }
+
+    @Override
+    public Scalar<Double> norm(final Vect<Double> vect) {
+        return this.dot.norm(vect);
+    }
+
+    @Override
+    public Vect<Double> rot(final Vect<Double> vect, final Degrees<Double> angle) {
+        return this.dot.rot(vect, angle);
+    }
+
+    /**
+     * Scalar representing the dot product of two vectors, evaluated in
+     * parallel by double fields.
+     */
+    @EqualsAndHashCode
+    @ToString(includeFieldNames = false)
+    private static final class Product implements Scalar<Double>, DoubleScalar {
+
+        /**
+         * Parallel kernels.
+         */
+        private final DblParallel parallel;
+
+        /**
+         * First operand.
+         */
+        private final Vect<Double> first;
+
+        /**
+         * Second operand.
+         */
+        private final Vect<Double> second;
+
+        /**
+         * Constructor.
+         * @param parallel Parallel kernels
+         * @param first First operand
+         * @param second Second operand
+         */
+        Product(final DblParallel parallel, final Vect<Double> first,
+            final Vect<Double> second) {
+            this.parallel = parallel;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public Double value(final Field<Double> field) {
+            final double result;
+            if (field instanceof DoubleField) {
+                result = this.dvalue((DoubleField) field);
+            } else {
+                final int dim = this.first.dimension();
+                final double[] left = new double[dim];
+                final double[] right = new double[dim];
+                for (int idx = 0; idx < dim; ++idx) {
+                    left[idx] = field.actual(this.first.coord(idx));
+                    right[idx] = field.actual(this.second.coord(idx));
+                }
+                result = this.parallel.dot(left, right);
+            }
+            return result;
+        }
+
+        @Override
+        public double dvalue(final DoubleField field) {
+            return this.parallel.dot(
+                this.parallel.values(this.first, field),
+                this.parallel.values(this.second, field)
+            );
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Sine and cosine of an angle (in radians), looked up in a small shared
+ * cache keyed by the angle. Rotations by a few recurring angles (regular
+ * polygons, bisectors, angle constructions) then compute their trigonometric
+ * values once. The cache is direct-mapped and bounded: colliding angles
+ * evict each other.
+ * @since 0.5
+ */
+public final class SinCos {
+
+    /**
+     * Cache size, a power of two.
+     */
+    private static final int SIZE = 1 << 10;
+
+    /**
+     * Cached entries.
+     */
+    private static final AtomicReferenceArray<SinCos> CACHE = SinCos.empty();
+
+    /**
+     * Angle in radians.
+     */
+    private final double angle;
+
+    /**
+     * Angle sine.
+     */
+    private final double sine;
+
+    /**
+     * Angle cosine.
+     */
+    private final double cosine;
+
+    /**
+     * Constructor.
+     * @param angle Angle in radians
+     */
+    private SinCos(final double angle) {
+        this.angle = angle;
+        this.sine = Math.sin(angle);
+        this.cosine = Math.cos(angle);
+    }
+
+    /**
+     * Gives the sine and cosine of an angle.
+     * @param angle Angle in radians
+     * @return Sine and cosine of the angle
+     */
+    public static SinCos of(final double angle) {
+        final long bits = Double.doubleToLongBits(angle);
+        int hash = (int) (bits ^ bits >>> 32);
+        hash ^= hash >>> 16;
+        final int idx = hash & (SinCos.SIZE - 1);
+        SinCos result = SinCos.CACHE.get(idx);
+        if (Double.doubleToLongBits(result.angle) != bits) {
+            result = new SinCos(angle);
+            SinCos.CACHE.set(idx, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the angle sine.
+     * @return Sine
+     */
+    public double sin() {
+        return this.sine;
+    }
+
+    /**
+     * Gives the angle cosine.
+     * @return Cosine
+     */
+    public double cos() {
+        return this.cosine;
+    }
+
+    /**
+     * Builds a cache filled with the null angle entry.
+     * @return Cache entries
+     */
+    private static AtomicReferenceArray<SinCos> empty() {
+        final AtomicReferenceArray<SinCos> result = new AtomicReferenceArray<>(SinCos.SIZE);
+        final SinCos zero = new SinCos(0.);
+        for (int idx = 0; idx < SinCos.SIZE; ++idx) {
+            result.set(idx, zero);
+        }
+        return result;
+    }
+}
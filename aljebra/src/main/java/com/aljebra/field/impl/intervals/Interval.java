@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.intervals;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A closed interval of doubles, enclosing an unknown real number. Operations
+ * round outward: the resulting interval encloses every result of the
+ * operation applied to numbers of the operand intervals.
+ * @since 0.5
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public final class Interval {
+
+    /**
+     * Lower bound.
+     */
+    private final double low;
+
+    /**
+     * Upper bound.
+     */
+    private final double high;
+
+    /**
+     * Constructor. Builds an interval containing a single double.
+     * @param value Double
+     */
+    public Interval(final double value) {
+        this(value, value);
+    }
+
+    /**
+     * Constructor.
+     * @param lower Lower bound
+     * @param upper Upper bound
+     */
+    public Interval(final double lower, final double upper) {
+        if (!(lower <= upper)) {
+            throw new IllegalArgumentException(
+                String.format("Invalid interval bounds [%s, %s]", lower, upper)
+            );
+        }
+        this.low = lower;
+        this.high = upper;
+    }
+
+    /**
+     * Gives the lower bound.
+     * @return Lower bound
+     */
+    public double lower() {
+        return this.low;
+    }
+
+    /**
+     * Gives the upper bound.
+     * @return Upper bound
+     */
+    public double upper() {
+        return this.high;
+    }
+
+    /**
+     * Gives the middle of the interval.
+     * @return Middle
+     */
+    public double middle() {
+        return this.low / 2. + this.high / 2.;
+    }
+
+    /**
+     * Tells if the interval contains a double.
+     * @param value Double
+     * @return True if the double is in the interval
+     */
+    public boolean contains(final double value) {
+        return this.low <= value && value <= this.high;
+    }
+
+    /**
+     * Tells if two intervals have common numbers.
+     * @param other Other interval
+     * @return True if the intervals intersect
+     */
+    public boolean intersects(final Interval other) {
+        return this.low <= other.high && other.low <= this.high;
+    }
+
+    /**
+     * Adds an interval.
+     * @param other Interval to add
+     * @return Interval enclosing the sum
+     */
+    public Interval add(final Interval other) {
+        return new Interval(
+            Math.nextDown(this.low + other.low), Math.nextUp(this.high + other.high)
+        );
+    }
+
+    /**
+     * Gives the opposite interval.
+     * @return Interval enclosing the opposite
+     */
+    public Interval opposite() {
+        return new Interval(-this.high, -this.low);
+    }
+
+    /**
+     * Multiplies by an interval.
+     * @param other Interval to multiply by
+     * @return Interval enclosing the product
+     */
+    public Interval multiply(final Interval other) {
+        final double first = this.low * other.low;
+        final double second = this.low * other.high;
+        final double third = this.high * other.low;
+        final double fourth = this.high * other.high;
+        return new Interval(
+            Math.nextDown(Math.min(Math.min(first, second), Math.min(third, fourth))),
+            Math.nextUp(Math.max(Math.max(first, second), Math.max(third, fourth)))
+        );
+    }
+
+    /**
+     * Gives the inverse interval.
+     * @return Interval enclosing the inverse
+     */
+    public Interval inverse() {
+        if (this.contains(0.)) {
+            throw new IllegalArgumentException("Division by zero");
+        }
+        return new Interval(Math.nextDown(1. / this.high), Math.nextUp(1. / this.low));
+    }
+
+    /**
+     * Gives the square root interval. Negative numbers of the interval
+     * are ignored.
+     * @return Interval enclosing the square root
+     */
+    public Interval sqrt() {
+        if (this.high < 0.) {
+            throw new IllegalArgumentException(
+                String.format("Square root of negative interval %s", this)
+            );
+        }
+        return new Interval(
+            Math.max(0., Math.nextDown(Math.sqrt(Math.max(0., this.low)))),
+            Math.nextUp(Math.sqrt(this.high))
+        );
+    }
+}
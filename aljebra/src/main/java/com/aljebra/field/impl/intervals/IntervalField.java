@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.intervals;
+
+import com.aljebra.field.AbstractOrderedField;
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.field.impl.doubles.DecimalRandom;
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.scalar.Scalar;
+
+/**
+ * Field of double intervals, evaluating scalars to guaranteed enclosures
+ * of their real values (up to the non-guaranteed angles, see
+ * {@link IntervalProduct}). Two scalars are considered equal when their
+ * enclosures intersect, so that a predicate resolving to false is certain.
+ * A typical use is to resolve predicates with this field first and to
+ * resolve them with an exact field only when the sign of an interval
+ * is not certain (the interval contains zero).
+ * @since 0.5
+ */
+public final class IntervalField extends AbstractOrderedField<Interval>
+    implements MetricSpaceField<Interval> {
+
+    /**
+     * Bound of randomly generated scalars.
+     */
+    private static final double BOUND = 10.;
+
+    /**
+     * Constructor.
+     */
+    public IntervalField() {
+        this(new DecimalRandom(-IntervalField.BOUND, IntervalField.BOUND));
+    }
+
+    /**
+     * Constructor.
+     * @param rand Double randomizer
+     */
+    public IntervalField(final DecimalRandom rand) {
+        super(new IntervalAddition(), new IntervalMult(), new IntervalRandom(rand));
+    }
+
+    @Override
+    public Scalar<Interval> random() {
+        return this.between(
+            new Scalar.Default<>(new Interval(-IntervalField.BOUND)),
+            new Scalar.Default<>(new Interval(IntervalField.BOUND))
+        );
+    }
+
+    @Override
+    public boolean equals(final Scalar<Interval> first, final Scalar<Interval> second) {
+        return this.actual(first).intersects(this.actual(second));
+    }
+
+    @Override
+    public InnerProduct<Interval> product() {
+        return new IntervalProduct(this);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.intervals;
+
+import com.aljebra.field.Field;
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.metric.angle.Degrees;
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dot product of interval vectors. Products, norms and rotations by
+ * a given angle are enclosures. Angles are numbers rather than intervals
+ * (see {@link Degrees}): they are calculated between the vectors
+ * coordinates middles and are not guaranteed. Like
+ * {@link com.aljebra.field.impl.doubles.Dot}, current implementation
+ * supposes a two dimension vector space in `rot` and `angle` methods.
+ * @since 0.5
+ */
+public final class IntervalProduct implements InnerProduct<Interval> {
+
+    /**
+     * Field evaluating scalars.
+     */
+    private final Field<Interval> field;
+
+    /**
+     * Constructor.
+     * @param field Field evaluating scalars
+     */
+    public IntervalProduct(final Field<Interval> field) {
+        this.field = field;
+    }
+
+    @Override
+    public Scalar<Interval> product(final Vect<Interval> first,
+        final Vect<Interval> second) {
+        final int dim = first.dimension();
+        final List<Multiplication<Interval>> multis = new ArrayList<>(dim);
+        for (int idx = 0; idx < dim; ++idx) {
+            multis.add(new Multiplication<>(first.coord(idx), second.coord(idx)));
+        }
+        return new Add<>(multis);
+    }
+
+    @Override
+    public Degrees<Interval> angle(final Vect<Interval> first,
+        final Vect<Interval> second) {
+        final double fxcoor = this.field.actual(first.coord(0)).middle();
+        final double fycoor = this.field.actual(first.coord(1)).middle();
+        final double sxcoor = this.field.actual(second.coord(0)).middle();
+        final double sycoor = this.field.actual(second.coord(1)).middle();
+        return new Degrees.Default<>(
+            Math.atan2(
+                fxcoor * sycoor - sxcoor * fycoor + 0., fxcoor * sxcoor + fycoor * sycoor + 0.
+            )
+        );
+    }
+
+    @Override
+    public Scalar<Interval> norm(final Vect<Interval> vect) {
+        return new Scalar.Default<>(this.field.actual(this.product(vect, vect)).sqrt());
+    }
+
+    @Override
+    public Vect<Interval> rot(final Vect<Interval> vect, final Degrees<Interval> angle) {
+        final double radians = angle.resolve(this).doubleValue();
+        final Interval cos = IntervalProduct.enclosure(Math.cos(radians));
+        final Interval sin = IntervalProduct.enclosure(Math.sin(radians));
+        final Interval xcoor = this.field.actual(vect.coord(0));
+        final Interval ycoor = this.field.actual(vect.coord(1));
+        return new FixedVector<>(
+            new Scalar.Default<>(xcoor.multiply(cos).add(ycoor.multiply(sin).opposite())),
+            new Scalar.Default<>(xcoor.multiply(sin).add(ycoor.multiply(cos)))
+        );
+    }
+
+    /**
+     * Encloses a trigonometric function result, which is within one ulp
+     * of the exact result.
+     * @param value Trigonometric function result
+     * @return Interval enclosing the exact result
+     */
+    private static Interval enclosure(final double value) {
+        return new Interval(Math.nextDown(value), Math.nextUp(value));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.intervals;
+
+import com.aljebra.field.OrderedRandom;
+import com.aljebra.field.impl.doubles.DecimalRandom;
+
+/**
+ * Interval randomizer, generating single double intervals. Intervals
+ * generated "between" two intervals are between their middles, while
+ * intervals generated greater (resp. lower) than an interval are greater
+ * (resp. lower) than all of its numbers.
+ * @since 0.5
+ */
+public final class IntervalRandom implements OrderedRandom<Interval> {
+
+    /**
+     * Double randomizer.
+     */
+    private final DecimalRandom origin;
+
+    /**
+     * Constructor.
+     * @param origin Double randomizer
+     */
+    public IntervalRandom(final DecimalRandom origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public Interval between(final Interval lower, final Interval upper) {
+        return new Interval(this.origin.between(lower.middle(), upper.middle()));
+    }
+
+    @Override
+    public Interval greater(final Interval lower) {
+        return new Interval(this.origin.greater(lower.upper()));
+    }
+
+    @Override
+    public Interval lower(final Interval upper) {
+        return new Interval(this.origin.lower(upper.lower()));
+    }
+}
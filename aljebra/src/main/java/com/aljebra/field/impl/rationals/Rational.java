@@ -0,0 +1,546 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.rationals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * An exact rational number. Numerator and denominator are kept as longs
+ * as long as operations do not overflow, and are promoted to big integers
+ * otherwise. Long fractions are not reduced after each operation: they are
+ * reduced only when an operation would overflow (before promoting), and
+ * when printing or hashing. Big fractions are always reduced, and demoted
+ * to longs as soon as they fit.
+ * @since 0.5
+ */
+public final class Rational extends Number implements Comparable<Rational> {
+
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Big long minimum value.
+     */
+    private static final BigInteger MIN = BigInteger.valueOf(Long.MIN_VALUE);
+
+    /**
+     * Big long maximum value.
+     */
+    private static final BigInteger MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Long numerator, when not promoted.
+     */
+    private final long num;
+
+    /**
+     * Long denominator (positive), when not promoted.
+     */
+    private final long den;
+
+    /**
+     * Big numerator, when promoted.
+     */
+    private final BigInteger bnum;
+
+    /**
+     * Big denominator (positive), when promoted.
+     */
+    private final BigInteger bden;
+
+    /**
+     * Whether this rational is promoted to big integers.
+     */
+    private final boolean big;
+
+    /**
+     * Constructor. Builds an integer.
+     * @param value Integer
+     */
+    public Rational(final long value) {
+        this(value, 1L);
+    }
+
+    /**
+     * Constructor.
+     * @param numerator Numerator
+     * @param denominator Denominator
+     */
+    public Rational(final long numerator, final long denominator) {
+        this(Rational.fraction(numerator, denominator));
+    }
+
+    /**
+     * Constructor.
+     * @param numerator Numerator
+     * @param denominator Denominator
+     */
+    public Rational(final BigInteger numerator, final BigInteger denominator) {
+        this(Rational.fraction(numerator, denominator));
+    }
+
+    /**
+     * Copy constructor.
+     * @param other Rational to copy
+     */
+    private Rational(final Rational other) {
+        this(other.num, other.den, other.bnum, other.bden, other.big);
+    }
+
+    /**
+     * Constructor.
+     * @param num Long numerator, when not promoted
+     * @param den Long denominator (positive), when not promoted
+     * @param bnum Big numerator, when promoted
+     * @param bden Big denominator (positive), when promoted
+     * @param big Whether the rational is promoted to big integers
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Rational(final long num, final long den, final BigInteger bnum,
+        final BigInteger bden, final boolean big) {
+        this.num = num;
+        this.den = den;
+        this.bnum = bnum;
+        this.bden = bden;
+        this.big = big;
+    }
+
+    /**
+     * Builds the rational exactly equal to a finite double.
+     * @param value Double
+     * @return Rational
+     */
+    public static Rational exact(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(
+                String.format("Could not represent %s as a rational", value)
+            );
+        }
+        final long bits = Double.doubleToLongBits(value);
+        final int exp = (int) (bits >> 52 & 0x7ffL);
+        long mantissa = bits & 0xfffffffffffffL;
+        if (exp == 0) {
+            mantissa <<= 1;
+        } else {
+            mantissa |= 1L << 52;
+        }
+        if (bits < 0) {
+            mantissa = -mantissa;
+        }
+        final int shift = exp - 1075;
+        final Rational result;
+        if (shift >= 0) {
+            result = Rational.fraction(
+                BigInteger.valueOf(mantissa).shiftLeft(shift), BigInteger.ONE
+            );
+        } else {
+            result = Rational.fraction(
+                BigInteger.valueOf(mantissa), BigInteger.ONE.shiftLeft(-shift)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Gives the (reduced) numerator.
+     * @return Numerator
+     */
+    public BigInteger numerator() {
+        final BigInteger result;
+        if (this.big) {
+            result = this.bnum;
+        } else {
+            result = BigInteger.valueOf(this.num / Rational.gcd(this.num, this.den));
+        }
+        return result;
+    }
+
+    /**
+     * Gives the (reduced and positive) denominator.
+     * @return Denominator
+     */
+    public BigInteger denominator() {
+        final BigInteger result;
+        if (this.big) {
+            result = this.bden;
+        } else {
+            result = BigInteger.valueOf(this.den / Rational.gcd(this.num, this.den));
+        }
+        return result;
+    }
+
+    /**
+     * Adds a rational.
+     * @param other Rational to add
+     * @return Sum
+     */
+    public Rational add(final Rational other) {
+        Rational result;
+        if (this.big || other.big) {
+            result = this.bigadd(other);
+        } else {
+            try {
+                if (this.den == other.den) {
+                    result = Rational.small(Math.addExact(this.num, other.num), this.den);
+                } else {
+                    final long gcd = Rational.gcd(this.den, other.den);
+                    final long first = this.den / gcd;
+                    final long second = other.den / gcd;
+                    result = Rational.small(
+                        Math.addExact(
+                            Math.multiplyExact(this.num, second),
+                            Math.multiplyExact(other.num, first)
+                        ),
+                        Math.multiplyExact(first, other.den)
+                    );
+                }
+            } catch (final ArithmeticException ex) {
+                result = this.bigadd(other);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gives the opposite rational.
+     * @return Opposite
+     */
+    public Rational negate() {
+        final Rational result;
+        if (this.big) {
+            result = Rational.fraction(this.bnum.negate(), this.bden);
+        } else {
+            result = Rational.small(-this.num, this.den);
+        }
+        return result;
+    }
+
+    /**
+     * Multiplies by a rational.
+     * @param other Rational to multiply by
+     * @return Product
+     */
+    public Rational multiply(final Rational other) {
+        Rational result;
+        if (this.big || other.big) {
+            result = this.bigmultiply(other);
+        } else {
+            try {
+                result = Rational.small(
+                    Math.multiplyExact(this.num, other.num),
+                    Math.multiplyExact(this.den, other.den)
+                );
+            } catch (final ArithmeticException ex) {
+                final long first = Rational.gcd(this.num, other.den);
+                final long second = Rational.gcd(other.num, this.den);
+                try {
+                    result = Rational.small(
+                        Math.multiplyExact(this.num / first, other.num / second),
+                        Math.multiplyExact(this.den / second, other.den / first)
+                    );
+                } catch (final ArithmeticException iex) {
+                    result = this.bigmultiply(other);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gives the inverse rational.
+     * @return Inverse
+     */
+    public Rational inverse() {
+        if (this.signum() == 0) {
+            throw new IllegalArgumentException("Division by zero");
+        }
+        final Rational result;
+        if (this.big) {
+            result = Rational.fraction(this.bden, this.bnum);
+        } else if (this.num < 0) {
+            result = Rational.small(-this.den, -this.num);
+        } else {
+            result = Rational.small(this.den, this.num);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the sign of this rational.
+     * @return 1, 0 or -1 as this rational is positive, zero or negative
+     */
+    public int signum() {
+        final int result;
+        if (this.big) {
+            result = this.bnum.signum();
+        } else {
+            result = Long.signum(this.num);
+        }
+        return result;
+    }
+
+    /**
+     * Tells if this rational is promoted to big integers.
+     * @return True if promoted
+     */
+    public boolean promoted() {
+        return this.big;
+    }
+
+    @Override
+    public int compareTo(final Rational other) {
+        int result;
+        if (this.big || other.big) {
+            result = this.bigcompare(other);
+        } else {
+            try {
+                result = Long.compare(
+                    Math.multiplyExact(this.num, other.den),
+                    Math.multiplyExact(other.num, this.den)
+                );
+            } catch (final ArithmeticException ex) {
+                result = this.bigcompare(other);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other
+            || other instanceof Rational && this.compareTo((Rational) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.numerator().hashCode() * 31 + this.denominator().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final String result;
+        final BigInteger bottom = this.denominator();
+        if (bottom.equals(BigInteger.ONE)) {
+            result = this.numerator().toString();
+        } else {
+            result = String.format("%s/%s", this.numerator(), bottom);
+        }
+        return result;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) this.longValue();
+    }
+
+    @Override
+    public long longValue() {
+        final long result;
+        if (this.big) {
+            result = this.bnum.divide(this.bden).longValue();
+        } else {
+            result = this.num / this.den;
+        }
+        return result;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) this.doubleValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        final double result;
+        if (this.big || Math.abs(this.num) > 1L << 53 || this.den > 1L << 53) {
+            result = new BigDecimal(this.bignum()).divide(
+                new BigDecimal(this.bigden()), MathContext.DECIMAL128
+            ).doubleValue();
+        } else {
+            result = (double) this.num / (double) this.den;
+        }
+        return result;
+    }
+
+    /**
+     * Adds a rational with big integers.
+     * @param other Rational to add
+     * @return Sum
+     */
+    private Rational bigadd(final Rational other) {
+        return Rational.fraction(
+            this.bignum().multiply(other.bigden()).add(other.bignum().multiply(this.bigden())),
+            this.bigden().multiply(other.bigden())
+        );
+    }
+
+    /**
+     * Multiplies by a rational with big integers.
+     * @param other Rational to multiply by
+     * @return Product
+     */
+    private Rational bigmultiply(final Rational other) {
+        return Rational.fraction(
+            this.bignum().multiply(other.bignum()), this.bigden().multiply(other.bigden())
+        );
+    }
+
+    /**
+     * Compares with a rational with big integers.
+     * @param other Rational to compare with
+     * @return Comparison result
+     */
+    private int bigcompare(final Rational other) {
+        return this.bignum().multiply(other.bigden())
+            .compareTo(other.bignum().multiply(this.bigden()));
+    }
+
+    /**
+     * Gives the (not necessarily reduced) numerator as a big integer.
+     * @return Numerator
+     */
+    private BigInteger bignum() {
+        final BigInteger result;
+        if (this.big) {
+            result = this.bnum;
+        } else {
+            result = BigInteger.valueOf(this.num);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the (not necessarily reduced) denominator as a big integer.
+     * @return Denominator
+     */
+    private BigInteger bigden() {
+        final BigInteger result;
+        if (this.big) {
+            result = this.bden;
+        } else {
+            result = BigInteger.valueOf(this.den);
+        }
+        return result;
+    }
+
+    /**
+     * Builds a long fraction, without reducing it.
+     * @param numerator Numerator
+     * @param denominator Denominator, positive
+     * @return Rational
+     */
+    private static Rational small(final long numerator, final long denominator) {
+        final Rational result;
+        if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+            result = Rational.fraction(
+                BigInteger.valueOf(numerator), BigInteger.valueOf(denominator)
+            );
+        } else {
+            result = new Rational(numerator, denominator, BigInteger.ZERO, BigInteger.ONE, false);
+        }
+        return result;
+    }
+
+    /**
+     * Builds a fraction of longs.
+     * @param numerator Numerator
+     * @param denominator Denominator
+     * @return Rational
+     */
+    private static Rational fraction(final long numerator, final long denominator) {
+        if (denominator == 0L) {
+            throw new IllegalArgumentException("Division by zero");
+        }
+        final Rational result;
+        if (denominator < 0L && numerator != Long.MIN_VALUE && denominator != Long.MIN_VALUE) {
+            result = Rational.small(-numerator, -denominator);
+        } else if (denominator < 0L) {
+            result = Rational.fraction(
+                BigInteger.valueOf(numerator), BigInteger.valueOf(denominator)
+            );
+        } else {
+            result = Rational.small(numerator, denominator);
+        }
+        return result;
+    }
+
+    /**
+     * Builds a fraction of big integers, reduced, and demoted to longs
+     * if they fit.
+     * @param numerator Numerator
+     * @param denominator Denominator
+     * @return Rational
+     */
+    private static Rational fraction(final BigInteger numerator, final BigInteger denominator) {
+        if (denominator.signum() == 0) {
+            throw new IllegalArgumentException("Division by zero");
+        }
+        final BigInteger gcd = numerator.gcd(denominator);
+        BigInteger top = numerator.divide(gcd);
+        BigInteger bottom = denominator.divide(gcd);
+        if (bottom.signum() < 0) {
+            top = top.negate();
+            bottom = bottom.negate();
+        }
+        final Rational result;
+        if (Rational.fits(top) && Rational.fits(bottom)) {
+            result = Rational.small(top.longValue(), bottom.longValue());
+        } else {
+            result = new Rational(0L, 1L, top, bottom, true);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the (positive) greatest common divisor of two longs,
+     * the first one being greater than long minimum value and the second
+     * one positive.
+     * @param first First long
+     * @param second Second long, positive
+     * @return Greatest common divisor
+     */
+    private static long gcd(final long first, final long second) {
+        long left = Math.abs(first);
+        long right = second;
+        while (right != 0L) {
+            final long rem = left % right;
+            left = right;
+            right = rem;
+        }
+        return left;
+    }
+
+    /**
+     * Tells if a big integer fits in a long (long minimum value excluded).
+     * @param value Big integer
+     * @return True if it fits
+     */
+    private static boolean fits(final BigInteger value) {
+        return value.compareTo(Rational.MIN) > 0 && value.compareTo(Rational.MAX) <= 0;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.rationals;
+
+import com.aljebra.field.AbstractOrderedField;
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.scalar.Scalar;
+
+/**
+ * Field of exact rationals. Field operations are exact; metric operations
+ * needing irrational numbers are approximated (see {@link RationalProduct}).
+ * @since 0.5
+ */
+public final class RationalField extends AbstractOrderedField<Rational>
+    implements MetricSpaceField<Rational> {
+
+    /**
+     * Bound of randomly generated scalars.
+     */
+    private static final long BOUND = 10L;
+
+    /**
+     * Constructor.
+     */
+    public RationalField() {
+        this(new RationalRandom());
+    }
+
+    /**
+     * Constructor. Builds a rationals field generating reproducible
+     * random values.
+     * @param seed Seed of the generated random values
+     */
+    public RationalField(final long seed) {
+        this(new RationalRandom(seed));
+    }
+
+    /**
+     * Constructor.
+     * @param rand Randomizer
+     */
+    private RationalField(final RationalRandom rand) {
+        super(new RationalAddition(), new RationalMult(), rand);
+    }
+
+    @Override
+    public Scalar<Rational> random() {
+        return this.between(
+            new Scalar.Default<>(new Rational(-RationalField.BOUND)),
+            new Scalar.Default<>(new Rational(RationalField.BOUND))
+        );
+    }
+
+    @Override
+    public boolean equals(final Scalar<Rational> first, final Scalar<Rational> second) {
+        return this.actual(first).compareTo(this.actual(second)) == 0;
+    }
+
+    @Override
+    public InnerProduct<Rational> product() {
+        return new RationalProduct(this);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.rationals;
+
+import com.aljebra.field.Field;
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.metric.angle.Degrees;
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dot product of rational vectors. Products are exact, and so are norms of
+ * vectors whose squared norm is the square of a rational. Other norms, as
+ * well as rotations sines and cosines, are the rationals equal to the
+ * nearest doubles. Like {@link com.aljebra.field.impl.doubles.Dot}, current
+ * implementation supposes a two dimension vector space in `rot` and `angle`
+ * methods.
+ * @since 0.5
+ */
+public final class RationalProduct implements InnerProduct<Rational> {
+
+    /**
+     * Field evaluating scalars.
+     */
+    private final Field<Rational> field;
+
+    /**
+     * Constructor.
+     * @param field Field evaluating scalars
+     */
+    public RationalProduct(final Field<Rational> field) {
+        this.field = field;
+    }
+
+    @Override
+    public Scalar<Rational> product(final Vect<Rational> first,
+        final Vect<Rational> second) {
+        final int dim = first.dimension();
+        final List<Multiplication<Rational>> multis = new ArrayList<>(dim);
+        for (int idx = 0; idx < dim; ++idx) {
+            multis.add(new Multiplication<>(first.coord(idx), second.coord(idx)));
+        }
+        return new Add<>(multis);
+    }
+
+    @Override
+    public Degrees<Rational> angle(final Vect<Rational> first,
+        final Vect<Rational> second) {
+        final Rational fxcoor = this.field.actual(first.coord(0));
+        final Rational fycoor = this.field.actual(first.coord(1));
+        final Rational sxcoor = this.field.actual(second.coord(0));
+        final Rational sycoor = this.field.actual(second.coord(1));
+        return new Degrees.Default<>(
+            Math.atan2(
+                fxcoor.multiply(sycoor).add(sxcoor.multiply(fycoor).negate()).doubleValue() + 0.,
+                fxcoor.multiply(sxcoor).add(fycoor.multiply(sycoor)).doubleValue() + 0.
+            )
+        );
+    }
+
+    @Override
+    public Scalar<Rational> norm(final Vect<Rational> vect) {
+        final Rational squared = this.field.actual(this.product(vect, vect));
+        final BigInteger num = RationalProduct.sqrt(squared.numerator());
+        final BigInteger den = RationalProduct.sqrt(squared.denominator());
+        final Rational result;
+        if (num.multiply(num).equals(squared.numerator())
+            && den.multiply(den).equals(squared.denominator())) {
+            result = new Rational(num, den);
+        } else {
+            result = Rational.exact(Math.sqrt(squared.doubleValue()));
+        }
+        return new Scalar.Default<>(result);
+    }
+
+    @Override
+    public Vect<Rational> rot(final Vect<Rational> vect, final Degrees<Rational> angle) {
+        final double radians = angle.resolve(this).doubleValue();
+        final Rational cos = Rational.exact(Math.cos(radians));
+        final Rational sin = Rational.exact(Math.sin(radians));
+        final Rational xcoor = this.field.actual(vect.coord(0));
+        final Rational ycoor = this.field.actual(vect.coord(1));
+        return new FixedVector<>(
+            new Scalar.Default<>(xcoor.multiply(cos).add(ycoor.multiply(sin).negate())),
+            new Scalar.Default<>(xcoor.multiply(sin).add(ycoor.multiply(cos)))
+        );
+    }
+
+    /**
+     * Calculates the integer square root (rounded down) of a positive
+     * big integer.
+     * @param value Big integer
+     * @return Integer square root
+     */
+    private static BigInteger sqrt(final BigInteger value) {
+        BigInteger result = value;
+        if (value.signum() > 0) {
+            BigInteger next = BigInteger.ONE.shiftLeft(value.bitLength() / 2 + 1);
+            do {
+                result = next;
+                next = result.add(value.divide(result)).shiftRight(1);
+            } while (next.compareTo(result) < 0);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.rationals;
+
+import com.aljebra.field.OrderedRandom;
+import java.util.SplittableRandom;
+
+/**
+ * Rational randomizer. Generated rationals are picked among evenly spaced
+ * rationals (with small denominators) of the requested range, so that their
+ * arithmetic stays on longs. Like {@link
+ * com.aljebra.field.impl.doubles.DecimalRandom}, each thread draws from its
+ * own stream, split from a root {@link SplittableRandom}, so that, given
+ * a seed, the values drawn by a single thread, and the ones drawn by
+ * randomizers obtained with {@link #split()}, are reproducible.
+ * @since 0.5
+ */
+public final class RationalRandom implements OrderedRandom<Rational> {
+
+    /**
+     * Number of steps the requested ranges are divided into.
+     */
+    private static final long STEPS = 1024L;
+
+    /**
+     * Width of the ranges of rationals greater or lower than a rational.
+     */
+    private static final Rational WIDTH = new Rational(10L);
+
+    /**
+     * Root randomizer, from which streams are split.
+     */
+    private final transient SplittableRandom root;
+
+    /**
+     * Randomizer of the current thread.
+     */
+    private final transient ThreadLocal<SplittableRandom> rand;
+
+    /**
+     * Ctor.
+     */
+    public RationalRandom() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Ctor.
+     * @param seed Seed of the generated values
+     */
+    public RationalRandom(final long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Ctor.
+     * @param root Root randomizer
+     */
+    private RationalRandom(final SplittableRandom root) {
+        this.root = root;
+        this.rand = ThreadLocal.withInitial(this::stream);
+    }
+
+    /**
+     * Builds a randomizer drawing from a stream independent from this
+     * randomizer streams.
+     * @return A randomizer
+     */
+    public RationalRandom split() {
+        return new RationalRandom(this.stream());
+    }
+
+    @Override
+    public Rational between(final Rational lower, final Rational upper) {
+        if (lower.compareTo(upper) > 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Could not get an element greater than %s and less than %s",
+                    lower, upper
+                )
+            );
+        }
+        return RationalRandom.step(
+            lower, upper, this.rand.get().nextLong(RationalRandom.STEPS + 1L)
+        );
+    }
+
+    @Override
+    public Rational greater(final Rational lower) {
+        return RationalRandom.step(
+            lower, lower.add(RationalRandom.WIDTH),
+            this.rand.get().nextLong(RationalRandom.STEPS) + 1L
+        );
+    }
+
+    @Override
+    public Rational lower(final Rational upper) {
+        return RationalRandom.step(
+            upper.add(RationalRandom.WIDTH.negate()), upper,
+            this.rand.get().nextLong(RationalRandom.STEPS)
+        );
+    }
+
+    /**
+     * Gives the rational at the given step of a range divided into
+     * {@link #STEPS} steps.
+     * @param lower Range lower bound, at step 0
+     * @param upper Range upper bound, at step {@link #STEPS}
+     * @param step Step index
+     * @return A rational between the bounds
+     */
+    private static Rational step(final Rational lower, final Rational upper,
+        final long step) {
+        return lower.add(
+            upper.add(lower.negate()).multiply(new Rational(step, RationalRandom.STEPS))
+        );
+    }
+
+    /**
+     * Splits a new stream from the root randomizer.
+     * @return A randomizer stream
+     */
+    private SplittableRandom stream() {
+        synchronized (this.root) {
+            return this.root.split();
+        }
+    }
+}
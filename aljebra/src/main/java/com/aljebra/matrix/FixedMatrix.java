@@ -23,14 +23,11 @@
  */
 package com.aljebra.matrix;
 
-import com.aljebra.metric.scalar.Product;
+import com.aljebra.collection.Tuple;
 import com.aljebra.scalar.Scalar;
-import com.aljebra.vector.FixedVector;
 import com.aljebra.vector.Vect;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -47,7 +44,7 @@ public final class FixedMatrix<T> implements Matrix<T> {
     /**
      * Coordinates.
      */
-    private final Scalar<T>[] coors;
+    private final Tuple<Scalar<T>> coors;
 
     /**
      * Source vector space dimension corresponding to the columns count.
@@ -65,50 +62,50 @@ public final class FixedMatrix<T> implements Matrix<T> {
      * @param columns Matrix columns count
      * @param coor Matrix coordinates to be given in a column by column order
      */
-    @SuppressWarnings("unchecked")
     public FixedMatrix(final int lines, final int columns,
         final Iterable<? extends Scalar<T>> coor) {
         this.source = columns;
         this.target = lines;
-        this.coors = this.valid(Lists.newArrayList(coor)).toArray(new Scalar[1]);
+        this.coors = new Tuple<>(this.valid(Lists.newArrayList(coor)));
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Scalar<T>[] coords() {
-        return Arrays.copyOf(this.coors, this.coors.length);
+        return this.coors.toArray(new Scalar[this.coors.size()]);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Scalar<T>[] column(final int index) {
         final int first = this.index(1, index);
-        return Arrays.copyOfRange(this.coors, first, first + this.target);
+        return this.coors.subList(first, first + this.target).toArray(
+            new Scalar[this.target]
+        );
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Scalar<T>[] line(final int index) {
         final int first = this.index(index, 1);
-        final Scalar<T>[] result = Arrays.copyOf(this.coors, this.source);
+        final Scalar<T>[] result = new Scalar[this.source];
         for (int idx = 0; idx < this.source; ++idx) {
-            result[idx] = this.coors[first + idx * this.target];
+            result[idx] = this.coors.get(first + idx * this.target);
         }
         return result;
     }
 
     @Override
     public Vect<T> apply(final Vect<T> input) {
-        if (input.coords().length != this.source) {
+        if (input.dimension() != this.source) {
             throw new IllegalArgumentException(
                 String.format(
                     "Incompatible vector dimension %s with matrix dimension %s",
-                    input.coords().length, this.source
+                    input.dimension(), this.source
                 )
             );
         }
-        final List<Scalar<T>> result = new ArrayList<>(this.target);
-        for (int idx = 0; idx < this.target; ++idx) {
-            result.add(this.product(input, idx + 1));
-        }
-        return new FixedVector<T>(result);
+        return new Image<T>(this, input);
     }
 
     @Override
@@ -131,16 +128,6 @@ public final class FixedMatrix<T> implements Matrix<T> {
         return this.target * (col - 1) + lin - 1;
     }
 
-    /**
-     * Calculates the product of the given vector by a matrix line.
-     * @param input Given vector
-     * @param idx Matrix line index
-     * @return Product
-     */
-    private Scalar<T> product(final Vect<T> input, final int idx) {
-        return new Product<T>(input, new FixedVector<T>(Arrays.asList(this.line(idx))));
-    }
-
     /**
      * Checks if this scalar array could be took as matrix coordinate, regarding
      * the matrix lines and columns count. Throws
@@ -157,5 +144,4 @@ public final class FixedMatrix<T> implements Matrix<T> {
         );
         return coor;
     }
-
 }
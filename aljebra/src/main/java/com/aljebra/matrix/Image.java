@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.matrix;
+
+import com.aljebra.metric.scalar.Product;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.ToString;
+
+/**
+ * A vector represented as the image of a vector by a matrix. Each coordinate
+ * is the product of a matrix line by the vector. Evaluations may use
+ * the matrix and the vector to calculate all the coordinates at once.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+@ToString(callSuper = true)
+public final class Image<T> extends FixedVector<T> {
+
+    /**
+     * Matrix.
+     */
+    private final transient Matrix<T> mtx;
+
+    /**
+     * Vector.
+     */
+    private final transient Vect<T> vect;
+
+    /**
+     * Constructor.
+     * @param matrix Matrix
+     * @param input Vector, whose dimension is the matrix columns count
+     */
+    public Image(final Matrix<T> matrix, final Vect<T> input) {
+        super(Image.products(matrix, input));
+        this.mtx = matrix;
+        this.vect = input;
+    }
+
+    /**
+     * Gives the matrix.
+     * @return Matrix
+     */
+    public Matrix<T> matrix() {
+        return this.mtx;
+    }
+
+    /**
+     * Gives the vector.
+     * @return Vector
+     */
+    public Vect<T> input() {
+        return this.vect;
+    }
+
+    /**
+     * Builds the products of the matrix lines by the vector.
+     * @param matrix Matrix
+     * @param input Vector
+     * @param <T> scalar types
+     * @return Products of the matrix lines by the vector
+     */
+    private static <T> List<Scalar<T>> products(final Matrix<T> matrix, final Vect<T> input) {
+        final List<Scalar<T>> result = new ArrayList<>(matrix.lines());
+        for (int idx = 1; idx <= matrix.lines(); ++idx) {
+            result.add(
+                new Product<T>(input, new FixedVector<T>(Arrays.asList(matrix.line(idx))))
+            );
+        }
+        return result;
+    }
+}
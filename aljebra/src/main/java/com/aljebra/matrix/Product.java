@@ -0,0 +1,228 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.matrix;
+
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A Matrix represented as the product of a chain of matrices: the product of
+ * M1, M2, ..., Mn maps a vector v to M1.(M2.(...(Mn.v))). The product is lazy:
+ * applying it to a vector applies the matrices one after the other, while its
+ * coordinates come from the {@link #fused()} matrix, built once by multiplying
+ * the matrices in the order minimizing the scalar multiplications count.
+ * To apply the same chain to many vectors, the fused matrix should be built
+ * once (and evaluated once, for example as a dense matrix for doubles).
+ * @param <T> scalar types
+ * @since 0.5
+ */
+@EqualsAndHashCode(exclude = "fusion")
+@ToString(includeFieldNames = false, exclude = "fusion")
+public final class Product<T> implements Matrix<T> {
+
+    /**
+     * Matrices to multiply.
+     */
+    private final List<Matrix<T>> matrices;
+
+    /**
+     * Fused matrix, set once by the first call needing it.
+     */
+    private final AtomicReference<Optional<Matrix<T>>> fusion;
+
+    /**
+     * Constructor.
+     * @param matrices Matrices to multiply
+     */
+    public Product(final Iterable<? extends Matrix<T>> matrices) {
+        this.matrices = Product.valid(matrices);
+        this.fusion = new AtomicReference<>(Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param first First matrix
+     * @param second Second matrix
+     */
+    public Product(final Matrix<T> first, final Matrix<T> second) {
+        this(Arrays.asList(first, second));
+    }
+
+    /**
+     * Builds a single matrix equal to this product. Matrices are multiplied
+     * in the order minimizing the scalar multiplications count. The matrix
+     * is built once, and shared by the following calls.
+     * @return A matrix equal to this product
+     */
+    public Matrix<T> fused() {
+        if (!this.fusion.get().isPresent()) {
+            this.fusion.compareAndSet(
+                Optional.empty(),
+                Optional.of(this.fused(0, this.matrices.size() - 1, this.order()))
+            );
+        }
+        return this.fusion.get().get();
+    }
+
+    @Override
+    public Scalar<T>[] coords() {
+        return this.fused().coords();
+    }
+
+    @Override
+    public Scalar<T>[] column(final int index) {
+        return this.fused().column(index);
+    }
+
+    @Override
+    public Scalar<T>[] line(final int index) {
+        return this.fused().line(index);
+    }
+
+    @Override
+    public Vect<T> apply(final Vect<T> input) {
+        Vect<T> result = input;
+        for (int idx = this.matrices.size() - 1; idx >= 0; --idx) {
+            result = this.matrices.get(idx).apply(result);
+        }
+        return result;
+    }
+
+    @Override
+    public int columns() {
+        return this.matrices.get(this.matrices.size() - 1).columns();
+    }
+
+    @Override
+    public int lines() {
+        return this.matrices.get(0).lines();
+    }
+
+    /**
+     * Multiplies a sub-chain of matrices.
+     * @param from First matrix index
+     * @param to Last matrix index
+     * @param splits Optimal split indexes of sub-chains
+     * @return A matrix equal to the sub-chain product
+     */
+    private Matrix<T> fused(final int from, final int to, final int[][] splits) {
+        final Matrix<T> result;
+        if (from == to) {
+            result = this.matrices.get(from);
+        } else {
+            final int split = splits[from][to];
+            result = Product.multiply(
+                this.fused(from, split, splits), this.fused(split + 1, to, splits)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the optimal order of the multiplications (matrix chain
+     * ordering dynamic programming).
+     * @return Optimal split index of each sub-chain
+     */
+    private int[][] order() {
+        final int size = this.matrices.size();
+        final long[][] costs = new long[size][size];
+        final int[][] result = new int[size][size];
+        for (int len = 1; len < size; ++len) {
+            for (int from = 0; from + len < size; ++from) {
+                final int to = from + len;
+                costs[from][to] = Long.MAX_VALUE;
+                for (int split = from; split < to; ++split) {
+                    final long cost = costs[from][split] + costs[split + 1][to]
+                        + (long) this.matrices.get(from).lines()
+                        * this.matrices.get(split).columns()
+                        * this.matrices.get(to).columns();
+                    if (cost < costs[from][to]) {
+                        costs[from][to] = cost;
+                        result[from][to] = split;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds the product of two matrices.
+     * @param first First matrix
+     * @param second Second matrix
+     * @param <T> scalar types
+     * @return A matrix equal to the product
+     */
+    private static <T> Matrix<T> multiply(final Matrix<T> first,
+        final Matrix<T> second) {
+        final int lines = first.lines();
+        final int cols = second.columns();
+        final List<Vect<T>> rows = new ArrayList<>(lines);
+        for (int lin = 1; lin <= lines; ++lin) {
+            rows.add(new FixedVector<>(Arrays.asList(first.line(lin))));
+        }
+        final List<Scalar<T>> coords = new ArrayList<>(lines * cols);
+        for (int col = 1; col <= cols; ++col) {
+            final Vect<T> column = new FixedVector<>(Arrays.asList(second.column(col)));
+            for (final Vect<T> row : rows) {
+                coords.add(new com.aljebra.metric.scalar.Product<>(row, column));
+            }
+        }
+        return new FixedMatrix<>(lines, cols, coords);
+    }
+
+    /**
+     * Checks that the matrices can be multiplied.
+     * @param matrices Matrices to multiply
+     * @param <T> scalar types
+     * @return The matrices
+     */
+    private static <T> List<Matrix<T>> valid(
+        final Iterable<? extends Matrix<T>> matrices) {
+        final List<Matrix<T>> result = new ArrayList<>(2);
+        for (final Matrix<T> matrix : matrices) {
+            result.add(matrix);
+        }
+        Preconditions.checkArgument(
+            !result.isEmpty(), "Expected at least one matrix to multiply"
+        );
+        for (int idx = 1; idx < result.size(); ++idx) {
+            Preconditions.checkArgument(
+                result.get(idx - 1).columns() == result.get(idx).lines(),
+                "Incompatible matrices dimensions: %s columns and %s lines",
+                result.get(idx - 1).columns(), result.get(idx).lines()
+            );
+        }
+        return result;
+    }
+}
@@ -23,11 +23,10 @@
  */
 package com.aljebra.matrix;
 
+import com.aljebra.collection.Bag;
 import com.aljebra.scalar.Scalar;
 import com.aljebra.vector.FixedVector;
 import com.aljebra.vector.Vect;
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -48,14 +47,14 @@ public final class Sum<T> implements Matrix<T> {
     /**
      * Sum operands.
      */
-    private final Multiset<Matrix<T>> operands;
+    private final Bag<Matrix<T>> operands;
 
     /**
      * Constructor.
      * @param operands Sum operands
      */
     public Sum(final Iterable<Matrix<T>> operands) {
-        this.operands = HashMultiset.create(operands);
+        this.operands = new Bag<>(operands);
     }
 
     /**
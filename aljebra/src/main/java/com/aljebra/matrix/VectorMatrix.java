@@ -55,7 +55,7 @@ public final class VectorMatrix<T> implements Matrix<T> {
      * @param vector Vector to build the matrix from
      */
     public VectorMatrix(final Vect<T> vector) {
-        this.actual = new FixedMatrix<>(1, vector.coords().length, Arrays.asList(vector.coords()));
+        this.actual = new FixedMatrix<>(1, vector.dimension(), Arrays.asList(vector.coords()));
     }
 
     @Override
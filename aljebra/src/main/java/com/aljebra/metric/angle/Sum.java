@@ -23,9 +23,8 @@
  */
 package com.aljebra.metric.angle;
 
+import com.aljebra.collection.Bag;
 import com.aljebra.metric.InnerProduct;
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
 import java.util.Arrays;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,14 +41,14 @@ public final class Sum<T> implements Degrees<T> {
     /**
      * Sum operands.
      */
-    private final Multiset<Degrees<T>> operands;
+    private final Bag<Degrees<T>> operands;
 
     /**
      * Constructor.
      * @param operands Sum operands
      */
     public Sum(final Iterable<Degrees<T>> operands) {
-        this.operands = HashMultiset.create(operands);
+        this.operands = new Bag<>(operands);
     }
 
     /**
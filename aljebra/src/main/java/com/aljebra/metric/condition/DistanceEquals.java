@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.metric.condition;
+
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.Field;
+import com.aljebra.metric.scalar.SquaredNorm;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.condition.Predicate;
+import com.aljebra.vector.Minus;
+import com.aljebra.vector.Vect;
+
+/**
+ * A predicate to determine if the distance between two points equals
+ * a given distance. Squared distances are compared, so that no square root
+ * is calculated. The given distance is supposed to be positive or zero.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+public final class DistanceEquals<T> implements Predicate<Field<T>> {
+
+    /**
+     * Squared distance between the points.
+     */
+    private final SquaredNorm<T> squared;
+
+    /**
+     * Distance to compare with.
+     */
+    private final Scalar<T> distance;
+
+    /**
+     * Constructor.
+     * @param first First point
+     * @param second Second point
+     * @param distance Distance to compare with
+     */
+    public DistanceEquals(final Vect<T> first, final Vect<T> second,
+        final Scalar<T> distance) {
+        this.squared = new SquaredNorm<>(new Minus<>(first, second));
+        this.distance = distance;
+    }
+
+    @Override
+    public boolean resolve(final Field<T> field) {
+        final boolean result;
+        if (field instanceof DoubleField) {
+            final DoubleField dfield = (DoubleField) field;
+            result = dfield.dequalsroot(
+                dfield.dactual(this.squared), dfield.dactual(this.distance)
+            );
+        } else {
+            result = field.equals(
+                this.squared, new Multiplication<>(this.distance, this.distance)
+            );
+        }
+        return result;
+    }
+
+}
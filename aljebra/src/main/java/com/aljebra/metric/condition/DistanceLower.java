@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.metric.condition;
+
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.Field;
+import com.aljebra.metric.scalar.SquaredNorm;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.condition.Predicate;
+import com.aljebra.vector.Minus;
+import com.aljebra.vector.Vect;
+
+/**
+ * A predicate to determine if the distance between two points is (strictly)
+ * lower than a given distance. Squared distances are compared, so that
+ * no square root is calculated. Fields other than {@link DoubleField}
+ * should give {@link Comparable} actual values.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+public final class DistanceLower<T> implements Predicate<Field<T>> {
+
+    /**
+     * Squared distance between the points.
+     */
+    private final SquaredNorm<T> squared;
+
+    /**
+     * Distance to compare with.
+     */
+    private final Scalar<T> distance;
+
+    /**
+     * Constructor.
+     * @param first First point
+     * @param second Second point
+     * @param distance Distance to compare with
+     */
+    public DistanceLower(final Vect<T> first, final Vect<T> second,
+        final Scalar<T> distance) {
+        this.squared = new SquaredNorm<>(new Minus<>(first, second));
+        this.distance = distance;
+    }
+
+    @Override
+    public boolean resolve(final Field<T> field) {
+        final boolean result;
+        if (field instanceof DoubleField) {
+            final DoubleField dfield = (DoubleField) field;
+            final double bound = dfield.dactual(this.distance);
+            result = bound > 0. && dfield.dactual(this.squared) < bound * bound;
+        } else {
+            final T bound = field.actual(this.distance);
+            result = DistanceLower.compare(field.addition().neutral(), bound) < 0
+                && DistanceLower.compare(
+                    field.actual(this.squared), field.multiplication().multiply(bound, bound)
+                ) < 0;
+        }
+        return result;
+    }
+
+    /**
+     * Compares two actual values.
+     * @param first First value
+     * @param second Second value
+     * @param <T> scalar types
+     * @return A negative integer, zero, or a positive integer as the first value
+     *  is less than, equal to, or greater than the second
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int compare(final T first, final T second) {
+        if (!(first instanceof Comparable<?>)) {
+            throw new UnsupportedOperationException(
+                String.format("Values %s are not comparable", first)
+            );
+        }
+        return ((Comparable<T>) first).compareTo(second);
+    }
+
+}
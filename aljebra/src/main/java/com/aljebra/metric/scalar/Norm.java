@@ -23,7 +23,9 @@
  */
 package com.aljebra.metric.scalar;
 
+import com.aljebra.field.DoubleField;
 import com.aljebra.field.MetricSpaceField;
+import com.aljebra.scalar.DoubleScalar;
 import com.aljebra.vector.Vect;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.ToString;
  */
 @EqualsAndHashCode
 @ToString(includeFieldNames = false)
-public final class Norm<T> extends MetricScalar<T> {
+public final class Norm<T> extends MetricScalar<T> implements DoubleScalar {
 
     /**
      * Vector.
@@ -50,9 +52,23 @@ public final class Norm<T> extends MetricScalar<T> {
         this.vector = vector;
     }
 
+    /**
+     * Gives the vector for which to calculate the norm.
+     * @return The vector of the norm.
+     */
+    public Vect<T> vector() {
+        return this.vector;
+    }
+
     @Override
     public T value(final MetricSpaceField<T> field) {
         return field.actual(field.product().norm(this.vector));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public double dvalue(final DoubleField field) {
+        return field.dactual(field.product().norm((Vect<Double>) (Vect<?>) this.vector));
+    }
+
 }
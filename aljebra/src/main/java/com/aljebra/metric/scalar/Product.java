@@ -58,6 +58,22 @@ public final class Product<T> extends MetricScalar<T> {
         this.second = second;
     }
 
+    /**
+     * Gives the first operand.
+     * @return The first vector of the product.
+     */
+    public Vect<T> first() {
+        return this.first;
+    }
+
+    /**
+     * Gives the second operand.
+     * @return The second vector of the product.
+     */
+    public Vect<T> second() {
+        return this.second;
+    }
+
     @Override
     public T value(final MetricSpaceField<T> field) {
         return field.actual(field.product().product(this.first, this.second));
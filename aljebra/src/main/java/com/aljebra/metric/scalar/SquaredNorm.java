@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.metric.scalar;
+
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.scalar.DoubleScalar;
+import com.aljebra.vector.Vect;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A scalar representing the squared norm of a vector, that is the inner
+ * product of the vector by itself. Comparing squared norms avoids the square
+ * roots of norms, and is available in fields without square roots.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString(includeFieldNames = false)
+public final class SquaredNorm<T> extends MetricScalar<T> implements DoubleScalar {
+
+    /**
+     * Vector.
+     */
+    private final Vect<T> vector;
+
+    /**
+     * Constructor.
+     * @param vector Vector for which to calculate the squared norm
+     */
+    public SquaredNorm(final Vect<T> vector) {
+        this.vector = vector;
+    }
+
+    /**
+     * Gives the vector for which to calculate the squared norm.
+     * @return The vector of the squared norm.
+     */
+    public Vect<T> vector() {
+        return this.vector;
+    }
+
+    @Override
+    public T value(final MetricSpaceField<T> field) {
+        return field.actual(field.product().product(this.vector, this.vector));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double dvalue(final DoubleField field) {
+        final Vect<Double> vect = (Vect<Double>) (Vect<?>) this.vector;
+        return field.dactual(field.product().product(vect, vect));
+    }
+
+}
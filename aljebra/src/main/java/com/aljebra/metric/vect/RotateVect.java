@@ -29,8 +29,12 @@ import com.aljebra.metric.scalar.MetricScalar;
 import com.aljebra.scalar.Scalar;
 import com.aljebra.vector.FixedVector;
 import com.aljebra.vector.Vect;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.ToString;
 
 /**
@@ -60,39 +64,124 @@ public final class RotateVect<T> extends FixedVector<T> {
     }
 
     /**
-     * Calculates coordinates of the rotated vector.
+     * Calculates coordinates of the rotated vector. Coordinates share
+     * a single rotation, computed once per evaluated vector and angle.
      * @param vector Vector to rotate
      * @param angle Rotation angle
      * @param <T> scalar types
      * @return Scalar array of the rotated vector coordinates
      */
     private static <T> List<Scalar<T>> coords(final Vect<T> vector, final Degrees<T> angle) {
-        final List<Scalar<T>> result = new ArrayList<>(vector.coords().length);
-        for (int idx = 0; idx < vector.coords().length; ++idx) {
-            result.add(RotateVect.coord(vector, angle, idx));
+        final RotateVect.Rotation<T> rotation = new RotateVect.Rotation<>(vector, angle);
+        final List<Scalar<T>> result = new ArrayList<>(vector.dimension());
+        for (int idx = 0; idx < vector.dimension(); ++idx) {
+            result.add(new RotateVect.Coord<>(rotation, idx));
         }
         return result;
     }
 
     /**
-     * Gives a scalar corresponding to a given single coordinate
-     * of the rotated vector.
-     * @param vector Vector to rotate
-     * @param angle Rotation angle
-     * @param dim Coordinate index
+     * Rotation of a vector by an angle, memoizing the last rotated
+     * coordinates together with the input coordinates and angle they
+     * were calculated from. The memo is reused only when the vector
+     * and the angle evaluate to the same values, so that a rotated
+     * vector follows its inputs when they change.
      * @param <T> scalar types
-     * @return A scalar corresponding to a coordinate of the rotated vector
      */
-    private static <T> Scalar<T> coord(final Vect<T> vector, final Degrees<T> angle,
-        final int dim) {
-        return new MetricScalar<T>() {
-            @Override
-            public T value(final MetricSpaceField<T> field) {
-                return field.actual(
-                    field.product().rot(vector, angle).coords()[dim]
+    private static final class Rotation<T> {
+
+        /**
+         * Vector to rotate.
+         */
+        private final Vect<T> vector;
+
+        /**
+         * Rotation angle.
+         */
+        private final Degrees<T> angle;
+
+        /**
+         * Last evaluated inputs and rotated coordinates.
+         */
+        private final AtomicReference<Optional<Map.Entry<List<Object>, List<T>>>> last;
+
+        /**
+         * Constructor.
+         * @param vector Vector to rotate
+         * @param angle Rotation angle
+         */
+        Rotation(final Vect<T> vector, final Degrees<T> angle) {
+            this.vector = vector;
+            this.angle = angle;
+            this.last = new AtomicReference<>(Optional.empty());
+        }
+
+        /**
+         * Gives the rotated vector coordinates, as calculated by a field.
+         * The vector and angle are evaluated once, and their values are
+         * rotated on a memo miss.
+         * @param field Field
+         * @return Rotated vector coordinates actual values
+         */
+        public List<T> rotated(final MetricSpaceField<T> field) {
+            final List<Object> inputs = new ArrayList<>(this.vector.dimension() + 1);
+            final List<Scalar<T>> coords = new ArrayList<>(this.vector.dimension());
+            for (int idx = 0; idx < this.vector.dimension(); ++idx) {
+                final T value = field.actual(this.vector.coord(idx));
+                inputs.add(value);
+                coords.add(new Scalar.Default<>(value));
+            }
+            final Number degrees = this.angle.resolve(field.product());
+            inputs.add(degrees);
+            final Optional<Map.Entry<List<Object>, List<T>>> memo = this.last.get();
+            final List<T> result;
+            if (memo.isPresent() && memo.get().getKey().equals(inputs)) {
+                result = memo.get().getValue();
+            } else {
+                final Vect<T> rotated = field.product().rot(
+                    new FixedVector<>(coords), new Degrees.Default<>(degrees)
                 );
+                result = new ArrayList<>(rotated.dimension());
+                for (int idx = 0; idx < rotated.dimension(); ++idx) {
+                    result.add(field.actual(rotated.coord(idx)));
+                }
+                this.last.set(Optional.of(new AbstractMap.SimpleImmutableEntry<>(inputs, result)));
             }
-        };
+            return result;
+        }
+    }
+
+    /**
+     * A single coordinate of a rotated vector.
+     * @param <T> scalar types
+     */
+    private static final class Coord<T> extends MetricScalar<T> {
+
+        /**
+         * Shared rotation.
+         */
+        private final RotateVect.Rotation<T> rotation;
+
+        /**
+         * Coordinate index.
+         */
+        private final int dim;
+
+        /**
+         * Constructor.
+         * @param rotation Shared rotation
+         * @param dim Coordinate index
+         */
+        Coord(final RotateVect.Rotation<T> rotation, final int dim) {
+            super();
+            this.rotation = rotation;
+            this.dim = dim;
+        }
+
+        @Override
+        public T value(final MetricSpaceField<T> field) {
+            return this.rotation.rotated(field).get(this.dim);
+        }
     }
 
 }
@@ -23,10 +23,11 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.collection.Bag;
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.DoubleFieldAddition;
 import com.aljebra.field.Field;
 import com.aljebra.field.FieldAddition;
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
 import java.util.Arrays;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,19 +39,19 @@ import lombok.ToString;
  */
 @EqualsAndHashCode
 @ToString(includeFieldNames = false)
-public final class Add<T> implements Scalar<T> {
+public final class Add<T> implements Scalar<T>, DoubleScalar {
 
     /**
      * Addition operands.
      */
-    private final Multiset<Scalar<T>> opers;
+    private final Bag<Scalar<T>> opers;
 
     /**
      * Constructor.
      * @param operands Addition operands
      */
     public Add(final Iterable<? extends Scalar<T>> operands) {
-        this.opers = HashMultiset.create(operands);
+        this.opers = new Bag<>(operands);
     }
 
     /**
@@ -71,11 +72,28 @@ public final class Add<T> implements Scalar<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T value(final Field<T> field) {
-        final FieldAddition<T> addition = field.addition();
-        T result = addition.neutral();
+        final T result;
+        if (field instanceof DoubleField) {
+            result = (T) Double.valueOf(this.dvalue((DoubleField) field));
+        } else {
+            final FieldAddition<T> addition = field.addition();
+            T sum = addition.neutral();
+            for (final Scalar<T> operand : this.operands()) {
+                sum = addition.add(sum, field.actual(operand));
+            }
+            result = sum;
+        }
+        return result;
+    }
+
+    @Override
+    public double dvalue(final DoubleField field) {
+        final DoubleFieldAddition addition = field.daddition();
+        double result = addition.dneutral();
         for (final Scalar<T> operand : this.operands()) {
-            result = addition.add(result, operand.value(field));
+            result = addition.dadd(result, field.dactual(operand));
         }
         return result;
     }
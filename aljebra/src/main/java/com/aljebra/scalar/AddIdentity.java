@@ -23,6 +23,7 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.field.DoubleField;
 import com.aljebra.field.Field;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,11 +35,16 @@ import lombok.ToString;
  */
 @EqualsAndHashCode
 @ToString(includeFieldNames = false)
-public final class AddIdentity<T> implements Scalar<T> {
+public final class AddIdentity<T> implements Scalar<T>, DoubleScalar {
 
     @Override
     public T value(final Field<T> field) {
         return field.addition().neutral();
     }
 
+    @Override
+    public double dvalue(final DoubleField field) {
+        return field.daddition().dneutral();
+    }
+
 }
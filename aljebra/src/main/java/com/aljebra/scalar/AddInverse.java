@@ -23,6 +23,7 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.field.DoubleField;
 import com.aljebra.field.Field;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +35,7 @@ import lombok.ToString;
  */
 @EqualsAndHashCode
 @ToString(includeFieldNames = false)
-public final class AddInverse<T> implements Scalar<T> {
+public final class AddInverse<T> implements Scalar<T>, DoubleScalar {
 
     /**
      * Scalar to inverse.
@@ -49,9 +50,29 @@ public final class AddInverse<T> implements Scalar<T> {
         this.inverse = inv;
     }
 
+    /**
+     * Gives the scalar to inverse.
+     * @return The operand of the addition inverse.
+     */
+    public Scalar<T> operand() {
+        return this.inverse;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public T value(final Field<T> field) {
-        return field.addition().inverse(field.actual(this.inverse));
+        final T result;
+        if (field instanceof DoubleField) {
+            result = (T) Double.valueOf(this.dvalue((DoubleField) field));
+        } else {
+            result = field.addition().inverse(field.actual(this.inverse));
+        }
+        return result;
+    }
+
+    @Override
+    public double dvalue(final DoubleField field) {
+        return field.daddition().dinverse(field.dactual(this.inverse));
     }
 
 }
@@ -23,6 +23,8 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.DoubleFieldAddition;
 import com.aljebra.field.Field;
 import com.aljebra.field.FieldAddition;
 import lombok.EqualsAndHashCode;
@@ -35,7 +37,7 @@ import lombok.ToString;
  */
 @EqualsAndHashCode
 @ToString
-public final class Diff<T> implements Scalar<T> {
+public final class Diff<T> implements Scalar<T>, DoubleScalar {
     /**
      * First operand.
      */
@@ -73,10 +75,24 @@ public final class Diff<T> implements Scalar<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T value(final Field<T> field) {
-        final FieldAddition<T> add = field.addition();
-        final T inverse = add.inverse(field.actual(this.soperand));
-        return add.add(field.actual(this.foperand), inverse);
+        final T result;
+        if (field instanceof DoubleField) {
+            result = (T) Double.valueOf(this.dvalue((DoubleField) field));
+        } else {
+            final FieldAddition<T> add = field.addition();
+            final T inverse = add.inverse(field.actual(this.soperand));
+            result = add.add(field.actual(this.foperand), inverse);
+        }
+        return result;
+    }
+
+    @Override
+    public double dvalue(final DoubleField field) {
+        final DoubleFieldAddition add = field.daddition();
+        final double inverse = add.dinverse(field.dactual(this.soperand));
+        return add.dadd(field.dactual(this.foperand), inverse);
     }
 
 }
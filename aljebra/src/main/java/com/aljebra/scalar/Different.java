@@ -25,6 +25,7 @@ package com.aljebra.scalar;
 
 import com.aljebra.field.Field;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.ToString;
 
 /**
@@ -36,9 +37,9 @@ import lombok.ToString;
 public final class Different<T> implements Scalar<T> {
 
     /**
-     * Random generated scalar.
+     * Random generated scalar, set once by the first evaluation.
      */
-    private Optional<Scalar<T>> generated;
+    private final AtomicReference<Optional<Scalar<T>>> generated;
 
     /**
      * Scalar to be different to.
@@ -50,16 +51,27 @@ public final class Different<T> implements Scalar<T> {
      * @param scl Scalar to be different to
      */
     public Different(final Scalar<T> scl) {
-        this.generated = Optional.empty();
+        this.generated = new AtomicReference<>(Optional.empty());
         this.scl = scl;
     }
 
+    /**
+     * Gives the scalar to be different to.
+     * @return Scalar to be different to
+     * @since 0.5
+     */
+    public Scalar<T> scalar() {
+        return this.scl;
+    }
+
     @Override
     public T value(final Field<T> field) {
-        if (!this.generated.isPresent()) {
-            this.generated = Optional.of(field.other(this.scl));
+        if (!this.generated.get().isPresent()) {
+            this.generated.compareAndSet(
+                Optional.empty(), Optional.of(field.other(this.scl))
+            );
         }
-        return field.actual(this.generated.get());
+        return field.actual(this.generated.get().get());
     }
 
 }
@@ -23,6 +23,8 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.DoubleFieldMultiplication;
 import com.aljebra.field.Field;
 import com.aljebra.field.FieldMultiplication;
 import lombok.EqualsAndHashCode;
@@ -35,7 +37,7 @@ import lombok.ToString;
  */
 @EqualsAndHashCode
 @ToString
-public final class Division<T> implements Scalar<T> {
+public final class Division<T> implements Scalar<T>, DoubleScalar {
     /**
      * First operand.
      */
@@ -73,10 +75,24 @@ public final class Division<T> implements Scalar<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T value(final Field<T> field) {
-        final FieldMultiplication<T> mult = field.multiplication();
-        final T inverse = mult.inverse(field.actual(this.divisor));
-        return mult.multiply(field.actual(this.dividend), inverse);
+        final T result;
+        if (field instanceof DoubleField) {
+            result = (T) Double.valueOf(this.dvalue((DoubleField) field));
+        } else {
+            final FieldMultiplication<T> mult = field.multiplication();
+            final T inverse = mult.inverse(field.actual(this.divisor));
+            result = mult.multiply(field.actual(this.dividend), inverse);
+        }
+        return result;
+    }
+
+    @Override
+    public double dvalue(final DoubleField field) {
+        final DoubleFieldMultiplication mult = field.dmultiplication();
+        final double inverse = mult.dinverse(field.dactual(this.divisor));
+        return mult.dmultiply(field.dactual(this.dividend), inverse);
     }
 
 }
@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.scalar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canonicalizes structurally equal nodes (scalars, vectors, predicates...)
+ * into a single shared instance. Equality is the one defined by nodes
+ * {@link Object#equals(Object)}: nodes with a reference equality (random
+ * scalars for example) are never merged. Operands of arithmetic scalars
+ * ({@link Add}, {@link Multiplication}, {@link Diff}, {@link Division},
+ * {@link AddInverse}, {@link MultInverse}) are interned too, so that
+ * sub-expressions equal to an already interned node become shared, and can
+ * be evaluated once by a memoizing field.
+ * This class is not thread-safe.
+ * @since 0.5
+ */
+public final class Interner {
+
+    /**
+     * Canonical instances.
+     */
+    private final Map<Object, Object> canonical;
+
+    /**
+     * Constructor.
+     */
+    public Interner() {
+        this.canonical = new HashMap<>();
+    }
+
+    /**
+     * Gives the canonical instance of a scalar, interning its operands.
+     * @param scalar Scalar to intern
+     * @param <T> scalar types
+     * @return A scalar equal to the given one
+     */
+    public <T> Scalar<T> scalar(final Scalar<T> scalar) {
+        return this.intern(this.rebuild(scalar));
+    }
+
+    /**
+     * Gives the canonical instance of a node.
+     * @param node Node to intern
+     * @param <N> node type
+     * @return A node equal to the given one
+     */
+    @SuppressWarnings("unchecked")
+    public <N> N intern(final N node) {
+        final N result;
+        if (this.canonical.containsKey(node)) {
+            result = (N) this.canonical.get(node);
+        } else {
+            this.canonical.put(node, node);
+            result = node;
+        }
+        return result;
+    }
+
+    /**
+     * Gives the number of distinct interned nodes.
+     * @return Distinct nodes count
+     */
+    public int size() {
+        return this.canonical.size();
+    }
+
+    /**
+     * Rebuilds an arithmetic scalar over canonical operands.
+     * Other scalars are returned as is.
+     * @param scalar Scalar to rebuild
+     * @param <T> scalar types
+     * @return A scalar equal to the given one
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Scalar<T> rebuild(final Scalar<T> scalar) {
+        final Scalar<T> result;
+        if (scalar instanceof Add) {
+            result = new Add<>(this.scalars(((Add<T>) scalar).operands()));
+        } else if (scalar instanceof Multiplication) {
+            result = new Multiplication<>(
+                this.scalars(((Multiplication<T>) scalar).operands())
+            );
+        } else if (scalar instanceof Diff) {
+            final Diff<T> diff = (Diff<T>) scalar;
+            result = new Diff<>(this.scalar(diff.first()), this.scalar(diff.second()));
+        } else if (scalar instanceof Division) {
+            final Division<T> div = (Division<T>) scalar;
+            result = new Division<>(
+                this.scalar(div.first()), this.scalar(div.second())
+            );
+        } else if (scalar instanceof AddInverse) {
+            result = new AddInverse<>(this.scalar(((AddInverse<T>) scalar).operand()));
+        } else if (scalar instanceof MultInverse) {
+            result = new MultInverse<>(
+                this.scalar(((MultInverse<T>) scalar).operand())
+            );
+        } else {
+            result = scalar;
+        }
+        return result;
+    }
+
+    /**
+     * Interns scalars.
+     * @param scalars Scalars to intern
+     * @param <T> scalar types
+     * @return Canonical scalars
+     */
+    private <T> List<Scalar<T>> scalars(final Iterable<Scalar<T>> scalars) {
+        final List<Scalar<T>> result = new ArrayList<>(2);
+        for (final Scalar<T> scalar : scalars) {
+            result.add(this.scalar(scalar));
+        }
+        return result;
+    }
+}
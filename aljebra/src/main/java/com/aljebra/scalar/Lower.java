@@ -25,6 +25,7 @@ package com.aljebra.scalar;
 
 import com.aljebra.field.OrderedField;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.ToString;
 
 /**
@@ -36,9 +37,9 @@ import lombok.ToString;
 public final class Lower<T> extends OrderedScalar<T> {
 
     /**
-     * Random generated scalar.
+     * Random generated scalar, set once by the first evaluation.
      */
-    private Optional<Scalar<T>> generated;
+    private final AtomicReference<Optional<Scalar<T>>> generated;
 
     /**
      * Scalar to be lower to.
@@ -51,15 +52,26 @@ public final class Lower<T> extends OrderedScalar<T> {
      */
     public Lower(final Scalar<T> greater) {
         this.greater = greater;
-        this.generated = Optional.empty();
+        this.generated = new AtomicReference<>(Optional.empty());
+    }
+
+    /**
+     * Gives the scalar to be lower to.
+     * @return Upper bound
+     * @since 0.5
+     */
+    public Scalar<T> greater() {
+        return this.greater;
     }
 
     @Override
     public T value(final OrderedField<T> field) {
-        if (!this.generated.isPresent()) {
-            this.generated = Optional.of(field.lower(this.greater));
+        if (!this.generated.get().isPresent()) {
+            this.generated.compareAndSet(
+                Optional.empty(), Optional.of(field.lower(this.greater))
+            );
         }
-        return field.actual(this.generated.get());
+        return field.actual(this.generated.get().get());
     }
 
 }
@@ -23,6 +23,7 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.field.DoubleField;
 import com.aljebra.field.Field;
 import lombok.EqualsAndHashCode;
 
@@ -32,11 +33,16 @@ import lombok.EqualsAndHashCode;
  * @since 0.1
  */
 @EqualsAndHashCode
-public final class MultIdentity<T> implements Scalar<T> {
+public final class MultIdentity<T> implements Scalar<T>, DoubleScalar {
 
     @Override
     public T value(final Field<T> field) {
         return field.multiplication().neutral();
     }
 
+    @Override
+    public double dvalue(final DoubleField field) {
+        return field.dmultiplication().dneutral();
+    }
+
 }
@@ -23,6 +23,7 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.field.DoubleField;
 import com.aljebra.field.Field;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +35,7 @@ import lombok.ToString;
  */
 @EqualsAndHashCode
 @ToString(includeFieldNames = false)
-public final class MultInverse<T> implements Scalar<T> {
+public final class MultInverse<T> implements Scalar<T>, DoubleScalar {
 
     /**
      * Scalar to inverse.
@@ -49,17 +50,49 @@ public final class MultInverse<T> implements Scalar<T> {
         this.inverse = inv;
     }
 
+    /**
+     * Gives the scalar to inverse.
+     * @return The operand of the multiplication inverse.
+     */
+    public Scalar<T> operand() {
+        return this.inverse;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public T value(final Field<T> field) {
-        if (field.equals(this.inverse, new AddIdentity<T>())) {
-            throw new IllegalArgumentException(
-                String.format(
-                    "Impossible to inverse addition neutral element: %s",
-                    this.inverse
-                )
-            );
+        final T result;
+        if (field instanceof DoubleField) {
+            result = (T) Double.valueOf(this.dvalue((DoubleField) field));
+        } else {
+            if (field.equals(this.inverse, new AddIdentity<T>())) {
+                throw this.error();
+            }
+            result = field.multiplication().inverse(field.actual(this.inverse));
+        }
+        return result;
+    }
+
+    @Override
+    public double dvalue(final DoubleField field) {
+        final double actual = field.dactual(this.inverse);
+        if (field.dequals(actual, field.daddition().dneutral())) {
+            throw this.error();
         }
-        return field.multiplication().inverse(field.actual(this.inverse));
+        return field.dmultiplication().dinverse(actual);
+    }
+
+    /**
+     * Builds the exception thrown when inversing the addition neutral element.
+     * @return An exception
+     */
+    private IllegalArgumentException error() {
+        return new IllegalArgumentException(
+            String.format(
+                "Impossible to inverse addition neutral element: %s",
+                this.inverse
+            )
+        );
     }
 
 }
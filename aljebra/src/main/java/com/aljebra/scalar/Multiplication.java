@@ -23,10 +23,11 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.collection.Bag;
+import com.aljebra.field.DoubleField;
+import com.aljebra.field.DoubleFieldMultiplication;
 import com.aljebra.field.Field;
 import com.aljebra.field.FieldMultiplication;
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
 import java.util.Arrays;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,19 +39,19 @@ import lombok.ToString;
  */
 @EqualsAndHashCode
 @ToString(includeFieldNames = false)
-public final class Multiplication<T> implements Scalar<T> {
+public final class Multiplication<T> implements Scalar<T>, DoubleScalar {
 
     /**
      * Multiplication operands.
      */
-    private final Multiset<Scalar<T>> opers;
+    private final Bag<Scalar<T>> opers;
 
     /**
      * Constructor.
      * @param operands Multiplication operands
      */
     public Multiplication(final Iterable<? extends Scalar<T>> operands) {
-        this.opers = HashMultiset.create(operands);
+        this.opers = new Bag<>(operands);
     }
 
     /**
@@ -71,11 +72,28 @@ public final class Multiplication<T> implements Scalar<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T value(final Field<T> field) {
-        final FieldMultiplication<T> mult = field.multiplication();
-        T result = mult.neutral();
+        final T result;
+        if (field instanceof DoubleField) {
+            result = (T) Double.valueOf(this.dvalue((DoubleField) field));
+        } else {
+            final FieldMultiplication<T> mult = field.multiplication();
+            T product = mult.neutral();
+            for (final Scalar<T> operand : this.operands()) {
+                product = mult.multiply(product, field.actual(operand));
+            }
+            result = product;
+        }
+        return result;
+    }
+
+    @Override
+    public double dvalue(final DoubleField field) {
+        final DoubleFieldMultiplication mult = field.dmultiplication();
+        double result = mult.dneutral();
         for (final Scalar<T> operand : this.operands()) {
-            result = mult.multiply(result, operand.value(field));
+            result = mult.dmultiply(result, field.dactual(operand));
         }
         return result;
     }
@@ -25,6 +25,7 @@ package com.aljebra.scalar;
 
 import com.aljebra.field.Field;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.ToString;
 
 /**
@@ -36,23 +37,25 @@ import lombok.ToString;
 public final class Random<T> implements Scalar<T> {
 
     /**
-     * Random generated scalar.
+     * Random generated scalar, set once by the first evaluation.
      */
-    private Optional<Scalar<T>> generated;
+    private final AtomicReference<Optional<Scalar<T>>> generated;
 
     /**
      * Constructor.
      */
     public Random() {
-        this.generated = Optional.empty();
+        this.generated = new AtomicReference<>(Optional.empty());
     }
 
     @Override
     public T value(final Field<T> field) {
-        if (!this.generated.isPresent()) {
-            this.generated = Optional.of(field.random());
+        if (!this.generated.get().isPresent()) {
+            this.generated.compareAndSet(
+                Optional.empty(), Optional.of(field.random())
+            );
         }
-        return field.actual(this.generated.get());
+        return field.actual(this.generated.get().get());
     }
 
 }
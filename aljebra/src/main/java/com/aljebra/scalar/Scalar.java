@@ -23,6 +23,7 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.field.DoubleField;
 import com.aljebra.field.Field;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -48,7 +49,7 @@ public interface Scalar<T> {
      */
     @EqualsAndHashCode
     @ToString(includeFieldNames = false)
-    class Default<R> implements Scalar<R> {
+    class Default<R> implements Scalar<R>, DoubleScalar {
         /**
          * Wrapped object.
          */
@@ -66,5 +67,10 @@ public interface Scalar<T> {
         public R value(final Field<R> field) {
             return this.origin;
         }
+
+        @Override
+        public double dvalue(final DoubleField field) {
+            return ((Number) this.origin).doubleValue();
+        }
     }
 }
@@ -0,0 +1,310 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.scalar;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.condition.False;
+import com.aljebra.scalar.condition.Predicate;
+import com.aljebra.scalar.condition.Ternary;
+import com.aljebra.scalar.condition.True;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrites a scalar expression into an equivalent smaller one. Applied rules are:
+ * <ul>
+ * <li>Nested {@link Add} and {@link Multiplication} are flattened</li>
+ * <li>{@link AddIdentity} operands of additions and {@link MultIdentity}
+ * operands of multiplications are removed</li>
+ * <li>Constant ({@link Scalar.Default}) operands are folded using the field</li>
+ * <li>{@link AddInverse} of an {@link AddInverse} is removed</li>
+ * <li>Differences from {@link AddIdentity} and divisions by
+ * {@link MultIdentity} are removed</li>
+ * <li>{@link Ternary} with a {@link True} or {@link False} condition
+ * is replaced by the corresponding scalar</li>
+ * </ul>
+ * Other scalars are kept as is. A scalar shared (by reference) in the input
+ * expression is simplified once and remains shared in the output. Divisions
+ * by a constant zero are not folded, so that they still fail on evaluation.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+public final class Simplifier<T> {
+
+    /**
+     * Field used to fold constants.
+     */
+    private final Field<T> field;
+
+    /**
+     * Already simplified scalars.
+     */
+    private final Map<Scalar<T>, Scalar<T>> done;
+
+    /**
+     * Constructor.
+     * @param field Field used to fold constants
+     */
+    public Simplifier(final Field<T> field) {
+        this.field = field;
+        this.done = new IdentityHashMap<>();
+    }
+
+    /**
+     * Simplifies a scalar.
+     * @param scalar Scalar to simplify
+     * @return An equivalent scalar
+     */
+    public Scalar<T> simplify(final Scalar<T> scalar) {
+        final Scalar<T> result;
+        if (this.done.containsKey(scalar)) {
+            result = this.done.get(scalar);
+        } else {
+            result = this.rewrite(scalar);
+            this.done.put(scalar, result);
+        }
+        return result;
+    }
+
+    /**
+     * Rewrites a scalar node.
+     * @param scalar Scalar to rewrite
+     * @return An equivalent scalar
+     * @checkstyle CyclomaticComplexityCheck (30 lines)
+     */
+    @SuppressWarnings({"unchecked", "PMD.CyclomaticComplexity"})
+    private Scalar<T> rewrite(final Scalar<T> scalar) {
+        final Scalar<T> result;
+        if (scalar instanceof Add) {
+            result = this.add(((Add<T>) scalar).operands());
+        } else if (scalar instanceof Multiplication) {
+            result = this.multiplication(((Multiplication<T>) scalar).operands());
+        } else if (scalar instanceof AddInverse) {
+            result = this.opposite(this.simplify(((AddInverse<T>) scalar).operand()));
+        } else if (scalar instanceof Diff) {
+            final Diff<T> diff = (Diff<T>) scalar;
+            result = this.diff(this.simplify(diff.first()), this.simplify(diff.second()));
+        } else if (scalar instanceof Division) {
+            final Division<T> div = (Division<T>) scalar;
+            result = this.division(this.simplify(div.first()), this.simplify(div.second()));
+        } else if (scalar instanceof MultInverse) {
+            result = this.inverse(this.simplify(((MultInverse<T>) scalar).operand()));
+        } else if (scalar instanceof Ternary) {
+            result = this.ternary((Ternary<T>) scalar);
+        } else {
+            result = scalar;
+        }
+        return result;
+    }
+
+    /**
+     * Simplifies an addition.
+     * @param operands Addition operands
+     * @return An equivalent scalar
+     */
+    private Scalar<T> add(final Iterable<Scalar<T>> operands) {
+        final List<Scalar<T>> flat = new ArrayList<>(2);
+        T constant = this.field.addition().neutral();
+        boolean folded = false;
+        for (final Scalar<T> operand : this.flatten(operands, Add.class)) {
+            if (operand instanceof Scalar.Default) {
+                constant = this.field.addition().add(constant, this.field.actual(operand));
+                folded = true;
+            } else if (!(operand instanceof AddIdentity)) {
+                flat.add(operand);
+            }
+        }
+        if (folded) {
+            flat.add(new Scalar.Default<>(constant));
+        }
+        final Scalar<T> result;
+        if (flat.isEmpty()) {
+            result = new AddIdentity<>();
+        } else if (flat.size() == 1) {
+            result = flat.get(0);
+        } else {
+            result = new Add<>(flat);
+        }
+        return result;
+    }
+
+    /**
+     * Simplifies a multiplication.
+     * @param operands Multiplication operands
+     * @return An equivalent scalar
+     */
+    private Scalar<T> multiplication(final Iterable<Scalar<T>> operands) {
+        final List<Scalar<T>> flat = new ArrayList<>(2);
+        T constant = this.field.multiplication().neutral();
+        boolean folded = false;
+        for (final Scalar<T> operand : this.flatten(operands, Multiplication.class)) {
+            if (operand instanceof Scalar.Default) {
+                constant = this.field.multiplication().multiply(
+                    constant, this.field.actual(operand)
+                );
+                folded = true;
+            } else if (!(operand instanceof MultIdentity)) {
+                flat.add(operand);
+            }
+        }
+        if (folded) {
+            flat.add(new Scalar.Default<>(constant));
+        }
+        final Scalar<T> result;
+        if (flat.isEmpty()) {
+            result = new MultIdentity<>();
+        } else if (flat.size() == 1) {
+            result = flat.get(0);
+        } else {
+            result = new Multiplication<>(flat);
+        }
+        return result;
+    }
+
+    /**
+     * Simplifies the operands of an n-ary operation and flattens
+     * operands of the same operation.
+     * @param operands Operands
+     * @param clazz N-ary operation class
+     * @return Flat simplified operands
+     */
+    @SuppressWarnings("unchecked")
+    private List<Scalar<T>> flatten(final Iterable<Scalar<T>> operands,
+        final Class<?> clazz) {
+        final List<Scalar<T>> result = new ArrayList<>(2);
+        for (final Scalar<T> operand : operands) {
+            final Scalar<T> simple = this.simplify(operand);
+            if (simple instanceof Add && clazz.equals(Add.class)) {
+                result.addAll(this.flatten(((Add<T>) simple).operands(), clazz));
+            } else if (simple instanceof Multiplication
+                && clazz.equals(Multiplication.class)) {
+                result.addAll(
+                    this.flatten(((Multiplication<T>) simple).operands(), clazz)
+                );
+            } else {
+                result.add(simple);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Simplifies an addition inverse.
+     * @param operand Simplified scalar to inverse
+     * @return An equivalent scalar
+     */
+    private Scalar<T> opposite(final Scalar<T> operand) {
+        final Scalar<T> result;
+        if (operand instanceof AddInverse) {
+            result = ((AddInverse<T>) operand).operand();
+        } else if (operand instanceof AddIdentity) {
+            result = operand;
+        } else if (operand instanceof Scalar.Default) {
+            result = new Scalar.Default<>(
+                this.field.addition().inverse(this.field.actual(operand))
+            );
+        } else {
+            result = new AddInverse<>(operand);
+        }
+        return result;
+    }
+
+    /**
+     * Simplifies a difference.
+     * @param first Simplified minuend
+     * @param second Simplified subtrahend
+     * @return An equivalent scalar
+     */
+    private Scalar<T> diff(final Scalar<T> first, final Scalar<T> second) {
+        final Scalar<T> result;
+        if (second instanceof AddIdentity) {
+            result = first;
+        } else if (first instanceof AddIdentity) {
+            result = this.opposite(second);
+        } else if (first instanceof Scalar.Default && second instanceof Scalar.Default) {
+            result = new Scalar.Default<>(this.field.actual(new Diff<>(first, second)));
+        } else {
+            result = new Diff<>(first, second);
+        }
+        return result;
+    }
+
+    /**
+     * Simplifies a division.
+     * @param first Simplified dividend
+     * @param second Simplified divisor
+     * @return An equivalent scalar
+     */
+    private Scalar<T> division(final Scalar<T> first, final Scalar<T> second) {
+        final Scalar<T> result;
+        if (second instanceof MultIdentity) {
+            result = first;
+        } else if (first instanceof Scalar.Default && second instanceof Scalar.Default
+            && !this.field.equals(second, new AddIdentity<>())) {
+            result = new Scalar.Default<>(
+                this.field.actual(new Division<>(first, second))
+            );
+        } else {
+            result = new Division<>(first, second);
+        }
+        return result;
+    }
+
+    /**
+     * Simplifies a multiplication inverse.
+     * @param operand Simplified scalar to inverse
+     * @return An equivalent scalar
+     */
+    private Scalar<T> inverse(final Scalar<T> operand) {
+        final Scalar<T> result;
+        if (operand instanceof MultIdentity) {
+            result = operand;
+        } else {
+            result = new MultInverse<>(operand);
+        }
+        return result;
+    }
+
+    /**
+     * Simplifies a ternary.
+     * @param ternary Ternary to simplify
+     * @return An equivalent scalar
+     */
+    private Scalar<T> ternary(final Ternary<T> ternary) {
+        final Predicate<Field<T>> cond = ternary.condition();
+        final Scalar<T> result;
+        if (cond instanceof True) {
+            result = this.simplify(ternary.positive());
+        } else if (cond instanceof False) {
+            result = this.simplify(ternary.negative());
+        } else {
+            result = new Ternary<>(
+                cond, this.simplify(ternary.positive()), this.simplify(ternary.negative())
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.scalar;
+
+import com.aljebra.field.Field;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.ToString;
+
+/**
+ * A free scalar whose value can be changed, for example the coordinate of
+ * a point dragged by a user. Expressions depending on a variable see its
+ * new value on their next evaluation. Evaluations memoizing values (like
+ * {@link com.aljebra.field.IncrementalField}) should be told about
+ * the change.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+@ToString(includeFieldNames = false)
+public final class Variable<T> implements Scalar<T> {
+
+    /**
+     * Current value.
+     */
+    private final AtomicReference<T> current;
+
+    /**
+     * Constructor.
+     * @param value Initial value
+     */
+    public Variable(final T value) {
+        this.current = new AtomicReference<>(value);
+    }
+
+    /**
+     * Changes the value of this variable.
+     * @param value New value
+     */
+    public void set(final T value) {
+        this.current.set(value);
+    }
+
+    @Override
+    public T value(final Field<T> field) {
+        return this.current.get();
+    }
+
+}
@@ -23,9 +23,8 @@
  */
 package com.aljebra.scalar.condition;
 
+import com.aljebra.collection.Bag;
 import com.aljebra.field.Field;
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
 import java.util.Arrays;
 
 /**
@@ -38,14 +37,14 @@ public final class And<T> implements Predicate<Field<T>> {
     /**
      * Predicates.
      */
-    private final Multiset<Predicate<Field<T>>> opers;
+    private final Bag<Predicate<Field<T>>> opers;
 
     /**
      * Constructor.
      * @param operands Predicates
      */
     public And(final Iterable<? extends Predicate<Field<T>>> operands) {
-        this.opers = HashMultiset.create(operands);
+        this.opers = new Bag<>(operands);
     }
 
     /**
@@ -23,7 +23,9 @@
  */
 package com.aljebra.scalar.condition;
 
+import com.aljebra.field.DoubleField;
 import com.aljebra.field.Field;
+import com.aljebra.scalar.DoubleScalar;
 import com.aljebra.scalar.Scalar;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.ToString;
  */
 @EqualsAndHashCode
 @ToString
-public final class Ternary<T> implements Scalar<T> {
+public final class Ternary<T> implements Scalar<T>, DoubleScalar {
 
     /**
      * Predicate to evaluate.
@@ -65,6 +67,30 @@ public final class Ternary<T> implements Scalar<T> {
         this.wrong = kos;
     }
 
+    /**
+     * Gives the predicate to evaluate.
+     * @return The condition of the ternary.
+     */
+    public Predicate<Field<T>> condition() {
+        return this.pred;
+    }
+
+    /**
+     * Gives the scalar to evaluate to if the predicate is verified.
+     * @return The scalar of the verified condition.
+     */
+    public Scalar<T> positive() {
+        return this.right;
+    }
+
+    /**
+     * Gives the scalar to evaluate to if the predicate is not verified.
+     * @return The scalar of the unverified condition.
+     */
+    public Scalar<T> negative() {
+        return this.wrong;
+    }
+
     @Override
     public T value(final Field<T> field) {
         final T result;
@@ -76,4 +102,16 @@ public final class Ternary<T> implements Scalar<T> {
         return result;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public double dvalue(final DoubleField field) {
+        final double result;
+        if (this.pred.resolve((Field<T>) (Field<?>) field)) {
+            result = field.dactual(this.right);
+        } else {
+            result = field.dactual(this.wrong);
+        }
+        return result;
+    }
+
 }
@@ -23,8 +23,8 @@
  */
 package com.aljebra.vector;
 
+import com.aljebra.collection.Tuple;
 import com.aljebra.scalar.Scalar;
-import com.google.common.collect.Lists;
 import java.util.Arrays;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -41,15 +41,14 @@ public class FixedVector<T> implements Vect<T> {
     /**
      * Coordinates.
      */
-    private final Scalar<T>[] coors;
+    private final Tuple<Scalar<T>> coors;
 
     /**
      * Constructor.
      * @param coor Vector coordinates
      */
-    @SuppressWarnings("unchecked")
     public FixedVector(final Iterable<? extends Scalar<T>> coor) {
-        this.coors = Lists.newArrayList(coor).toArray(new Scalar[1]);
+        this.coors = new Tuple<>(coor);
     }
 
     /**
@@ -70,8 +69,18 @@ public class FixedVector<T> implements Vect<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public final Scalar<T>[] coords() {
-        return Arrays.copyOf(this.coors, this.coors.length);
+        return this.coors.toArray(new Scalar[this.coors.size()]);
     }
 
+    @Override
+    public final Scalar<T> coord(final int index) {
+        return this.coors.get(index);
+    }
+
+    @Override
+    public final int dimension() {
+        return this.coors.size();
+    }
 }
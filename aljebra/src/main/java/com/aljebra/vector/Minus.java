@@ -25,7 +25,6 @@ package com.aljebra.vector;
 
 import com.aljebra.scalar.Diff;
 import com.aljebra.scalar.Scalar;
-import java.util.Arrays;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -58,12 +57,12 @@ public final class Minus<T> implements Vect<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Scalar<T>[] coords() {
-        final Scalar<T>[] coords = this.first.coords();
-        final int dim = coords.length;
-        final Scalar<T>[] result = Arrays.copyOf(coords, dim);
+        final int dim = this.dimension();
+        final Scalar<T>[] result = new Scalar[dim];
         for (int axis = 0; axis < dim; ++axis) {
-            result[axis] = this.dimension(axis);
+            result[axis] = this.coord(axis);
         }
         return result;
     }
@@ -73,7 +72,13 @@ public final class Minus<T> implements Vect<T> {
      * @param dim Given dimension
      * @return A {@link Diff} object representing the difference
      */
-    private Diff<T> dimension(final int dim) {
-        return new Diff<T>(this.first.coords()[dim], this.second.coords()[dim]);
+    @Override
+    public Diff<T> coord(final int dim) {
+        return new Diff<T>(this.first.coord(dim), this.second.coord(dim));
+    }
+
+    @Override
+    public int dimension() {
+        return this.first.dimension();
     }
 }
@@ -51,6 +51,18 @@ public final class Opposite<T> implements Vect<T> {
         this.vector = vector;
     }
 
+    @Override
+    public Scalar<T> coord(final int index) {
+        return new Times<T>(
+            this.vector, new AddInverse<T>(new MultIdentity<T>())
+        ).coord(index);
+    }
+
+    @Override
+    public int dimension() {
+        return this.vector.dimension();
+    }
+
     @Override
     public Scalar<T>[] coords() {
         return new Times<T>(
@@ -23,10 +23,9 @@
  */
 package com.aljebra.vector;
 
+import com.aljebra.collection.Bag;
 import com.aljebra.scalar.Add;
 import com.aljebra.scalar.Scalar;
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -45,14 +44,14 @@ public final class Sum<T> implements Vect<T> {
     /**
      * Sum operands.
      */
-    private final Multiset<Vect<T>> operands;
+    private final Bag<Vect<T>> operands;
 
     /**
      * Constructor.
      * @param operands Sum operands
      */
     public Sum(final Iterable<Vect<T>> operands) {
-        this.operands = HashMultiset.create(operands);
+        this.operands = new Bag<>(operands);
     }
 
     /**
@@ -64,13 +63,21 @@ public final class Sum<T> implements Vect<T> {
         this(Arrays.asList(first, second));
     }
 
+    /**
+     * Gives the sum operands.
+     * @return Sum operands
+     */
+    public Iterable<Vect<T>> operands() {
+        return this.operands;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public Scalar<T>[] coords() {
-        final Scalar<T>[] coords = this.operands.iterator().next().coords();
-        final int dim = coords.length;
-        final Scalar<T>[] result = Arrays.copyOf(coords, dim);
+        final int dim = this.dimension();
+        final Scalar<T>[] result = new Scalar[dim];
         for (int axis = 0; axis < dim; ++axis) {
-            result[axis] = this.dimension(axis);
+            result[axis] = this.coord(axis);
         }
         return result;
     }
@@ -80,11 +87,17 @@ public final class Sum<T> implements Vect<T> {
      * @param dim Given dimension
      * @return An {@link Add} object representing the sum
      */
-    private Add<T> dimension(final int dim) {
+    @Override
+    public Add<T> coord(final int dim) {
         final List<Scalar<T>> coor = new ArrayList<>(this.operands.size());
         for (final Vect<T> oper : this.operands) {
-            coor.add(oper.coords()[dim]);
+            coor.add(oper.coord(dim));
         }
         return new Add<T>(coor);
     }
+
+    @Override
+    public int dimension() {
+        return this.operands.iterator().next().dimension();
+    }
 }
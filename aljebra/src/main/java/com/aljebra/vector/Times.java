@@ -58,6 +58,16 @@ public final class Times<T> implements Vect<T> {
         this.scalar = scalar;
     }
 
+    @Override
+    public Scalar<T> coord(final int index) {
+        return this.mult(this.vector.coord(index));
+    }
+
+    @Override
+    public int dimension() {
+        return this.vector.dimension();
+    }
+
     @Override
     public Scalar<T>[] coords() {
         final Scalar<T>[] coors = this.vector.coords();
@@ -38,4 +38,25 @@ public interface Vect<T> {
      */
     Scalar<T>[] coords();
 
+    /**
+     * Vector coordinate along an axis. Implementations should override it
+     * to give the coordinate without building all the coordinates.
+     * @param index Axis index, starting from 0
+     * @return Coordinate
+     * @since 0.5
+     */
+    default Scalar<T> coord(final int index) {
+        return this.coords()[index];
+    }
+
+    /**
+     * Vector dimension. Implementations should override it to give
+     * the dimension without building the coordinates.
+     * @return Vector dimension
+     * @since 0.5
+     */
+    default int dimension() {
+        return this.coords().length;
+    }
+
 }
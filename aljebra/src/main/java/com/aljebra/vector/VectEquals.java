@@ -57,25 +57,23 @@ public final class VectEquals<T> implements Predicate<Field<T>> {
 
     @Override
     public boolean resolve(final Field<T> field) {
-        final Scalar<T>[] fcoords = this.first.coords();
-        final Scalar<T>[] scoords = this.second.coords();
-        return fcoords.length == scoords.length
-            && VectEquals.arraysEqual(fcoords, scoords, field);
+        return this.first.dimension() == this.second.dimension()
+            && VectEquals.coordsEqual(this.first, this.second, field);
     }
 
     /**
-     * Checks if passed scalar arrays are one to one equals.
-     * @param first First scalars array
-     * @param second Second scalars array
+     * Checks if passed vectors coordinates are one to one equals.
+     * @param first First vector
+     * @param second Second vector
      * @param field Scalars field
      * @param <T> scalar types
-     * @return True if the two arrays are equals
+     * @return True if the two vectors coordinates are equals
      */
-    private static <T> boolean arraysEqual(final Scalar<T>[] first,
-        final Scalar<T>[] second, final Field<T> field) {
+    private static <T> boolean coordsEqual(final Vect<T> first,
+        final Vect<T> second, final Field<T> field) {
         boolean result = true;
-        for (int idx = 0; idx < second.length; ++idx) {
-            if (!VectEquals.scalarEqual(first[idx], second[idx], field)) {
+        for (int idx = 0; idx < second.dimension(); ++idx) {
+            if (!VectEquals.scalarEqual(first.coord(idx), second.coord(idx), field)) {
                 result = false;
                 break;
             }
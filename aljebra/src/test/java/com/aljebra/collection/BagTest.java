@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.collection;
+
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Bag}.
+ * @since 0.5
+ */
+public final class BagTest {
+
+    /**
+     * {@link Bag} equality disregards order.
+     */
+    @Test
+    public void disregardsOrder() {
+        MatcherAssert.assertThat(
+            new Bag<>(Arrays.asList("a", "b", "a")),
+            Matchers.equalTo(new Bag<>(Arrays.asList("a", "a", "b")))
+        );
+        MatcherAssert.assertThat(
+            new Bag<>(Arrays.asList("a", "b", "a")).hashCode(),
+            Matchers.equalTo(new Bag<>(Arrays.asList("b", "a", "a")).hashCode())
+        );
+    }
+
+    /**
+     * {@link Bag} equality counts duplicates.
+     */
+    @Test
+    public void countsDuplicates() {
+        MatcherAssert.assertThat(
+            new Bag<>(Arrays.asList("a", "b", "b")),
+            Matchers.not(Matchers.equalTo(new Bag<>(Arrays.asList("a", "a", "b"))))
+        );
+        MatcherAssert.assertThat(
+            new Bag<>(Arrays.asList("a", "b")),
+            Matchers.not(Matchers.equalTo(new Bag<>(Arrays.asList("a", "b", "b"))))
+        );
+    }
+
+    /**
+     * {@link Bag} iterates over all its elements.
+     */
+    @Test
+    public void iteratesElements() {
+        final Bag<String> bag = new Bag<>(Arrays.asList("a", "b", "a"));
+        MatcherAssert.assertThat(bag, Matchers.containsInAnyOrder("a", "a", "b"));
+        MatcherAssert.assertThat(bag.size(), Matchers.equalTo(3));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.collection;
+
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Tuple}.
+ * @since 0.5
+ */
+public final class TupleTest {
+
+    /**
+     * {@link Tuple} equality respects order, with a consistent hash code.
+     */
+    @Test
+    public void respectsOrder() {
+        MatcherAssert.assertThat(
+            new Tuple<>(Arrays.asList("a", "b", "a")),
+            Matchers.equalTo(new Tuple<>(Arrays.asList("a", "b", "a")))
+        );
+        MatcherAssert.assertThat(
+            new Tuple<>(Arrays.asList("a", "b", "a")).hashCode(),
+            Matchers.equalTo(new Tuple<>(Arrays.asList("a", "b", "a")).hashCode())
+        );
+        MatcherAssert.assertThat(
+            new Tuple<>(Arrays.asList("a", "b", "a")),
+            Matchers.not(Matchers.equalTo(new Tuple<>(Arrays.asList("a", "a", "b"))))
+        );
+    }
+
+    /**
+     * {@link Tuple} is equal to lists with the same elements.
+     */
+    @Test
+    public void equalsLists() {
+        MatcherAssert.assertThat(
+            new Tuple<>(Arrays.asList("a", "b")),
+            Matchers.equalTo(Arrays.asList("a", "b"))
+        );
+        MatcherAssert.assertThat(
+            new Tuple<>(Arrays.asList("a", "b")).hashCode(),
+            Matchers.equalTo(Arrays.asList("a", "b").hashCode())
+        );
+    }
+
+    /**
+     * {@link Tuple} gives its elements.
+     */
+    @Test
+    public void givesElements() {
+        final Tuple<String> tuple = new Tuple<>(Arrays.asList("a", "b", "c"));
+        MatcherAssert.assertThat(tuple, Matchers.contains("a", "b", "c"));
+        MatcherAssert.assertThat(tuple.get(1), Matchers.equalTo("b"));
+        MatcherAssert.assertThat(
+            tuple.toArray(new String[0]), Matchers.arrayContaining("a", "b", "c")
+        );
+    }
+
+    /**
+     * {@link Tuple} fills the given array when it is large enough.
+     */
+    @Test
+    public void fillsGivenArray() {
+        final String[] array = {"x", "y", "z", "t", "u"};
+        final String[] result = new Tuple<>(Arrays.asList("a", "b", "c")).toArray(array);
+        MatcherAssert.assertThat(result, Matchers.sameInstance(array));
+        MatcherAssert.assertThat(
+            result, Matchers.arrayContaining("a", "b", "c", null, "u")
+        );
+    }
+}
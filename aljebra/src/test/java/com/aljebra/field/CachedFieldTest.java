@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.metric.scalar.Norm;
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Random;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link CachedField}.
+ * @since 0.5
+ */
+public final class CachedFieldTest {
+
+    /**
+     * {@link CachedField} evaluates a shared scalar only once.
+     */
+    @Test
+    public void evaluatesSharedScalarOnce() {
+        final Scalar<Double> shared = Mockito.spy(new Scalar.Default<>(2.));
+        final Scalar<Double> sum = new Add<>(shared, shared);
+        final CachedField<Double> field = new CachedField<>(new Decimal());
+        MatcherAssert.assertThat(
+            field.actual(
+                new Multiplication<>(Arrays.asList(sum, sum, shared))
+            ),
+            Matchers.equalTo(32.)
+        );
+        Mockito.verify(shared, Mockito.times(1)).value(field);
+    }
+
+    /**
+     * {@link CachedField} evaluates once the coordinates of vectors given
+     * to inner products, so that chained norms are evaluated in linear time.
+     */
+    @Test
+    public void evaluatesChainedNormsOnce() {
+        final Scalar<Double> leaf = Mockito.spy(new Scalar.Default<>(3.));
+        Scalar<Double> norm = new Norm<>(new FixedVector<>(leaf, new Scalar.Default<>(4.)));
+        final int depth = 12;
+        for (int idx = 0; idx < depth; ++idx) {
+            norm = new Norm<>(new FixedVector<>(norm, norm));
+        }
+        MatcherAssert.assertThat(
+            new CachedField<>(new Decimal()).actual(norm),
+            Matchers.closeTo(5. * Math.pow(2., depth / 2.), 1.e-9)
+        );
+        Mockito.verify(leaf, Mockito.times(1)).value(Mockito.any());
+    }
+
+    /**
+     * {@link CachedField} gives the same values as the decorated field.
+     */
+    @Test
+    public void actsAsDecoratedField() {
+        final Decimal origin = new Decimal();
+        final CachedField<Double> field = new CachedField<>(origin);
+        final Scalar<Double> first = new Scalar.Default<>(1.);
+        final Scalar<Double> second = new Scalar.Default<>(3.);
+        MatcherAssert.assertThat(
+            field.actual(new Add<>(first, second)),
+            Matchers.equalTo(origin.actual(new Add<>(first, second)))
+        );
+        MatcherAssert.assertThat(
+            field.equals(new Add<>(first, first), new Scalar.Default<>(2.)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            field.actual(field.between(first, second)),
+            Matchers.allOf(
+                Matchers.greaterThanOrEqualTo(1.), Matchers.lessThanOrEqualTo(3.)
+            )
+        );
+        MatcherAssert.assertThat(
+            field.product(), Matchers.notNullValue()
+        );
+    }
+
+    /**
+     * {@link CachedField} keeps a random scalar value stable during
+     * an evaluation pass.
+     */
+    @Test
+    public void keepsRandomValues() {
+        final CachedField<Double> field = new CachedField<>(new Decimal());
+        final Scalar<Double> random = new Random<>();
+        MatcherAssert.assertThat(
+            field.actual(random), Matchers.equalTo(field.actual(random))
+        );
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.metric.scalar.Norm;
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.Variable;
+import com.aljebra.vector.FixedVector;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link IncrementalField}.
+ * @since 0.5
+ */
+public final class IncrementalFieldTest {
+
+    /**
+     * {@link IncrementalField} evaluates a scalar once until it is invalidated.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public void memoizesUntilInvalidated() {
+        final Variable<Double> variable = new Variable<>(2.);
+        final Scalar<Double> shared = Mockito.mock(Scalar.class);
+        Mockito.when(shared.value(Mockito.any())).thenAnswer(
+            invocation -> 2. * (Double) invocation.getArgumentAt(0, Field.class).actual(variable)
+        );
+        final Scalar<Double> product = new Multiplication<>(shared, shared);
+        final IncrementalField<Double> field = new IncrementalField<>(new Decimal());
+        MatcherAssert.assertThat(field.actual(product), Matchers.equalTo(16.));
+        MatcherAssert.assertThat(field.actual(product), Matchers.equalTo(16.));
+        Mockito.verify(shared, Mockito.times(1)).value(Mockito.any());
+        variable.set(3.);
+        MatcherAssert.assertThat(field.actual(product), Matchers.equalTo(16.));
+        field.invalidate(Collections.singletonList(variable));
+        MatcherAssert.assertThat(field.actual(product), Matchers.equalTo(36.));
+        Mockito.verify(shared, Mockito.times(2)).value(Mockito.any());
+    }
+
+    /**
+     * {@link IncrementalField} invalidates the dependents of changed scalars only.
+     */
+    @Test
+    public void invalidatesDependentsOnly() {
+        final Variable<Double> first = new Variable<>(1.);
+        final Variable<Double> second = new Variable<>(2.);
+        final Scalar<Double> left = new Add<>(first, first);
+        final Scalar<Double> right = new Add<>(second, second);
+        final Scalar<Double> top = new Multiplication<>(left, right);
+        final IncrementalField<Double> field = new IncrementalField<>(new Decimal());
+        field.actual(top);
+        MatcherAssert.assertThat(
+            field.invalidate(Collections.singletonList(first)),
+            Matchers.allOf(
+                Matchers.<Scalar<Double>>hasItems(first, left, top),
+                Matchers.not(Matchers.<Scalar<Double>>hasItem(right)),
+                Matchers.not(Matchers.<Scalar<Double>>hasItem(second))
+            )
+        );
+        MatcherAssert.assertThat(
+            field.dependents(Collections.singletonList(second)),
+            Matchers.<Scalar<Double>>hasItems(second, right)
+        );
+        MatcherAssert.assertThat(
+            field.dependents(Collections.singletonList(second)),
+            Matchers.not(Matchers.<Scalar<Double>>hasItem(top))
+        );
+    }
+
+    /**
+     * {@link IncrementalField} records the coordinates used by inner products.
+     */
+    @Test
+    public void recordsProductDependencies() {
+        final Variable<Double> xcoor = new Variable<>(3.);
+        final Scalar<Double> norm = new Norm<>(
+            new FixedVector<>(xcoor, new Scalar.Default<>(4.))
+        );
+        final IncrementalField<Double> field = new IncrementalField<>(new Decimal());
+        MatcherAssert.assertThat(
+            field.dependencies(Collections.singletonList(norm)),
+            Matchers.<Scalar<Double>>hasItem(xcoor)
+        );
+        MatcherAssert.assertThat(field.actual(norm), Matchers.closeTo(5., 1.e-9));
+        xcoor.set(0.);
+        field.invalidate(Arrays.asList(xcoor));
+        MatcherAssert.assertThat(field.actual(norm), Matchers.closeTo(4., 1.e-9));
+    }
+
+    /**
+     * {@link IncrementalField} gives the same values as the decorated field.
+     */
+    @Test
+    public void actsAsDecoratedField() {
+        final IncrementalField<Double> field = new IncrementalField<>(new Decimal());
+        final Scalar<Double> first = new Scalar.Default<>(1.);
+        final Scalar<Double> second = new Scalar.Default<>(3.);
+        MatcherAssert.assertThat(
+            field.equals(new Add<>(first, first), new Scalar.Default<>(2.)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            field.actual(field.between(first, second)),
+            Matchers.allOf(
+                Matchers.greaterThanOrEqualTo(1.), Matchers.lessThanOrEqualTo(3.)
+            )
+        );
+    }
+
+    /**
+     * {@link IncrementalField} forgets the nodes built afresh by previous
+     * evaluations, so that its memo stays bounded while a free scalar
+     * keeps changing.
+     */
+    @Test
+    public void staysBoundedWhenInvalidated() {
+        final Variable<Double> variable = new Variable<>(0.);
+        final Scalar<Double> top = fld -> fld.actual(
+            new Add<>(variable, new Scalar.Default<>(1.))
+        );
+        final IncrementalField<Double> field = new IncrementalField<>(new Decimal());
+        field.dependencies(Collections.singletonList(top));
+        final int bound = field.size() * 2;
+        for (int idx = 1; idx < 100; ++idx) {
+            variable.set((double) idx);
+            field.invalidate(Collections.singletonList(variable));
+            MatcherAssert.assertThat(field.actual(top), Matchers.equalTo(idx + 1.));
+            MatcherAssert.assertThat(field.size(), Matchers.lessThanOrEqualTo(bound));
+            MatcherAssert.assertThat(
+                field.dependents(Collections.singletonList(variable)),
+                Matchers.hasSize(3)
+            );
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.metric.scalar.Norm;
+import com.aljebra.scalar.Between;
+import com.aljebra.scalar.Diff;
+import com.aljebra.scalar.MultIdentity;
+import com.aljebra.scalar.Random;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SampleField}.
+ * @since 0.5
+ */
+public final class SampleFieldTest {
+
+    /**
+     * {@link SampleField} draws random scalars again, without changing
+     * their own value.
+     */
+    @Test
+    public void drawsRandomScalarsAgain() {
+        final Decimal field = new Decimal();
+        final Random<Double> random = new Random<>();
+        final Double value = field.actual(random);
+        MatcherAssert.assertThat(
+            new SampleField<>(field).actual(random),
+            Matchers.not(Matchers.equalTo(value))
+        );
+        MatcherAssert.assertThat(field.actual(random), Matchers.equalTo(value));
+    }
+
+    /**
+     * {@link SampleField} gives the same value to a random scalar
+     * shared in a sample.
+     */
+    @Test
+    public void sharesRandomScalarsInSample() {
+        final Scalar<Double> random = new Between<>(
+            new Scalar.Default<>(1.), new Scalar.Default<>(2.)
+        );
+        final SampleField<Double> sample = new SampleField<>(new Decimal());
+        MatcherAssert.assertThat(
+            sample.actual(new Diff<>(random, random)), Matchers.equalTo(0.)
+        );
+        MatcherAssert.assertThat(
+            sample.actual(random),
+            Matchers.allOf(
+                Matchers.greaterThanOrEqualTo(1.), Matchers.lessThanOrEqualTo(2.)
+            )
+        );
+    }
+
+    /**
+     * {@link SampleField} resolves vectors in the sample
+     * for inner product calculations.
+     */
+    @Test
+    public void samplesInnerProduct() {
+        final Decimal field = new Decimal();
+        final Scalar<Double> norm = new Norm<>(
+            new FixedVector<>(new Random<>(), new MultIdentity<>())
+        );
+        final Double value = field.actual(norm);
+        MatcherAssert.assertThat(
+            new SampleField<>(field).actual(norm),
+            Matchers.not(Matchers.equalTo(value))
+        );
+    }
+}
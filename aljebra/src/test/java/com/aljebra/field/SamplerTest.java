@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.AddIdentity;
+import com.aljebra.scalar.Between;
+import com.aljebra.scalar.Diff;
+import com.aljebra.scalar.Random;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.condition.Equals;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Sampler}.
+ * @since 0.5
+ */
+public final class SamplerTest {
+
+    /**
+     * Samples count.
+     */
+    private static final int SAMPLES = 1000;
+
+    /**
+     * {@link Sampler} evaluates a scalar in many samples.
+     */
+    @Test
+    public void evaluatesSamples() {
+        final double[] values = new Sampler<>(new Decimal()).values(
+            new Between<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.)),
+            SamplerTest.SAMPLES
+        );
+        MatcherAssert.assertThat(values.length, Matchers.equalTo(SamplerTest.SAMPLES));
+        MatcherAssert.assertThat(
+            Arrays.stream(values).distinct().count(), Matchers.greaterThan(1L)
+        );
+        MatcherAssert.assertThat(
+            Arrays.stream(values).min().getAsDouble(),
+            Matchers.greaterThanOrEqualTo(1.)
+        );
+        MatcherAssert.assertThat(
+            Arrays.stream(values).max().getAsDouble(),
+            Matchers.lessThanOrEqualTo(2.)
+        );
+    }
+
+    /**
+     * {@link Sampler} gives samples statistics.
+     */
+    @Test
+    public void givesStatistics() {
+        final DoubleSummaryStatistics stats = new Sampler<>(new Decimal()).statistics(
+            new Between<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.)),
+            SamplerTest.SAMPLES
+        );
+        MatcherAssert.assertThat(stats.getCount(), Matchers.equalTo(1000L));
+        MatcherAssert.assertThat(
+            stats.getAverage(),
+            Matchers.allOf(Matchers.greaterThan(1.), Matchers.lessThan(2.))
+        );
+    }
+
+    /**
+     * {@link Sampler} checks predicates over samples.
+     */
+    @Test
+    public void checksPredicates() {
+        final Scalar<Double> random = new Random<>();
+        final Sampler<Double> sampler = new Sampler<>(new Decimal());
+        MatcherAssert.assertThat(
+            sampler.holds(
+                new Equals<>(new Diff<>(random, random), new AddIdentity<>()),
+                SamplerTest.SAMPLES
+            ),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            sampler.count(
+                new Equals<>(random, new AddIdentity<>()), SamplerTest.SAMPLES
+            ),
+            Matchers.equalTo(0L)
+        );
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Cocircular}.
+ * @since 0.5
+ */
+public final class CocircularTest {
+
+    /**
+     * {@link Cocircular} resolves exactly.
+     */
+    @Test
+    public void resolvesExactly() {
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            new Cocircular(
+                new DblVect(1., 0.), new DblVect(0., 1.), new DblVect(-1., 0.),
+                new DblVect(0., -1.)
+            ).resolve(field),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new Cocircular(
+                new DblVect(1., 0.), new DblVect(0., 1.), new DblVect(-1., 0.),
+                new DblVect(0., -1. - 1.e-9)
+            ).resolve(field),
+            Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Benchmark comparing sequential and parallel {@link DblParallel} kernels
+ * over increasing dimensions, to locate the dimension from which splitting
+ * pays off (the default threshold). Not run by the test suite: launch its
+ * main method with the test classpath.
+ * @since 0.5
+ */
+public final class DblParallelBench {
+
+    /**
+     * Measured runs per dimension.
+     */
+    private static final int RUNS = 200;
+
+    /**
+     * Ctor.
+     */
+    private DblParallelBench() {
+    }
+
+    /**
+     * Runs the benchmark.
+     * @param args Unused
+     */
+    public static void main(final String... args) {
+        final DblParallel sequential = new DblParallel(Integer.MAX_VALUE);
+        final DblParallel parallel = new DblParallel(1024);
+        System.out.println("dimension\tdot seq (us)\tdot par (us)\tmatvec seq (us)\tmatvec par (us)");
+        for (int dim = 1 << 10; dim <= 1 << 22; dim <<= 1) {
+            final double[] first = DblParallelBench.random(dim);
+            final double[] second = DblParallelBench.random(dim);
+            final int lines = Math.max(1, dim >> 6);
+            final DenseMatrix matrix = new DenseMatrix(
+                lines, dim / lines, DblParallelBench.random(lines * (dim / lines))
+            );
+            final double[] output = new double[lines];
+            System.out.println(
+                String.format(
+                    Locale.ENGLISH,
+                    "%d\t%.2f\t%.2f\t%.2f\t%.2f",
+                    dim,
+                    DblParallelBench.time(() -> sequential.dot(first, second)),
+                    DblParallelBench.time(() -> parallel.dot(first, second)),
+                    DblParallelBench.time(() -> sequential.apply(matrix, first, output)),
+                    DblParallelBench.time(() -> parallel.apply(matrix, first, output))
+                )
+            );
+        }
+    }
+
+    /**
+     * Measures the mean duration of a work, after a warm up.
+     * @param work Work to measure
+     * @return Mean duration in microseconds
+     */
+    private static double time(final Runnable work) {
+        for (int idx = 0; idx < DblParallelBench.RUNS; ++idx) {
+            work.run();
+        }
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < DblParallelBench.RUNS; ++idx) {
+            work.run();
+        }
+        return (System.nanoTime() - start) / 1000. / DblParallelBench.RUNS;
+    }
+
+    /**
+     * Builds an array of random doubles.
+     * @param length Array length
+     * @return Random doubles
+     */
+    private static double[] random(final int length) {
+        final Random rand = new Random();
+        final double[] result = new double[length];
+        for (int idx = 0; idx < length; ++idx) {
+            result[idx] = rand.nextDouble();
+        }
+        return result;
+    }
+}
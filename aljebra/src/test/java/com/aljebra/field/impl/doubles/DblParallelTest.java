@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.matrix.Matrix;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Sum;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link DblParallel}.
+ * @since 0.5
+ */
+public final class DblParallelTest {
+
+    /**
+     * Tolerance of the comparisons.
+     */
+    private static final double ERROR = 1.e-6;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link DblParallel} calculates dot products above and under
+     * the threshold.
+     */
+    @Test
+    public void calculatesDotProducts() {
+        final int dim = 1000;
+        final double[] first = DblParallelTest.random(dim);
+        final double[] second = DblParallelTest.random(dim);
+        double expected = 0.;
+        for (int idx = 0; idx < dim; ++idx) {
+            expected += first[idx] * second[idx];
+        }
+        MatcherAssert.assertThat(
+            new DblParallel(new ForkJoinPool(4), 7).dot(first, second),
+            Matchers.closeTo(expected, DblParallelTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            new DblParallel(dim + 1).dot(first, second),
+            Matchers.closeTo(expected, DblParallelTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link DblParallel} sums vectors.
+     */
+    @Test
+    public void sumsVectors() {
+        final int dim = 100;
+        final double[] first = DblParallelTest.random(dim);
+        final double[] second = DblParallelTest.random(dim);
+        final double[] output = new double[dim];
+        new DblParallel(3).sum(new double[][] {first, second}, output);
+        for (int idx = 0; idx < dim; ++idx) {
+            MatcherAssert.assertThat(
+                output[idx],
+                Matchers.closeTo(first[idx] + second[idx], DblParallelTest.ERROR)
+            );
+        }
+    }
+
+    /**
+     * {@link DblParallel} multiplies vectors by matrices like
+     * {@link DenseMatrix} does.
+     */
+    @Test
+    public void multipliesVectors() {
+        final int lines = 50;
+        final int cols = 30;
+        final DenseMatrix matrix = new DenseMatrix(
+            lines, cols, DblParallelTest.random(lines * cols)
+        );
+        final double[] input = DblParallelTest.random(cols);
+        final double[] expected = new double[lines];
+        matrix.apply(input, expected);
+        final double[] output = new double[lines];
+        new DblParallel(4).apply(matrix, input, output);
+        for (int idx = 0; idx < lines; ++idx) {
+            MatcherAssert.assertThat(
+                output[idx], Matchers.closeTo(expected[idx], DblParallelTest.ERROR)
+            );
+        }
+    }
+
+    /**
+     * {@link DblParallel} evaluates vectors coordinates.
+     */
+    @Test
+    public void evaluatesVectors() {
+        final int dim = 40;
+        final List<Scalar<Double>> coords = new ArrayList<>(dim);
+        for (int idx = 0; idx < dim; ++idx) {
+            coords.add(new Scalar.Default<>((double) idx));
+        }
+        final double[] values = new DblParallel(5).values(
+            new FixedVector<>(coords), new Decimal()
+        );
+        for (int idx = 0; idx < dim; ++idx) {
+            MatcherAssert.assertThat(values[idx], Matchers.equalTo((double) idx));
+        }
+    }
+
+    /**
+     * {@link DblParallel} evaluates sums of vectors and images of vectors
+     * by matrices like it evaluates their coordinates one by one.
+     */
+    @Test
+    public void evaluatesSumsAndImages() {
+        final int lines = 40;
+        final int cols = 30;
+        final Matrix<Double> first = new DenseMatrix(
+            lines, cols, DblParallelTest.random(lines * cols)
+        );
+        final Matrix<Double> second = new DenseMatrix(
+            lines, cols, DblParallelTest.random(lines * cols)
+        );
+        final Vect<Double> vect = new Sum<>(
+            new com.aljebra.matrix.Sum<>(first, second).apply(DblParallelTest.vector(cols)),
+            DblParallelTest.vector(lines)
+        );
+        final double[] expected = new DblParallel(lines + 1).values(vect, new Decimal());
+        final double[] values = new DblParallel(new ForkJoinPool(4), 5).values(
+            vect, new Decimal()
+        );
+        for (int idx = 0; idx < lines; ++idx) {
+            MatcherAssert.assertThat(
+                values[idx], Matchers.closeTo(expected[idx], DblParallelTest.ERROR)
+            );
+        }
+    }
+
+    /**
+     * {@link DblParallel} throws exception when building with a
+     * non positive threshold.
+     */
+    @Test
+    public void errorsWhenNonPositiveThreshold() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new DblParallel(0);
+    }
+
+    /**
+     * Builds a random vector.
+     * @param dim Vector dimension
+     * @return Random vector
+     */
+    private static Vect<Double> vector(final int dim) {
+        final List<Scalar<Double>> coords = new ArrayList<>(dim);
+        for (final double value : DblParallelTest.random(dim)) {
+            coords.add(new Scalar.Default<>(value));
+        }
+        return new FixedVector<>(coords);
+    }
+
+    /**
+     * Builds an array of random doubles.
+     * @param length Array length
+     * @return Random doubles
+     */
+    private static double[] random(final int length) {
+        final Random rand = new Random();
+        final double[] result = new double[length];
+        for (int idx = 0; idx < length; ++idx) {
+            result[idx] = rand.nextDouble();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.metric.scalar.Norm;
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.AddIdentity;
+import com.aljebra.scalar.AddInverse;
+import com.aljebra.scalar.Diff;
+import com.aljebra.scalar.Division;
+import com.aljebra.scalar.MultInverse;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Random;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.Throwing;
+import com.aljebra.scalar.condition.False;
+import com.aljebra.scalar.condition.Ternary;
+import com.aljebra.scalar.condition.True;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link DblProgram}.
+ * @since 0.5
+ */
+public final class DblProgramTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link DblProgram} evaluates as the field does.
+     */
+    @Test
+    public void evaluatesAsField() {
+        final Scalar<Double> first = new Random<>();
+        final Scalar<Double> second = new Scalar.Default<>(Math.random() + 1.);
+        final Scalar<Double> scalar = new Division<>(
+            new Add<>(
+                Arrays.asList(
+                    first, new Multiplication<>(first, second),
+                    new AddInverse<>(second), new AddIdentity<>()
+                )
+            ),
+            new Diff<>(
+                new MultInverse<>(second),
+                new Norm<>(new DblVect(3., 4.))
+            )
+        );
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            new DblProgram(scalar).value(field),
+            Matchers.closeTo(field.actual(scalar), 1.e-12)
+        );
+    }
+
+    /**
+     * {@link DblProgram} evaluates ternaries lazily.
+     */
+    @Test
+    public void evaluatesTernaryBranchesLazily() {
+        final Scalar<Double> error = new Throwing<>(new IllegalStateException());
+        final Scalar<Double> value = new Scalar.Default<>(Math.random());
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            new DblProgram(new Ternary<>(new True<>(), value, error)).value(field),
+            Matchers.equalTo(field.actual(value))
+        );
+        MatcherAssert.assertThat(
+            new DblProgram(new Ternary<>(new False<>(), error, value)).value(field),
+            Matchers.equalTo(field.actual(value))
+        );
+    }
+
+    /**
+     * {@link DblProgram} loads shared leaves once per run, and on each run.
+     */
+    @Test
+    public void loadsLeavesOnEachRun() {
+        @SuppressWarnings("unchecked")
+        final Scalar<Double> leaf = Mockito.mock(Scalar.class);
+        final Decimal field = new Decimal();
+        Mockito.when(leaf.value(field)).thenReturn(2.);
+        final Scalar<Double> sum = new Add<>(leaf, new Throwing<>(new IllegalStateException()));
+        final DblProgram program = new DblProgram(
+            new Multiplication<>(new Norm<>(new DblVect(0., 1.)), new Add<>(leaf, leaf))
+        );
+        MatcherAssert.assertThat(program.leaves(), Matchers.hasSize(1));
+        final double[] regs = new double[program.registers()];
+        MatcherAssert.assertThat(program.value(field, regs), Matchers.equalTo(4.));
+        MatcherAssert.assertThat(program.value(field, regs), Matchers.equalTo(4.));
+        Mockito.verify(leaf, Mockito.times(2)).value(field);
+        MatcherAssert.assertThat(new DblProgram(sum).leaves(), Matchers.hasSize(2));
+    }
+
+    /**
+     * {@link DblProgram} throws on division by zero.
+     */
+    @Test
+    public void throwsOnDivisionByZero() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new DblProgram(
+            new Division<>(new Scalar.Default<>(1.), new AddIdentity<>())
+        ).value(new Decimal());
+    }
+}
@@ -129,6 +129,42 @@ public final class DecimalRandomTest {
         rand.between(value, value - 1);
     }
 
+    /**
+     * DecimalRandomizer generates the same values given the same seed.
+     */
+    @Test
+    public void reproducesSeededValues() {
+        final long seed = 42L;
+        final DecimalRandom first = new DecimalRandom(
+            DecimalRandomTest.MIN, DecimalRandomTest.MAX, seed
+        );
+        final DecimalRandom second = new DecimalRandom(
+            DecimalRandomTest.MIN, DecimalRandomTest.MAX, seed
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            MatcherAssert.assertThat(
+                first.greater(0.), Matchers.equalTo(second.greater(0.))
+            );
+        }
+        MatcherAssert.assertThat(
+            first.split().lower(0.), Matchers.equalTo(second.split().lower(0.))
+        );
+    }
+
+    /**
+     * DecimalRandomizer split streams are independent from the original one.
+     */
+    @Test
+    public void splitsIndependentStreams() {
+        final DecimalRandom rand = new DecimalRandom(
+            DecimalRandomTest.MIN, DecimalRandomTest.MAX, 1L
+        );
+        final DecimalRandom split = rand.split();
+        MatcherAssert.assertThat(
+            split.greater(0.), Matchers.not(Matchers.equalTo(rand.greater(0.)))
+        );
+    }
+
     /**
      * Generates a random double between DecimalRandomizerTest bounds.
      * @return A random double
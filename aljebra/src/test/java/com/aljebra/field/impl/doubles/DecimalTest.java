@@ -24,6 +24,9 @@
 package com.aljebra.field.impl.doubles;
 
 import com.aljebra.field.mock.MkOrderedRandom;
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.Division;
+import com.aljebra.scalar.Multiplication;
 import com.aljebra.scalar.Scalar;
 import com.aljebra.scalar.Scalar.Default;
 import com.aljebra.scalar.mock.SpyScalar;
@@ -32,6 +35,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -83,6 +87,52 @@ public final class DecimalTest {
         );
     }
 
+    /**
+     * Decimal evaluates double scalars on primitive doubles, and falls back
+     * on scalar value for other scalars.
+     */
+    @Test
+    public void evaluatesPrimitiveValues() {
+        final Decimal field = new Decimal();
+        final double first = Math.random();
+        final double second = Math.random() + 1.;
+        final SpyScalar<Double> spy = new SpyScalar<>(new Scalar.Default<>(second));
+        final Scalar<Double> scalar = new Division<>(
+            new Add<>(new Scalar.Default<>(first), spy),
+            new Multiplication<>(spy, spy)
+        );
+        MatcherAssert.assertThat(
+            field.dactual(scalar),
+            Matchers.equalTo((first + second) * (1. / (second * second)))
+        );
+        MatcherAssert.assertThat(
+            field.actual(scalar), Matchers.equalTo(field.dactual(scalar))
+        );
+        MatcherAssert.assertThat(
+            "Expecting call to value method with field as parameter",
+            spy.field().isPresent() && spy.field().get().equals(field)
+        );
+    }
+
+    /**
+     * Decimal compares square roots like it compares values.
+     */
+    @Test
+    public void comparesSquareRoots() {
+        final Decimal field = new Decimal();
+        final double value = 3. + Math.random();
+        final double[] deltas = {0., 1.e-7, -1.e-7, 1.e-5, -1.e-5};
+        for (final double delta : deltas) {
+            MatcherAssert.assertThat(
+                field.dequalsroot((value + delta) * (value + delta), value),
+                Matchers.equalTo(field.dequals(value + delta, value))
+            );
+        }
+        MatcherAssert.assertThat(field.dequalsroot(0., 1.e-7), Matchers.is(true));
+        MatcherAssert.assertThat(field.dequalsroot(0., -1.e-7), Matchers.is(true));
+        MatcherAssert.assertThat(field.dequalsroot(1., -1.), Matchers.is(false));
+    }
+
     /**
      * Decimal delegates randomization to ordered randomizer.
      */
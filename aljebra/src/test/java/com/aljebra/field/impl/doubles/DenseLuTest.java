@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link DenseLu}.
+ * @since 0.5
+ */
+public final class DenseLuTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link DenseLu} pivots to decompose matrices with a zero diagonal.
+     */
+    @Test
+    public void pivots() {
+        final DenseLu decomp = new DenseMatrix(2, 2, 0., 1., 1., 0.).lu();
+        MatcherAssert.assertThat(decomp.singular(), Matchers.is(false));
+        MatcherAssert.assertThat(decomp.determinant(), Matchers.equalTo(-1.));
+        final double[] sol = new double[2];
+        decomp.solve(new double[] {2., 3.}, sol);
+        MatcherAssert.assertThat(sol, Matchers.equalTo(new double[] {3., 2.}));
+    }
+
+    /**
+     * {@link DenseLu} detects singular matrices.
+     */
+    @Test
+    public void detectsSingularMatrices() {
+        final DenseLu decomp = new DenseMatrix(2, 2, 1., 2., 2., 4.).lu();
+        MatcherAssert.assertThat(decomp.singular(), Matchers.is(true));
+        MatcherAssert.assertThat(decomp.determinant(), Matchers.closeTo(0., 0.));
+        this.thrown.expect(IllegalStateException.class);
+        decomp.inverse();
+    }
+
+    /**
+     * {@link DenseLu} throws exception for non square matrices.
+     */
+    @Test
+    public void errorsOnNonSquareMatrices() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new DenseMatrix(2, 3, new double[6]).lu();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.matrix.FixedMatrix;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import java.util.Arrays;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link DenseMatrix}.
+ * @since 0.5
+ */
+public final class DenseMatrixTest {
+
+    /**
+     * Tolerance of the comparisons.
+     */
+    private static final double ERROR = 1.e-9;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link DenseMatrix} multiplies vectors.
+     */
+    @Test
+    public void multipliesVectors() {
+        final DenseMatrix matrix = new DenseMatrix(2, 3, 1., 4., 2., 5., 3., 6.);
+        final double[] output = new double[2];
+        matrix.apply(new double[] {1., 1., 1.}, output);
+        MatcherAssert.assertThat(output[0], Matchers.closeTo(6., DenseMatrixTest.ERROR));
+        MatcherAssert.assertThat(output[1], Matchers.closeTo(15., DenseMatrixTest.ERROR));
+        final double[] outputs = new double[4];
+        matrix.applyAll(new double[] {1., 0., 0., 0., 0., 1.}, outputs, 2);
+        MatcherAssert.assertThat(
+            outputs, Matchers.equalTo(new double[] {1., 4., 3., 6.})
+        );
+    }
+
+    /**
+     * {@link DenseMatrix} multiplies matrices, including ones
+     * greater than a block.
+     */
+    @Test
+    public void multipliesMatrices() {
+        final int dim = 70;
+        final Random rand = new Random();
+        final double[] coords = new double[dim * dim];
+        for (int idx = 0; idx < coords.length; ++idx) {
+            coords[idx] = rand.nextDouble();
+        }
+        final DenseMatrix matrix = new DenseMatrix(dim, dim, coords);
+        final DenseMatrix product = matrix.multiply(DenseMatrix.identity(dim));
+        for (int idx = 0; idx < coords.length; ++idx) {
+            MatcherAssert.assertThat(
+                product.values()[idx], Matchers.closeTo(coords[idx], DenseMatrixTest.ERROR)
+            );
+        }
+        final DenseMatrix first = new DenseMatrix(2, 3, 1., 4., 2., 5., 3., 6.);
+        final DenseMatrix second = new DenseMatrix(3, 2, 7., 9., 11., 8., 10., 12.);
+        MatcherAssert.assertThat(
+            first.multiply(second).values(),
+            Matchers.equalTo(new double[] {58., 139., 64., 154.})
+        );
+    }
+
+    /**
+     * {@link DenseMatrix} calculates determinant, inverse and solves systems.
+     */
+    @Test
+    public void solvesSystems() {
+        final DenseMatrix matrix = new DenseMatrix(3, 3, 2., 4., -2., 1., -6., 7., 1., 0., 2.);
+        MatcherAssert.assertThat(
+            matrix.determinant(), Matchers.closeTo(-16., DenseMatrixTest.ERROR)
+        );
+        final double[] sol = matrix.solve(new double[] {5., -2., 9.});
+        MatcherAssert.assertThat(sol[0], Matchers.closeTo(1., DenseMatrixTest.ERROR));
+        MatcherAssert.assertThat(sol[1], Matchers.closeTo(1., DenseMatrixTest.ERROR));
+        MatcherAssert.assertThat(sol[2], Matchers.closeTo(2., DenseMatrixTest.ERROR));
+        final double[] identity = matrix.multiply(matrix.inverse()).values();
+        final double[] expected = DenseMatrix.identity(3).values();
+        for (int idx = 0; idx < expected.length; ++idx) {
+            MatcherAssert.assertThat(
+                identity[idx], Matchers.closeTo(expected[idx], DenseMatrixTest.ERROR)
+            );
+        }
+    }
+
+    /**
+     * {@link DenseMatrix} evaluates generic matrices and behaves as them.
+     */
+    @Test
+    public void actsAsMatrix() {
+        final DenseMatrix matrix = new DenseMatrix(
+            new FixedMatrix<>(
+                2, 2,
+                Arrays.asList(
+                    new Scalar.Default<>(1.), new Scalar.Default<>(2.),
+                    new Scalar.Default<>(3.), new Scalar.Default<>(4.)
+                )
+            ),
+            new Decimal()
+        );
+        MatcherAssert.assertThat(matrix.value(2, 1), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(matrix.value(1, 2), Matchers.equalTo(3.));
+        final Decimal field = new Decimal();
+        final Vect<Double> image = matrix.apply(new DblVect(1., 1.));
+        MatcherAssert.assertThat(field.actual(image.coord(0)), Matchers.equalTo(4.));
+        MatcherAssert.assertThat(field.actual(image.coord(1)), Matchers.equalTo(6.));
+        MatcherAssert.assertThat(
+            field.actual(matrix.line(2)[1]), Matchers.equalTo(4.)
+        );
+    }
+
+    /**
+     * {@link DenseMatrix} throws exception when multiplying
+     * incompatible matrices.
+     */
+    @Test
+    public void errorsOnIncompatibleDimensions() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new DenseMatrix(2, 3, new double[6]).multiply(new DenseMatrix(2, 2, new double[4]));
+    }
+}
@@ -23,6 +23,7 @@
  */
 package com.aljebra.field.impl.doubles;
 
+import com.aljebra.field.DoubleField;
 import com.aljebra.metric.angle.Degrees;
 import com.aljebra.scalar.Scalar;
 import com.aljebra.scalar.condition.Equals;
@@ -31,6 +32,7 @@ import java.util.Random;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 /**
  * Tests for {@link Dot}.
@@ -92,6 +94,14 @@ public final class DotTest {
             dot.angle(vecta, new DblVect(0., 0.)).resolve(dot).doubleValue(),
             Matchers.closeTo(0., error)
         );
+        MatcherAssert.assertThat(
+            dot.angle(new DblVect(0., 0.), new DblVect(-0., -1.)).resolve(dot).doubleValue(),
+            Matchers.equalTo(0.)
+        );
+        MatcherAssert.assertThat(
+            dot.angle(new DblVect(-2., 0.), new DblVect(3., -0.)).resolve(dot).doubleValue(),
+            Matchers.equalTo(Math.PI)
+        );
     }
 
     /**
@@ -161,6 +171,20 @@ public final class DotTest {
         );
     }
 
+    /**
+     * {@link Dot} evaluates coordinates with the given field.
+     */
+    @Test
+    public void evaluatesWithGivenField() {
+        final DoubleField field = Mockito.mock(DoubleField.class);
+        Mockito.when(field.dactual(Mockito.any())).thenReturn(1.);
+        MatcherAssert.assertThat(
+            new Decimal().actual(new Dot(field).norm(new DblVect(3., 4.))),
+            Matchers.equalTo(Math.sqrt(2.))
+        );
+        Mockito.verify(field, Mockito.times(2)).dactual(Mockito.any());
+    }
+
     /**
      * Generates an array of doubles with the given length.
      * @param length Array size to generate
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Expansion}.
+ * @since 0.5
+ */
+public final class ExpansionTest {
+
+    /**
+     * {@link Expansion} calculates exactly.
+     */
+    @Test
+    public void calculatesExactly() {
+        final double big = 1.e20;
+        final Expansion sum = Expansion.difference(big, -1.).minus(
+            Expansion.difference(big, 0.)
+        );
+        MatcherAssert.assertThat(sum.signum(), Matchers.is(1));
+        MatcherAssert.assertThat(
+            sum.minus(Expansion.difference(1., 0.)).signum(), Matchers.is(0)
+        );
+        final double third = 1. / 3.;
+        MatcherAssert.assertThat(
+            Expansion.product(third, 3.).minus(Expansion.difference(1., 0.)).signum(),
+            Matchers.is(-1)
+        );
+        MatcherAssert.assertThat(
+            Expansion.difference(1., big).times(Expansion.difference(1., -big))
+                .minus(Expansion.difference(1., 0.))
+                .plus(Expansion.product(big, big)).signum(),
+            Matchers.is(0)
+        );
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.math.BigDecimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link InCircle}.
+ * @since 0.5
+ */
+public final class InCircleTest {
+
+    /**
+     * {@link InCircle} gives position of points relatively to circles.
+     */
+    @Test
+    public void givesPosition() {
+        final double[] first = {1., 0.};
+        final double[] second = {0., 1.};
+        final double[] third = {-1., 0.};
+        MatcherAssert.assertThat(
+            new InCircle(first, second, third, new double[] {0., 0.}).sign(),
+            Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            new InCircle(first, second, third, new double[] {2., 2.}).sign(),
+            Matchers.is(-1)
+        );
+        MatcherAssert.assertThat(
+            new InCircle(first, second, third, new double[] {0., -1.}).sign(),
+            Matchers.is(0)
+        );
+        MatcherAssert.assertThat(
+            new InCircle(third, second, first, new double[] {0., 0.}).sign(),
+            Matchers.is(-1)
+        );
+    }
+
+    /**
+     * {@link InCircle} gives exact position of points nearly on circles,
+     * where a floating point evaluation fails.
+     */
+    @Test
+    public void givesExactPosition() {
+        final double[] first = {0.1, 0.1};
+        final double[] second = {0.7, 0.1};
+        final double[] third = {0.7, 0.7};
+        final int size = 32;
+        for (int line = 0; line < size; ++line) {
+            for (int col = 0; col < size; ++col) {
+                final double[] point = {
+                    0.1 + (line - size / 2) * Math.ulp(0.1),
+                    0.7 + (col - size / 2) * Math.ulp(0.7),
+                };
+                MatcherAssert.assertThat(
+                    new InCircle(first, second, third, point).sign(),
+                    Matchers.is(InCircleTest.exact(first, second, third, point))
+                );
+            }
+        }
+    }
+
+    /**
+     * Calculates the position with big decimals.
+     * @param first First circle point
+     * @param second Second circle point
+     * @param third Third circle point
+     * @param point Tested point
+     * @return Exact sign of the in-circle determinant
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static int exact(final double[] first, final double[] second,
+        final double[] third, final double[] point) {
+        final BigDecimal[] adiff = InCircleTest.diff(first, point);
+        final BigDecimal[] bdiff = InCircleTest.diff(second, point);
+        final BigDecimal[] cdiff = InCircleTest.diff(third, point);
+        return InCircleTest.lift(adiff).multiply(InCircleTest.cross(bdiff, cdiff))
+            .add(InCircleTest.lift(bdiff).multiply(InCircleTest.cross(cdiff, adiff)))
+            .add(InCircleTest.lift(cdiff).multiply(InCircleTest.cross(adiff, bdiff)))
+            .signum();
+    }
+
+    /**
+     * Calculates exactly the difference of two points.
+     * @param first First point
+     * @param second Second point
+     * @return Difference coordinates
+     */
+    private static BigDecimal[] diff(final double[] first, final double[] second) {
+        return new BigDecimal[] {
+            new BigDecimal(first[0]).subtract(new BigDecimal(second[0])),
+            new BigDecimal(first[1]).subtract(new BigDecimal(second[1])),
+        };
+    }
+
+    /**
+     * Calculates exactly the squared norm of a vector.
+     * @param vect Vector
+     * @return Squared norm
+     */
+    private static BigDecimal lift(final BigDecimal[] vect) {
+        return vect[0].multiply(vect[0]).add(vect[1].multiply(vect[1]));
+    }
+
+    /**
+     * Calculates exactly the cross product of two vectors.
+     * @param first First vector
+     * @param second Second vector
+     * @return Cross product
+     */
+    private static BigDecimal cross(final BigDecimal[] first, final BigDecimal[] second) {
+        return first[0].multiply(second[1]).subtract(first[1].multiply(second[0]));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.math.BigDecimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Orient2D}.
+ * @since 0.5
+ */
+public final class Orient2DTest {
+
+    /**
+     * {@link Orient2D} gives orientation of points.
+     */
+    @Test
+    public void givesOrientation() {
+        final double[] first = {0., 0.};
+        final double[] second = {1., 0.};
+        MatcherAssert.assertThat(
+            new Orient2D(first, second, new double[] {0., 1.}).sign(), Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            new Orient2D(first, second, new double[] {0., -1.}).sign(), Matchers.is(-1)
+        );
+        MatcherAssert.assertThat(
+            new Orient2D(first, second, new double[] {3., 0.}).sign(), Matchers.is(0)
+        );
+    }
+
+    /**
+     * {@link Orient2D} gives exact orientation of nearly collinear points,
+     * where a floating point evaluation fails.
+     */
+    @Test
+    public void givesExactOrientation() {
+        final double[] second = {12., 12.};
+        final double[] third = {24., 24.};
+        final int size = 64;
+        for (int line = 0; line < size; ++line) {
+            for (int col = 0; col < size; ++col) {
+                final double[] first = {
+                    0.5 + line * Math.ulp(0.5), 0.5 + col * Math.ulp(0.5),
+                };
+                MatcherAssert.assertThat(
+                    new Orient2D(first, second, third).sign(),
+                    Matchers.is(Orient2DTest.exact(first, second, third))
+                );
+            }
+        }
+    }
+
+    /**
+     * Calculates the orientation with big decimals.
+     * @param first First point
+     * @param second Second point
+     * @param third Third point
+     * @return Exact sign of the orientation determinant
+     */
+    private static int exact(final double[] first, final double[] second,
+        final double[] third) {
+        final BigDecimal acx = new BigDecimal(first[0]).subtract(new BigDecimal(third[0]));
+        final BigDecimal acy = new BigDecimal(first[1]).subtract(new BigDecimal(third[1]));
+        final BigDecimal bcx = new BigDecimal(second[0]).subtract(new BigDecimal(third[0]));
+        final BigDecimal bcy = new BigDecimal(second[1]).subtract(new BigDecimal(third[1]));
+        return acx.multiply(bcy).subtract(acy.multiply(bcx)).signum();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link ParallelDot}.
+ * @since 0.5
+ */
+public final class ParallelDotTest {
+
+    /**
+     * Tolerance of the comparisons.
+     */
+    private static final double ERROR = 1.e-6;
+
+    /**
+     * {@link ParallelDot} calculates the same products as {@link Dot}.
+     */
+    @Test
+    public void calculatesLikeDot() {
+        final Vect<Double> first = ParallelDotTest.vect(300, 1.);
+        final Vect<Double> second = ParallelDotTest.vect(300, 2.);
+        final Decimal field = new Decimal(new DblParallel(16));
+        MatcherAssert.assertThat(
+            field.actual(field.product().product(first, second)),
+            Matchers.closeTo(
+                field.actual(new Dot().product(first, second)), ParallelDotTest.ERROR
+            )
+        );
+    }
+
+    /**
+     * {@link ParallelDot} delegates to {@link Dot} under the threshold.
+     */
+    @Test
+    public void delegatesUnderThreshold() {
+        final Vect<Double> first = ParallelDotTest.vect(3, 1.);
+        final Vect<Double> second = ParallelDotTest.vect(3, 2.);
+        MatcherAssert.assertThat(
+            new ParallelDot(new DblParallel(4)).product(first, second),
+            Matchers.equalTo(new Dot().product(first, second))
+        );
+    }
+
+    /**
+     * {@link ParallelDot} products can be evaluated by fields other than
+     * double fields.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void evaluatesWithAnyField() {
+        final Field<Double> field = Mockito.mock(Field.class);
+        Mockito.when(field.actual(Mockito.any())).thenReturn(2.);
+        MatcherAssert.assertThat(
+            new ParallelDot(new DblParallel(1)).product(
+                ParallelDotTest.vect(10, 0.), ParallelDotTest.vect(10, 0.)
+            ).value(field),
+            Matchers.closeTo(40., ParallelDotTest.ERROR)
+        );
+    }
+
+    /**
+     * Builds a vector of increasing coordinates.
+     * @param dim Vector dimension
+     * @param step Coordinates increment
+     * @return A vector
+     */
+    private static Vect<Double> vect(final int dim, final double step) {
+        final List<Scalar<Double>> coords = new ArrayList<>(dim);
+        for (int idx = 0; idx < dim; ++idx) {
+            coords.add(new Scalar.Default<>(idx * step));
+        }
+        return new FixedVector<>(coords);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SinCos}.
+ * @since 0.5
+ */
+public final class SinCosTest {
+
+    /**
+     * {@link SinCos} gives sine and cosine.
+     */
+    @Test
+    public void givesSineAndCosine() {
+        final double angle = Math.random();
+        MatcherAssert.assertThat(SinCos.of(angle).sin(), Matchers.equalTo(Math.sin(angle)));
+        MatcherAssert.assertThat(SinCos.of(angle).cos(), Matchers.equalTo(Math.cos(angle)));
+        MatcherAssert.assertThat(SinCos.of(0.).cos(), Matchers.equalTo(1.));
+        MatcherAssert.assertThat(SinCos.of(-0.).sin(), Matchers.equalTo(-0.));
+    }
+
+    /**
+     * {@link SinCos} caches recurring angles.
+     */
+    @Test
+    public void cachesAngles() {
+        final double angle = Math.PI / 7;
+        MatcherAssert.assertThat(
+            SinCos.of(angle), Matchers.sameInstance(SinCos.of(angle))
+        );
+    }
+}
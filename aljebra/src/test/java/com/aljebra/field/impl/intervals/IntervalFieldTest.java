@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.intervals;
+
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.Diff;
+import com.aljebra.scalar.Division;
+import com.aljebra.scalar.Scalar;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IntervalField}.
+ * @since 0.5
+ */
+public final class IntervalFieldTest {
+
+    /**
+     * {@link IntervalField} evaluates scalars to enclosures.
+     */
+    @Test
+    public void evaluatesEnclosures() {
+        final IntervalField field = new IntervalField();
+        final Scalar<Interval> tenth = new Scalar.Default<>(new Interval(0.1));
+        final Interval result = field.actual(
+            new Diff<>(
+                new Division<>(new Add<>(Arrays.asList(tenth, tenth, tenth)), tenth),
+                new Scalar.Default<>(new Interval(3.))
+            )
+        );
+        MatcherAssert.assertThat(result.contains(0.), Matchers.is(true));
+        MatcherAssert.assertThat(result.upper() - result.lower(), Matchers.lessThan(1.e-14));
+    }
+
+    /**
+     * {@link IntervalField} considers scalars equal when their enclosures
+     * intersect.
+     */
+    @Test
+    public void comparesEnclosures() {
+        final IntervalField field = new IntervalField();
+        MatcherAssert.assertThat(
+            field.equals(
+                new Scalar.Default<>(new Interval(0., 1.)),
+                new Scalar.Default<>(new Interval(1., 2.))
+            ),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            field.equals(
+                new Scalar.Default<>(new Interval(0.)),
+                new Scalar.Default<>(new Interval(Math.ulp(0.)))
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link IntervalField} generates random scalars.
+     */
+    @Test
+    public void generatesRandomScalars() {
+        final IntervalField field = new IntervalField();
+        final Scalar<Interval> lower = new Scalar.Default<>(new Interval(1., 2.));
+        final Scalar<Interval> upper = new Scalar.Default<>(new Interval(3., 4.));
+        MatcherAssert.assertThat(
+            field.actual(field.greater(upper)).lower(), Matchers.greaterThanOrEqualTo(4.)
+        );
+        MatcherAssert.assertThat(
+            field.actual(field.lower(lower)).upper(), Matchers.lessThanOrEqualTo(1.)
+        );
+        final Interval between = field.actual(field.between(lower, upper));
+        MatcherAssert.assertThat(between.lower(), Matchers.greaterThanOrEqualTo(1.5));
+        MatcherAssert.assertThat(between.upper(), Matchers.lessThanOrEqualTo(3.5));
+    }
+}
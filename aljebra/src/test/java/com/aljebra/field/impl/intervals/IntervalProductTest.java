@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.intervals;
+
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.metric.angle.Degrees;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IntervalProduct}.
+ * @since 0.5
+ */
+public final class IntervalProductTest {
+
+    /**
+     * {@link IntervalProduct} encloses products, norms and rotations.
+     */
+    @Test
+    public void enclosesMetrics() {
+        final IntervalField field = new IntervalField();
+        final InnerProduct<Interval> pdt = field.product();
+        final Vect<Interval> vect = IntervalProductTest.vect(3., 4.);
+        MatcherAssert.assertThat(
+            field.actual(pdt.product(vect, IntervalProductTest.vect(1., 2.))).contains(11.),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(field.actual(pdt.norm(vect)).contains(5.), Matchers.is(true));
+        final Vect<Interval> rotated = pdt.rot(vect, new Degrees.Default<>(Math.PI / 2));
+        MatcherAssert.assertThat(
+            field.actual(rotated.coord(0)).contains(-4.), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            field.actual(rotated.coord(1)).contains(3.), Matchers.is(true)
+        );
+    }
+
+    /**
+     * {@link IntervalProduct} calculates angles.
+     */
+    @Test
+    public void calculatesAngles() {
+        final InnerProduct<Interval> pdt = new IntervalField().product();
+        MatcherAssert.assertThat(
+            pdt.angle(
+                IntervalProductTest.vect(1., 0.), IntervalProductTest.vect(0., 2.)
+            ).resolve(pdt).doubleValue(),
+            Matchers.closeTo(Math.PI / 2, 1.e-12)
+        );
+    }
+
+    /**
+     * Builds a vector of single double intervals.
+     * @param xcoor Abscissa
+     * @param ycoor Ordinate
+     * @return A vector
+     */
+    private static Vect<Interval> vect(final double xcoor, final double ycoor) {
+        return new FixedVector<>(
+            new Scalar.Default<>(new Interval(xcoor)), new Scalar.Default<>(new Interval(ycoor))
+        );
+    }
+}
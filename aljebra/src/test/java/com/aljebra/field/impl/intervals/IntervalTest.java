@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.intervals;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Interval}.
+ * @since 0.5
+ */
+public final class IntervalTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Interval} encloses operations results.
+     */
+    @Test
+    public void enclosesResults() {
+        final Interval tenth = new Interval(0.1);
+        final Interval sum = tenth.add(tenth).add(tenth);
+        MatcherAssert.assertThat(sum.contains(0.3), Matchers.is(true));
+        MatcherAssert.assertThat(sum.contains(0.1 + 0.1 + 0.1), Matchers.is(true));
+        final Interval prod = new Interval(-2., 3.).multiply(new Interval(-5., 1.));
+        MatcherAssert.assertThat(prod.contains(-15.), Matchers.is(true));
+        MatcherAssert.assertThat(prod.contains(10.), Matchers.is(true));
+        MatcherAssert.assertThat(prod.contains(10.5), Matchers.is(false));
+        final Interval third = new Interval(3.).inverse();
+        MatcherAssert.assertThat(third.contains(1. / 3.), Matchers.is(true));
+        MatcherAssert.assertThat(
+            third.multiply(new Interval(3.)).contains(1.), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new Interval(2.).sqrt().contains(Math.sqrt(2.)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new Interval(-1., 4.).sqrt(), Matchers.equalTo(new Interval(0., Math.nextUp(2.)))
+        );
+        MatcherAssert.assertThat(
+            new Interval(1., 2.).opposite(), Matchers.equalTo(new Interval(-2., -1.))
+        );
+    }
+
+    /**
+     * {@link Interval} tells if intervals intersect.
+     */
+    @Test
+    public void intersects() {
+        MatcherAssert.assertThat(
+            new Interval(1., 2.).intersects(new Interval(2., 3.)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new Interval(1., 2.).intersects(new Interval(2.5, 3.)), Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link Interval} throws exception when inverting an interval
+     * containing zero.
+     */
+    @Test
+    public void errorsWhenInvertingZero() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Interval(-1., 1.).inverse();
+    }
+
+    /**
+     * {@link Interval} throws exception when built with inverted bounds.
+     */
+    @Test
+    public void errorsWhenInvalidBounds() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Interval(1., 0.);
+    }
+}
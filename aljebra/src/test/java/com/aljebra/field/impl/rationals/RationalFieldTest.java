@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.rationals;
+
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.Division;
+import com.aljebra.scalar.Scalar;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RationalField}.
+ * @since 0.5
+ */
+public final class RationalFieldTest {
+
+    /**
+     * {@link RationalField} evaluates scalars exactly.
+     */
+    @Test
+    public void evaluatesExactly() {
+        final RationalField field = new RationalField();
+        final Scalar<Rational> tenth = new Scalar.Default<>(new Rational(1L, 10L));
+        MatcherAssert.assertThat(
+            field.equals(
+                new Division<>(new Add<>(Arrays.asList(tenth, tenth, tenth)), tenth),
+                new Scalar.Default<>(new Rational(3L))
+            ),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            field.equals(tenth, new Scalar.Default<>(Rational.exact(0.1))),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link RationalField} generates random scalars.
+     */
+    @Test
+    public void generatesRandomScalars() {
+        final RationalField field = new RationalField();
+        final Scalar<Rational> lower = new Scalar.Default<>(new Rational(1L, 3L));
+        final Scalar<Rational> upper = new Scalar.Default<>(new Rational(1L, 2L));
+        final Rational between = field.actual(field.between(lower, upper));
+        MatcherAssert.assertThat(
+            between, Matchers.both(Matchers.greaterThanOrEqualTo(field.actual(lower)))
+                .and(Matchers.lessThanOrEqualTo(field.actual(upper)))
+        );
+        MatcherAssert.assertThat(
+            field.actual(field.greater(upper)),
+            Matchers.greaterThanOrEqualTo(field.actual(upper))
+        );
+        MatcherAssert.assertThat(
+            field.actual(field.lower(lower)),
+            Matchers.lessThanOrEqualTo(field.actual(lower))
+        );
+        MatcherAssert.assertThat(
+            field.actual(field.random()).promoted(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link RationalField} generates the same random scalars given
+     * the same seed.
+     */
+    @Test
+    public void reproducesSeededScalars() {
+        final RationalField first = new RationalField(7L);
+        final RationalField second = new RationalField(7L);
+        for (int idx = 0; idx < 10; ++idx) {
+            MatcherAssert.assertThat(
+                first.actual(first.random()), Matchers.equalTo(second.actual(second.random()))
+            );
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.rationals;
+
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.metric.angle.Degrees;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RationalProduct}.
+ * @since 0.5
+ */
+public final class RationalProductTest {
+
+    /**
+     * {@link RationalProduct} calculates products and rational norms exactly.
+     */
+    @Test
+    public void calculatesExactly() {
+        final RationalField field = new RationalField();
+        final InnerProduct<Rational> pdt = field.product();
+        final Vect<Rational> vect = RationalProductTest.vect(
+            new Rational(3L, 7L), new Rational(4L, 7L)
+        );
+        MatcherAssert.assertThat(
+            field.actual(pdt.product(vect, vect)), Matchers.equalTo(new Rational(25L, 49L))
+        );
+        MatcherAssert.assertThat(
+            field.actual(pdt.norm(vect)), Matchers.equalTo(new Rational(5L, 7L))
+        );
+    }
+
+    /**
+     * {@link RationalProduct} approximates irrational norms, angles
+     * and rotations.
+     */
+    @Test
+    public void approximatesIrrationals() {
+        final RationalField field = new RationalField();
+        final InnerProduct<Rational> pdt = field.product();
+        final Vect<Rational> vect = RationalProductTest.vect(new Rational(1L), new Rational(1L));
+        MatcherAssert.assertThat(
+            field.actual(pdt.norm(vect)).doubleValue(), Matchers.equalTo(Math.sqrt(2.))
+        );
+        MatcherAssert.assertThat(
+            pdt.angle(
+                RationalProductTest.vect(new Rational(1L), new Rational(0L)), vect
+            ).resolve(pdt).doubleValue(),
+            Matchers.closeTo(Math.PI / 4, 1.e-12)
+        );
+        final Vect<Rational> rotated = pdt.rot(vect, new Degrees.Default<>(Math.PI));
+        MatcherAssert.assertThat(
+            field.actual(rotated.coord(0)).doubleValue(), Matchers.closeTo(-1., 1.e-12)
+        );
+    }
+
+    /**
+     * Builds a vector of rationals.
+     * @param xcoor Abscissa
+     * @param ycoor Ordinate
+     * @return A vector
+     */
+    private static Vect<Rational> vect(final Rational xcoor, final Rational ycoor) {
+        return new FixedVector<>(new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.rationals;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link RationalRandom}.
+ * @since 0.5
+ */
+public final class RationalRandomTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link RationalRandom} generates a rational between two rationals.
+     */
+    @Test
+    public void returnsBetweenRational() {
+        final Rational low = new Rational(-1L, 3L);
+        final Rational high = new Rational(1L, 2L);
+        MatcherAssert.assertThat(
+            new RationalRandom().between(low, high),
+            Matchers.both(Matchers.greaterThanOrEqualTo(low))
+                .and(Matchers.lessThanOrEqualTo(high))
+        );
+    }
+
+    /**
+     * {@link RationalRandom} throws an exception if between first argument
+     * is greater than between second argument.
+     */
+    @Test
+    public void errorsWhenLowerGreaterThanUpper() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new RationalRandom().between(new Rational(1L), new Rational(0L));
+    }
+
+    /**
+     * {@link RationalRandom} generates rationals strictly greater or strictly
+     * lower than a rational.
+     */
+    @Test
+    public void excludesBounds() {
+        final RationalRandom random = new RationalRandom(7L);
+        final Rational bound = new Rational(1L, 3L);
+        for (int idx = 0; idx < 5000; ++idx) {
+            MatcherAssert.assertThat(random.greater(bound), Matchers.greaterThan(bound));
+            MatcherAssert.assertThat(random.lower(bound), Matchers.lessThan(bound));
+        }
+    }
+
+    /**
+     * {@link RationalRandom} generates the same values given the same seed.
+     */
+    @Test
+    public void reproducesSeededValues() {
+        final long seed = 42L;
+        final RationalRandom first = new RationalRandom(seed);
+        final RationalRandom second = new RationalRandom(seed);
+        final Rational zero = new Rational(0L);
+        for (int idx = 0; idx < 10; ++idx) {
+            MatcherAssert.assertThat(
+                first.greater(zero), Matchers.equalTo(second.greater(zero))
+            );
+        }
+        MatcherAssert.assertThat(
+            first.split().lower(zero), Matchers.equalTo(second.split().lower(zero))
+        );
+    }
+}
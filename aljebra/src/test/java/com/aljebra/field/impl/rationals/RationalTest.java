@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.rationals;
+
+import java.math.BigInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Rational}.
+ * @since 0.5
+ */
+public final class RationalTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Rational} calculates exactly.
+     */
+    @Test
+    public void calculatesExactly() {
+        final Rational third = new Rational(1L, 3L);
+        MatcherAssert.assertThat(
+            third.add(third).add(third), Matchers.equalTo(new Rational(1L))
+        );
+        MatcherAssert.assertThat(
+            third.multiply(new Rational(-6L, 4L)), Matchers.equalTo(new Rational(1L, -2L))
+        );
+        MatcherAssert.assertThat(
+            new Rational(-2L, 3L).inverse(), Matchers.equalTo(new Rational(-3L, 2L))
+        );
+        MatcherAssert.assertThat(third.negate().signum(), Matchers.is(-1));
+        MatcherAssert.assertThat(
+            third.compareTo(new Rational(33_333L, 100_000L)), Matchers.greaterThan(0)
+        );
+        MatcherAssert.assertThat(
+            Rational.exact(0.1).doubleValue(), Matchers.equalTo(0.1)
+        );
+        MatcherAssert.assertThat(
+            Rational.exact(0.1), Matchers.not(Matchers.equalTo(new Rational(1L, 10L)))
+        );
+        MatcherAssert.assertThat(
+            Rational.exact(-0.75), Matchers.equalTo(new Rational(-3L, 4L))
+        );
+    }
+
+    /**
+     * {@link Rational} reduces fractions lazily and consistently.
+     */
+    @Test
+    public void reducesFractions() {
+        final Rational half = new Rational(2L, 4L);
+        MatcherAssert.assertThat(half, Matchers.equalTo(new Rational(1L, 2L)));
+        MatcherAssert.assertThat(half.hashCode(), Matchers.is(new Rational(-1L, -2L).hashCode()));
+        MatcherAssert.assertThat(half.toString(), Matchers.is("1/2"));
+        MatcherAssert.assertThat(new Rational(6L, 3L).toString(), Matchers.is("2"));
+        MatcherAssert.assertThat(half.numerator(), Matchers.is(BigInteger.ONE));
+    }
+
+    /**
+     * {@link Rational} promotes to big integers on overflow, and demotes back
+     * to longs.
+     */
+    @Test
+    public void promotesOnOverflow() {
+        final Rational large = new Rational(Long.MAX_VALUE - 1L);
+        final Rational square = large.multiply(large);
+        MatcherAssert.assertThat(square.promoted(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            square.numerator(),
+            Matchers.is(BigInteger.valueOf(Long.MAX_VALUE - 1L).pow(2))
+        );
+        final Rational back = square.multiply(large.inverse());
+        MatcherAssert.assertThat(back.promoted(), Matchers.is(false));
+        MatcherAssert.assertThat(back, Matchers.equalTo(large));
+        MatcherAssert.assertThat(back.hashCode(), Matchers.is(large.hashCode()));
+        MatcherAssert.assertThat(
+            large.add(large).add(large.negate()), Matchers.equalTo(large)
+        );
+        MatcherAssert.assertThat(
+            new Rational(1L, Long.MAX_VALUE).add(new Rational(1L, Long.MAX_VALUE - 1L))
+                .compareTo(new Rational(2L, Long.MAX_VALUE)),
+            Matchers.greaterThan(0)
+        );
+        MatcherAssert.assertThat(
+            new Rational(Long.MIN_VALUE).negate().numerator(),
+            Matchers.is(BigInteger.valueOf(Long.MIN_VALUE).negate())
+        );
+    }
+
+    /**
+     * {@link Rational} keeps multiplications on longs when cross reducing
+     * avoids the overflow.
+     */
+    @Test
+    public void crossReducesProducts() {
+        final long first = 4_000_000_000L;
+        final long second = 5_000_000_000L;
+        final Rational result = new Rational(first, second).multiply(
+            new Rational(second, first)
+        );
+        MatcherAssert.assertThat(result.promoted(), Matchers.is(false));
+        MatcherAssert.assertThat(result, Matchers.equalTo(new Rational(1L)));
+    }
+
+    /**
+     * {@link Rational} throws exception when dividing by zero.
+     */
+    @Test
+    public void errorsWhenDividingByZero() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Rational(0L, 3L).inverse();
+    }
+}
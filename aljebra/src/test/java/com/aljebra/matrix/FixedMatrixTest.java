@@ -161,4 +161,23 @@ public final class FixedMatrixTest {
         return new Product<Object>(input, new FixedVector<Object>(scalars));
     }
 
+    /**
+     * {@link FixedMatrix} respects equals on dimensions and coordinates,
+     * with a consistent hash code.
+     */
+    @Test
+    public void respectsEqual() {
+        final List<Scalar<Object>> scalars = Lists.newArrayList(new Scalars<>(6));
+        final Matrix<Object> matrix = new FixedMatrix<>(2, 3, scalars);
+        final Matrix<Object> same = new FixedMatrix<>(2, 3, new ArrayList<>(scalars));
+        MatcherAssert.assertThat(matrix, Matchers.equalTo(same));
+        MatcherAssert.assertThat(matrix.hashCode(), Matchers.equalTo(same.hashCode()));
+        MatcherAssert.assertThat(
+            matrix, Matchers.not(Matchers.equalTo(new FixedMatrix<>(3, 2, scalars)))
+        );
+        MatcherAssert.assertThat(
+            matrix,
+            Matchers.not(Matchers.equalTo(new FixedMatrix<>(2, 3, Lists.reverse(scalars))))
+        );
+    }
 }
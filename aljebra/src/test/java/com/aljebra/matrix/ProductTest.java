@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.matrix;
+
+import com.aljebra.field.impl.doubles.DblMatrix;
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.DenseMatrix;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Product}.
+ * @since 0.5
+ */
+public final class ProductTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Product} calculates coordinates of a matrices chain.
+     */
+    @Test
+    public void calculatesCoordinates() {
+        final Matrix<Double> product = new Product<>(
+            Arrays.asList(
+                new DblMatrix(2, 3, 1., 4., 2., 5., 3., 6.),
+                new DblMatrix(3, 2, 7., 9., 11., 8., 10., 12.),
+                new DblMatrix(2, 1, 1., -1.)
+            )
+        );
+        MatcherAssert.assertThat(product.lines(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(product.columns(), Matchers.equalTo(1));
+        final Decimal field = new Decimal();
+        final Scalar<Double>[] coords = product.coords();
+        MatcherAssert.assertThat(field.actual(coords[0]), Matchers.equalTo(-6.));
+        MatcherAssert.assertThat(field.actual(coords[1]), Matchers.equalTo(-15.));
+        MatcherAssert.assertThat(
+            new DenseMatrix(product, field).values(),
+            Matchers.equalTo(new double[] {-6., -15.})
+        );
+    }
+
+    /**
+     * {@link Product} applies matrices one after the other, the same way
+     * as its fused matrix.
+     */
+    @Test
+    public void appliesChain() {
+        final Product<Double> product = new Product<>(
+            new DblMatrix(2, 2, 0., 1., -1., 0.),
+            new DblMatrix(2, 2, 2., 0., 0., 3.)
+        );
+        final Decimal field = new Decimal();
+        final Vect<Double> vect = new DblVect(1., 1.);
+        final Vect<Double> image = product.apply(vect);
+        final Vect<Double> fused = product.fused().apply(vect);
+        MatcherAssert.assertThat(field.actual(image.coord(0)), Matchers.equalTo(-3.));
+        MatcherAssert.assertThat(field.actual(image.coord(1)), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(field.actual(fused.coord(0)), Matchers.equalTo(-3.));
+        MatcherAssert.assertThat(field.actual(fused.coord(1)), Matchers.equalTo(2.));
+    }
+
+    /**
+     * {@link Product} builds its fused matrix once.
+     */
+    @Test
+    public void fusesOnce() {
+        final Product<Double> product = new Product<>(
+            new DblMatrix(2, 2, 0., 1., -1., 0.),
+            new DblMatrix(2, 2, 2., 0., 0., 3.)
+        );
+        final Matrix<Double> fused = product.fused();
+        MatcherAssert.assertThat(product.fused(), Matchers.sameInstance(fused));
+        MatcherAssert.assertThat(product.line(1), Matchers.equalTo(fused.line(1)));
+        MatcherAssert.assertThat(product.column(2), Matchers.equalTo(fused.column(2)));
+        MatcherAssert.assertThat(product.coords(), Matchers.equalTo(fused.coords()));
+    }
+
+    /**
+     * {@link Product} throws exception when building a product
+     * of incompatible matrices.
+     */
+    @Test
+    public void errorsOnIncompatibleMatrices() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Product<>(
+            new DblMatrix(2, 3, 1., 4., 2., 5., 3., 6.),
+            new DblMatrix(2, 2, 1., 1., 1., 1.)
+        );
+    }
+}
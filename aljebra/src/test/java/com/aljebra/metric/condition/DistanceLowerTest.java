@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.metric.condition;
+
+import com.aljebra.field.FieldAddition;
+import com.aljebra.field.FieldMultiplication;
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.metric.InnerProduct;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link DistanceLower}.
+ * @since 0.5
+ */
+public final class DistanceLowerTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link DistanceLower} compares distances with doubles.
+     */
+    @Test
+    public void comparesDistances() {
+        final Decimal field = new Decimal();
+        final Vect<Double> first = new DblVect(1., 1.);
+        final Vect<Double> second = new DblVect(4., 5.);
+        MatcherAssert.assertThat(
+            new DistanceLower<>(first, second, new Scalar.Default<>(5.1)).resolve(field),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new DistanceLower<>(first, second, new Scalar.Default<>(5.)).resolve(field),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            new DistanceLower<>(first, second, new Scalar.Default<>(-6.)).resolve(field),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link DistanceLower} compares distances with comparable values.
+     */
+    @Test
+    public void comparesComparableDistances() {
+        final MetricSpaceField<Integer> field = DistanceLowerTest.field(25);
+        final Vect<Integer> vect = new FixedVector<>(new Scalar.Default<>(0));
+        MatcherAssert.assertThat(
+            new DistanceLower<>(vect, vect, new Scalar.Default<>(6)).resolve(field),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new DistanceLower<>(vect, vect, new Scalar.Default<>(5)).resolve(field),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            new DistanceLower<>(vect, vect, new Scalar.Default<>(-6)).resolve(field),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link DistanceLower} throws exception when values are not comparable.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void errorsWhenNotComparable() {
+        this.thrown.expect(UnsupportedOperationException.class);
+        final MetricSpaceField<Object> field = Mockito.mock(MetricSpaceField.class);
+        final FieldAddition<Object> add = Mockito.mock(FieldAddition.class);
+        Mockito.when(field.addition()).thenReturn(add);
+        Mockito.when(add.neutral()).thenReturn(new Object());
+        final Vect<Object> vect = new FixedVector<>(new Scalar.Default<>(new Object()));
+        new DistanceLower<>(vect, vect, new Scalar.Default<>(new Object())).resolve(field);
+    }
+
+    /**
+     * Mocks an integer field whose squared norms are a given value.
+     * @param squared Squared norms
+     * @return A field
+     */
+    @SuppressWarnings("unchecked")
+    private static MetricSpaceField<Integer> field(final int squared) {
+        final MetricSpaceField<Integer> field = Mockito.mock(MetricSpaceField.class);
+        final InnerProduct<Integer> pdt = Mockito.mock(InnerProduct.class);
+        final FieldAddition<Integer> add = Mockito.mock(FieldAddition.class);
+        final FieldMultiplication<Integer> mult = Mockito.mock(FieldMultiplication.class);
+        Mockito.when(field.product()).thenReturn(pdt);
+        Mockito.when(field.addition()).thenReturn(add);
+        Mockito.when(field.multiplication()).thenReturn(mult);
+        Mockito.when(add.neutral()).thenReturn(0);
+        Mockito.when(mult.multiply(Mockito.anyInt(), Mockito.anyInt())).thenAnswer(
+            invocation -> invocation.getArgumentAt(0, Integer.class)
+                * invocation.getArgumentAt(1, Integer.class)
+        );
+        Mockito.when(pdt.product(Mockito.any(), Mockito.any()))
+            .thenReturn(new Scalar.Default<>(squared));
+        Mockito.when(field.actual(Mockito.any())).thenAnswer(
+            invocation -> invocation.getArgumentAt(0, Scalar.class).value(field)
+        );
+        return field;
+    }
+}
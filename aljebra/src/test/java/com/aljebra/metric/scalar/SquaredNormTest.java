@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.metric.scalar;
+
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.mock.MkField;
+import com.aljebra.field.mock.SpyField;
+import com.aljebra.metric.MkProduct;
+import com.aljebra.scalar.Random;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link SquaredNorm}.
+ * @since 0.5
+ */
+public final class SquaredNormTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link SquaredNorm} rely on InnerProduct product for resolution
+     * of actual value.
+     */
+    @Test
+    public void delegatesToInnerProduct() {
+        final Vect<Object> first = new FixedVector<>(new Scalar.Default<>(new Object()));
+        final MkProduct<Object> pdt = new MkProduct<>();
+        final MetricSpaceField<Object> field = new MkField<>(new Object(), new Object(), pdt);
+        new SquaredNorm<>(first).value(field);
+        final Optional<List<Vect<Object>>> params = pdt.product();
+        MatcherAssert.assertThat(
+            "Expecting call to product method with vector as parameters",
+            params.isPresent() && params.get().equals(Arrays.asList(first, first))
+        );
+    }
+
+    /**
+     * {@link SquaredNorm} calculates the squared norm with doubles.
+     */
+    @Test
+    public void calculatesSquaredNorm() {
+        final Decimal field = new Decimal();
+        final Scalar<Double> norm = new SquaredNorm<>(new DblVect(3., -4.));
+        MatcherAssert.assertThat(field.actual(norm), Matchers.closeTo(25., 1.e-9));
+        MatcherAssert.assertThat(field.dactual(norm), Matchers.closeTo(25., 1.e-9));
+    }
+
+    /**
+     * {@link SquaredNorm} squared norms of the same vector are equal.
+     */
+    @Test
+    public void equalsOnVector() {
+        final Vect<Double> vect = new DblVect(1., 2.);
+        MatcherAssert.assertThat(
+            new SquaredNorm<>(vect), Matchers.equalTo(new SquaredNorm<>(vect))
+        );
+        MatcherAssert.assertThat(
+            new SquaredNorm<>(vect).hashCode(),
+            Matchers.equalTo(new SquaredNorm<>(vect).hashCode())
+        );
+        MatcherAssert.assertThat(
+            new SquaredNorm<>(vect),
+            Matchers.not(Matchers.equalTo(new SquaredNorm<>(new DblVect(2., 1.))))
+        );
+    }
+
+    /**
+     * {@link SquaredNorm} throws exception when not operating on a metric space.
+     */
+    @Test
+    public void errorsWhenNoMetricSpace() {
+        this.thrown.expect(UnsupportedOperationException.class);
+        new SquaredNorm<>(new FixedVector<>(new Random<>())).value(
+            new SpyField<>(new Object(), new Object())
+        );
+    }
+}
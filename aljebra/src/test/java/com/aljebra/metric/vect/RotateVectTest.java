@@ -23,19 +23,26 @@
  */
 package com.aljebra.metric.vect;
 
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
 import com.aljebra.field.impl.doubles.Dot;
 import com.aljebra.field.mock.SpyField;
 import com.aljebra.metric.InnerProduct;
 import com.aljebra.metric.angle.Degrees;
 import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.Variable;
 import com.aljebra.scalar.mock.Scalars;
 import com.aljebra.vector.FixedVector;
 import com.aljebra.vector.Vect;
+import java.util.Arrays;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
 /**
  * Tests for {@link RotateVect}.
@@ -88,6 +95,86 @@ public final class RotateVectTest {
         ).coords()[0].value(new SpyField<>(new Double(0.), new Double(1.)));
     }
 
+    /**
+     * {@link RotateVect} rotates the vector once per evaluated vector
+     * and angle.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void rotatesOncePerInputs() {
+        final Vect<Double> vect = new FixedVector<>(new Scalars<>(2));
+        final Degrees<Double> angle = new Degrees.Default<>(1.);
+        final InnerProduct<Double> pdt = Mockito.mock(InnerProduct.class);
+        Mockito.when(pdt.rot(Mockito.any(), Mockito.any())).thenReturn(new DblVect(1., 2.));
+        final MetricSpaceField<Double> field = Mockito.mock(MetricSpaceField.class);
+        Mockito.when(field.product()).thenReturn(pdt);
+        Mockito.when(field.actual(Mockito.any())).thenAnswer(
+            invocation -> new Decimal().actual(invocation.getArgumentAt(0, Scalar.class))
+        );
+        final Vect<Double> rotated = new RotateVect<>(vect, angle);
+        MatcherAssert.assertThat(
+            rotated.coord(0).value(field), Matchers.equalTo(1.)
+        );
+        MatcherAssert.assertThat(
+            rotated.coord(1).value(field), Matchers.equalTo(2.)
+        );
+        Mockito.verify(pdt, Mockito.times(1)).rot(Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * {@link RotateVect} rotates the evaluated vector and angle rather than
+     * evaluating them again.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void rotatesEvaluatedInputs() {
+        final Vect<Double> vect = new DblVect(3., 4.);
+        final InnerProduct<Double> pdt = Mockito.mock(InnerProduct.class);
+        Mockito.when(pdt.rot(Mockito.any(), Mockito.any())).thenReturn(new DblVect(1., 2.));
+        final MetricSpaceField<Double> field = Mockito.mock(MetricSpaceField.class);
+        Mockito.when(field.product()).thenReturn(pdt);
+        Mockito.when(field.actual(Mockito.any())).thenAnswer(
+            invocation -> new Decimal().actual(invocation.getArgumentAt(0, Scalar.class))
+        );
+        new RotateVect<>(vect, 1.).coord(0).value(field);
+        final ArgumentCaptor<Vect<Double>> rotated = ArgumentCaptor.forClass(Vect.class);
+        final ArgumentCaptor<Degrees<Double>> angle = ArgumentCaptor.forClass(Degrees.class);
+        Mockito.verify(pdt).rot(rotated.capture(), angle.capture());
+        MatcherAssert.assertThat(
+            rotated.getValue().coords(),
+            Matchers.arrayContaining(new Scalar.Default<>(3.), new Scalar.Default<>(4.))
+        );
+        MatcherAssert.assertThat(
+            angle.getValue(), Matchers.instanceOf(Degrees.Default.class)
+        );
+        Mockito.verify(field, Mockito.times(1)).actual(vect.coord(0));
+        Mockito.verify(field, Mockito.times(1)).actual(vect.coord(1));
+    }
+
+    /**
+     * {@link RotateVect} follows its vector coordinates when they change,
+     * even when evaluated by the same field.
+     */
+    @Test
+    public void followsChangingVector() {
+        final Variable<Double> xcoor = new Variable<>(1.);
+        final Vect<Double> rotated = new RotateVect<>(
+            new FixedVector<>(Arrays.asList(xcoor, new Scalar.Default<>(0.))), Math.PI / 2.
+        );
+        final Decimal field = new Decimal();
+        final double error = 1.e-9;
+        MatcherAssert.assertThat(
+            rotated.coord(1).value(field), Matchers.closeTo(1., error)
+        );
+        xcoor.set(2.);
+        MatcherAssert.assertThat(
+            rotated.coord(1).value(field), Matchers.closeTo(2., error)
+        );
+        MatcherAssert.assertThat(
+            rotated.coord(0).value(field), Matchers.closeTo(0., error)
+        );
+    }
+
     /**
      * {@link RotateVect} toString prints coordinates.
      */
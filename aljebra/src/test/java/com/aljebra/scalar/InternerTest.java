@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.scalar;
+
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Interner}.
+ * @since 0.5
+ */
+public final class InternerTest {
+
+    /**
+     * {@link Interner} gives the same instance for equal nodes.
+     */
+    @Test
+    public void internsEqualNodes() {
+        final Interner interner = new Interner();
+        final Vect<Double> vect = interner.intern(
+            new FixedVector<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.))
+        );
+        MatcherAssert.assertThat(
+            interner.intern(
+                new FixedVector<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.))
+            ),
+            Matchers.sameInstance(vect)
+        );
+        MatcherAssert.assertThat(interner.size(), Matchers.equalTo(1));
+    }
+
+    /**
+     * {@link Interner} shares sub-expressions of arithmetic scalars.
+     */
+    @Test
+    public void sharesSubExpressions() {
+        final Interner interner = new Interner();
+        final Scalar<Double> sum = interner.scalar(
+            new Add<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.))
+        );
+        final Diff<Double> diff = (Diff<Double>) interner.scalar(
+            new Diff<>(
+                new Add<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.)),
+                new Scalar.Default<>(2.)
+            )
+        );
+        MatcherAssert.assertThat(diff.first(), Matchers.sameInstance(sum));
+    }
+
+    /**
+     * {@link Interner} does not merge random scalars.
+     */
+    @Test
+    public void keepsRandomScalarsDistinct() {
+        final Interner interner = new Interner();
+        final Scalar<Double> random = new Random<>();
+        interner.scalar(random);
+        final Scalar<Double> other = new Random<>();
+        MatcherAssert.assertThat(
+            interner.scalar(other), Matchers.sameInstance(other)
+        );
+    }
+}
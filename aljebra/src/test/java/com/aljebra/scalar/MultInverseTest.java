@@ -75,6 +75,16 @@ public final class MultInverseTest {
         new MultInverse<Double>(new AddIdentity<>()).value(new Decimal());
     }
 
+    /**
+     * {@link MultInverse} throws exception when evaluating addition identity
+     * primitive inverse.
+     */
+    @Test
+    public void throwsExceptionWhenInvertingPrimitiveAddIdentity() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new MultInverse<Double>(new AddIdentity<>()).dvalue(new Decimal());
+    }
+
     /**
      * {@link MultInverse} respects equals and hashcode
      * regarding the scalar to inverse.
@@ -23,7 +23,16 @@
  */
 package com.aljebra.scalar;
 
+import com.aljebra.field.impl.doubles.Decimal;
 import com.aljebra.field.mock.SpyField;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -54,4 +63,30 @@ public final class RandomTest {
             new Random<>(), Matchers.not(Matchers.equalTo(new Random<>()))
         );
     }
+
+    /**
+     * {@link Random} generates one value even when evaluated concurrently.
+     * @throws Exception if evaluation fails
+     */
+    @Test
+    public void generatesOnceConcurrently() throws Exception {
+        final int threads = 8;
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        try {
+            for (int run = 0; run < 50; ++run) {
+                final Random<Double> random = new Random<>();
+                final List<Callable<Double>> tasks = new ArrayList<>(threads);
+                for (int idx = 0; idx < threads; ++idx) {
+                    tasks.add(() -> random.value(new Decimal()));
+                }
+                final Set<Double> values = new HashSet<>(threads);
+                for (final Future<Double> value : service.invokeAll(tasks)) {
+                    values.add(value.get());
+                }
+                MatcherAssert.assertThat(values, Matchers.hasSize(1));
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.scalar;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.condition.False;
+import com.aljebra.scalar.condition.Ternary;
+import com.aljebra.scalar.condition.True;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link Simplifier}.
+ * @since 0.5
+ */
+public final class SimplifierTest {
+
+    /**
+     * {@link Simplifier} flattens additions, folds constants and removes
+     * identities.
+     */
+    @Test
+    public void simplifiesAdditions() {
+        final Scalar<Double> var = SimplifierTest.variable();
+        final Scalar<Double> simple = new Simplifier<>(new Decimal()).simplify(
+            new Add<>(
+                Arrays.asList(
+                    new Scalar.Default<>(1.),
+                    new Add<>(var, new Scalar.Default<>(2.)),
+                    new AddIdentity<>()
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            simple, Matchers.equalTo(new Add<>(var, new Scalar.Default<>(3.)))
+        );
+        MatcherAssert.assertThat(
+            new Simplifier<>(new Decimal()).simplify(
+                new Add<>(new AddIdentity<Double>(), new AddIdentity<>())
+            ),
+            Matchers.instanceOf(AddIdentity.class)
+        );
+    }
+
+    /**
+     * {@link Simplifier} flattens multiplications, folds constants and removes
+     * identities.
+     */
+    @Test
+    public void simplifiesMultiplications() {
+        final Scalar<Double> var = SimplifierTest.variable();
+        MatcherAssert.assertThat(
+            new Simplifier<>(new Decimal()).simplify(
+                new Multiplication<>(
+                    Arrays.asList(
+                        new Scalar.Default<>(2.),
+                        new Multiplication<>(var, new MultIdentity<>()),
+                        new Scalar.Default<>(3.)
+                    )
+                )
+            ),
+            Matchers.equalTo(new Multiplication<>(var, new Scalar.Default<>(6.)))
+        );
+        MatcherAssert.assertThat(
+            new Simplifier<>(new Decimal()).simplify(
+                new Multiplication<>(var, new MultIdentity<>())
+            ),
+            Matchers.equalTo(var)
+        );
+    }
+
+    /**
+     * {@link Simplifier} removes double inverses, neutral differences
+     * and divisions.
+     */
+    @Test
+    public void simplifiesInverses() {
+        final Scalar<Double> var = SimplifierTest.variable();
+        final Simplifier<Double> simplifier = new Simplifier<>(new Decimal());
+        MatcherAssert.assertThat(
+            simplifier.simplify(new AddInverse<>(new AddInverse<>(var))),
+            Matchers.equalTo(var)
+        );
+        MatcherAssert.assertThat(
+            simplifier.simplify(new Diff<>(var, new AddIdentity<>())),
+            Matchers.equalTo(var)
+        );
+        MatcherAssert.assertThat(
+            simplifier.simplify(new Diff<>(new AddIdentity<>(), var)),
+            Matchers.equalTo(new AddInverse<>(var))
+        );
+        MatcherAssert.assertThat(
+            simplifier.simplify(new Division<>(var, new MultIdentity<>())),
+            Matchers.equalTo(var)
+        );
+        MatcherAssert.assertThat(
+            simplifier.simplify(
+                new Division<>(new Scalar.Default<>(1.), new Scalar.Default<>(4.))
+            ),
+            Matchers.equalTo(new Scalar.Default<>(0.25))
+        );
+    }
+
+    /**
+     * {@link Simplifier} does not fold divisions by zero.
+     */
+    @Test
+    public void keepsDivisionsByZero() {
+        MatcherAssert.assertThat(
+            new Simplifier<>(new Decimal()).simplify(
+                new Division<>(new Scalar.Default<>(1.), new Scalar.Default<>(0.))
+            ),
+            Matchers.instanceOf(Division.class)
+        );
+    }
+
+    /**
+     * {@link Simplifier} selects constant ternary branches.
+     */
+    @Test
+    public void selectsConstantTernaryBranches() {
+        final Scalar<Double> var = SimplifierTest.variable();
+        final Scalar<Double> other = SimplifierTest.variable();
+        final Simplifier<Double> simplifier = new Simplifier<>(new Decimal());
+        MatcherAssert.assertThat(
+            simplifier.simplify(new Ternary<>(new True<>(), var, other)),
+            Matchers.equalTo(var)
+        );
+        MatcherAssert.assertThat(
+            simplifier.simplify(new Ternary<>(new False<>(), var, other)),
+            Matchers.equalTo(other)
+        );
+    }
+
+    /**
+     * {@link Simplifier} keeps shared sub-expressions shared.
+     */
+    @Test
+    public void keepsSharing() {
+        final Scalar<Double> shared = new AddInverse<>(
+            new Add<>(SimplifierTest.variable(), new AddIdentity<>())
+        );
+        final Scalar<Double> simple = new Simplifier<>(new Decimal()).simplify(
+            new Diff<>(shared, shared)
+        );
+        final Diff<Double> diff = (Diff<Double>) simple;
+        MatcherAssert.assertThat(diff.first(), Matchers.sameInstance(diff.second()));
+    }
+
+    /**
+     * Builds a scalar not known by the simplifier.
+     * @return A scalar
+     */
+    @SuppressWarnings("unchecked")
+    private static Scalar<Double> variable() {
+        return Mockito.mock(Scalar.class);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.scalar;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Variable}.
+ * @since 0.5
+ */
+public final class VariableTest {
+
+    /**
+     * {@link Variable} gives its current value.
+     */
+    @Test
+    public void givesCurrentValue() {
+        final Variable<Double> variable = new Variable<>(1.);
+        final Scalar<Double> sum = new Add<>(variable, new Scalar.Default<>(2.));
+        MatcherAssert.assertThat(new Decimal().actual(sum), Matchers.equalTo(3.));
+        variable.set(5.);
+        MatcherAssert.assertThat(variable.value(new Decimal()), Matchers.equalTo(5.));
+        MatcherAssert.assertThat(new Decimal().actual(sum), Matchers.equalTo(7.));
+    }
+
+    /**
+     * {@link Variable} is equal to itself only.
+     */
+    @Test
+    public void equalsItselfOnly() {
+        final Variable<Double> variable = new Variable<>(1.);
+        MatcherAssert.assertThat(variable, Matchers.equalTo(variable));
+        MatcherAssert.assertThat(
+            variable, Matchers.not(Matchers.equalTo(new Variable<>(1.)))
+        );
+    }
+}
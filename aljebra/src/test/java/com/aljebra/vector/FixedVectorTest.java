@@ -70,4 +70,39 @@ public final class FixedVectorTest {
             )
         );
     }
+
+    /**
+     * {@link FixedVector} gives a single coordinate and its dimension.
+     */
+    @Test
+    public void givesCoordAndDimension() {
+        final Scalar<Object> first = new Scalar.Default<>(new Object());
+        final Scalar<Object> second = new Scalar.Default<>(new Object());
+        final Vect<Object> vect = new FixedVector<>(first, second);
+        MatcherAssert.assertThat(vect.dimension(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(vect.coord(0), Matchers.equalTo(first));
+        MatcherAssert.assertThat(vect.coord(1), Matchers.equalTo(second));
+    }
+
+    /**
+     * {@link FixedVector} hash code is consistent with equality, including
+     * for its subclasses.
+     */
+    @Test
+    public void hashesConsistently() {
+        final Scalar<Object> first = new Scalar.Default<>(new Object());
+        final Scalar<Object> second = new Scalar.Default<>(new Object());
+        final Vect<Object> vect = new FixedVector<>(first, second);
+        final Vect<Object> same = new FixedVector<Object>(first, second) { };
+        MatcherAssert.assertThat(vect, Matchers.equalTo(same));
+        MatcherAssert.assertThat(same, Matchers.equalTo(vect));
+        MatcherAssert.assertThat(vect.hashCode(), Matchers.equalTo(same.hashCode()));
+        MatcherAssert.assertThat(vect.hashCode(), Matchers.equalTo(vect.hashCode()));
+        MatcherAssert.assertThat(
+            vect, Matchers.not(Matchers.equalTo(new FixedVector<>(second, first)))
+        );
+        MatcherAssert.assertThat(
+            vect, Matchers.not(Matchers.equalTo(new FixedVector<>(first)))
+        );
+    }
 }
@@ -64,6 +64,23 @@ public final class SumTest {
         }
     }
 
+    /**
+     * {@link Sum} gives a single coordinate and its dimension.
+     */
+    @Test
+    public void givesCoordAndDimension() {
+        final int dim = new Random().nextInt(SumTest.COORDS_LENGTH) + 1;
+        final Vect<Object> vecta = new FixedVector<>(new Scalars<>(dim));
+        final Vect<Object> vectb = new FixedVector<>(new Scalars<>(dim));
+        final Vect<Object> sum = new Sum<>(vecta, vectb);
+        MatcherAssert.assertThat(sum.dimension(), Matchers.equalTo(dim));
+        for (int idx = 0; idx < dim; ++idx) {
+            MatcherAssert.assertThat(
+                sum.coord(idx), Matchers.equalTo(sum.coords()[idx])
+            );
+        }
+    }
+
     /**
      * {@link Sum} toString prints operands.
      */
@@ -0,0 +1,285 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import com.aljebra.field.IncrementalField;
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.angle.Angle;
+import com.jeometry.twod.arc.Arc;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.Polyline;
+import com.jeometry.twod.ray.Ray;
+import com.jeometry.twod.segment.Segment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Dependency graph of a figure shapes. Free scalars (like the coordinates
+ * of a {@link com.jeometry.twod.point.FreePoint} or of a
+ * {@link com.jeometry.twod.point.RandomPoint}) are the leaves, and a shape
+ * depends on another one when the quantities defining the latter are used
+ * to evaluate the former. Shapes are evaluated through an
+ * {@link IncrementalField}, so that when a point moves, only the shapes
+ * downstream of it are evaluated again, in topological order.
+ * Shapes which renderables are not supported are kept as opaque leaves:
+ * they depend on no shape and no shape depends on them.
+ * This class is not thread-safe.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+public final class Dependencies<T> {
+
+    /**
+     * Field evaluating and tracking the shapes quantities.
+     */
+    private final IncrementalField<T> field;
+
+    /**
+     * Figure shapes.
+     */
+    private final List<Shape<?>> shapes;
+
+    /**
+     * Scalars defining each shape.
+     */
+    private final List<List<Scalar<T>>> tops;
+
+    /**
+     * Scalars each shape depends on.
+     */
+    private final List<Set<Scalar<T>>> closures;
+
+    /**
+     * Shapes which renderables are not supported.
+     */
+    private final List<Shape<?>> others;
+
+    /**
+     * Constructor. Evaluates all the figure shapes.
+     * @param figure Figure
+     * @param field Field to evaluate shapes with
+     */
+    public Dependencies(final Figure figure, final MetricSpaceField<T> field) {
+        this.field = new IncrementalField<>(field);
+        this.shapes = new ArrayList<>(10);
+        this.tops = new ArrayList<>(10);
+        this.closures = new ArrayList<>(10);
+        this.others = new ArrayList<>(0);
+        for (final Shape<?> shape : figure) {
+            final List<Scalar<T>> scalars = Dependencies.scalars(shape.renderable());
+            if (!Dependencies.supports(shape.renderable())) {
+                this.others.add(shape);
+            }
+            this.shapes.add(shape);
+            this.tops.add(scalars);
+            this.closures.add(this.field.dependencies(scalars));
+        }
+    }
+
+    /**
+     * Gives the figure shapes in topological order: a shape comes after
+     * all the shapes it depends on.
+     * @return Ordered shapes
+     */
+    public List<Shape<?>> order() {
+        return this.sorted(IntStream.range(0, this.shapes.size()).boxed());
+    }
+
+    /**
+     * Gives the shapes which renderables are not supported, tracked
+     * as opaque leaves.
+     * @return Opaque shapes
+     */
+    public List<Shape<?>> opaque() {
+        return Collections.unmodifiableList(this.others);
+    }
+
+    /**
+     * Gives the shapes a shape depends on, in topological order.
+     * @param shape A figure shape
+     * @return Shapes the given shape depends on
+     */
+    public List<Shape<?>> upstream(final Shape<?> shape) {
+        final int index = this.index(shape);
+        final Set<Scalar<T>> closure = this.closures.get(index);
+        return this.sorted(
+            IntStream.range(0, this.shapes.size()).boxed().filter(
+                idx -> idx != index && !this.tops.get(idx).isEmpty()
+                    && closure.containsAll(this.tops.get(idx))
+            )
+        );
+    }
+
+    /**
+     * Gives the shapes depending on a point, in topological order.
+     * @param point A point, usually a figure free point
+     * @return Shapes depending on the point
+     */
+    public List<Shape<?>> downstream(final Vect<T> point) {
+        final List<Scalar<T>> coords = Dependencies.coords(point);
+        return this.sorted(
+            IntStream.range(0, this.shapes.size()).boxed().filter(
+                idx -> !Collections.disjoint(this.closures.get(idx), coords)
+            )
+        );
+    }
+
+    /**
+     * Takes into account that a point moved: forgets the values depending
+     * on it and evaluates again the shapes depending on it, in topological
+     * order.
+     * @param point The moved point
+     * @return Evaluated shapes, in topological order
+     */
+    public List<Shape<?>> moved(final Vect<T> point) {
+        final List<Shape<?>> result = this.downstream(point);
+        this.field.invalidate(Dependencies.coords(point));
+        for (final Shape<?> shape : result) {
+            final int index = this.index(shape);
+            this.closures.set(index, this.field.dependencies(this.tops.get(index)));
+        }
+        return result;
+    }
+
+    /**
+     * Gives the actual value of a scalar, evaluated incrementally along
+     * with the figure shapes.
+     * @param scalar Scalar
+     * @return Scalar actual value
+     */
+    public T actual(final Scalar<T> scalar) {
+        return this.field.actual(scalar);
+    }
+
+    /**
+     * Sorts shapes indexes topologically. A shape depending on another
+     * one depends on a strict superset of its scalars, unless both
+     * depend on each other, so that a stable sort by number of
+     * dependencies is topological.
+     * @param indexes Shapes indexes
+     * @return Shapes in topological order
+     */
+    private List<Shape<?>> sorted(final Stream<Integer> indexes) {
+        return indexes.sorted(
+            Comparator.comparingInt(idx -> this.closures.get(idx).size())
+        ).map(this.shapes::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Finds a shape index. Shapes given by the figure are found by their
+     * position, so that equal shapes added several times are told apart.
+     * Other shapes are found by value.
+     * @param shape A figure shape
+     * @return Shape index
+     */
+    private int index(final Shape<?> shape) {
+        final OptionalInt position = shape.position();
+        final int result;
+        if (position.isPresent() && position.getAsInt() < this.shapes.size()
+            && this.shapes.get(position.getAsInt()).equals(shape)) {
+            result = position.getAsInt();
+        } else {
+            result = this.shapes.indexOf(shape);
+        }
+        if (result < 0) {
+            throw new IllegalArgumentException(
+                String.format("Shape %s does not belong to the figure", shape)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a renderable dependencies can be tracked.
+     * @param renderable Renderable
+     * @return True if the renderable is supported
+     */
+    private static boolean supports(final Renderable renderable) {
+        return renderable instanceof Vect || renderable instanceof Line
+            || renderable instanceof Segment || renderable instanceof Ray
+            || renderable instanceof Polyline || renderable instanceof Angle
+            || renderable instanceof Circle || renderable instanceof Arc;
+    }
+
+    /**
+     * Gives the scalars defining a renderable. Unsupported renderables
+     * are defined by no scalar.
+     * @param renderable Renderable
+     * @param <T> scalar types
+     * @return Scalars defining the renderable
+     * @checkstyle CyclomaticComplexityCheck (40 lines)
+     */
+    @SuppressWarnings({"unchecked", "PMD.CyclomaticComplexity"})
+    private static <T> List<Scalar<T>> scalars(final Renderable renderable) {
+        final List<Scalar<T>> result = new ArrayList<>(6);
+        if (renderable instanceof Vect) {
+            result.addAll(Dependencies.coords((Vect<T>) renderable));
+        } else if (renderable instanceof Line) {
+            result.addAll(Dependencies.coords(((Line<T>) renderable).point()));
+            result.addAll(Dependencies.coords(((Line<T>) renderable).direction()));
+        } else if (renderable instanceof Segment) {
+            result.addAll(Dependencies.coords(((Segment<T>) renderable).start()));
+            result.addAll(Dependencies.coords(((Segment<T>) renderable).end()));
+        } else if (renderable instanceof Ray) {
+            result.addAll(Dependencies.coords(((Ray<T>) renderable).origin()));
+            result.addAll(Dependencies.coords(((Ray<T>) renderable).direction()));
+        } else if (renderable instanceof Polyline) {
+            for (final Vect<T> point : ((Polyline<T>) renderable).points()) {
+                result.addAll(Dependencies.coords(point));
+            }
+        } else if (renderable instanceof Angle) {
+            result.addAll(Dependencies.coords(((Angle<T>) renderable).origin()));
+            result.addAll(Dependencies.coords(((Angle<T>) renderable).start()));
+            result.addAll(Dependencies.coords(((Angle<T>) renderable).end()));
+        } else if (renderable instanceof Circle) {
+            result.addAll(Dependencies.coords(((Circle<T>) renderable).center()));
+            result.add(((Circle<T>) renderable).radius());
+        } else if (renderable instanceof Arc) {
+            result.addAll(Dependencies.coords(((Arc<T>) renderable).center()));
+            result.add(((Arc<T>) renderable).radius());
+        }
+        return result;
+    }
+
+    /**
+     * Gives the coordinates of a 2D vector.
+     * @param vect Vector
+     * @param <T> scalar types
+     * @return X and Y coordinates
+     */
+    private static <T> List<Scalar<T>> coords(final Vect<T> vect) {
+        return Arrays.asList(vect.coord(0), vect.coord(1));
+    }
+}
@@ -23,29 +23,92 @@
  */
 package com.jeometry.twod;
 
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.scalar.Interner;
 import com.google.common.base.Preconditions;
+import com.jeometry.twod.style.Style;
+import com.jeometry.twod.style.impl.DefaultStyle;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Represents a figure composed of shapes to output.
+ * Represents a figure composed of shapes to output. Shapes are stored in
+ * columns (renderables, names and style indexes in parallel arrays, styles
+ * being stored once), so that large figures do not hold a {@link Shape}
+ * per renderable. Shapes are given back in insertion order, and are built
+ * on the fly when iterating. Iterating does not copy the columns: an
+ * iteration sees the shapes added before it started. Shapes given back
+ * know their position (see {@link Shape#position()}).
  * @since 0.1
  */
 public final class Figure implements Iterable<Shape<?>> {
 
     /**
-     * Anonymous shapes list.
+     * Style shared by the renderables added without a style.
      */
-    private final List<Shape<?>> anonymous = new ArrayList<>(10);
+    private static final Style DEFAULT = new DefaultStyle();
 
     /**
-     * Named shapes map.
+     * Initial columns capacity.
      */
-    private final Map<String, Shape<?>> shaps = new HashMap<>();
+    private static final int CAPACITY = 10;
+
+    /**
+     * Shapes renderables.
+     */
+    private Renderable[] renderables = new Renderable[Figure.CAPACITY];
+
+    /**
+     * Shapes names, absent for anonymous shapes.
+     */
+    private String[] names = new String[Figure.CAPACITY];
+
+    /**
+     * Shapes styles indexes.
+     */
+    private int[] styles = new int[Figure.CAPACITY];
+
+    /**
+     * Number of shapes.
+     */
+    private int size;
+
+    /**
+     * Number of modifications of the figure shapes.
+     */
+    private int modifications;
+
+    /**
+     * Distinct styles of the shapes.
+     */
+    private final List<Style> palette = new ArrayList<>(1);
+
+    /**
+     * Styles indexes in the palette, by reference.
+     */
+    private final Map<Style, Integer> indexes = new IdentityHashMap<>();
+
+    /**
+     * Named shapes positions.
+     */
+    private final Map<String, Integer> shaps = new HashMap<>();
+
+    /**
+     * Quantities interner shared by the figure shapes.
+     */
+    private final Interner interner = new Interner();
 
     /**
      * Adds a shape to the figure.
@@ -58,10 +121,10 @@ public final class Figure implements Iterable<Shape<?>> {
             !(name.isPresent() && this.shaps.containsKey(name.get())),
             "A shape with name [%s] already exists in the figure", name
         );
-        if (shape.anonymous()) {
-            this.anonymous.add(shape);
-        } else {
-            this.shaps.put(name.get(), shape);
+        final int index = this.append(shape.renderable(), this.style(shape.style()));
+        if (name.isPresent()) {
+            this.shaps.put(name.get(), index);
+            this.names[index] = name.get();
         }
         return this;
     }
@@ -72,7 +135,7 @@ public final class Figure implements Iterable<Shape<?>> {
      * @return This figure instance
      */
     public Figure add(final Renderable shape) {
-        this.anonymous.add(new Shape<>(shape));
+        this.append(shape, this.style(Figure.DEFAULT));
         return this;
     }
 
@@ -83,7 +146,45 @@ public final class Figure implements Iterable<Shape<?>> {
      * @return This figure instance
      */
     public Figure add(final Renderable shape, final String name) {
-        return this.add(new Shape<>(shape, name));
+        return this.add(new Shape<>(shape, Optional.of(name), Figure.DEFAULT));
+    }
+
+    /**
+     * Adds anonymous renderables sharing a style to the figure.
+     * @param shapes The renderables to add
+     * @param style The renderables style
+     * @return This figure instance
+     * @since 0.5
+     */
+    public Figure addAll(final Iterable<? extends Renderable> shapes, final Style style) {
+        final int index = this.style(style);
+        for (final Renderable shape : shapes) {
+            this.append(shape, index);
+        }
+        return this;
+    }
+
+    /**
+     * Adds anonymous renderables sharing a style to the figure.
+     * @param shapes The renderables to add
+     * @param style The renderables style
+     * @return This figure instance
+     * @since 0.5
+     */
+    public Figure addAll(final Stream<? extends Renderable> shapes, final Style style) {
+        final int index = this.style(style);
+        shapes.forEachOrdered(shape -> this.append(shape, index));
+        return this;
+    }
+
+    /**
+     * Adds anonymous renderables with the default style to the figure.
+     * @param shapes The renderables to add
+     * @return This figure instance
+     * @since 0.5
+     */
+    public Figure addAll(final Iterable<? extends Renderable> shapes) {
+        return this.addAll(shapes, Figure.DEFAULT);
     }
 
     /**
@@ -92,15 +193,185 @@ public final class Figure implements Iterable<Shape<?>> {
      * @return The shape
      */
     public Optional<Shape<?>> shape(final String name) {
-        return Optional.ofNullable(this.shaps.get(name));
+        return Optional.ofNullable(this.shaps.get(name)).map(this::get);
+    }
+
+    /**
+     * Gives the number of shapes of this figure.
+     * @return Shapes count
+     * @since 0.5
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gives the number of modifications of this figure shapes, changing
+     * each time the shapes change. Views of the figure can compare it with
+     * the count they last saw to know whether they are stale.
+     * @return Modifications count
+     * @since 0.5
+     */
+    public int modifications() {
+        return this.modifications;
+    }
+
+    /**
+     * Gives the interner of this figure. Scalars, vectors and predicates
+     * used to build the figure shapes can be interned with it, so that
+     * structurally equal quantities are shared by all the shapes and are
+     * evaluated once per rendering. Shapes building internal quantities
+     * accept it, like
+     * {@link com.jeometry.twod.point.LineIntersectPoint} sharing the lines
+     * slopes, intercepts and verticality.
+     * @return The figure interner
+     * @since 0.5
+     */
+    public Interner interner() {
+        return this.interner;
+    }
+
+    /**
+     * Builds the dependency graph of this figure shapes, evaluating them
+     * with the given field. Shapes added afterwards are not tracked.
+     * @param field Field to evaluate the shapes with
+     * @param <T> scalar types
+     * @return Figure dependencies
+     * @since 0.5
+     */
+    public <T> Dependencies<T> dependencies(final MetricSpaceField<T> field) {
+        return new Dependencies<>(this, field);
+    }
+
+    /**
+     * Streams the figure shapes.
+     * @return A stream of the shapes
+     * @since 0.5
+     */
+    public Stream<Shape<?>> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
     }
 
     @Override
     public Iterator<Shape<?>> iterator() {
-        final List<Shape<?>> all =
-            new ArrayList<>(this.shaps.size() + this.anonymous.size());
-        all.addAll(this.shaps.values());
-        all.addAll(this.anonymous);
-        return all.iterator();
+        return Spliterators.iterator(this.spliterator());
+    }
+
+    @Override
+    public Spliterator<Shape<?>> spliterator() {
+        return new Figure.Columns(this, 0, this.size);
+    }
+
+    /**
+     * Builds the shape at a position.
+     * @param index Shape position
+     * @return The shape
+     */
+    private Shape<?> get(final int index) {
+        return new Shape<>(
+            this.renderables[index], Optional.ofNullable(this.names[index]),
+            this.palette.get(this.styles[index]), OptionalInt.of(index)
+        );
+    }
+
+    /**
+     * Appends an anonymous shape to the columns.
+     * @param renderable Shape renderable
+     * @param style Shape style index
+     * @return Shape position
+     */
+    private int append(final Renderable renderable, final int style) {
+        if (this.size == this.renderables.length) {
+            final int capacity = this.size * 2;
+            this.renderables = Arrays.copyOf(this.renderables, capacity);
+            this.names = Arrays.copyOf(this.names, capacity);
+            this.styles = Arrays.copyOf(this.styles, capacity);
+        }
+        this.renderables[this.size] = renderable;
+        this.styles[this.size] = style;
+        this.size += 1;
+        this.modifications += 1;
+        return this.size - 1;
+    }
+
+    /**
+     * Gives a style index in the palette, adding it if needed.
+     * @param style Style
+     * @return Style index
+     */
+    private int style(final Style style) {
+        return this.indexes.computeIfAbsent(
+            style, key -> {
+                this.palette.add(key);
+                return this.palette.size() - 1;
+            }
+        );
+    }
+
+    /**
+     * Spliterator over a range of the figure columns. Shapes are added at
+     * the end of the columns only, so that a range stays valid whatever
+     * is added afterwards.
+     */
+    private static final class Columns implements Spliterator<Shape<?>> {
+
+        /**
+         * Figure.
+         */
+        private final Figure figure;
+
+        /**
+         * Next shape position.
+         */
+        private int from;
+
+        /**
+         * End position (exclusive).
+         */
+        private final int end;
+
+        /**
+         * Ctor.
+         * @param figure Figure
+         * @param from First shape position
+         * @param end End position (exclusive)
+         */
+        Columns(final Figure figure, final int from, final int end) {
+            this.figure = figure;
+            this.from = from;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Shape<?>> action) {
+            final boolean result = this.from < this.end;
+            if (result) {
+                action.accept(this.figure.get(this.from));
+                this.from += 1;
+            }
+            return result;
+        }
+
+        @Override
+        public Spliterator<Shape<?>> trySplit() {
+            final int middle = (this.from + this.end) >>> 1;
+            Spliterator<Shape<?>> result = null;
+            if (middle > this.from) {
+                result = new Figure.Columns(this.figure, this.from, middle);
+                this.from = middle;
+            }
+            return result;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.end - this.from;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
     }
 }
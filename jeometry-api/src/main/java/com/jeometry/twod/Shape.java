@@ -26,14 +26,20 @@ package com.jeometry.twod;
 import com.jeometry.twod.style.Style;
 import com.jeometry.twod.style.impl.DefaultStyle;
 import java.util.Optional;
+import java.util.OptionalInt;
+import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 /**
  * Represents a Shape. A shape is a {@link Renderable} with rendering options.
+ * Shapes holding equal renderables, names and styles are equal. Shapes
+ * given by a {@link Figure} also know their position in it, telling apart
+ * equal shapes added several times.
  * @param <T> renderable type
  * @since 0.1
  */
-@ToString(includeFieldNames = false)
+@EqualsAndHashCode(exclude = "index")
+@ToString(includeFieldNames = false, exclude = "index")
 public final class Shape<T extends Renderable> {
 
     /**
@@ -51,6 +57,11 @@ public final class Shape<T extends Renderable> {
      */
     private final Style options;
 
+    /**
+     * Position in the figure, if given by a figure.
+     */
+    private final OptionalInt index;
+
     /**
      * Ctor.
      * @param rndrable Renderable
@@ -59,9 +70,23 @@ public final class Shape<T extends Renderable> {
      */
     public Shape(final T rndrable, final Optional<String> symbol,
         final Style style) {
+        this(rndrable, symbol, style, OptionalInt.empty());
+    }
+
+    /**
+     * Ctor. Builds a shape at a figure position.
+     * @param rndrable Renderable
+     * @param symbol Renderable name (or empty optional)
+     * @param style Renderable style
+     * @param index Position in the figure (or empty optional)
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Shape(final T rndrable, final Optional<String> symbol, final Style style,
+        final OptionalInt index) {
         this.rndrable = rndrable;
         this.symbol = symbol;
         this.options = style;
+        this.index = index;
     }
 
     /**
@@ -121,4 +146,14 @@ public final class Shape<T extends Renderable> {
     public Style style() {
         return this.options;
     }
+
+    /**
+     * Gives the position of this shape in the figure which gave it.
+     * Shapes built outside a figure have no position.
+     * @return The shape position (or empty optional)
+     * @since 0.5
+     */
+    public OptionalInt position() {
+        return this.index;
+    }
 }
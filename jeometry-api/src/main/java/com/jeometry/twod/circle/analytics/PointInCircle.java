@@ -24,9 +24,8 @@
 package com.jeometry.twod.circle.analytics;
 
 import com.aljebra.field.Field;
-import com.aljebra.metric.scalar.Norm;
+import com.aljebra.metric.condition.DistanceEquals;
 import com.aljebra.scalar.condition.Predicate;
-import com.aljebra.vector.Minus;
 import com.aljebra.vector.Vect;
 import com.jeometry.twod.circle.Circle;
 
@@ -59,10 +58,9 @@ public final class PointInCircle<T> implements Predicate<Field<T>> {
 
     @Override
     public boolean resolve(final Field<T> field) {
-        return field.equals(
-            this.circle.radius(),
-            new Norm<T>(new Minus<T>(this.point, this.circle.center()))
-        );
+        return new DistanceEquals<>(
+            this.point, this.circle.center(), this.circle.radius()
+        ).resolve(field);
     }
 
 }
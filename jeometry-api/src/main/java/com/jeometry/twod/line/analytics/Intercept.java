@@ -27,6 +27,7 @@ import com.aljebra.field.Field;
 import com.aljebra.scalar.Diff;
 import com.aljebra.scalar.Multiplication;
 import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
 import com.jeometry.twod.line.Line;
 import com.jeometry.twod.line.RayLine;
 import com.jeometry.twod.line.SgtLine;
@@ -76,10 +77,10 @@ public final class Intercept<T> implements Scalar<T> {
     @Override
     public T value(final Field<T> field) {
         if (!new Vertical<>(this.line).resolve(field)) {
-            final Scalar<T>[] coords = this.line.point().coords();
+            final Vect<T> point = this.line.point();
             final Scalar<T> slope = new Slope<>(this.line);
             return field.actual(
-                new Diff<T>(coords[1], new Multiplication<>(slope, coords[0]))
+                new Diff<T>(point.coord(1), new Multiplication<>(slope, point.coord(0)))
             );
         }
         throw new IllegalStateException(
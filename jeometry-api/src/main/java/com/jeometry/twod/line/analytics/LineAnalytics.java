@@ -24,13 +24,17 @@
 package com.jeometry.twod.line.analytics;
 
 import com.aljebra.field.Field;
+import com.aljebra.scalar.Interner;
 import com.aljebra.scalar.Scalar;
 import com.aljebra.scalar.condition.Predicate;
 import com.jeometry.twod.line.Line;
+import java.util.Optional;
 
 /**
  * Convenience class to regroup line analytics predicates and scalars like
- * vertical, slope and y-intercept.
+ * vertical, slope and y-intercept. When built with an {@link Interner}
+ * (like a figure interner), the analytics are interned, so that shapes
+ * analyzing the same line share the same quantities.
  * @param <T> scalar types
  * @since 0.1
  */
@@ -41,12 +45,37 @@ public final class LineAnalytics<T> {
      */
     private final Line<T> line;
 
+    /**
+     * Interner of the analytics, if any.
+     */
+    private final Optional<Interner> interner;
+
     /**
      * Constructor.
      * @param line Line for which to calculate analytics
      */
     public LineAnalytics(final Line<T> line) {
+        this(line, Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param line Line for which to calculate analytics
+     * @param interner Interner of the analytics
+     * @since 0.5
+     */
+    public LineAnalytics(final Line<T> line, final Interner interner) {
+        this(line, Optional.of(interner));
+    }
+
+    /**
+     * Constructor.
+     * @param line Line for which to calculate analytics
+     * @param interner Interner of the analytics, if any
+     */
+    private LineAnalytics(final Line<T> line, final Optional<Interner> interner) {
         this.line = line;
+        this.interner = interner;
     }
 
     /**
@@ -54,7 +83,7 @@ public final class LineAnalytics<T> {
      * @return A scalar representing the line slope
      */
     public Scalar<T> slope() {
-        return new Slope<T>(this.line);
+        return this.shared(new Slope<T>(this.line));
     }
 
     /**
@@ -62,7 +91,7 @@ public final class LineAnalytics<T> {
      * @return A scalar representing the line y-intercept
      */
     public Scalar<T> intercept() {
-        return new Intercept<T>(this.line);
+        return this.shared(new Intercept<T>(this.line));
     }
 
     /**
@@ -70,7 +99,9 @@ public final class LineAnalytics<T> {
      * @return A predicate for the line verticality
      */
     public Predicate<Field<T>> vertical() {
-        return new Vertical<>(this.line);
+        return this.interner.map(
+            shared -> shared.<Predicate<Field<T>>>intern(new Vertical<>(this.line))
+        ).orElseGet(() -> new Vertical<>(this.line));
     }
 
     /**
@@ -79,6 +110,15 @@ public final class LineAnalytics<T> {
      * @return A scalar representing the ordinate
      */
     public Scalar<T> ordinate(final Scalar<T> abcissa) {
-        return new LinePointOrdinate<>(this.line, abcissa);
+        return this.shared(new LinePointOrdinate<>(this.line, abcissa));
+    }
+
+    /**
+     * Interns a scalar, if this analytics has an interner.
+     * @param scalar Scalar to intern
+     * @return The interned scalar, or the given scalar
+     */
+    private Scalar<T> shared(final Scalar<T> scalar) {
+        return this.interner.map(shared -> shared.scalar(scalar)).orElse(scalar);
     }
 }
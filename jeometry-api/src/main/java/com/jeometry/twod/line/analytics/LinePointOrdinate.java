@@ -65,7 +65,7 @@ public final class LinePointOrdinate<T> implements Scalar<T> {
     @Override
     public T value(final Field<T> field) {
         final boolean inline = field.equals(
-            this.line.point().coords()[0], this.abscissa
+            this.line.point().coord(0), this.abscissa
         );
         final boolean vertical = new Vertical<>(this.line).resolve(field);
         if (vertical && !inline) {
@@ -24,6 +24,8 @@
 package com.jeometry.twod.line.analytics;
 
 import com.aljebra.field.Field;
+import com.aljebra.scalar.Interner;
+import com.aljebra.scalar.Scalar;
 import com.aljebra.scalar.condition.And;
 import com.aljebra.scalar.condition.Equals;
 import com.aljebra.scalar.condition.Not;
@@ -42,14 +44,24 @@ import com.jeometry.twod.segment.Segment;
 public final class Parallel<T> implements Predicate<Field<T>> {
 
     /**
-     * First line.
+     * First line verticality.
      */
-    private final Line<T> first;
+    private final Predicate<Field<T>> fvertical;
 
     /**
-     * Second line.
+     * Second line verticality.
      */
-    private final Line<T> second;
+    private final Predicate<Field<T>> svertical;
+
+    /**
+     * First line slope.
+     */
+    private final Scalar<T> fslope;
+
+    /**
+     * Second line slope.
+     */
+    private final Scalar<T> sslope;
 
     /**
      * Constructor.
@@ -57,8 +69,19 @@ public final class Parallel<T> implements Predicate<Field<T>> {
      * @param second Second line
      */
     public Parallel(final Line<T> first, final Line<T> second) {
-        this.first = first;
-        this.second = second;
+        this(new LineAnalytics<>(first), new LineAnalytics<>(second));
+    }
+
+    /**
+     * Constructor. Lines slopes and verticality are interned, so that
+     * they are shared with the shapes analyzing the same lines.
+     * @param first First line
+     * @param second Second line
+     * @param interner Interner
+     * @since 0.5
+     */
+    public Parallel(final Line<T> first, final Line<T> second, final Interner interner) {
+        this(new LineAnalytics<>(first, interner), new LineAnalytics<>(second, interner));
     }
 
     /**
@@ -79,17 +102,25 @@ public final class Parallel<T> implements Predicate<Field<T>> {
         this(new SgtLine<>(first), new SgtLine<>(second));
     }
 
+    /**
+     * Constructor.
+     * @param first First line analytics
+     * @param second Second line analytics
+     */
+    private Parallel(final LineAnalytics<T> first, final LineAnalytics<T> second) {
+        this.fvertical = first.vertical();
+        this.svertical = second.vertical();
+        this.fslope = first.slope();
+        this.sslope = second.slope();
+    }
+
     @Override
     public boolean resolve(final Field<T> field) {
-        final Vertical<T> fvertical = new Vertical<>(this.first);
-        final Vertical<T> svertical = new Vertical<>(this.second);
-        final boolean both = new And<>(fvertical, svertical).resolve(field);
+        final boolean both = new And<>(this.fvertical, this.svertical).resolve(field);
         final boolean none = new And<>(
-            new Not<>(fvertical), new Not<>(svertical)
-        ).resolve(field);
-        return both || none && new Equals<>(
-            new Slope<>(this.first), new Slope<>(this.second)
+            new Not<>(this.fvertical), new Not<>(this.svertical)
         ).resolve(field);
+        return both || none && new Equals<>(this.fslope, this.sslope).resolve(field);
     }
 
 }
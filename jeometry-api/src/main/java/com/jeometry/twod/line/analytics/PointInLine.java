@@ -59,13 +59,13 @@ public final class PointInLine<T> implements Predicate<Field<T>> {
 
     @Override
     public boolean resolve(final Field<T> field) {
-        final Scalar<T> xcoor = this.point.coords()[0];
+        final Scalar<T> xcoor = this.point.coord(0);
         final Predicate<Field<T>> result;
         if (new Vertical<>(this.line).resolve(field)) {
-            result = new Equals<>(xcoor, this.line.point().coords()[0]);
+            result = new Equals<>(xcoor, this.line.point().coord(0));
         } else {
             result = new Equals<>(
-                this.point.coords()[1],
+                this.point.coord(1),
                 new LinePointOrdinate<T>(this.line, xcoor)
             );
         }
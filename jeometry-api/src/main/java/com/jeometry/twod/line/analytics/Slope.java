@@ -26,6 +26,7 @@ package com.jeometry.twod.line.analytics;
 import com.aljebra.field.Field;
 import com.aljebra.scalar.Division;
 import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
 import com.jeometry.twod.line.Line;
 import com.jeometry.twod.line.RayLine;
 import com.jeometry.twod.line.SgtLine;
@@ -75,10 +76,9 @@ public final class Slope<T> implements Scalar<T> {
     @Override
     public T value(final Field<T> field) {
         if (!new Vertical<>(this.line).resolve(field)) {
-            final Scalar<T>[] coords = this.line.direction().coords();
-            return field.actual(new Division<T>(coords[1], coords[0]));
+            final Vect<T> direction = this.line.direction();
+            return field.actual(new Division<T>(direction.coord(1), direction.coord(0)));
         }
         throw new IllegalStateException("Line has infinite slope.");
     }
-
 }
@@ -73,7 +73,7 @@ public final class Vertical<T> implements Predicate<Field<T>> {
     @Override
     public boolean resolve(final Field<T> field) {
         return field.equals(
-            this.line.direction().coords()[0], new AddIdentity<>()
+            this.line.direction().coord(0), new AddIdentity<>()
         );
     }
 
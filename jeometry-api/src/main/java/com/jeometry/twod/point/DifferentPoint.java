@@ -42,7 +42,7 @@ public class DifferentPoint<T> extends XyPoint<T> {
      */
     public DifferentPoint(final Vect<T> point) {
         super(
-            new Different<T>(point.coords()[0]), new Different<T>(point.coords()[1])
+            new Different<T>(point.coord(0)), new Different<T>(point.coord(1))
         );
     }
 
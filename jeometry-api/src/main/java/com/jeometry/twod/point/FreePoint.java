@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.point;
+
+import com.aljebra.scalar.Variable;
+import lombok.ToString;
+
+/**
+ * Represents a free point whose coordinates can be changed, for example
+ * a point dragged by a user. Points built from it follow its moves.
+ * @param <T> scalar types
+ * @since 0.5
+ */
+@ToString(callSuper = true)
+public final class FreePoint<T> extends XyPoint<T> {
+
+    /**
+     * Constructor.
+     * @param xcoor Initial X coordinate
+     * @param ycoor Initial Y coordinate
+     */
+    public FreePoint(final T xcoor, final T ycoor) {
+        super(new Variable<>(xcoor), new Variable<>(ycoor));
+    }
+
+    /**
+     * Moves the point.
+     * @param xcoor New X coordinate
+     * @param ycoor New Y coordinate
+     */
+    public void move(final T xcoor, final T ycoor) {
+        ((Variable<T>) this.xcoor()).set(xcoor);
+        ((Variable<T>) this.ycoor()).set(ycoor);
+    }
+
+}
@@ -41,7 +41,7 @@ public final class InLinePoint<T> extends XyPoint<T> {
      * @param line The line to belong to
      */
     public InLinePoint(final Line<T> line) {
-        this(line, line.point().coords()[0]);
+        this(line, line.point().coord(0));
     }
 
     /**
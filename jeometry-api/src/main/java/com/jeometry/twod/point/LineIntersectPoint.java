@@ -25,18 +25,22 @@ package com.jeometry.twod.point;
 
 import com.aljebra.scalar.Diff;
 import com.aljebra.scalar.Division;
+import com.aljebra.scalar.Interner;
 import com.aljebra.scalar.Scalar;
 import com.aljebra.scalar.Throwing;
+import com.aljebra.scalar.condition.Not;
 import com.aljebra.scalar.condition.Ternary;
 import com.aljebra.vector.FixedVector;
 import com.aljebra.vector.Vect;
 import com.jeometry.twod.line.Line;
-import com.jeometry.twod.line.analytics.Intersecting;
 import com.jeometry.twod.line.analytics.LineAnalytics;
+import com.jeometry.twod.line.analytics.Parallel;
 import lombok.ToString;
 
 /**
- * Two lines intersection point.
+ * Two lines intersection point. When built with an {@link Interner} (like
+ * a figure interner), the lines slopes, intercepts and verticality are
+ * interned, so that intersection points of the same lines share them.
  * @param <T> scalar types
  * @since 0.1
  */
@@ -49,59 +53,75 @@ public final class LineIntersectPoint<T> extends XyPoint<T> {
      * @param second Second line
      */
     public LineIntersectPoint(final Line<T> first, final Line<T> second) {
-        super(LineIntersectPoint.vector(first, second));
+        this(first, second, new Interner());
+    }
+
+    /**
+     * Constructor.
+     * @param first First line
+     * @param second Second line
+     * @param interner Interner of the lines analytics
+     * @since 0.5
+     */
+    public LineIntersectPoint(final Line<T> first, final Line<T> second,
+        final Interner interner) {
+        super(LineIntersectPoint.vector(first, second, interner));
     }
 
     /**
      * Builds a vector corresponding to the intersection point.
      * @param first First line
      * @param second Second line
+     * @param interner Interner of the lines analytics
      * @param <T> scalar types
      * @return The intersection point
      */
-    private static <T> Vect<T> vector(final Line<T> first, final Line<T> second) {
-        final Scalar<T> abscissa = LineIntersectPoint.abscissa(first, second);
+    private static <T> Vect<T> vector(final Line<T> first, final Line<T> second,
+        final Interner interner) {
+        final LineAnalytics<T> fst = new LineAnalytics<>(first, interner);
+        final LineAnalytics<T> snd = new LineAnalytics<>(second, interner);
+        final Scalar<T> abscissa = LineIntersectPoint.abscissa(
+            first, second, fst, snd, interner
+        );
         return new FixedVector<T>(
-            abscissa, LineIntersectPoint.ordinate(first, second, abscissa)
+            abscissa, LineIntersectPoint.ordinate(fst, snd, abscissa)
         );
     }
 
     /**
      * Calculates the ordinate of the intersecting point given its the abscissa.
-     * @param first First line
-     * @param second Second line
+     * @param fst First line analytics
+     * @param snd Second line analytics
      * @param abcissa Intersecting point abscissa
      * @param <T> scalar types
      * @return Scalar representing the ordinate
      */
-    private static <T> Scalar<T> ordinate(final Line<T> first, final Line<T> second,
-        final Scalar<T> abcissa) {
-        final LineAnalytics<T> fst = new LineAnalytics<>(first);
-        return new Ternary<>(
-            fst.vertical(),
-            new LineAnalytics<>(second).ordinate(abcissa),
-            fst.ordinate(abcissa)
-        );
+    private static <T> Scalar<T> ordinate(final LineAnalytics<T> fst,
+        final LineAnalytics<T> snd, final Scalar<T> abcissa) {
+        return new Ternary<>(fst.vertical(), snd.ordinate(abcissa), fst.ordinate(abcissa));
     }
 
     /**
      * Calculates abscissa of the intersecting point.
      * @param first First line
      * @param second Second line
+     * @param fst First line analytics
+     * @param snd Second line analytics
+     * @param interner Interner of the lines analytics
      * @param <T> scalar types
      * @return Scalar representing the abscissa
+     * @checkstyle ParameterNumberCheck (3 lines)
      */
-    private static <T> Scalar<T> abscissa(final Line<T> first, final Line<T> second) {
-        final LineAnalytics<T> fst = new LineAnalytics<>(first);
-        final LineAnalytics<T> snd = new LineAnalytics<>(second);
+    private static <T> Scalar<T> abscissa(final Line<T> first, final Line<T> second,
+        final LineAnalytics<T> fst, final LineAnalytics<T> snd, final Interner interner) {
         return new Ternary<>(
-            new Intersecting<>(first, second),
+            new Not<>(new Parallel<>(first, second, interner)),
             new Ternary<>(
                 fst.vertical(),
-                first.point().coords()[0],
+                first.point().coord(0),
                 new Ternary<>(
                     snd.vertical(),
-                    second.point().coords()[0],
+                    second.point().coord(0),
                     new Division<T>(
                         new Diff<>(snd.intercept(), fst.intercept()),
                         new Diff<>(fst.slope(), snd.slope())
@@ -52,7 +52,7 @@ public class XyPoint<T> extends FixedVector<T> implements Renderable {
      * @param vector Input vector
      */
     public XyPoint(final Vect<T> vector) {
-        super(Arrays.asList(vector.coords()[0], vector.coords()[1]));
+        super(Arrays.asList(vector.coord(0), vector.coord(1)));
     }
 
     /**
@@ -60,7 +60,7 @@ public class XyPoint<T> extends FixedVector<T> implements Renderable {
      * @return X coordinate of the point
      */
     public final Scalar<T> xcoor() {
-        return this.coords()[0];
+        return this.coord(0);
     }
 
     /**
@@ -68,7 +68,7 @@ public class XyPoint<T> extends FixedVector<T> implements Renderable {
      * @return Y coordinate of the point
      */
     public final Scalar<T> ycoor() {
-        return this.coords()[1];
+        return this.coord(1);
     }
 
 }
@@ -82,8 +82,8 @@ public class CircleDiameter<T> extends PtsSegment<T> {
             )
         );
         return new FixedVector<>(
-            new Ternary<>(predicate, point.coords()[0], err),
-            new Ternary<>(predicate, point.coords()[1], err)
+            new Ternary<>(predicate, point.coord(0), err),
+            new Ternary<>(predicate, point.coord(1), err)
         );
     }
 
@@ -0,0 +1,609 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.transform;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.matrix.FixedMatrix;
+import com.aljebra.matrix.Matrix;
+import com.aljebra.metric.angle.VectsDegrees;
+import com.aljebra.metric.scalar.Norm;
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.AddIdentity;
+import com.aljebra.scalar.AddInverse;
+import com.aljebra.scalar.Diff;
+import com.aljebra.scalar.Division;
+import com.aljebra.scalar.MultIdentity;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.Throwing;
+import com.aljebra.scalar.condition.And;
+import com.aljebra.scalar.condition.Equals;
+import com.aljebra.scalar.condition.Predicate;
+import com.aljebra.scalar.condition.Ternary;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.angle.Angle;
+import com.jeometry.twod.angle.VectsAngle;
+import com.jeometry.twod.arc.Arc;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.Polyline;
+import com.jeometry.twod.line.PtDirLine;
+import com.jeometry.twod.line.analytics.Perpendicular;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.ray.PtDirRay;
+import com.jeometry.twod.ray.Ray;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.segment.Segment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A 2D affine transformation, represented by the homogeneous matrix
+ * [[a, c, e], [b, d, f], [0, 0, 1]]: a point (x, y) is mapped to
+ * (a.x + c.y + e, b.x + d.y + f). Coefficients are scalars, so that
+ * compositions and inverses are lazy: transforming many shapes by a composed
+ * transformation shares the same six coefficients expressions. Circles are
+ * transformed as by a similarity (center transformed, radius scaled): the
+ * radius of a circle transformed by a non-similarity, like a shear, fails
+ * to evaluate. Arcs are rejected, as arcs angles are numbers, which cannot
+ * follow the transformation scalar coefficients without evaluating them.
+ * Renderables which are neither vectors nor one of the known shapes are
+ * given back unchanged.
+ * @param <T> scalar types
+ * @since 0.5
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.ShortVariable"})
+public final class AffineTransform2D<T> {
+
+    /**
+     * Coefficients a, b, c, d, e, f.
+     */
+    private final List<Scalar<T>> coefs;
+
+    /**
+     * Constructor.
+     * @param linear Linear part coefficients a, b, c, d (column by column)
+     * @param translation Translation coefficients e, f
+     */
+    public AffineTransform2D(final List<? extends Scalar<T>> linear,
+        final Vect<T> translation) {
+        Preconditions.checkArgument(
+            linear.size() == 4,
+            "Expected 4 linear coefficients but got %s", linear.size()
+        );
+        this.coefs = new ArrayList<>(6);
+        this.coefs.addAll(linear);
+        this.coefs.add(translation.coord(0));
+        this.coefs.add(translation.coord(1));
+    }
+
+    /**
+     * Constructor. Builds the transformation from a homogeneous 3x3 matrix,
+     * whose last line is considered to be (0, 0, 1).
+     * @param matrix Homogeneous matrix
+     */
+    public AffineTransform2D(final Matrix<T> matrix) {
+        this(AffineTransform2D.linear(matrix), AffineTransform2D.translation(matrix));
+    }
+
+    /**
+     * Builds the identity transformation.
+     * @param <T> scalar types
+     * @return Identity transformation
+     */
+    public static <T> AffineTransform2D<T> identity() {
+        return AffineTransform2D.translation(
+            new XyPoint<>(new AddIdentity<>(), new AddIdentity<>())
+        );
+    }
+
+    /**
+     * Builds a translation.
+     * @param vect Translation vector
+     * @param <T> scalar types
+     * @return Translation
+     */
+    public static <T> AffineTransform2D<T> translation(final Vect<T> vect) {
+        return new AffineTransform2D<>(
+            Arrays.asList(
+                new MultIdentity<T>(), new AddIdentity<T>(),
+                new AddIdentity<T>(), new MultIdentity<T>()
+            ),
+            vect
+        );
+    }
+
+    /**
+     * Builds a homothety centered at the origin.
+     * @param factor Scale factor
+     * @param <T> scalar types
+     * @return Homothety
+     */
+    public static <T> AffineTransform2D<T> scaling(final Scalar<T> factor) {
+        return new AffineTransform2D<>(
+            Arrays.asList(factor, new AddIdentity<T>(), new AddIdentity<T>(), factor),
+            new XyPoint<>(new AddIdentity<>(), new AddIdentity<>())
+        );
+    }
+
+    /**
+     * Builds a point reflection.
+     * @param center Reflection center
+     * @param <T> scalar types
+     * @return Point reflection
+     */
+    public static <T> AffineTransform2D<T> reflection(final Vect<T> center) {
+        final Scalar<T> minus = new AddInverse<>(new MultIdentity<>());
+        return new AffineTransform2D<>(
+            Arrays.asList(minus, new AddIdentity<T>(), new AddIdentity<T>(), minus),
+            new XyPoint<>(
+                new Add<>(center.coord(0), center.coord(0)),
+                new Add<>(center.coord(1), center.coord(1))
+            )
+        );
+    }
+
+    /**
+     * Builds a line reflection.
+     * @param axis Reflection axis
+     * @param <T> scalar types
+     * @return Line reflection
+     */
+    public static <T> AffineTransform2D<T> reflection(final Line<T> axis) {
+        final Vect<T> dir = axis.direction();
+        final Scalar<T> xsq = new Multiplication<>(dir.coord(0), dir.coord(0));
+        final Scalar<T> ysq = new Multiplication<>(dir.coord(1), dir.coord(1));
+        final Scalar<T> norm = new Add<>(xsq, ysq);
+        final Scalar<T> diag = new Division<>(new Diff<>(xsq, ysq), norm);
+        final Scalar<T> cross = new Division<>(
+            new Add<>(
+                new Multiplication<>(dir.coord(0), dir.coord(1)),
+                new Multiplication<>(dir.coord(0), dir.coord(1))
+            ),
+            norm
+        );
+        final AffineTransform2D<T> linear = new AffineTransform2D<>(
+            Arrays.asList(diag, cross, cross, new AddInverse<>(diag)),
+            new XyPoint<>(new AddIdentity<>(), new AddIdentity<>())
+        );
+        final Vect<T> point = axis.point();
+        final Vect<T> image = linear.point(point);
+        return new AffineTransform2D<>(
+            linear.coefs.subList(0, 4),
+            new XyPoint<>(
+                new Diff<>(point.coord(0), image.coord(0)),
+                new Diff<>(point.coord(1), image.coord(1))
+            )
+        );
+    }
+
+    /**
+     * Composes this transformation with another one.
+     * @param other Transformation to apply before this one
+     * @return The transformation applying the other one, then this one
+     */
+    public AffineTransform2D<T> compose(final AffineTransform2D<T> other) {
+        final Vect<T> trans = this.point(other.translation());
+        return new AffineTransform2D<>(
+            Arrays.asList(
+                this.dot(this.a(), this.c(), other.a(), other.b()),
+                this.dot(this.b(), this.d(), other.a(), other.b()),
+                this.dot(this.a(), this.c(), other.c(), other.d()),
+                this.dot(this.b(), this.d(), other.c(), other.d())
+            ),
+            trans
+        );
+    }
+
+    /**
+     * Gives this transformation inverse.
+     * @return Inverse transformation
+     */
+    public AffineTransform2D<T> inverse() {
+        final Scalar<T> det = this.determinant();
+        final AffineTransform2D<T> linear = new AffineTransform2D<>(
+            Arrays.asList(
+                new Division<>(this.d(), det),
+                new Division<>(new AddInverse<>(this.b()), det),
+                new Division<>(new AddInverse<>(this.c()), det),
+                new Division<>(this.a(), det)
+            ),
+            new XyPoint<>(new AddIdentity<>(), new AddIdentity<>())
+        );
+        final Vect<T> image = linear.point(this.translation());
+        return new AffineTransform2D<>(
+            linear.coefs.subList(0, 4),
+            new XyPoint<>(
+                new AddInverse<>(image.coord(0)), new AddInverse<>(image.coord(1))
+            )
+        );
+    }
+
+    /**
+     * Gives the determinant of this transformation linear part.
+     * @return Determinant
+     */
+    public Scalar<T> determinant() {
+        return new Diff<>(
+            new Multiplication<>(this.a(), this.d()),
+            new Multiplication<>(this.b(), this.c())
+        );
+    }
+
+    /**
+     * Gives the homogeneous matrix of this transformation.
+     * @return A 3x3 matrix
+     */
+    public Matrix<T> matrix() {
+        return new FixedMatrix<>(
+            3, 3,
+            Arrays.asList(
+                this.a(), this.b(), new AddIdentity<T>(),
+                this.c(), this.d(), new AddIdentity<T>(),
+                this.e(), this.f(), new MultIdentity<T>()
+            )
+        );
+    }
+
+    /**
+     * Transforms a point.
+     * @param point Point to transform
+     * @return Transformed point
+     */
+    public XyPoint<T> point(final Vect<T> point) {
+        return new XyPoint<>(
+            new Add<>(this.dot(this.a(), this.c(), point.coord(0), point.coord(1)), this.e()),
+            new Add<>(this.dot(this.b(), this.d(), point.coord(0), point.coord(1)), this.f())
+        );
+    }
+
+    /**
+     * Transforms a direction, by this transformation linear part.
+     * @param vect Direction to transform
+     * @return Transformed direction
+     */
+    public XyPoint<T> direction(final Vect<T> vect) {
+        return new XyPoint<>(
+            this.dot(this.a(), this.c(), vect.coord(0), vect.coord(1)),
+            this.dot(this.b(), this.d(), vect.coord(0), vect.coord(1))
+        );
+    }
+
+    /**
+     * Transforms a line.
+     * @param line Line to transform
+     * @return Transformed line
+     */
+    public Line<T> apply(final Line<T> line) {
+        return new PtDirLine<>(this.point(line.point()), this.direction(line.direction()));
+    }
+
+    /**
+     * Transforms a segment.
+     * @param seg Segment to transform
+     * @return Transformed segment
+     */
+    public Segment<T> apply(final Segment<T> seg) {
+        return new PtsSegment<>(this.point(seg.start()), this.point(seg.end()));
+    }
+
+    /**
+     * Transforms a ray.
+     * @param ray Ray to transform
+     * @return Transformed ray
+     */
+    public Ray<T> apply(final Ray<T> ray) {
+        return new PtDirRay<>(this.point(ray.origin()), this.direction(ray.direction()));
+    }
+
+    /**
+     * Transforms a polyline.
+     * @param poly Polyline to transform
+     * @return Transformed polyline
+     */
+    public Polyline<T> apply(final Polyline<T> poly) {
+        final List<Vect<T>> points = new ArrayList<>(poly.points().size());
+        for (final Vect<T> point : poly.points()) {
+            points.add(this.point(point));
+        }
+        return new PtsPolyline<>(points);
+    }
+
+    /**
+     * Transforms an angle. Transformations reversing the orientation swap
+     * the angle start and end, so that the transformed angle covers the
+     * image of the angle sector.
+     * @param angle Angle to transform
+     * @return Transformed angle
+     */
+    public Angle<T> apply(final Angle<T> angle) {
+        final Predicate<Field<T>> reversing = new AffineTransform2D.Reversing<>(
+            this.direction(new XyPoint<>(new MultIdentity<>(), new AddIdentity<>())),
+            this.direction(new XyPoint<>(new AddIdentity<>(), new MultIdentity<>()))
+        );
+        final Vect<T> start = this.direction(angle.start());
+        final Vect<T> end = this.direction(angle.end());
+        return new VectsAngle<>(
+            this.point(angle.origin()),
+            AffineTransform2D.choose(reversing, end, start),
+            AffineTransform2D.choose(reversing, start, end)
+        );
+    }
+
+    /**
+     * Transforms a circle, as a similarity would. The transformed circle
+     * radius throws an {@link IllegalArgumentException} when evaluated if
+     * this transformation is not a similarity.
+     * @param circle Circle to transform
+     * @return Transformed circle
+     */
+    public Circle<T> apply(final Circle<T> circle) {
+        final Vect<T> first = this.direction(
+            new XyPoint<>(new MultIdentity<>(), new AddIdentity<>())
+        );
+        final Vect<T> second = this.direction(
+            new XyPoint<>(new AddIdentity<>(), new MultIdentity<>())
+        );
+        return new PtRadCircle<>(
+            this.point(circle.center()),
+            new Ternary<>(
+                new And<>(
+                    new Perpendicular<>(first, second),
+                    new Equals<>(new Norm<>(first), new Norm<>(second))
+                ),
+                new Multiplication<>(circle.radius(), new Norm<>(first)),
+                new Throwing<>(
+                    new IllegalArgumentException(
+                        String.format(
+                            "Unable to transform %s by %s, which is not a similarity.",
+                            circle, this
+                        )
+                    )
+                )
+            )
+        );
+    }
+
+    /**
+     * Transforms a renderable. Unknown renderables are given back unchanged.
+     * @param renderable Renderable to transform
+     * @return Transformed renderable
+     * @throws IllegalArgumentException If the renderable is an arc
+     * @checkstyle CyclomaticComplexityCheck (35 lines)
+     */
+    @SuppressWarnings({"unchecked", "PMD.CyclomaticComplexity"})
+    public Renderable apply(final Renderable renderable) {
+        final Renderable result;
+        if (renderable instanceof Vect) {
+            result = this.point((Vect<T>) renderable);
+        } else if (renderable instanceof Line) {
+            result = this.apply((Line<T>) renderable);
+        } else if (renderable instanceof Segment) {
+            result = this.apply((Segment<T>) renderable);
+        } else if (renderable instanceof Ray) {
+            result = this.apply((Ray<T>) renderable);
+        } else if (renderable instanceof Polyline) {
+            result = this.apply((Polyline<T>) renderable);
+        } else if (renderable instanceof Angle) {
+            result = this.apply((Angle<T>) renderable);
+        } else if (renderable instanceof Circle) {
+            result = this.apply((Circle<T>) renderable);
+        } else if (renderable instanceof Arc) {
+            throw new IllegalArgumentException(
+                String.format("Unable to transform the arc %s by %s.", renderable, this)
+            );
+        } else {
+            result = renderable;
+        }
+        return result;
+    }
+
+    /**
+     * Transforms all the shapes of a figure. Transformed shapes keep
+     * their names and styles, and are not evaluated. Unknown shapes are
+     * kept unchanged.
+     * @param figure Figure to transform
+     * @return A figure holding the transformed shapes
+     * @throws IllegalArgumentException If the figure holds an arc
+     */
+    public Figure apply(final Figure figure) {
+        final Figure result = new Figure();
+        for (final Shape<?> shape : figure) {
+            result.add(
+                new Shape<>(this.apply(shape.renderable()), shape.name(), shape.style())
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Gives the translation part.
+     * @return Translation vector
+     */
+    private Vect<T> translation() {
+        return new XyPoint<>(this.e(), this.f());
+    }
+
+    /**
+     * Coefficient a.
+     * @return Coefficient
+     */
+    private Scalar<T> a() {
+        return this.coefs.get(0);
+    }
+
+    /**
+     * Coefficient b.
+     * @return Coefficient
+     */
+    private Scalar<T> b() {
+        return this.coefs.get(1);
+    }
+
+    /**
+     * Coefficient c.
+     * @return Coefficient
+     */
+    private Scalar<T> c() {
+        return this.coefs.get(2);
+    }
+
+    /**
+     * Coefficient d.
+     * @return Coefficient
+     */
+    private Scalar<T> d() {
+        return this.coefs.get(3);
+    }
+
+    /**
+     * Coefficient e.
+     * @return Coefficient
+     */
+    private Scalar<T> e() {
+        return this.coefs.get(4);
+    }
+
+    /**
+     * Coefficient f.
+     * @return Coefficient
+     */
+    private Scalar<T> f() {
+        return this.coefs.get(5);
+    }
+
+    /**
+     * Builds the scalar x1.x2 + y1.y2.
+     * @param xfirst First x
+     * @param yfirst First y
+     * @param xsecond Second x
+     * @param ysecond Second y
+     * @return Scalar representing the sum of products
+     */
+    private Scalar<T> dot(final Scalar<T> xfirst, final Scalar<T> yfirst,
+        final Scalar<T> xsecond, final Scalar<T> ysecond) {
+        return new Add<>(
+            new Multiplication<>(xfirst, xsecond), new Multiplication<>(yfirst, ysecond)
+        );
+    }
+
+    /**
+     * Builds a vector evaluating to one of two vectors, depending on
+     * a predicate.
+     * @param pred Predicate to evaluate
+     * @param oks Vector to evaluate to if predicate is true
+     * @param kos Vector to evaluate to if predicate is false
+     * @param <T> scalar types
+     * @return A vector whose coordinates are ternaries
+     */
+    private static <T> Vect<T> choose(final Predicate<Field<T>> pred, final Vect<T> oks,
+        final Vect<T> kos) {
+        return new XyPoint<>(
+            new Ternary<>(pred, oks.coord(0), kos.coord(0)),
+            new Ternary<>(pred, oks.coord(1), kos.coord(1))
+        );
+    }
+
+    /**
+     * Extracts the linear coefficients of a homogeneous matrix.
+     * @param matrix Homogeneous matrix
+     * @param <T> scalar types
+     * @return Linear coefficients, column by column
+     */
+    private static <T> List<Scalar<T>> linear(final Matrix<T> matrix) {
+        Preconditions.checkArgument(
+            matrix.lines() == 3 && matrix.columns() == 3,
+            "Expected a 3x3 matrix but got %s lines and %s columns",
+            matrix.lines(), matrix.columns()
+        );
+        final Scalar<T>[] coords = matrix.coords();
+        return Arrays.asList(coords[0], coords[1], coords[3], coords[4]);
+    }
+
+    /**
+     * Extracts the translation of a homogeneous matrix.
+     * @param matrix Homogeneous matrix
+     * @param <T> scalar types
+     * @return Translation vector
+     */
+    private static <T> Vect<T> translation(final Matrix<T> matrix) {
+        final Scalar<T>[] column = matrix.column(3);
+        return new XyPoint<>(column[0], column[1]);
+    }
+
+    /**
+     * A predicate to determine if a linear transformation reverses the
+     * orientation, that is if its determinant is negative: the images of
+     * the base vectors make a negative angle.
+     * @param <T> scalar types
+     */
+    private static final class Reversing<T> implements Predicate<Field<T>> {
+
+        /**
+         * Image of the first base vector.
+         */
+        private final Vect<T> first;
+
+        /**
+         * Image of the second base vector.
+         */
+        private final Vect<T> second;
+
+        /**
+         * Constructor.
+         * @param first Image of the first base vector
+         * @param second Image of the second base vector
+         */
+        Reversing(final Vect<T> first, final Vect<T> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean resolve(final Field<T> field) {
+            if (field instanceof MetricSpaceField<?>) {
+                return new VectsDegrees<>(this.first, this.second).resolve(
+                    ((MetricSpaceField<T>) field).product()
+                ).doubleValue() < 0.;
+            } else {
+                throw new UnsupportedOperationException(
+                    String.format("Field %s is not a metric space field", field)
+                );
+            }
+        }
+    }
+}
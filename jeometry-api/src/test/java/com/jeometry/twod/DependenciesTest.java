@@ -0,0 +1,273 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.point.FreePoint;
+import com.jeometry.twod.point.MidSegPoint;
+import com.jeometry.twod.point.OutsideLinePoint;
+import com.jeometry.twod.point.RandomPoint;
+import com.jeometry.twod.segment.PtsSegment;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link Dependencies}.
+ * @since 0.5
+ */
+public final class DependenciesTest {
+
+    /**
+     * {@link Dependencies} orders shapes topologically.
+     */
+    @Test
+    public void ordersTopologically() {
+        final DependenciesTest.Sample sample = new DependenciesTest.Sample();
+        final List<Shape<?>> order = sample.dependencies().order();
+        MatcherAssert.assertThat(order, Matchers.hasSize(7));
+        MatcherAssert.assertThat(
+            order.indexOf(sample.first), Matchers.lessThan(order.indexOf(sample.segment))
+        );
+        MatcherAssert.assertThat(
+            order.indexOf(sample.segment), Matchers.lessThan(order.indexOf(sample.middle))
+        );
+        MatcherAssert.assertThat(
+            order.indexOf(sample.middle), Matchers.lessThan(order.indexOf(sample.line))
+        );
+        MatcherAssert.assertThat(
+            order.indexOf(sample.third), Matchers.lessThan(order.indexOf(sample.line))
+        );
+    }
+
+    /**
+     * {@link Dependencies} gives the shapes a shape depends on.
+     */
+    @Test
+    public void givesUpstreamShapes() {
+        final DependenciesTest.Sample sample = new DependenciesTest.Sample();
+        MatcherAssert.assertThat(
+            sample.dependencies().upstream(sample.line),
+            Matchers.containsInAnyOrder(
+                sample.first, sample.second, sample.third, sample.segment, sample.middle
+            )
+        );
+        MatcherAssert.assertThat(
+            sample.dependencies().upstream(sample.first), Matchers.empty()
+        );
+    }
+
+    /**
+     * {@link Dependencies} gives the shapes downstream of a point
+     * in topological order.
+     */
+    @Test
+    public void givesDownstreamShapes() {
+        final DependenciesTest.Sample sample = new DependenciesTest.Sample();
+        final Dependencies<Double> dependencies = sample.dependencies();
+        MatcherAssert.assertThat(
+            dependencies.downstream((FreePoint<Double>) sample.first.renderable()),
+            Matchers.contains(sample.first, sample.segment, sample.middle, sample.line)
+        );
+        MatcherAssert.assertThat(
+            dependencies.downstream((FreePoint<Double>) sample.third.renderable()),
+            Matchers.contains(sample.third, sample.line)
+        );
+    }
+
+    /**
+     * {@link Dependencies} evaluates again the shapes downstream
+     * of a moved point only.
+     */
+    @Test
+    public void recomputesDownstreamShapes() {
+        final DependenciesTest.Sample sample = new DependenciesTest.Sample();
+        final Dependencies<Double> dependencies = sample.dependencies();
+        final MidSegPoint<Double> middle =
+            (MidSegPoint<Double>) sample.middle.renderable();
+        final RandomPoint<Double> random =
+            (RandomPoint<Double>) sample.random.renderable();
+        final Double before = dependencies.actual(random.ycoor());
+        MatcherAssert.assertThat(
+            dependencies.actual(middle.xcoor()), Matchers.closeTo(1., 1.e-9)
+        );
+        final FreePoint<Double> first = (FreePoint<Double>) sample.first.renderable();
+        first.move(4., 2.);
+        MatcherAssert.assertThat(
+            dependencies.moved(first),
+            Matchers.contains(sample.first, sample.segment, sample.middle, sample.line)
+        );
+        MatcherAssert.assertThat(
+            dependencies.actual(middle.xcoor()), Matchers.closeTo(3., 1.e-9)
+        );
+        MatcherAssert.assertThat(
+            dependencies.actual(middle.ycoor()), Matchers.closeTo(1., 1.e-9)
+        );
+        MatcherAssert.assertThat(
+            dependencies.actual(random.ycoor()), Matchers.equalTo(before)
+        );
+    }
+
+    /**
+     * {@link Dependencies} tells apart equal shapes added several times.
+     */
+    @Test
+    public void tellsApartEqualShapes() {
+        final FreePoint<Double> point = new FreePoint<>(1., 1.);
+        final Figure figure = new Figure().add(point).add(point);
+        final List<Shape<?>> shapes = figure.stream().collect(Collectors.toList());
+        final Dependencies<Double> dependencies = figure.dependencies(new Decimal());
+        MatcherAssert.assertThat(
+            dependencies.upstream(shapes.get(1)).stream()
+                .map(shape -> shape.position().getAsInt())
+                .collect(Collectors.toList()),
+            Matchers.contains(0)
+        );
+        MatcherAssert.assertThat(
+            dependencies.upstream(shapes.get(0)).stream()
+                .map(shape -> shape.position().getAsInt())
+                .collect(Collectors.toList()),
+            Matchers.contains(1)
+        );
+    }
+
+    /**
+     * {@link Dependencies} tracks unsupported renderables as opaque leaves.
+     */
+    @Test
+    public void tracksUnsupportedRenderablesAsOpaque() {
+        final FreePoint<Double> point = new FreePoint<>(1., 1.);
+        final Shape<?> free = new Shape<>(point);
+        final Shape<?> unknown = new Shape<>(Mockito.mock(Renderable.class));
+        final Shape<?> seg = new Shape<>(new PtsSegment<>(point, new FreePoint<>(2., 0.)));
+        final Dependencies<Double> dependencies = new Figure().add(seg).add(unknown)
+            .add(free).dependencies(new Decimal());
+        MatcherAssert.assertThat(dependencies.opaque(), Matchers.contains(unknown));
+        MatcherAssert.assertThat(
+            dependencies.order(), Matchers.containsInAnyOrder(free, unknown, seg)
+        );
+        MatcherAssert.assertThat(dependencies.upstream(seg), Matchers.contains(free));
+        MatcherAssert.assertThat(dependencies.upstream(unknown), Matchers.empty());
+        MatcherAssert.assertThat(
+            dependencies.moved(point), Matchers.contains(free, seg)
+        );
+    }
+
+    /**
+     * {@link Dependencies} tracks points outside lines.
+     */
+    @Test
+    public void tracksOutsideLinePoints() {
+        final FreePoint<Double> point = new FreePoint<>(0., 0.);
+        final Shape<?> free = new Shape<>(point);
+        final Shape<?> outside = new Shape<>(
+            new OutsideLinePoint<>(new PtsLine<>(point, new FreePoint<>(1., 0.)))
+        );
+        final Dependencies<Double> dependencies = new Figure().add(outside)
+            .add(free).dependencies(new Decimal());
+        MatcherAssert.assertThat(dependencies.opaque(), Matchers.empty());
+        MatcherAssert.assertThat(
+            dependencies.downstream(point), Matchers.contains(free, outside)
+        );
+    }
+
+    /**
+     * Sample figure.
+     */
+    private static final class Sample {
+
+        /**
+         * First free point.
+         */
+        private final Shape<?> first;
+
+        /**
+         * Second free point.
+         */
+        private final Shape<?> second;
+
+        /**
+         * Third free point.
+         */
+        private final Shape<?> third;
+
+        /**
+         * Random point.
+         */
+        private final Shape<?> random;
+
+        /**
+         * Segment between first and second points.
+         */
+        private final Shape<?> segment;
+
+        /**
+         * Middle of the segment.
+         */
+        private final Shape<?> middle;
+
+        /**
+         * Line through the middle and the third point.
+         */
+        private final Shape<?> line;
+
+        /**
+         * Figure, with derived shapes added first.
+         */
+        private final Figure figure;
+
+        /**
+         * Constructor.
+         */
+        Sample() {
+            final FreePoint<Double> pointa = new FreePoint<>(0., 0.);
+            final FreePoint<Double> pointb = new FreePoint<>(2., 0.);
+            final FreePoint<Double> pointc = new FreePoint<>(5., 5.);
+            final PtsSegment<Double> seg = new PtsSegment<>(pointa, pointb);
+            final MidSegPoint<Double> mid = new MidSegPoint<>(seg);
+            this.first = new Shape<>(pointa);
+            this.second = new Shape<>(pointb);
+            this.third = new Shape<>(pointc);
+            this.random = new Shape<>(new RandomPoint<Double>());
+            this.segment = new Shape<>(seg);
+            this.middle = new Shape<>(mid);
+            this.line = new Shape<>(new PtsLine<>(mid, pointc));
+            this.figure = new Figure().add(this.line).add(this.middle)
+                .add(this.segment).add(this.random).add(this.third)
+                .add(this.second).add(this.first);
+        }
+
+        /**
+         * Builds the figure dependencies.
+         * @return Dependencies
+         */
+        public Dependencies<Double> dependencies() {
+            return this.figure.dependencies(new Decimal());
+        }
+    }
+}
@@ -23,6 +23,20 @@
  */
 package com.jeometry.twod;
 
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Add;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.point.FreePoint;
+import com.jeometry.twod.style.Style;
+import com.jeometry.twod.style.impl.DefaultStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
@@ -116,4 +130,156 @@ public final class FigureTest {
         );
     }
 
+    /**
+     * {@link Figure} shares an interner for its quantities.
+     */
+    @Test
+    public void sharesInterner() {
+        final Figure figure = new Figure();
+        final Scalar<Double> first = figure.interner().scalar(
+            new Add<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.))
+        );
+        MatcherAssert.assertThat(
+            figure.interner().scalar(
+                new Add<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.))
+            ),
+            Matchers.sameInstance(first)
+        );
+    }
+
+    /**
+     * {@link Figure} builds its shapes dependencies.
+     */
+    @Test
+    public void buildsDependencies() {
+        final Shape<?> shape = new Shape<>(new FreePoint<>(1., 2.));
+        MatcherAssert.assertThat(
+            new Figure().add(shape).dependencies(new Decimal()).order(),
+            Matchers.contains(shape)
+        );
+    }
+
+    /**
+     * {@link Figure} gives shapes back in insertion order.
+     */
+    @Test
+    public void keepsInsertionOrder() {
+        final Renderable first = Mockito.mock(Renderable.class);
+        final Renderable second = Mockito.mock(Renderable.class);
+        final Renderable third = Mockito.mock(Renderable.class);
+        final Figure figure = new Figure().add(first).add(second, "second").add(third);
+        MatcherAssert.assertThat(
+            figure.stream().map(Shape::renderable).collect(Collectors.toList()),
+            Matchers.contains(first, second, third)
+        );
+        MatcherAssert.assertThat(figure.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            figure.shape("second").get().renderable(), Matchers.equalTo(second)
+        );
+    }
+
+    /**
+     * {@link Figure} gives shapes knowing their position, which does not
+     * take part in shapes equality.
+     */
+    @Test
+    public void givesShapesPositions() {
+        final Renderable renderable = Mockito.mock(Renderable.class);
+        final Figure figure = new Figure().add(renderable).add(renderable, "named")
+            .add(renderable);
+        MatcherAssert.assertThat(
+            figure.stream().map(shape -> shape.position().getAsInt())
+                .collect(Collectors.toList()),
+            Matchers.contains(0, 1, 2)
+        );
+        MatcherAssert.assertThat(
+            figure.shape("named").get().position(), Matchers.equalTo(OptionalInt.of(1))
+        );
+        MatcherAssert.assertThat(
+            new Shape<>(renderable).position().isPresent(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            figure.stream().skip(2).findFirst().get(),
+            Matchers.equalTo(figure.iterator().next())
+        );
+    }
+
+    /**
+     * {@link Figure} counts the modifications of its shapes.
+     */
+    @Test
+    public void countsModifications() {
+        final Figure figure = new Figure();
+        final int before = figure.modifications();
+        figure.add(Mockito.mock(Renderable.class)).addAll(
+            Arrays.asList(Mockito.mock(Renderable.class), Mockito.mock(Renderable.class))
+        );
+        MatcherAssert.assertThat(figure.modifications(), Matchers.equalTo(before + 3));
+    }
+
+    /**
+     * {@link Figure} adds renderables in bulk with a shared style.
+     */
+    @Test
+    public void addsAllWithSharedStyle() {
+        final Style style = Mockito.mock(Style.class);
+        final List<Renderable> renderables = new ArrayList<>(100);
+        for (int idx = 0; idx < 100; ++idx) {
+            renderables.add(Mockito.mock(Renderable.class));
+        }
+        final Figure figure = new Figure().addAll(renderables, style)
+            .addAll(renderables.stream(), style);
+        MatcherAssert.assertThat(figure.size(), Matchers.equalTo(200));
+        MatcherAssert.assertThat(
+            figure.stream().allMatch(
+                shape -> shape.style() == style && shape.anonymous()
+            ),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            figure.stream().skip(100).map(Shape::renderable)
+                .collect(Collectors.toList()),
+            Matchers.equalTo(renderables)
+        );
+        MatcherAssert.assertThat(
+            new Figure().addAll(renderables).iterator().next().style(),
+            Matchers.instanceOf(DefaultStyle.class)
+        );
+    }
+
+    /**
+     * {@link Figure} splits its shapes for parallel traversal.
+     */
+    @Test
+    public void splitsShapes() {
+        final Figure figure = new Figure();
+        final int count = 1000;
+        for (int idx = 0; idx < count; ++idx) {
+            figure.add(Mockito.mock(Renderable.class));
+        }
+        final Spliterator<Shape<?>> spliterator = figure.spliterator();
+        final Spliterator<Shape<?>> prefix = spliterator.trySplit();
+        MatcherAssert.assertThat(
+            prefix.estimateSize() + spliterator.estimateSize(),
+            Matchers.equalTo((long) count)
+        );
+        MatcherAssert.assertThat(
+            StreamSupport.stream(figure.spliterator(), true).count(),
+            Matchers.equalTo((long) count)
+        );
+    }
+
+    /**
+     * {@link Figure} iterations see the shapes added before they started.
+     */
+    @Test
+    public void iteratesOverSnapshot() {
+        final Figure figure = new Figure().add(Mockito.mock(Renderable.class));
+        final Iterator<Shape<?>> iterator = figure.iterator();
+        for (int idx = 0; idx < 20; ++idx) {
+            figure.add(Mockito.mock(Renderable.class));
+        }
+        iterator.next();
+        MatcherAssert.assertThat(iterator.hasNext(), Matchers.is(false));
+    }
 }
@@ -92,4 +92,21 @@ public final class ShapeTest {
             shape.style(), Matchers.instanceOf(DefaultStyle.class)
         );
     }
+
+    /**
+     * {@link Shape} equals shapes with the same renderable, name and style.
+     */
+    @Test
+    public void equalsShapeWithSameContent() {
+        final Renderable rend = Mockito.mock(Renderable.class);
+        final Style style = Mockito.mock(Style.class);
+        MatcherAssert.assertThat(
+            new Shape<>(rend, Optional.of("name"), style),
+            Matchers.equalTo(new Shape<>(rend, Optional.of("name"), style))
+        );
+        MatcherAssert.assertThat(
+            new Shape<>(rend, style),
+            Matchers.not(Matchers.equalTo(new Shape<>(rend, Optional.of("name"), style)))
+        );
+    }
 }
@@ -23,6 +23,7 @@
  */
 package com.jeometry.twod.line.analytics;
 
+import com.aljebra.scalar.Interner;
 import com.jeometry.twod.line.Line;
 import com.jeometry.twod.line.RandomLine;
 import org.hamcrest.MatcherAssert;
@@ -53,4 +54,23 @@ public final class LineAnalyticsTest {
         );
     }
 
+    /**
+     * {@link LineAnalytics} built with an interner gives the same
+     * analytics instances for the same line.
+     */
+    @Test
+    public void internsAnalytics() {
+        final Line<Object> line = new RandomLine<>();
+        final Interner interner = new Interner();
+        final LineAnalytics<Object> first = new LineAnalytics<>(line, interner);
+        final LineAnalytics<Object> second = new LineAnalytics<>(line, interner);
+        MatcherAssert.assertThat(first.slope(), Matchers.sameInstance(second.slope()));
+        MatcherAssert.assertThat(
+            first.intercept(), Matchers.sameInstance(second.intercept())
+        );
+        MatcherAssert.assertThat(
+            first.vertical(), Matchers.sameInstance(second.vertical())
+        );
+    }
+
 }
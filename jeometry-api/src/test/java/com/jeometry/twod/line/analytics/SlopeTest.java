@@ -121,4 +121,19 @@ public final class SlopeTest {
             print, Matchers.containsString(line.toString())
         );
     }
+
+    /**
+     * {@link Slope} respects equals on lines, with a consistent hash code.
+     */
+    @Test
+    public void respectsEqual() {
+        final Line<Double> line = new RandomLine<>();
+        MatcherAssert.assertThat(new Slope<>(line), Matchers.equalTo(new Slope<>(line)));
+        MatcherAssert.assertThat(
+            new Slope<>(line).hashCode(), Matchers.equalTo(new Slope<>(line).hashCode())
+        );
+        MatcherAssert.assertThat(
+            new Slope<>(line), Matchers.not(Matchers.equalTo(new Slope<>(new RandomLine<>())))
+        );
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.point;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link FreePoint}.
+ * @since 0.5
+ */
+public final class FreePointTest {
+
+    /**
+     * {@link FreePoint} can be moved.
+     */
+    @Test
+    public void moves() {
+        final FreePoint<Double> point = new FreePoint<>(1., 2.);
+        MatcherAssert.assertThat(
+            new Decimal().actual(point.xcoor()), Matchers.equalTo(1.)
+        );
+        point.move(3., 4.);
+        MatcherAssert.assertThat(
+            new Decimal().actual(point.xcoor()), Matchers.equalTo(3.)
+        );
+        MatcherAssert.assertThat(
+            new Decimal().actual(point.ycoor()), Matchers.equalTo(4.)
+        );
+    }
+
+    /**
+     * {@link FreePoint} is followed by points built from it.
+     */
+    @Test
+    public void isFollowedByDerivedPoints() {
+        final FreePoint<Double> point = new FreePoint<>(1., 2.);
+        final XyPoint<Double> reflection = new PtReflectionPoint<>(point);
+        point.move(-3., 4.);
+        MatcherAssert.assertThat(
+            new Decimal().actual(reflection.xcoor()), Matchers.closeTo(3., 1.e-9)
+        );
+    }
+}
@@ -24,12 +24,16 @@
 package com.jeometry.twod.point;
 
 import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Interner;
+import com.jeometry.twod.Figure;
 import com.jeometry.twod.line.IntersectingLine;
 import com.jeometry.twod.line.Line;
 import com.jeometry.twod.line.ParallelLine;
 import com.jeometry.twod.line.RandomLine;
 import com.jeometry.twod.line.VerticalLine;
+import com.jeometry.twod.line.analytics.LineAnalytics;
 import com.jeometry.twod.line.analytics.PointInLine;
+import java.util.Arrays;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
@@ -110,4 +114,32 @@ public final class LineIntersectPointTest {
         new PointInLine<>(pnt, any).resolve(new Decimal());
     }
 
+    /**
+     * {@link LineIntersectPoint} built with a figure interner shares
+     * the lines analytics with the other intersection points of the figure.
+     */
+    @Test
+    public void sharesLinesAnalytics() {
+        final Line<Double> any = new RandomLine<>();
+        final Line<Double> other = new IntersectingLine<>(any);
+        final Figure figure = new Figure();
+        final Interner interner = figure.interner();
+        final LineIntersectPoint<Double> pnt = new LineIntersectPoint<>(any, other, interner);
+        figure.add(pnt);
+        final int size = interner.size();
+        for (final Line<Double> line : Arrays.asList(any, other)) {
+            final LineAnalytics<Double> analytics = new LineAnalytics<>(line, interner);
+            analytics.slope();
+            analytics.intercept();
+            analytics.vertical();
+        }
+        MatcherAssert.assertThat(interner.size(), Matchers.equalTo(size));
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            new PointInLine<>(pnt, any).resolve(field), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new PointInLine<>(pnt, other).resolve(field), Matchers.is(true)
+        );
+    }
 }
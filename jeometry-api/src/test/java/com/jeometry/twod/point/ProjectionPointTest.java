@@ -23,7 +23,9 @@
  */
 package com.jeometry.twod.point;
 
+import com.aljebra.field.CachedField;
 import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
 import com.aljebra.vector.Vect;
 import com.jeometry.twod.line.Line;
 import com.jeometry.twod.line.PtsLine;
@@ -33,6 +35,7 @@ import com.jeometry.twod.line.analytics.PointInLine;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 /**
  * Tests for {@link ProjectionPoint}.
@@ -95,4 +98,26 @@ public final class ProjectionPointTest {
         );
     }
 
+    /**
+     * {@link ProjectionPoint} chained orthogonal projections are evaluated
+     * in linear time by a caching field.
+     */
+    @Test
+    public void evaluatesChainedProjectionsOnce() {
+        final Scalar<Double> xcoor = Mockito.spy(new Scalar.Default<>(2.));
+        final FreePoint<Double> origin = new FreePoint<>(0., 0.);
+        final Line<Double> axis = new PtsLine<>(origin, new FreePoint<>(1., 0.));
+        final Line<Double> diagonal = new PtsLine<>(origin, new FreePoint<>(1., 1.));
+        Vect<Double> point = new XyPoint<>(xcoor, new Scalar.Default<>(0.));
+        final int pairs = 6;
+        for (int idx = 0; idx < pairs; ++idx) {
+            point = new ProjectionPoint<>(axis, new ProjectionPoint<>(diagonal, point));
+        }
+        final CachedField<Double> field = new CachedField<>(new Decimal());
+        MatcherAssert.assertThat(
+            field.actual(point.coord(0)), Matchers.closeTo(2. / Math.pow(2., pairs), 1.e-9)
+        );
+        MatcherAssert.assertThat(field.actual(point.coord(1)), Matchers.closeTo(0., 1.e-9));
+        Mockito.verify(xcoor, Mockito.times(1)).value(Mockito.any());
+    }
 }
@@ -0,0 +1,303 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.transform;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.Dot;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.angle.Angle;
+import com.jeometry.twod.angle.VectsAngle;
+import com.jeometry.twod.arc.RadAngleArc;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.point.OutsideLinePoint;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.segment.Segment;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link AffineTransform2D}.
+ * @since 0.5
+ */
+public final class AffineTransform2DTest {
+
+    /**
+     * Tolerance of the comparisons.
+     */
+    private static final double ERROR = 1.e-9;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link AffineTransform2D} composes transformations.
+     */
+    @Test
+    public void composesTransformations() {
+        final AffineTransform2D<Double> composed =
+            AffineTransform2D.<Double>translation(AffineTransform2DTest.point(1., 2.))
+                .compose(AffineTransform2D.scaling(new Scalar.Default<>(3.)));
+        AffineTransform2DTest.assertPoint(
+            composed.point(AffineTransform2DTest.point(1., 1.)), 4., 5.
+        );
+    }
+
+    /**
+     * {@link AffineTransform2D} inverts transformations.
+     */
+    @Test
+    public void invertsTransformations() {
+        final AffineTransform2D<Double> transform = new AffineTransform2D<>(
+            Arrays.asList(
+                new Scalar.Default<>(2.), new Scalar.Default<>(1.),
+                new Scalar.Default<>(-1.), new Scalar.Default<>(3.)
+            ),
+            AffineTransform2DTest.point(5., -7.)
+        );
+        final Vect<Double> point = AffineTransform2DTest.point(-2., 9.);
+        AffineTransform2DTest.assertPoint(
+            transform.inverse().point(transform.point(point)), -2., 9.
+        );
+        AffineTransform2DTest.assertPoint(
+            transform.compose(transform.inverse()).point(point), -2., 9.
+        );
+    }
+
+    /**
+     * {@link AffineTransform2D} reflects points across points and lines.
+     */
+    @Test
+    public void reflects() {
+        AffineTransform2DTest.assertPoint(
+            AffineTransform2D.reflection(AffineTransform2DTest.point(1., 1.))
+                .point(AffineTransform2DTest.point(3., 2.)),
+            -1., 0.
+        );
+        AffineTransform2DTest.assertPoint(
+            AffineTransform2D.reflection(
+                new PtsLine<>(
+                    AffineTransform2DTest.point(0., 1.), AffineTransform2DTest.point(1., 2.)
+                )
+            ).point(AffineTransform2DTest.point(1., 0.)),
+            -1., 2.
+        );
+    }
+
+    /**
+     * {@link AffineTransform2D} transforms angles by reflections, keeping
+     * the angle measure and swapping its sides.
+     */
+    @Test
+    public void reflectsAngles() {
+        final Angle<Double> angle = new VectsAngle<>(
+            AffineTransform2DTest.point(1., 1.),
+            AffineTransform2DTest.point(1., 0.),
+            AffineTransform2DTest.point(1., 1.)
+        );
+        final Angle<Double> line = AffineTransform2D.<Double>reflection(
+            new PtsLine<>(AffineTransform2DTest.point(0., 0.), AffineTransform2DTest.point(1., 0.))
+        ).apply(angle);
+        AffineTransform2DTest.assertPoint(line.origin(), 1., -1.);
+        AffineTransform2DTest.assertPoint(line.start(), 1., -1.);
+        AffineTransform2DTest.assertPoint(line.end(), 1., 0.);
+        AffineTransform2DTest.assertAngle(line, Math.PI / 4.);
+        final Angle<Double> point = AffineTransform2D.<Double>reflection(
+            AffineTransform2DTest.point(0., 0.)
+        ).apply(angle);
+        AffineTransform2DTest.assertPoint(point.start(), -1., 0.);
+        AffineTransform2DTest.assertPoint(point.end(), -1., -1.);
+        AffineTransform2DTest.assertAngle(point, Math.PI / 4.);
+    }
+
+    /**
+     * {@link AffineTransform2D} transforms renderables.
+     */
+    @Test
+    public void transformsRenderables() {
+        final AffineTransform2D<Double> transform =
+            AffineTransform2D.<Double>translation(AffineTransform2DTest.point(1., 0.))
+                .compose(AffineTransform2D.scaling(new Scalar.Default<>(2.)));
+        final Segment<Double> seg = (Segment<Double>) transform.apply(
+            (Renderable) new PtsSegment<>(
+                AffineTransform2DTest.point(0., 0.), AffineTransform2DTest.point(1., 1.)
+            )
+        );
+        AffineTransform2DTest.assertPoint(seg.start(), 1., 0.);
+        AffineTransform2DTest.assertPoint(seg.end(), 3., 2.);
+        final Circle<Double> circle = transform.apply(
+            new PtRadCircle<>(AffineTransform2DTest.point(1., 1.), new Scalar.Default<>(2.))
+        );
+        AffineTransform2DTest.assertPoint(circle.center(), 3., 2.);
+        MatcherAssert.assertThat(
+            new Decimal().actual(circle.radius()),
+            Matchers.closeTo(4., AffineTransform2DTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link AffineTransform2D} transforms figures, keeping shapes names.
+     */
+    @Test
+    public void transformsFigures() {
+        final Figure figure = new Figure()
+            .add(AffineTransform2DTest.point(1., 1.), "A")
+            .add(AffineTransform2DTest.point(2., 2.));
+        final Figure result = AffineTransform2D.<Double>translation(
+            AffineTransform2DTest.point(1., -1.)
+        ).apply(figure);
+        final Shape<?> named = result.shape("A").get();
+        AffineTransform2DTest.assertPoint((Vect<Double>) named.renderable(), 2., 0.);
+        MatcherAssert.assertThat(result, Matchers.<Shape<?>>iterableWithSize(2));
+    }
+
+    /**
+     * {@link AffineTransform2D} gives back unknown renderables unchanged,
+     * and transforms points outside lines.
+     */
+    @Test
+    public void keepsUnknownRenderables() {
+        final AffineTransform2D<Double> transform = AffineTransform2D.translation(
+            AffineTransform2DTest.point(1., -1.)
+        );
+        final Renderable other = Mockito.mock(Renderable.class);
+        MatcherAssert.assertThat(transform.apply(other), Matchers.is(other));
+        final Figure result = transform.apply(
+            new Figure().add(
+                new OutsideLinePoint<>(
+                    new PtsLine<>(
+                        AffineTransform2DTest.point(0., 0.), AffineTransform2DTest.point(1., 0.)
+                    )
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            result.iterator().next().renderable(), Matchers.instanceOf(XyPoint.class)
+        );
+    }
+
+    /**
+     * {@link AffineTransform2D} rejects arcs.
+     */
+    @Test
+    public void rejectsArcs() {
+        this.thrown.expect(IllegalArgumentException.class);
+        AffineTransform2D.<Double>translation(AffineTransform2DTest.point(1., -1.)).apply(
+            new Figure().add(
+                new RadAngleArc<>(
+                    new PtRadCircle<>(
+                        AffineTransform2DTest.point(0., 0.), new Scalar.Default<>(1.)
+                    ),
+                    0., Math.PI
+                )
+            )
+        );
+    }
+
+    /**
+     * {@link AffineTransform2D} transforms circles by similarities only.
+     */
+    @Test
+    public void rejectsCirclesOfNonSimilarities() {
+        final Circle<Double> circle = new PtRadCircle<>(
+            AffineTransform2DTest.point(1., 1.), new Scalar.Default<>(2.)
+        );
+        final Circle<Double> rotated = new AffineTransform2D<>(
+            Arrays.asList(
+                new Scalar.Default<>(0.), new Scalar.Default<>(3.),
+                new Scalar.Default<>(-3.), new Scalar.Default<>(0.)
+            ),
+            AffineTransform2DTest.point(0., 0.)
+        ).apply(circle);
+        MatcherAssert.assertThat(
+            new Decimal().actual(rotated.radius()),
+            Matchers.closeTo(6., AffineTransform2DTest.ERROR)
+        );
+        final Circle<Double> sheared = new AffineTransform2D<>(
+            Arrays.asList(
+                new Scalar.Default<>(1.), new Scalar.Default<>(0.),
+                new Scalar.Default<>(1.), new Scalar.Default<>(1.)
+            ),
+            AffineTransform2DTest.point(0., 0.)
+        ).apply(circle);
+        this.thrown.expect(IllegalArgumentException.class);
+        new Decimal().actual(sheared.radius());
+    }
+
+    /**
+     * Builds a point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return A point
+     */
+    private static XyPoint<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor));
+    }
+
+    /**
+     * Asserts an angle measure, from its start to its end.
+     * @param angle Angle to check
+     * @param expected Expected measure in radians
+     */
+    private static void assertAngle(final Angle<Double> angle, final double expected) {
+        final Dot dot = new Dot();
+        MatcherAssert.assertThat(
+            dot.angle(angle.start(), angle.end()).resolve(dot).doubleValue(),
+            Matchers.closeTo(expected, AffineTransform2DTest.ERROR)
+        );
+    }
+
+    /**
+     * Asserts a point coordinates.
+     * @param point Point to check
+     * @param xcoor Expected X coordinate
+     * @param ycoor Expected Y coordinate
+     */
+    private static void assertPoint(final Vect<Double> point, final double xcoor,
+        final double ycoor) {
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            field.actual(point.coord(0)),
+            Matchers.closeTo(xcoor, AffineTransform2DTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            field.actual(point.coord(1)),
+            Matchers.closeTo(ycoor, AffineTransform2DTest.ERROR)
+        );
+    }
+}
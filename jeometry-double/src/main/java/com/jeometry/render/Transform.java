@@ -70,12 +70,23 @@ public final class Transform {
      * @return AWT Point
      */
     public Point transform(final DblPoint point) {
+        return this.transform(point.dblx(), point.dbly());
+    }
+
+    /**
+     * Applies transformation to primitive coordinates.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return AWT Point
+     * @since 0.5
+     */
+    public Point transform(final double xcoor, final double ycoor) {
         final double scale = this.ctx.scale();
         return new Point(
             (int) (this.ctx.width() / 2d
-                + scale * point.dblx() - this.ctx.center().dblx() * scale),
+                + scale * xcoor - this.ctx.center().dblx() * scale),
             (int) (this.ctx.height() / 2d
-                - scale * point.dbly() + this.ctx.center().dbly() * scale)
+                - scale * ycoor + this.ctx.center().dbly() * scale)
         );
     }
 
@@ -101,8 +112,8 @@ public final class Transform {
     public Point transform(final Vect<Double> point) {
         return this.transform(
             new DblPoint(
-                this.field.actual(point.coords()[0]),
-                this.field.actual(point.coords()[1])
+                this.field.actual(point.coord(0)),
+                this.field.actual(point.coord(1))
             )
         );
     }
@@ -26,15 +26,19 @@ package com.jeometry.render.awt;
 import com.aljebra.field.Field;
 import com.aljebra.field.impl.doubles.Decimal;
 import com.jeometry.render.Surface;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
 import com.jeometry.twod.angle.Angle;
-import com.jeometry.twod.ray.PtDirRay;
 import java.awt.Graphics2D;
 
 /**
  * Awt Angle painter that draws an angle on an AWT graphics.
  * @since 0.1
+ * @deprecated Draw resolved figures with {@link AwtResolved} instead
  */
+@Deprecated
 public final class AwtAngle extends AbstractAwtPaint<Angle<Double>> {
 
     /**
@@ -55,16 +59,10 @@ public final class AwtAngle extends AbstractAwtPaint<Angle<Double>> {
     @Override
     public void draw(final Shape<Angle<Double>> renderable, final Graphics2D graphics,
         final Surface context) {
-        final Angle<Double> angle = renderable.renderable();
-        final AwtRay drawer = new AwtRay(this.field());
-        drawer.draw(
-            new Shape<>(new PtDirRay<>(angle.origin(), angle.start())),
-            graphics, context
-        );
-        drawer.draw(
-            new Shape<>(new PtDirRay<>(angle.origin(), angle.end())),
-            graphics, context
-        );
+        final AwtResolved painter = new AwtResolved(context);
+        for (final Resolved shape
+            : new ResolvedFigure(new Figure().add(renderable), this.field())) {
+            painter.paint(shape, graphics);
+        }
     }
-
 }
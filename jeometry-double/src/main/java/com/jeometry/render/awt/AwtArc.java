@@ -26,16 +26,19 @@ package com.jeometry.render.awt;
 import com.aljebra.field.Field;
 import com.aljebra.field.impl.doubles.Decimal;
 import com.jeometry.render.Surface;
-import com.jeometry.render.Transform;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
 import com.jeometry.twod.arc.Arc;
 import java.awt.Graphics2D;
-import java.awt.Point;
 
 /**
  * Awt Arc painter that draws an arc on an AWT graphics.
  * @since 0.4
+ * @deprecated Draw resolved figures with {@link AwtResolved} instead
  */
+@Deprecated
 public final class AwtArc extends AbstractAwtPaint<Arc<Double>> {
 
     /**
@@ -56,25 +59,10 @@ public final class AwtArc extends AbstractAwtPaint<Arc<Double>> {
     @Override
     public void draw(final Shape<Arc<Double>> renderable, final Graphics2D graphics,
         final Surface context) {
-        final Arc<Double> arc = renderable.renderable();
-        final int size = (int) (context.scale() * this.field().actual(
-            arc.radius()
-        ));
-        final Point center = new Transform(context)
-            .transform(arc.center());
-        final int start = AwtArc.degrees(arc.start());
-        final int end = AwtArc.degrees(arc.end());
-        graphics.drawArc(center.x - size, center.y - size, 2 * size, 2 * size, start, start - end);
+        final AwtResolved painter = new AwtResolved(context);
+        for (final Resolved shape
+            : new ResolvedFigure(new Figure().add(renderable), this.field())) {
+            painter.paint(shape, graphics);
+        }
     }
-
-    /**
-     * Converts radian angle to degrees angle.
-     * @param radians Angle to convert
-     * @return Conversion result
-     */
-    private static int degrees(final Number radians) {
-        final Double degs = Double.valueOf(Math.toDegrees(radians.doubleValue()));
-        return degs.intValue();
-    }
-
 }
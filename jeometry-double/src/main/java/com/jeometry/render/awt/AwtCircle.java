@@ -26,16 +26,19 @@ package com.jeometry.render.awt;
 import com.aljebra.field.Field;
 import com.aljebra.field.impl.doubles.Decimal;
 import com.jeometry.render.Surface;
-import com.jeometry.render.Transform;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
 import com.jeometry.twod.circle.Circle;
 import java.awt.Graphics2D;
-import java.awt.Point;
 
 /**
  * Awt Circle painter that draws a circle on an AWT graphics.
  * @since 0.1
+ * @deprecated Draw resolved figures with {@link AwtResolved} instead
  */
+@Deprecated
 public final class AwtCircle extends AbstractAwtPaint<Circle<Double>> {
 
     /**
@@ -56,15 +59,10 @@ public final class AwtCircle extends AbstractAwtPaint<Circle<Double>> {
     @Override
     public void draw(final Shape<Circle<Double>> renderable, final Graphics2D graphics,
         final Surface context) {
-        final Circle<Double> circle = renderable.renderable();
-        final int size = (int) (context.scale() * this.field().actual(
-            circle.radius()
-        ));
-        final Point center = new Transform(context)
-            .transform(circle.center());
-        graphics.drawOval(center.x - size, center.y - size, 2 * size, 2 * size);
-        graphics.setColor(renderable.style().fill().color());
-        graphics.fillOval(center.x - size, center.y - size, 2 * size, 2 * size);
+        final AwtResolved painter = new AwtResolved(context);
+        for (final Resolved shape
+            : new ResolvedFigure(new Figure().add(renderable), this.field())) {
+            painter.paint(shape, graphics);
+        }
     }
-
 }
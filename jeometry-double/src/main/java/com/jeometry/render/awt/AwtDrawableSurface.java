@@ -23,17 +23,29 @@
  */
 package com.jeometry.render.awt;
 
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
 import com.jeometry.model.decimal.DblPoint;
 import com.jeometry.render.Surface;
+import com.jeometry.render.Transform;
+import com.jeometry.render.resolved.Bounds;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.render.resolved.ShapeIndex;
 import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
+import com.jeometry.twod.point.FreePoint;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Point;
 import java.awt.RenderingHints;
 import java.awt.event.MouseAdapter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
 import javax.swing.JPanel;
 
 /**
@@ -57,21 +69,56 @@ public final class AwtDrawableSurface extends JPanel {
      */
     private static final double ZOOM_START = 10;
 
+    /**
+     * Margin around the visible area, in pixels.
+     */
+    private static final int MARGIN = 8;
+
+    /**
+     * Picking distance, in pixels.
+     */
+    private static final int PICK_PIXELS = 4;
+
     /**
      * Scale of the drawable surface.
      */
     private double scale;
 
     /**
-     * List of {@link AbstractAwtPaint}s to paint shapes.
+     * List of added {@link AbstractAwtPaint}s to paint shapes.
      */
     private final transient List<AbstractAwtPaint<?>> painters;
 
+    /**
+     * Field evaluating the figure shapes.
+     */
+    private final transient Field<Double> field;
+
     /**
      * Reference to the figure to draw.
      */
     private transient Figure figure;
 
+    /**
+     * Spatial index of the resolved figure, queried on each paint.
+     */
+    private transient ShapeIndex index;
+
+    /**
+     * Figure modifications count when it was last resolved.
+     */
+    private transient int resolved;
+
+    /**
+     * Shape under the mouse.
+     */
+    private transient Optional<Resolved> hover;
+
+    /**
+     * Selected shape.
+     */
+    private transient Optional<Resolved> selection;
+
     /**
      * Drawable Panel center.
      */
@@ -81,10 +128,25 @@ public final class AwtDrawableSurface extends JPanel {
      * Ctor. Builds a {@link JPanel} as a drawable surface.
      */
     public AwtDrawableSurface() {
+        this(new Decimal());
+    }
+
+    /**
+     * Ctor. Builds a {@link JPanel} as a drawable surface evaluating
+     * figures with the given field.
+     * @param field Field evaluating the figure shapes
+     * @since 0.5
+     */
+    public AwtDrawableSurface(final Field<Double> field) {
         super();
+        this.field = field;
         this.center = new DblPoint(0., 0.);
         this.scale = AwtDrawableSurface.ZOOM_START;
-        this.painters = new Painters().defaults();
+        this.painters = new ArrayList<>(0);
+        this.figure = new Figure();
+        this.index = new ShapeIndex();
+        this.hover = Optional.empty();
+        this.selection = Optional.empty();
     }
 
     /**
@@ -111,8 +173,19 @@ public final class AwtDrawableSurface extends JPanel {
                 RenderingHints.KEY_ANTIALIASING,
                 RenderingHints.VALUE_ANTIALIAS_ON
             );
+            if (this.figure.modifications() != this.resolved) {
+                this.refresh();
+            }
             final Surface context = this.context();
             surface.setColor(Color.BLACK);
+            final AwtResolved resolved = new AwtResolved(context);
+            resolved.paint(this.index.query(AwtDrawableSurface.window(context)), surface);
+            this.selection.ifPresent(
+                shape -> resolved.highlight(shape, Color.BLUE, surface)
+            );
+            this.hover.ifPresent(
+                shape -> resolved.highlight(shape, Color.ORANGE, surface)
+            );
             for (final AbstractAwtPaint<?> painter : this.painters) {
                 for (final Shape<?> shape : this.figure) {
                     painter.render(shape, context, surface);
@@ -171,7 +244,8 @@ public final class AwtDrawableSurface extends JPanel {
     }
 
     /**
-     * Adds an {@link AbstractAwtPaint} to the registered painters.
+     * Adds an {@link AbstractAwtPaint} to the registered painters. Registered
+     * painters draw the figure shapes over the resolved figure.
      * @param painter Painter to add
      */
     public void add(final AbstractAwtPaint<?> painter) {
@@ -179,11 +253,155 @@ public final class AwtDrawableSurface extends JPanel {
     }
 
     /**
-     * Sets the figure to draw.
+     * Sets the figure to draw. The figure is resolved and indexed once, so
+     * that panning and zooming do not evaluate its shapes again, and only
+     * draw the shapes near the visible area. The figure is resolved again
+     * when its shapes change, when one of its free points is moved through
+     * {@link #move(FreePoint, double, double)}, or when refreshed.
      * @param fig The figure to draw
      */
     public void setFigure(final Figure fig) {
         this.figure = fig;
+        this.resolve();
+        this.hover = Optional.empty();
+        this.selection = Optional.empty();
+    }
+
+    /**
+     * Resolves the figure again, so that next paints draw its current
+     * shapes, for example after free points moved. The hovered and
+     * selected shapes are kept.
+     */
+    public void refresh() {
+        final ResolvedFigure shapes = this.resolve();
+        this.hover = AwtDrawableSurface.remapped(this.hover, shapes);
+        this.selection = AwtDrawableSurface.remapped(this.selection, shapes);
+    }
+
+    /**
+     * Moves a free point of the figure and resolves the figure again.
+     * @param point Free point to move
+     * @param xcoor New X coordinate
+     * @param ycoor New Y coordinate
+     * @since 0.5
+     */
+    public void move(final FreePoint<Double> point, final double xcoor,
+        final double ycoor) {
+        point.move(xcoor, ycoor);
+        this.refresh();
+    }
+
+    /**
+     * Picks the shape nearest to a surface point, among the shapes within
+     * a distance from it. The figure shapes are searched through a spatial
+     * index, so that picking does not depend on the figure size.
+     * @param point Surface point
+     * @param pixels Maximum distance, in pixels
+     * @return The picked shape, if any
+     */
+    public Optional<Shape<?>> pick(final Point point, final int pixels) {
+        return this.picked(point, pixels).map(Resolved::shape);
+    }
+
+    /**
+     * Updates the shape under the mouse.
+     * @param point Mouse position on the surface
+     * @return True if the shape under the mouse changed
+     */
+    public boolean hover(final Point point) {
+        final Optional<Resolved> picked =
+            this.picked(point, AwtDrawableSurface.PICK_PIXELS);
+        final boolean result = !picked.equals(this.hover);
+        this.hover = picked;
+        return result;
+    }
+
+    /**
+     * Selects the shape at a point, or clears the selection when there
+     * is no shape there.
+     * @param point Surface point
+     */
+    public void select(final Point point) {
+        this.selection = this.picked(point, AwtDrawableSurface.PICK_PIXELS);
+    }
+
+    /**
+     * Gives the shape under the mouse.
+     * @return The hovered shape, if any
+     */
+    public Optional<Shape<?>> hovered() {
+        return this.hover.map(Resolved::shape);
+    }
+
+    /**
+     * Gives the selected shape.
+     * @return The selected shape, if any
+     */
+    public Optional<Shape<?>> selected() {
+        return this.selection.map(Resolved::shape);
+    }
+
+    /**
+     * Resolves and indexes the figure.
+     * @return Resolved figure
+     */
+    private ResolvedFigure resolve() {
+        final ResolvedFigure shapes = new ResolvedFigure(this.figure, this.field);
+        this.index = new ShapeIndex(shapes);
+        this.resolved = this.figure.modifications();
+        return shapes;
+    }
+
+    /**
+     * Finds the resolved shape of the same figure shape among shapes
+     * resolved again. Figure shapes are matched by position, so that equal
+     * shapes added several times are told apart.
+     * @param shape Resolved shape
+     * @param shapes Shapes resolved again
+     * @return The shape resolved again, if still resolved
+     */
+    private static Optional<Resolved> remapped(final Optional<Resolved> shape,
+        final ResolvedFigure shapes) {
+        return shape.flatMap(
+            old -> StreamSupport.stream(shapes.spliterator(), false).filter(
+                other -> other.shape().position().equals(old.shape().position())
+                    && other.shape().equals(old.shape())
+            ).findFirst()
+        );
+    }
+
+    /**
+     * Picks the resolved shape nearest to a surface point.
+     * @param point Surface point
+     * @param pixels Maximum distance, in pixels
+     * @return The picked shape, if any
+     */
+    private Optional<Resolved> picked(final Point point, final int pixels) {
+        final Surface context = this.context();
+        final DblPoint coords = new Transform(context).inverse(point);
+        return this.index.within(
+            coords.dblx(), coords.dbly(), pixels / context.scale()
+        ).stream().findFirst();
+    }
+
+    /**
+     * Gives the visible area of a surface, in figure coordinates, enlarged
+     * by a few pixels so that shapes drawn across the border are kept.
+     * @param context Surface
+     * @return Visible area
+     */
+    private static Bounds window(final Surface context) {
+        final Transform transform = new Transform(context);
+        final DblPoint first = transform.inverse(
+            new Point(-AwtDrawableSurface.MARGIN, -AwtDrawableSurface.MARGIN)
+        );
+        final DblPoint second = transform.inverse(
+            new Point(
+                context.width() + AwtDrawableSurface.MARGIN,
+                context.height() + AwtDrawableSurface.MARGIN
+            )
+        );
+        return new Bounds(first.dblx(), first.dbly(), second.dblx(), second.dbly());
     }
 
     /**
@@ -25,20 +25,20 @@ package com.jeometry.render.awt;
 
 import com.aljebra.field.Field;
 import com.aljebra.field.impl.doubles.Decimal;
-import com.aljebra.scalar.Scalar;
 import com.jeometry.render.Surface;
-import com.jeometry.render.Transform;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
 import com.jeometry.twod.line.Line;
-import com.jeometry.twod.line.analytics.Vertical;
-import com.jeometry.twod.point.InLinePoint;
 import java.awt.Graphics2D;
-import java.awt.Point;
 
 /**
  * Awt Line painter that draws a line on an AWT graphics.
  * @since 0.1
+ * @deprecated Draw resolved figures with {@link AwtResolved} instead
  */
+@Deprecated
 public final class AwtLine extends AbstractAwtPaint<Line<Double>> {
 
     /**
@@ -59,45 +59,10 @@ public final class AwtLine extends AbstractAwtPaint<Line<Double>> {
     @Override
     public void draw(final Shape<Line<Double>> renderable, final Graphics2D graphics,
         final Surface context) {
-        final Line<Double> line = renderable.renderable();
-        if (new Vertical<>(line).resolve(this.field())) {
-            AwtLine.vertical(graphics, line, context);
-        } else {
-            AwtLine.regular(graphics, line, context);
+        final AwtResolved painter = new AwtResolved(context);
+        for (final Resolved shape
+            : new ResolvedFigure(new Figure().add(renderable), this.field())) {
+            painter.paint(shape, graphics);
         }
     }
-
-    /**
-     * Draws a regular (non-vertical) line.
-     * @param graphics Awt Graphics to draw upon
-     * @param line Line to draw
-     * @param context AwtContext
-     */
-    private static void regular(final Graphics2D graphics,
-        final Line<Double> line, final Surface context) {
-        final int width = context.width();
-        final Transform transform = new Transform(context);
-        final Scalar<Double> xstart = transform.inverse(new Point(0, 0)).xcoor();
-        final Scalar<Double> xend = transform.inverse(new Point(width, 0)).xcoor();
-        final Point start = transform.transform(
-            new InLinePoint<>(line, xstart)
-        );
-        final Point end = transform.transform(
-            new InLinePoint<>(line, xend)
-        );
-        graphics.drawLine(start.x, start.y, end.x, end.y);
-    }
-
-    /**
-     * Draws a vertical line.
-     * @param graphics Awt Graphics to draw upon
-     * @param line Line to draw
-     * @param context AwtContext
-     */
-    private static void vertical(final Graphics2D graphics, final Line<Double> line,
-        final Surface context) {
-        final Point point = new Transform(context).transform(line.point());
-        graphics.drawLine(point.x, 0, point.x, context.height());
-    }
-
 }
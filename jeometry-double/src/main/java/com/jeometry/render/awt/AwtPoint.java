@@ -25,18 +25,20 @@ package com.jeometry.render.awt;
 
 import com.aljebra.field.Field;
 import com.aljebra.field.impl.doubles.Decimal;
-import com.aljebra.vector.Vect;
 import com.jeometry.render.Surface;
-import com.jeometry.render.Transform;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
 import com.jeometry.twod.point.XyPoint;
 import java.awt.Graphics2D;
-import java.awt.Point;
 
 /**
  * Awt Point painter that draws a point on an AWT graphics.
  * @since 0.1
+ * @deprecated Draw resolved figures with {@link AwtResolved} instead
  */
+@Deprecated
 public final class AwtPoint extends AbstractAwtPaint<XyPoint<Double>> {
 
     /**
@@ -57,10 +59,10 @@ public final class AwtPoint extends AbstractAwtPaint<XyPoint<Double>> {
     @Override
     public void draw(final Shape<XyPoint<Double>> renderable, final Graphics2D graphics,
         final Surface context) {
-        final int size = 4;
-        final Vect<Double> point = renderable.renderable();
-        final Point awtpt = new Transform(context).transform(point);
-        graphics.drawRect(awtpt.x - size / 2, awtpt.y - size / 2, size, size);
+        final AwtResolved painter = new AwtResolved(context);
+        for (final Resolved shape
+            : new ResolvedFigure(new Figure().add(renderable), this.field())) {
+            painter.paint(shape, graphics);
+        }
     }
-
 }
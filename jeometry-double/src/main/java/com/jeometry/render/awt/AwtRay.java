@@ -26,19 +26,19 @@ package com.jeometry.render.awt;
 import com.aljebra.field.Field;
 import com.aljebra.field.impl.doubles.Decimal;
 import com.jeometry.render.Surface;
-import com.jeometry.render.Transform;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
-import com.jeometry.twod.line.RayLine;
-import com.jeometry.twod.line.analytics.Vertical;
-import com.jeometry.twod.point.InLinePoint;
 import com.jeometry.twod.ray.Ray;
 import java.awt.Graphics2D;
-import java.awt.Point;
 
 /**
  * Awt Ray painter that draws a ray on an AWT graphics.
  * @since 0.1
+ * @deprecated Draw resolved figures with {@link AwtResolved} instead
  */
+@Deprecated
 public final class AwtRay extends AbstractAwtPaint<Ray<Double>> {
 
     /**
@@ -59,53 +59,10 @@ public final class AwtRay extends AbstractAwtPaint<Ray<Double>> {
     @Override
     public void draw(final Shape<Ray<Double>> renderable, final Graphics2D graphics,
         final Surface context) {
-        final Ray<Double> ray = renderable.renderable();
-        if (new Vertical<>(ray).resolve(this.field())) {
-            this.vertical(graphics, ray, context);
-        } else {
-            this.regular(graphics, context, ray);
+        final AwtResolved painter = new AwtResolved(context);
+        for (final Resolved shape
+            : new ResolvedFigure(new Figure().add(renderable), this.field())) {
+            painter.paint(shape, graphics);
         }
     }
-
-    /**
-     * Draws a regular (non-vertical) ray.
-     * @param graphics Awt Graphics to draw upon
-     * @param ctxt AwtContext
-     * @param ray Ray to draw
-     */
-    private void regular(final Graphics2D graphics, final Surface ctxt,
-        final Ray<Double> ray) {
-        final int width = ctxt.width();
-        final Field<Double> field = this.field();
-        final Double xdir = field.actual(ray.direction().coords()[0]);
-        final Transform transform = new Transform(ctxt);
-        final Point origin = transform.transform(ray.origin());
-        Point finish = new Point(0, 0);
-        if (xdir > 0) {
-            finish = new Point(width, 0);
-        }
-        final Point end = transform.transform(
-            new InLinePoint<Double>(new RayLine<>(ray), transform.inverse(finish).xcoor())
-        );
-        graphics.drawLine(origin.x, origin.y, end.x, end.y);
-    }
-
-    /**
-     * Draws a vertical ray.
-     * @param graphics Awt Graphics to draw upon
-     * @param ray Ray to draw
-     * @param context AwtContext
-     */
-    private void vertical(final Graphics2D graphics, final Ray<Double> ray,
-        final Surface context) {
-        final Field<Double> field = this.field();
-        final Transform transform = new Transform(context);
-        final Point origin = transform.transform(ray.origin());
-        if (field.actual(ray.direction().coords()[1]) > 0) {
-            graphics.drawLine(origin.x, origin.y, origin.x, 0);
-        } else {
-            graphics.drawLine(origin.x, origin.y, origin.x, context.height());
-        }
-    }
-
 }
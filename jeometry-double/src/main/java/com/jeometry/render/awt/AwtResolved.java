@@ -0,0 +1,265 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.awt;
+
+import com.jeometry.render.Surface;
+import com.jeometry.render.Transform;
+import com.jeometry.render.awt.style.AwtStroke;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedAngle;
+import com.jeometry.render.resolved.ResolvedArc;
+import com.jeometry.render.resolved.ResolvedCircle;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.render.resolved.ResolvedLine;
+import com.jeometry.render.resolved.ResolvedPoint;
+import com.jeometry.render.resolved.ResolvedPolyline;
+import com.jeometry.render.resolved.ResolvedRay;
+import com.jeometry.render.resolved.ResolvedSegment;
+import com.jeometry.twod.style.Stroke;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Point;
+
+/**
+ * Awt painter drawing a {@link ResolvedFigure} on an AWT graphics. It only
+ * reads the primitive values of the resolved shapes, so that drawing does not
+ * evaluate the figure shapes again.
+ * @since 0.5
+ */
+public final class AwtResolved {
+
+    /**
+     * Point size.
+     */
+    private static final int POINT_SIZE = 4;
+
+    /**
+     * Highlight stroke width.
+     */
+    private static final float HIGHLIGHT_WIDTH = 3.f;
+
+    /**
+     * Drawing surface.
+     */
+    private final Surface context;
+
+    /**
+     * Transform from figure coordinates to the surface.
+     */
+    private final Transform transform;
+
+    /**
+     * Ctor.
+     * @param context Drawing surface
+     */
+    public AwtResolved(final Surface context) {
+        this.context = context;
+        this.transform = new Transform(context);
+    }
+
+    /**
+     * Draws resolved shapes, like a {@link ResolvedFigure} or the visible
+     * shapes given by a {@link com.jeometry.render.resolved.ShapeIndex}.
+     * @param shapes Resolved shapes
+     * @param graphics Graphics object with which to draw
+     */
+    public void paint(final Iterable<? extends Resolved> shapes,
+        final Graphics2D graphics) {
+        for (final Resolved shape : shapes) {
+            final Stroke stroke = shape.shape().style().stroke();
+            graphics.setStroke(new AwtStroke(stroke));
+            graphics.setColor(stroke.color());
+            this.paint(shape, graphics);
+        }
+    }
+
+    /**
+     * Draws a resolved shape again with a thick stroke, to highlight it.
+     * @param shape Resolved shape
+     * @param color Highlight color
+     * @param graphics Graphics object with which to draw
+     */
+    public void highlight(final Resolved shape, final Color color,
+        final Graphics2D graphics) {
+        graphics.setStroke(new BasicStroke(AwtResolved.HIGHLIGHT_WIDTH));
+        graphics.setColor(color);
+        this.paint(shape, graphics);
+    }
+
+    /**
+     * Draws a resolved shape with the graphics current stroke and color.
+     * @param shape Resolved shape
+     * @param graphics Graphics object with which to draw
+     * @checkstyle CyclomaticComplexityCheck (30 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    public void paint(final Resolved shape, final Graphics2D graphics) {
+        if (shape instanceof ResolvedPoint) {
+            this.point((ResolvedPoint) shape, graphics);
+        } else if (shape instanceof ResolvedLine) {
+            this.line((ResolvedLine) shape, graphics);
+        } else if (shape instanceof ResolvedSegment) {
+            this.segment((ResolvedSegment) shape, graphics);
+        } else if (shape instanceof ResolvedRay) {
+            this.ray((ResolvedRay) shape, graphics);
+        } else if (shape instanceof ResolvedPolyline) {
+            this.polyline((ResolvedPolyline) shape, graphics);
+        } else if (shape instanceof ResolvedAngle) {
+            this.ray(((ResolvedAngle) shape).start(), graphics);
+            this.ray(((ResolvedAngle) shape).end(), graphics);
+        } else if (shape instanceof ResolvedCircle) {
+            this.circle((ResolvedCircle) shape, graphics);
+        } else if (shape instanceof ResolvedArc) {
+            this.arc((ResolvedArc) shape, graphics);
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Unsupported resolved shape to paint: %s", shape)
+            );
+        }
+    }
+
+    /**
+     * Draws a point.
+     * @param point Resolved point
+     * @param graphics Graphics object with which to draw
+     */
+    private void point(final ResolvedPoint point, final Graphics2D graphics) {
+        final Point awtpt = this.transform.transform(point.xcoor(), point.ycoor());
+        graphics.drawRect(
+            awtpt.x - AwtResolved.POINT_SIZE / 2, awtpt.y - AwtResolved.POINT_SIZE / 2,
+            AwtResolved.POINT_SIZE, AwtResolved.POINT_SIZE
+        );
+    }
+
+    /**
+     * Draws a line across the surface.
+     * @param line Resolved line
+     * @param graphics Graphics object with which to draw
+     */
+    private void line(final ResolvedLine line, final Graphics2D graphics) {
+        if (line.vertical()) {
+            final Point point = this.transform.transform(
+                -line.constant() / line.xcoef(), 0.
+            );
+            graphics.drawLine(point.x, 0, point.x, this.context.height());
+        } else {
+            final double xstart = this.transform.inverse(new Point(0, 0)).dblx();
+            final double xend = this.transform.inverse(
+                new Point(this.context.width(), 0)
+            ).dblx();
+            final Point start = this.transform.transform(
+                xstart, -(line.xcoef() * xstart + line.constant()) / line.ycoef()
+            );
+            final Point end = this.transform.transform(
+                xend, -(line.xcoef() * xend + line.constant()) / line.ycoef()
+            );
+            graphics.drawLine(start.x, start.y, end.x, end.y);
+        }
+    }
+
+    /**
+     * Draws a segment.
+     * @param seg Resolved segment
+     * @param graphics Graphics object with which to draw
+     */
+    private void segment(final ResolvedSegment seg, final Graphics2D graphics) {
+        final Point start = this.transform.transform(seg.startx(), seg.starty());
+        final Point end = this.transform.transform(seg.endx(), seg.endy());
+        graphics.drawLine(start.x, start.y, end.x, end.y);
+    }
+
+    /**
+     * Draws a ray up to the surface border.
+     * @param ray Resolved ray
+     * @param graphics Graphics object with which to draw
+     */
+    private void ray(final ResolvedRay ray, final Graphics2D graphics) {
+        final Point origin = this.transform.transform(ray.originx(), ray.originy());
+        if (ray.vertical()) {
+            int finish = this.context.height();
+            if (ray.diry() > 0) {
+                finish = 0;
+            }
+            graphics.drawLine(origin.x, origin.y, origin.x, finish);
+        } else {
+            int finish = 0;
+            if (ray.dirx() > 0) {
+                finish = this.context.width();
+            }
+            final double xend = this.transform.inverse(new Point(finish, 0)).dblx();
+            final Point end = this.transform.transform(
+                xend, ray.originy() + (xend - ray.originx()) * ray.diry() / ray.dirx()
+            );
+            graphics.drawLine(origin.x, origin.y, end.x, end.y);
+        }
+    }
+
+    /**
+     * Draws a polyline.
+     * @param polyline Resolved polyline
+     * @param graphics Graphics object with which to draw
+     */
+    private void polyline(final ResolvedPolyline polyline, final Graphics2D graphics) {
+        final int size = polyline.size();
+        final int[] xcoors = new int[size];
+        final int[] ycoors = new int[size];
+        for (int idx = 0; idx < size; ++idx) {
+            final Point point = this.transform.transform(
+                polyline.xcoor(idx), polyline.ycoor(idx)
+            );
+            xcoors[idx] = point.x;
+            ycoors[idx] = point.y;
+        }
+        graphics.drawPolyline(xcoors, ycoors, size);
+    }
+
+    /**
+     * Draws and fills a circle.
+     * @param circle Resolved circle
+     * @param graphics Graphics object with which to draw
+     */
+    private void circle(final ResolvedCircle circle, final Graphics2D graphics) {
+        final int size = (int) (this.context.scale() * circle.radius());
+        final Point center = this.transform.transform(circle.centerx(), circle.centery());
+        graphics.drawOval(center.x - size, center.y - size, 2 * size, 2 * size);
+        graphics.setColor(circle.shape().style().fill().color());
+        graphics.fillOval(center.x - size, center.y - size, 2 * size, 2 * size);
+    }
+
+    /**
+     * Draws an arc, counterclockwise from its start angle to its end angle.
+     * @param arc Resolved arc
+     * @param graphics Graphics object with which to draw
+     */
+    private void arc(final ResolvedArc arc, final Graphics2D graphics) {
+        final int size = (int) (this.context.scale() * arc.radius());
+        final Point center = this.transform.transform(arc.centerx(), arc.centery());
+        graphics.drawArc(
+            center.x - size, center.y - size, 2 * size, 2 * size,
+            (int) Math.round(Math.toDegrees(arc.start())),
+            (int) Math.round(Math.toDegrees(arc.extent()))
+        );
+    }
+}
@@ -26,16 +26,19 @@ package com.jeometry.render.awt;
 import com.aljebra.field.Field;
 import com.aljebra.field.impl.doubles.Decimal;
 import com.jeometry.render.Surface;
-import com.jeometry.render.Transform;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
 import com.jeometry.twod.segment.Segment;
 import java.awt.Graphics2D;
-import java.awt.Point;
 
 /**
  * Awt Segment painter that draws a segment on an AWT graphics.
  * @since 0.1
+ * @deprecated Draw resolved figures with {@link AwtResolved} instead
  */
+@Deprecated
 public final class AwtSegment extends AbstractAwtPaint<Segment<Double>> {
 
     /**
@@ -56,11 +59,10 @@ public final class AwtSegment extends AbstractAwtPaint<Segment<Double>> {
     @Override
     public void draw(final Shape<Segment<Double>> renderable, final Graphics2D graphics,
         final Surface context) {
-        final Segment<Double> seg = renderable.renderable();
-        final Transform transform = new Transform(context);
-        final Point start = transform.transform(seg.start());
-        final Point end = transform.transform(seg.end());
-        graphics.drawLine(start.x, start.y, end.x, end.y);
+        final AwtResolved painter = new AwtResolved(context);
+        for (final Resolved shape
+            : new ResolvedFigure(new Figure().add(renderable), this.field())) {
+            painter.paint(shape, graphics);
+        }
     }
-
 }
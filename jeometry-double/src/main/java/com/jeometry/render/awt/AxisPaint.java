@@ -28,8 +28,9 @@ import com.aljebra.field.impl.doubles.Decimal;
 import com.jeometry.model.decimal.DblPoint;
 import com.jeometry.render.Surface;
 import com.jeometry.render.awt.style.AwtStroke;
-import com.jeometry.twod.Shape;
-import com.jeometry.twod.line.Line;
+import com.jeometry.render.resolved.Resolved;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.twod.Figure;
 import com.jeometry.twod.line.PtDirLine;
 import com.jeometry.twod.style.impl.DefaultStroke;
 import java.awt.Color;
@@ -75,17 +76,16 @@ public final class AxisPaint {
      */
     public void paint(final Graphics2D graphics) {
         final DblPoint origin = new DblPoint(0., 0.);
-        final Shape<Line<Double>> xaxis = new Shape<>(
-            new PtDirLine<>(origin, new DblPoint(1.0, 0.))
-        );
-        final Shape<Line<Double>> yaxis = new Shape<>(
-            new PtDirLine<>(origin, new DblPoint(0., 1.))
-        );
+        final Figure axis = new Figure()
+            .add(new PtDirLine<>(origin, new DblPoint(1.0, 0.)))
+            .add(new PtDirLine<>(origin, new DblPoint(0., 1.)));
         final Color color = graphics.getColor();
         graphics.setStroke(new AwtStroke(new DefaultStroke()));
         graphics.setColor(Color.RED);
-        new AwtLine(this.field).draw(xaxis, graphics, this.ctx);
-        new AwtLine(this.field).draw(yaxis, graphics, this.ctx);
+        final AwtResolved painter = new AwtResolved(this.ctx);
+        for (final Resolved line : new ResolvedFigure(axis, this.field)) {
+            painter.paint(line, graphics);
+        }
         graphics.setColor(color);
     }
 
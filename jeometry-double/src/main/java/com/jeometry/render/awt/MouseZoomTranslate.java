@@ -23,13 +23,20 @@
  */
 package com.jeometry.render.awt;
 
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.render.Transform;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.point.FreePoint;
+import java.awt.Point;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
+import java.util.Optional;
 
 /**
  * Mouse listener translating drawable surface when dragging, and zooming
- * drawable surface when moving mouse wheel.
+ * drawable surface when moving mouse wheel. Dragging a free point of the
+ * figure moves it instead.
  * @since 0.1
  */
 class MouseZoomTranslate extends MouseAdapter {
@@ -44,11 +51,21 @@ class MouseZoomTranslate extends MouseAdapter {
      */
     private int starty;
 
+    /**
+     * Picking distance of dragged points, in pixels.
+     */
+    private static final int PICK_PIXELS = 4;
+
     /**
      * Parent {@link Awt} instance.
      */
     private final AwtDrawableSurface awt;
 
+    /**
+     * Free point being dragged.
+     */
+    private Optional<FreePoint<Double>> dragged;
+
     /**
      * Ctor.
      * @param awt Parent {@link Awt} instance
@@ -56,26 +73,57 @@ class MouseZoomTranslate extends MouseAdapter {
     MouseZoomTranslate(final AwtDrawableSurface awt) {
         super();
         this.awt = awt;
+        this.dragged = Optional.empty();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void mousePressed(final MouseEvent event) {
         this.startx = event.getX();
         this.starty = event.getY();
+        this.dragged = this.awt.pick(
+            new Point(this.startx, this.starty), MouseZoomTranslate.PICK_PIXELS
+        ).map(Shape::renderable).filter(FreePoint.class::isInstance).map(
+            point -> (FreePoint<Double>) point
+        );
+    }
+
+    @Override
+    public void mouseReleased(final MouseEvent event) {
+        this.dragged = Optional.empty();
     }
 
     @Override
     public void mouseDragged(final MouseEvent event) {
-        final double scale = this.awt.context().scale();
-        this.awt.translate(
-            (this.startx - event.getX()) / scale,
-            (event.getY() - this.starty) / scale
-        );
+        if (this.dragged.isPresent()) {
+            final DblPoint point = new Transform(this.awt.context())
+                .inverse(new Point(event.getX(), event.getY()));
+            this.awt.move(this.dragged.get(), point.dblx(), point.dbly());
+        } else {
+            final double scale = this.awt.context().scale();
+            this.awt.translate(
+                (this.startx - event.getX()) / scale,
+                (event.getY() - this.starty) / scale
+            );
+        }
         this.startx = event.getX();
         this.starty = event.getY();
         this.awt.repaint();
     }
 
+    @Override
+    public void mouseMoved(final MouseEvent event) {
+        if (this.awt.hover(event.getPoint())) {
+            this.awt.repaint();
+        }
+    }
+
+    @Override
+    public void mouseClicked(final MouseEvent event) {
+        this.awt.select(event.getPoint());
+        this.awt.repaint();
+    }
+
     @Override
     public void mouseWheelMoved(final MouseWheelEvent event) {
         if (event.getWheelRotation() < 0) {
@@ -29,7 +29,9 @@ import java.util.List;
 /**
  * A holding class of the default list of {@link AbstractAwtPaint}.
  * @since 0.1
+ * @deprecated Draw resolved figures with {@link AwtResolved} instead
  */
+@Deprecated
 public final class Painters {
 
     /**
@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * An axis-aligned bounding box.
+ * @since 0.5
+ */
+@EqualsAndHashCode
+@ToString
+public final class Bounds {
+
+    /**
+     * Minimum X coordinate.
+     */
+    private final double mnx;
+
+    /**
+     * Minimum Y coordinate.
+     */
+    private final double mny;
+
+    /**
+     * Maximum X coordinate.
+     */
+    private final double mxx;
+
+    /**
+     * Maximum Y coordinate.
+     */
+    private final double mxy;
+
+    /**
+     * Constructor. Bounds are given in any order.
+     * @param firstx First X bound
+     * @param firsty First Y bound
+     * @param secondx Second X bound
+     * @param secondy Second Y bound
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Bounds(final double firstx, final double firsty, final double secondx,
+        final double secondy) {
+        this.mnx = Math.min(firstx, secondx);
+        this.mny = Math.min(firsty, secondy);
+        this.mxx = Math.max(firstx, secondx);
+        this.mxy = Math.max(firsty, secondy);
+    }
+
+    /**
+     * Gives the minimum X coordinate.
+     * @return Minimum X coordinate
+     */
+    public double minx() {
+        return this.mnx;
+    }
+
+    /**
+     * Gives the minimum Y coordinate.
+     * @return Minimum Y coordinate
+     */
+    public double miny() {
+        return this.mny;
+    }
+
+    /**
+     * Gives the maximum X coordinate.
+     * @return Maximum X coordinate
+     */
+    public double maxx() {
+        return this.mxx;
+    }
+
+    /**
+     * Gives the maximum Y coordinate.
+     * @return Maximum Y coordinate
+     */
+    public double maxy() {
+        return this.mxy;
+    }
+
+    /**
+     * Checks if these bounds intersect other bounds (touching bounds
+     * intersect).
+     * @param other Other bounds
+     * @return True if the bounds intersect
+     */
+    public boolean intersects(final Bounds other) {
+        return this.mnx <= other.mxx && other.mnx <= this.mxx
+            && this.mny <= other.mxy && other.mny <= this.mxy;
+    }
+
+    /**
+     * Checks if these bounds contain other bounds.
+     * @param other Other bounds
+     * @return True if the other bounds are inside these bounds
+     */
+    public boolean contains(final Bounds other) {
+        return this.mnx <= other.mnx && other.mxx <= this.mxx
+            && this.mny <= other.mny && other.mxy <= this.mxy;
+    }
+
+    /**
+     * Gives the smallest bounds containing these bounds and other bounds.
+     * @param other Other bounds
+     * @return Union bounds
+     */
+    public Bounds union(final Bounds other) {
+        return new Bounds(
+            Math.min(this.mnx, other.mnx), Math.min(this.mny, other.mny),
+            Math.max(this.mxx, other.mxx), Math.max(this.mxy, other.mxy)
+        );
+    }
+
+    /**
+     * Gives the area of the bounds.
+     * @return Area
+     */
+    public double area() {
+        return (this.mxx - this.mnx) * (this.mxy - this.mny);
+    }
+
+    /**
+     * Gives the X coordinate of the bounds center.
+     * @return Center X coordinate
+     */
+    public double centerx() {
+        return (this.mnx + this.mxx) / 2.;
+    }
+
+    /**
+     * Gives the Y coordinate of the bounds center.
+     * @return Center Y coordinate
+     */
+    public double centery() {
+        return (this.mny + this.mxy) / 2.;
+    }
+
+    /**
+     * Gives the Euclidean distance from a point to the bounds, zero for
+     * a point inside the bounds.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Distance
+     */
+    public double distance(final double xcoor, final double ycoor) {
+        return Math.hypot(
+            Math.max(Math.max(this.mnx - xcoor, xcoor - this.mxx), 0.),
+            Math.max(Math.max(this.mny - ycoor, ycoor - this.mxy), 0.)
+        );
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Shape;
+import java.util.Optional;
+
+/**
+ * A figure shape resolved to primitive double values, which can be consumed
+ * (rendered, hit-tested, exported) without evaluating the shape again.
+ * @since 0.5
+ */
+public interface Resolved {
+
+    /**
+     * Gives the resolved shape, holding the name and the style.
+     * @return The shape
+     */
+    Shape<?> shape();
+
+    /**
+     * Gives the bounding box of the shape, absent for unbounded shapes
+     * (like lines and rays).
+     * @return The bounds
+     */
+    Optional<Bounds> bounds();
+
+    /**
+     * Gives the Euclidean distance from a point to the shape outline.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Distance
+     */
+    double distance(double xcoor, double ycoor);
+}
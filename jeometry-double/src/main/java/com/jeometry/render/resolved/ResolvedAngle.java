@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Shape;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * A resolved angle, described by its origin and the two rays of its sides.
+ * @since 0.5
+ */
+@ToString
+public final class ResolvedAngle implements Resolved {
+
+    /**
+     * Resolved shape.
+     */
+    private final Shape<?> shp;
+
+    /**
+     * First side.
+     */
+    private final ResolvedRay first;
+
+    /**
+     * Second side.
+     */
+    private final ResolvedRay second;
+
+    /**
+     * Constructor.
+     * @param shape Resolved shape
+     * @param start First side
+     * @param end Second side
+     */
+    public ResolvedAngle(final Shape<?> shape, final ResolvedRay start,
+        final ResolvedRay end) {
+        this.shp = shape;
+        this.first = start;
+        this.second = end;
+    }
+
+    @Override
+    public Shape<?> shape() {
+        return this.shp;
+    }
+
+    @Override
+    public Optional<Bounds> bounds() {
+        return Optional.empty();
+    }
+
+    @Override
+    public double distance(final double xcoor, final double ycoor) {
+        return Math.min(
+            this.first.distance(xcoor, ycoor), this.second.distance(xcoor, ycoor)
+        );
+    }
+
+    /**
+     * Gives the first side.
+     * @return First side ray
+     */
+    public ResolvedRay start() {
+        return this.first;
+    }
+
+    /**
+     * Gives the second side.
+     * @return Second side ray
+     */
+    public ResolvedRay end() {
+        return this.second;
+    }
+}
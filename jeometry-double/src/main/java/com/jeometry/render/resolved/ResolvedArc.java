@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Shape;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * A resolved arc, described by its circle and its start and end angles
+ * in radians. The arc goes counterclockwise from the start angle to the
+ * end angle.
+ * @since 0.5
+ */
+@ToString
+public final class ResolvedArc implements Resolved {
+
+    /**
+     * Resolved shape.
+     */
+    private final Shape<?> shp;
+
+    /**
+     * Center X coordinate.
+     */
+    private final double cntx;
+
+    /**
+     * Center Y coordinate.
+     */
+    private final double cnty;
+
+    /**
+     * Radius.
+     */
+    private final double rad;
+
+    /**
+     * Start angle in radians.
+     */
+    private final double strt;
+
+    /**
+     * End angle in radians.
+     */
+    private final double fnsh;
+
+    /**
+     * Constructor.
+     * @param shape Resolved shape
+     * @param centerx Center X coordinate
+     * @param centery Center Y coordinate
+     * @param radius Radius
+     * @param start Start angle in radians
+     * @param end End angle in radians
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ResolvedArc(final Shape<?> shape, final double centerx, final double centery,
+        final double radius, final double start, final double end) {
+        this.shp = shape;
+        this.cntx = centerx;
+        this.cnty = centery;
+        this.rad = radius;
+        this.strt = start;
+        this.fnsh = end;
+    }
+
+    @Override
+    public Shape<?> shape() {
+        return this.shp;
+    }
+
+    @Override
+    public Optional<Bounds> bounds() {
+        return Optional.of(
+            new Bounds(
+                this.cntx - this.rad, this.cnty - this.rad,
+                this.cntx + this.rad, this.cnty + this.rad
+            )
+        );
+    }
+
+    @Override
+    public double distance(final double xcoor, final double ycoor) {
+        final double angle = Math.atan2(ycoor - this.cnty, xcoor - this.cntx);
+        final double result;
+        if (ResolvedArc.sweep(this.strt, angle) <= this.extent()) {
+            result = Math.abs(Math.hypot(xcoor - this.cntx, ycoor - this.cnty) - this.rad);
+        } else {
+            result = Math.min(
+                Math.hypot(
+                    xcoor - this.cntx - this.rad * Math.cos(this.strt),
+                    ycoor - this.cnty - this.rad * Math.sin(this.strt)
+                ),
+                Math.hypot(
+                    xcoor - this.cntx - this.rad * Math.cos(this.fnsh),
+                    ycoor - this.cnty - this.rad * Math.sin(this.fnsh)
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Gives the center X coordinate.
+     * @return Center X coordinate
+     */
+    public double centerx() {
+        return this.cntx;
+    }
+
+    /**
+     * Gives the center Y coordinate.
+     * @return Center Y coordinate
+     */
+    public double centery() {
+        return this.cnty;
+    }
+
+    /**
+     * Gives the radius.
+     * @return Radius
+     */
+    public double radius() {
+        return this.rad;
+    }
+
+    /**
+     * Gives the start angle.
+     * @return Start angle in radians
+     */
+    public double start() {
+        return this.strt;
+    }
+
+    /**
+     * Gives the end angle.
+     * @return End angle in radians
+     */
+    public double end() {
+        return this.fnsh;
+    }
+
+    /**
+     * Gives the counterclockwise angle covered by the arc, a full turn
+     * when start and end angles differ by a non-zero number of turns.
+     * Painters draw the arc over this angle, so that drawing and
+     * distances agree.
+     * @return Covered angle in radians
+     */
+    public double extent() {
+        double result = ResolvedArc.sweep(this.strt, this.fnsh);
+        if (result == 0. && this.strt != this.fnsh) {
+            result = 2. * Math.PI;
+        }
+        return result;
+    }
+
+    /**
+     * Gives the counterclockwise angle from an angle to another one.
+     * @param from Starting angle in radians
+     * @param target Target angle in radians
+     * @return Angle in radians, in [0, 2.PI[
+     */
+    private static double sweep(final double from, final double target) {
+        final double turn = 2. * Math.PI;
+        return ((target - from) % turn + turn) % turn;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Shape;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * A resolved circle.
+ * @since 0.5
+ */
+@ToString
+public final class ResolvedCircle implements Resolved {
+
+    /**
+     * Resolved shape.
+     */
+    private final Shape<?> shp;
+
+    /**
+     * Center X coordinate.
+     */
+    private final double cntx;
+
+    /**
+     * Center Y coordinate.
+     */
+    private final double cnty;
+
+    /**
+     * Radius.
+     */
+    private final double rad;
+
+    /**
+     * Constructor.
+     * @param shape Resolved shape
+     * @param centerx Center X coordinate
+     * @param centery Center Y coordinate
+     * @param radius Radius
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ResolvedCircle(final Shape<?> shape, final double centerx,
+        final double centery, final double radius) {
+        this.shp = shape;
+        this.cntx = centerx;
+        this.cnty = centery;
+        this.rad = radius;
+    }
+
+    @Override
+    public Shape<?> shape() {
+        return this.shp;
+    }
+
+    @Override
+    public Optional<Bounds> bounds() {
+        return Optional.of(
+            new Bounds(
+                this.cntx - this.rad, this.cnty - this.rad,
+                this.cntx + this.rad, this.cnty + this.rad
+            )
+        );
+    }
+
+    @Override
+    public double distance(final double xcoor, final double ycoor) {
+        return Math.abs(Math.hypot(xcoor - this.cntx, ycoor - this.cnty) - this.rad);
+    }
+
+    /**
+     * Gives the center X coordinate.
+     * @return Center X coordinate
+     */
+    public double centerx() {
+        return this.cntx;
+    }
+
+    /**
+     * Gives the center Y coordinate.
+     * @return Center Y coordinate
+     */
+    public double centery() {
+        return this.cnty;
+    }
+
+    /**
+     * Gives the radius.
+     * @return Radius
+     */
+    public double radius() {
+        return this.rad;
+    }
+}
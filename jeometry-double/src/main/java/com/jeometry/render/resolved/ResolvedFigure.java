@@ -0,0 +1,307 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.aljebra.field.CachedField;
+import com.aljebra.field.Field;
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.angle.Angle;
+import com.jeometry.twod.arc.Arc;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.Polyline;
+import com.jeometry.twod.line.analytics.Vertical;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.ray.PtDirRay;
+import com.jeometry.twod.ray.Ray;
+import com.jeometry.twod.segment.Segment;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A snapshot of a figure where every shape is resolved, in one pass, to
+ * primitive double values. Renderers, hit-testers and exporters can then
+ * consume the snapshot as many times as needed (for example on each pan
+ * or zoom) without evaluating the figure expressions again. Shared
+ * quantities are evaluated once when the field is a metric space field.
+ * Shapes which renderables are not supported are kept aside, unresolved.
+ * @since 0.5
+ */
+public final class ResolvedFigure implements Iterable<Resolved> {
+
+    /**
+     * Resolved shapes.
+     */
+    private final List<Resolved> shapes;
+
+    /**
+     * Shapes that could not be resolved.
+     */
+    private final List<Shape<?>> others;
+
+    /**
+     * Constructor.
+     * @param figure Figure to resolve
+     * @param field Field to evaluate shapes with
+     */
+    public ResolvedFigure(final Figure figure, final Field<Double> field) {
+        this.shapes = new ArrayList<>(10);
+        this.others = new ArrayList<>(0);
+        final Field<Double> cached = ResolvedFigure.cached(field);
+        for (final Shape<?> shape : figure) {
+            if (ResolvedFigure.supports(shape)) {
+                this.shapes.add(ResolvedFigure.resolve(shape, cached));
+            } else {
+                this.others.add(shape);
+            }
+        }
+    }
+
+    /**
+     * Gives the shapes which renderables could not be resolved.
+     * @return Unresolved shapes
+     */
+    public List<Shape<?>> unresolved() {
+        return Collections.unmodifiableList(this.others);
+    }
+
+    /**
+     * Gives the number of resolved shapes.
+     * @return Resolved shapes count
+     */
+    public int size() {
+        return this.shapes.size();
+    }
+
+    @Override
+    public Iterator<Resolved> iterator() {
+        return Collections.unmodifiableList(this.shapes).iterator();
+    }
+
+    /**
+     * Memoizes a field evaluations, when possible.
+     * @param field Field
+     * @return A caching field, or the given field
+     */
+    private static Field<Double> cached(final Field<Double> field) {
+        final Field<Double> result;
+        if (field instanceof MetricSpaceField<?>) {
+            result = new CachedField<>((MetricSpaceField<Double>) field);
+        } else {
+            result = field;
+        }
+        return result;
+    }
+
+    /**
+     * Checks if a shape renderable can be resolved.
+     * @param shape Shape
+     * @return True if the shape can be resolved
+     */
+    private static boolean supports(final Shape<?> shape) {
+        final Object renderable = shape.renderable();
+        return renderable instanceof XyPoint || renderable instanceof Line
+            || renderable instanceof Segment || renderable instanceof Ray
+            || renderable instanceof Polyline || renderable instanceof Angle
+            || renderable instanceof Circle || renderable instanceof Arc;
+    }
+
+    /**
+     * Resolves a shape.
+     * @param shape Shape to resolve
+     * @param field Field to evaluate the shape with
+     * @return Resolved shape
+     * @checkstyle CyclomaticComplexityCheck (30 lines)
+     */
+    @SuppressWarnings({"unchecked", "PMD.CyclomaticComplexity"})
+    private static Resolved resolve(final Shape<?> shape, final Field<Double> field) {
+        final Object renderable = shape.renderable();
+        final Resolved result;
+        if (renderable instanceof XyPoint) {
+            final Vect<Double> point = (Vect<Double>) renderable;
+            result = new ResolvedPoint(
+                shape, ResolvedFigure.coord(point, 0, field),
+                ResolvedFigure.coord(point, 1, field)
+            );
+        } else if (renderable instanceof Line) {
+            result = ResolvedFigure.line(shape, (Line<Double>) renderable, field);
+        } else if (renderable instanceof Segment) {
+            result = ResolvedFigure.segment(shape, (Segment<Double>) renderable, field);
+        } else if (renderable instanceof Ray) {
+            result = ResolvedFigure.ray(shape, (Ray<Double>) renderable, field);
+        } else if (renderable instanceof Polyline) {
+            result = ResolvedFigure.polyline(shape, (Polyline<Double>) renderable, field);
+        } else if (renderable instanceof Angle) {
+            result = ResolvedFigure.angle(shape, (Angle<Double>) renderable, field);
+        } else if (renderable instanceof Circle) {
+            final Circle<Double> circle = (Circle<Double>) renderable;
+            result = new ResolvedCircle(
+                shape, ResolvedFigure.coord(circle.center(), 0, field),
+                ResolvedFigure.coord(circle.center(), 1, field),
+                ResolvedFigure.value(circle.radius(), field)
+            );
+        } else {
+            result = ResolvedFigure.arc(shape, (Arc<Double>) renderable, field);
+        }
+        return result;
+    }
+
+    /**
+     * Resolves a line to its equation. The Y coefficient is set to exactly
+     * zero when the field considers the line vertical.
+     * @param shape Shape
+     * @param line Line
+     * @param field Field
+     * @return Resolved line
+     */
+    private static ResolvedLine line(final Shape<?> shape, final Line<Double> line,
+        final Field<Double> field) {
+        final double pointx = ResolvedFigure.coord(line.point(), 0, field);
+        final double pointy = ResolvedFigure.coord(line.point(), 1, field);
+        double dirx = 0.;
+        if (!new Vertical<>(line).resolve(field)) {
+            dirx = ResolvedFigure.coord(line.direction(), 0, field);
+        }
+        final double diry = ResolvedFigure.coord(line.direction(), 1, field);
+        return new ResolvedLine(shape, diry, -dirx, dirx * pointy - diry * pointx);
+    }
+
+    /**
+     * Resolves a segment.
+     * @param shape Shape
+     * @param seg Segment
+     * @param field Field
+     * @return Resolved segment
+     */
+    private static ResolvedSegment segment(final Shape<?> shape,
+        final Segment<Double> seg, final Field<Double> field) {
+        return new ResolvedSegment(
+            shape, ResolvedFigure.coord(seg.start(), 0, field),
+            ResolvedFigure.coord(seg.start(), 1, field),
+            ResolvedFigure.coord(seg.end(), 0, field),
+            ResolvedFigure.coord(seg.end(), 1, field)
+        );
+    }
+
+    /**
+     * Resolves a ray. The direction X coordinate is set to exactly zero
+     * when the field considers the ray vertical.
+     * @param shape Shape
+     * @param ray Ray
+     * @param field Field
+     * @return Resolved ray
+     */
+    private static ResolvedRay ray(final Shape<?> shape, final Ray<Double> ray,
+        final Field<Double> field) {
+        double dirx = 0.;
+        if (!new Vertical<>(ray).resolve(field)) {
+            dirx = ResolvedFigure.coord(ray.direction(), 0, field);
+        }
+        return new ResolvedRay(
+            shape, ResolvedFigure.coord(ray.origin(), 0, field),
+            ResolvedFigure.coord(ray.origin(), 1, field),
+            dirx, ResolvedFigure.coord(ray.direction(), 1, field)
+        );
+    }
+
+    /**
+     * Resolves a polyline.
+     * @param shape Shape
+     * @param polyline Polyline
+     * @param field Field
+     * @return Resolved polyline
+     */
+    private static ResolvedPolyline polyline(final Shape<?> shape,
+        final Polyline<Double> polyline, final Field<Double> field) {
+        final List<Vect<Double>> points = polyline.points();
+        final double[] xcoors = new double[points.size()];
+        final double[] ycoors = new double[points.size()];
+        for (int idx = 0; idx < xcoors.length; ++idx) {
+            xcoors[idx] = ResolvedFigure.coord(points.get(idx), 0, field);
+            ycoors[idx] = ResolvedFigure.coord(points.get(idx), 1, field);
+        }
+        return new ResolvedPolyline(shape, xcoors, ycoors);
+    }
+
+    /**
+     * Resolves an angle to its two sides rays.
+     * @param shape Shape
+     * @param angle Angle
+     * @param field Field
+     * @return Resolved angle
+     */
+    private static ResolvedAngle angle(final Shape<?> shape, final Angle<Double> angle,
+        final Field<Double> field) {
+        return new ResolvedAngle(
+            shape,
+            ResolvedFigure.ray(shape, new PtDirRay<>(angle.origin(), angle.start()), field),
+            ResolvedFigure.ray(shape, new PtDirRay<>(angle.origin(), angle.end()), field)
+        );
+    }
+
+    /**
+     * Resolves an arc.
+     * @param shape Shape
+     * @param arc Arc
+     * @param field Field
+     * @return Resolved arc
+     */
+    private static ResolvedArc arc(final Shape<?> shape, final Arc<Double> arc,
+        final Field<Double> field) {
+        return new ResolvedArc(
+            shape, ResolvedFigure.coord(arc.center(), 0, field),
+            ResolvedFigure.coord(arc.center(), 1, field),
+            ResolvedFigure.value(arc.radius(), field),
+            arc.start().doubleValue(), arc.end().doubleValue()
+        );
+    }
+
+    /**
+     * Evaluates a vector coordinate.
+     * @param vect Vector
+     * @param index Coordinate index
+     * @param field Field
+     * @return Coordinate actual value
+     */
+    private static double coord(final Vect<Double> vect, final int index,
+        final Field<Double> field) {
+        return ResolvedFigure.value(vect.coord(index), field);
+    }
+
+    /**
+     * Evaluates a scalar.
+     * @param scalar Scalar
+     * @param field Field
+     * @return Scalar actual value
+     */
+    private static double value(final Scalar<Double> scalar, final Field<Double> field) {
+        return field.actual(scalar);
+    }
+}
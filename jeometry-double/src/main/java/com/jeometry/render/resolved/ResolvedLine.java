@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Shape;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * A resolved line, described by its equation {@code a.x + b.y + c = 0}.
+ * The coefficient {@code b} is exactly zero for vertical lines.
+ * @since 0.5
+ */
+@ToString
+public final class ResolvedLine implements Resolved {
+
+    /**
+     * Resolved shape.
+     */
+    private final Shape<?> shp;
+
+    /**
+     * X coefficient.
+     */
+    private final double xcf;
+
+    /**
+     * Y coefficient.
+     */
+    private final double ycf;
+
+    /**
+     * Constant term.
+     */
+    private final double cst;
+
+    /**
+     * Constructor.
+     * @param shape Resolved shape
+     * @param xcoef X coefficient (a)
+     * @param ycoef Y coefficient (b)
+     * @param cst Constant term (c)
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ResolvedLine(final Shape<?> shape, final double xcoef, final double ycoef,
+        final double cst) {
+        this.shp = shape;
+        this.xcf = xcoef;
+        this.ycf = ycoef;
+        this.cst = cst;
+    }
+
+    @Override
+    public Shape<?> shape() {
+        return this.shp;
+    }
+
+    @Override
+    public Optional<Bounds> bounds() {
+        return Optional.empty();
+    }
+
+    @Override
+    public double distance(final double xcoor, final double ycoor) {
+        return Math.abs(this.xcf * xcoor + this.ycf * ycoor + this.cst)
+            / Math.hypot(this.xcf, this.ycf);
+    }
+
+    /**
+     * Gives the X coefficient (a).
+     * @return X coefficient
+     */
+    public double xcoef() {
+        return this.xcf;
+    }
+
+    /**
+     * Gives the Y coefficient (b).
+     * @return Y coefficient
+     */
+    public double ycoef() {
+        return this.ycf;
+    }
+
+    /**
+     * Gives the constant term (c).
+     * @return Constant term
+     */
+    public double constant() {
+        return this.cst;
+    }
+
+    /**
+     * Tells if the line is vertical.
+     * @return True if the line is vertical
+     */
+    public boolean vertical() {
+        return this.ycf == 0.;
+    }
+}
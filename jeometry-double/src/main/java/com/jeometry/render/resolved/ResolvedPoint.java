@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Shape;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * A resolved point.
+ * @since 0.5
+ */
+@ToString
+public final class ResolvedPoint implements Resolved {
+
+    /**
+     * Resolved shape.
+     */
+    private final Shape<?> shp;
+
+    /**
+     * X coordinate.
+     */
+    private final double xcor;
+
+    /**
+     * Y coordinate.
+     */
+    private final double ycor;
+
+    /**
+     * Constructor.
+     * @param shape Resolved shape
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     */
+    public ResolvedPoint(final Shape<?> shape, final double xcoor, final double ycoor) {
+        this.shp = shape;
+        this.xcor = xcoor;
+        this.ycor = ycoor;
+    }
+
+    @Override
+    public Shape<?> shape() {
+        return this.shp;
+    }
+
+    @Override
+    public Optional<Bounds> bounds() {
+        return Optional.of(new Bounds(this.xcor, this.ycor, this.xcor, this.ycor));
+    }
+
+    @Override
+    public double distance(final double xcoor, final double ycoor) {
+        return Math.hypot(xcoor - this.xcor, ycoor - this.ycor);
+    }
+
+    /**
+     * Gives the X coordinate.
+     * @return X coordinate
+     */
+    public double xcoor() {
+        return this.xcor;
+    }
+
+    /**
+     * Gives the Y coordinate.
+     * @return Y coordinate
+     */
+    public double ycoor() {
+        return this.ycor;
+    }
+}
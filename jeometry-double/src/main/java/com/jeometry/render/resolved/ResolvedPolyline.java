@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Shape;
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * A resolved polyline, holding its points coordinates in two arrays.
+ * @since 0.5
+ */
+@ToString
+public final class ResolvedPolyline implements Resolved {
+
+    /**
+     * Resolved shape.
+     */
+    private final Shape<?> shp;
+
+    /**
+     * X coordinates.
+     */
+    private final double[] xcrs;
+
+    /**
+     * Y coordinates.
+     */
+    private final double[] ycrs;
+
+    /**
+     * Constructor.
+     * @param shape Resolved shape
+     * @param xcoors Points X coordinates
+     * @param ycoors Points Y coordinates
+     */
+    public ResolvedPolyline(final Shape<?> shape, final double[] xcoors,
+        final double[] ycoors) {
+        if (xcoors.length != ycoors.length) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Coordinates count mismatch: %d and %d", xcoors.length, ycoors.length
+                )
+            );
+        }
+        this.shp = shape;
+        this.xcrs = Arrays.copyOf(xcoors, xcoors.length);
+        this.ycrs = Arrays.copyOf(ycoors, ycoors.length);
+    }
+
+    @Override
+    public Shape<?> shape() {
+        return this.shp;
+    }
+
+    @Override
+    public Optional<Bounds> bounds() {
+        Optional<Bounds> result = Optional.empty();
+        for (int idx = 0; idx < this.xcrs.length; ++idx) {
+            final Bounds point = new Bounds(
+                this.xcrs[idx], this.ycrs[idx], this.xcrs[idx], this.ycrs[idx]
+            );
+            result = Optional.of(result.map(point::union).orElse(point));
+        }
+        return result;
+    }
+
+    @Override
+    public double distance(final double xcoor, final double ycoor) {
+        double result = Double.POSITIVE_INFINITY;
+        if (this.xcrs.length == 1) {
+            result = Math.hypot(xcoor - this.xcrs[0], ycoor - this.ycrs[0]);
+        }
+        for (int idx = 1; idx < this.xcrs.length; ++idx) {
+            result = Math.min(
+                result,
+                new ResolvedSegment(
+                    this.shp, this.xcrs[idx - 1], this.ycrs[idx - 1],
+                    this.xcrs[idx], this.ycrs[idx]
+                ).distance(xcoor, ycoor)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Gives the number of points.
+     * @return Points count
+     */
+    public int size() {
+        return this.xcrs.length;
+    }
+
+    /**
+     * Gives a point X coordinate.
+     * @param index Point index
+     * @return X coordinate
+     */
+    public double xcoor(final int index) {
+        return this.xcrs[index];
+    }
+
+    /**
+     * Gives a point Y coordinate.
+     * @param index Point index
+     * @return Y coordinate
+     */
+    public double ycoor(final int index) {
+        return this.ycrs[index];
+    }
+}
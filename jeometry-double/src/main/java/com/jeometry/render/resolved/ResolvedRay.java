@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Shape;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * A resolved ray, described by its origin and its direction.
+ * The direction X coordinate is exactly zero for vertical rays.
+ * @since 0.5
+ */
+@ToString
+public final class ResolvedRay implements Resolved {
+
+    /**
+     * Resolved shape.
+     */
+    private final Shape<?> shp;
+
+    /**
+     * Origin X coordinate.
+     */
+    private final double orgx;
+
+    /**
+     * Origin Y coordinate.
+     */
+    private final double orgy;
+
+    /**
+     * Direction X coordinate.
+     */
+    private final double drx;
+
+    /**
+     * Direction Y coordinate.
+     */
+    private final double dry;
+
+    /**
+     * Constructor.
+     * @param shape Resolved shape
+     * @param originx Origin X coordinate
+     * @param originy Origin Y coordinate
+     * @param dirx Direction X coordinate
+     * @param diry Direction Y coordinate
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ResolvedRay(final Shape<?> shape, final double originx,
+        final double originy, final double dirx, final double diry) {
+        this.shp = shape;
+        this.orgx = originx;
+        this.orgy = originy;
+        this.drx = dirx;
+        this.dry = diry;
+    }
+
+    @Override
+    public Shape<?> shape() {
+        return this.shp;
+    }
+
+    @Override
+    public Optional<Bounds> bounds() {
+        return Optional.empty();
+    }
+
+    @Override
+    public double distance(final double xcoor, final double ycoor) {
+        final double relx = xcoor - this.orgx;
+        final double rely = ycoor - this.orgy;
+        final double length = this.drx * this.drx + this.dry * this.dry;
+        double param = 0.;
+        if (length > 0.) {
+            param = Math.max((relx * this.drx + rely * this.dry) / length, 0.);
+        }
+        return Math.hypot(relx - param * this.drx, rely - param * this.dry);
+    }
+
+    /**
+     * Gives the origin X coordinate.
+     * @return Origin X coordinate
+     */
+    public double originx() {
+        return this.orgx;
+    }
+
+    /**
+     * Gives the origin Y coordinate.
+     * @return Origin Y coordinate
+     */
+    public double originy() {
+        return this.orgy;
+    }
+
+    /**
+     * Gives the direction X coordinate.
+     * @return Direction X coordinate
+     */
+    public double dirx() {
+        return this.drx;
+    }
+
+    /**
+     * Gives the direction Y coordinate.
+     * @return Direction Y coordinate
+     */
+    public double diry() {
+        return this.dry;
+    }
+
+    /**
+     * Tells if the ray is vertical.
+     * @return True if the ray is vertical
+     */
+    public boolean vertical() {
+        return this.drx == 0.;
+    }
+}
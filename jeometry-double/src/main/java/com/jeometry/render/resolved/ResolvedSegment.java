@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Shape;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * A resolved segment.
+ * @since 0.5
+ */
+@ToString
+public final class ResolvedSegment implements Resolved {
+
+    /**
+     * Resolved shape.
+     */
+    private final Shape<?> shp;
+
+    /**
+     * Start X coordinate.
+     */
+    private final double strx;
+
+    /**
+     * Start Y coordinate.
+     */
+    private final double stry;
+
+    /**
+     * End X coordinate.
+     */
+    private final double enx;
+
+    /**
+     * End Y coordinate.
+     */
+    private final double eny;
+
+    /**
+     * Constructor.
+     * @param shape Resolved shape
+     * @param startx Start X coordinate
+     * @param starty Start Y coordinate
+     * @param endx End X coordinate
+     * @param endy End Y coordinate
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ResolvedSegment(final Shape<?> shape, final double startx,
+        final double starty, final double endx, final double endy) {
+        this.shp = shape;
+        this.strx = startx;
+        this.stry = starty;
+        this.enx = endx;
+        this.eny = endy;
+    }
+
+    @Override
+    public Shape<?> shape() {
+        return this.shp;
+    }
+
+    @Override
+    public Optional<Bounds> bounds() {
+        return Optional.of(new Bounds(this.strx, this.stry, this.enx, this.eny));
+    }
+
+    @Override
+    public double distance(final double xcoor, final double ycoor) {
+        final double dirx = this.enx - this.strx;
+        final double diry = this.eny - this.stry;
+        final double relx = xcoor - this.strx;
+        final double rely = ycoor - this.stry;
+        final double length = dirx * dirx + diry * diry;
+        double param = 0.;
+        if (length > 0.) {
+            param = Math.min(Math.max((relx * dirx + rely * diry) / length, 0.), 1.);
+        }
+        return Math.hypot(relx - param * dirx, rely - param * diry);
+    }
+
+    /**
+     * Gives the start X coordinate.
+     * @return Start X coordinate
+     */
+    public double startx() {
+        return this.strx;
+    }
+
+    /**
+     * Gives the start Y coordinate.
+     * @return Start Y coordinate
+     */
+    public double starty() {
+        return this.stry;
+    }
+
+    /**
+     * Gives the end X coordinate.
+     * @return End X coordinate
+     */
+    public double endx() {
+        return this.enx;
+    }
+
+    /**
+     * Gives the end Y coordinate.
+     * @return End Y coordinate
+     */
+    public double endy() {
+        return this.eny;
+    }
+}
@@ -0,0 +1,618 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A spatial index of resolved shapes, answering window queries (like
+ * "which shapes may be visible in the viewport") in time proportional to
+ * the number of shapes near the window. Bounded shapes are stored in an
+ * R-tree over their bounding boxes, bulk loaded with the Sort-Tile-Recursive
+ * packing and updated with insertions and removals. Unbounded shapes (lines,
+ * rays and angles) are kept in a clip list returned by every query.
+ * The index also picks shapes near a point, using the shapes exact
+ * distances.
+ * Shapes are identified by reference, and queries give them back in
+ * insertion order. This class is not thread-safe.
+ * @since 0.5
+ */
+public final class ShapeIndex {
+
+    /**
+     * Maximum entries of a node.
+     */
+    private static final int MAX = 16;
+
+    /**
+     * Minimum entries of a non-root node, below which it is dissolved.
+     */
+    private static final int MIN = 4;
+
+    /**
+     * Unbounded shapes.
+     */
+    private final List<ShapeIndex.Entry> unbounded;
+
+    /**
+     * R-tree root.
+     */
+    private ShapeIndex.Node root;
+
+    /**
+     * Next insertion order.
+     */
+    private long sequence;
+
+    /**
+     * Number of indexed shapes.
+     */
+    private int count;
+
+    /**
+     * Constructor. Builds an empty index.
+     */
+    public ShapeIndex() {
+        this(new ArrayList<>(0));
+    }
+
+    /**
+     * Constructor. Bulk loads the given shapes.
+     * @param shapes Shapes to index
+     */
+    public ShapeIndex(final Iterable<? extends Resolved> shapes) {
+        this.unbounded = new ArrayList<>(0);
+        final List<ShapeIndex.Entry> bounded = new ArrayList<>(ShapeIndex.MAX);
+        for (final Resolved shape : shapes) {
+            final ShapeIndex.Entry entry = this.entry(shape);
+            if (entry.box.isPresent()) {
+                bounded.add(entry);
+            } else {
+                this.unbounded.add(entry);
+            }
+        }
+        this.root = ShapeIndex.pack(bounded);
+    }
+
+    /**
+     * Adds a shape to the index.
+     * @param shape Shape to add
+     */
+    public void insert(final Resolved shape) {
+        final ShapeIndex.Entry entry = this.entry(shape);
+        if (entry.box.isPresent()) {
+            this.add(entry);
+        } else {
+            this.unbounded.add(entry);
+        }
+    }
+
+    /**
+     * Removes a shape from the index.
+     * @param shape Shape to remove
+     * @return True if the shape was indexed
+     */
+    public boolean remove(final Resolved shape) {
+        final Optional<Bounds> box = shape.bounds();
+        final boolean result;
+        if (box.isPresent()) {
+            final List<ShapeIndex.Entry> orphans = new ArrayList<>(0);
+            result = this.root.remove(shape, box.get(), orphans);
+            while (!this.root.leaf() && this.root.size() == 1) {
+                this.root = this.root.children.get(0);
+            }
+            if (this.root.size() == 0) {
+                this.root = new ShapeIndex.Node(0);
+            }
+            for (final ShapeIndex.Entry orphan : orphans) {
+                this.add(orphan);
+            }
+        } else {
+            result = ShapeIndex.removeFirst(this.unbounded, shape);
+        }
+        if (result) {
+            this.count -= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Gives the shapes which bounds intersect a window, and the unbounded
+     * shapes, in insertion order.
+     * @param window Query window
+     * @return Shapes possibly intersecting the window
+     */
+    public List<Resolved> query(final Bounds window) {
+        final List<ShapeIndex.Entry> found = new ArrayList<>(this.unbounded);
+        this.root.query(window, found);
+        return found.stream().sorted(Comparator.comparingLong(entry -> entry.order))
+            .map(entry -> entry.shape).collect(Collectors.toList());
+    }
+
+    /**
+     * Gives the shapes closer to a point than a distance, nearest first.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @param radius Maximum distance
+     * @return Shapes within the distance, sorted by distance
+     */
+    public List<Resolved> within(final double xcoor, final double ycoor,
+        final double radius) {
+        return this.query(
+            new Bounds(xcoor - radius, ycoor - radius, xcoor + radius, ycoor + radius)
+        ).stream().filter(shape -> shape.distance(xcoor, ycoor) <= radius)
+            .sorted(Comparator.comparingDouble(shape -> shape.distance(xcoor, ycoor)))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the shape nearest to a point among the shapes accepted by
+     * a filter. The R-tree is searched best-first: nodes are visited by
+     * increasing distance to their bounds, until this distance exceeds
+     * the one of the nearest shape found.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @param filter Accepted shapes
+     * @return The nearest accepted shape, if any
+     */
+    public Optional<Resolved> nearest(final double xcoor, final double ycoor,
+        final Predicate<? super Resolved> filter) {
+        Optional<Resolved> result = Optional.empty();
+        double best = Double.POSITIVE_INFINITY;
+        for (final ShapeIndex.Entry entry : this.unbounded) {
+            final double dist = entry.shape.distance(xcoor, ycoor);
+            if (dist < best && filter.test(entry.shape)) {
+                best = dist;
+                result = Optional.of(entry.shape);
+            }
+        }
+        final PriorityQueue<ShapeIndex.Node> queue = new PriorityQueue<>(
+            Comparator.comparingDouble(node -> node.box.get().distance(xcoor, ycoor))
+        );
+        if (this.root.box.isPresent()) {
+            queue.add(this.root);
+        }
+        while (!queue.isEmpty() && queue.peek().box.get().distance(xcoor, ycoor) < best) {
+            final ShapeIndex.Node node = queue.poll();
+            queue.addAll(node.children);
+            for (final ShapeIndex.Entry entry : node.entries) {
+                final double dist = entry.shape.distance(xcoor, ycoor);
+                if (dist < best && filter.test(entry.shape)) {
+                    best = dist;
+                    result = Optional.of(entry.shape);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the shape nearest to a point.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return The nearest shape, if any
+     */
+    public Optional<Resolved> nearest(final double xcoor, final double ycoor) {
+        return this.nearest(xcoor, ycoor, shape -> true);
+    }
+
+    /**
+     * Gives the unbounded shapes, in insertion order.
+     * @return Unbounded shapes
+     */
+    public List<Resolved> unbounded() {
+        return this.unbounded.stream().map(entry -> entry.shape)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Gives the number of indexed shapes.
+     * @return Shapes count
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Gives the R-tree height.
+     * @return Tree height, 1 for a single leaf
+     */
+    public int height() {
+        return this.root.level + 1;
+    }
+
+    /**
+     * Builds an entry for a new shape.
+     * @param shape Shape
+     * @return Entry
+     */
+    private ShapeIndex.Entry entry(final Resolved shape) {
+        final ShapeIndex.Entry result = new ShapeIndex.Entry(shape, this.sequence);
+        this.sequence += 1;
+        this.count += 1;
+        return result;
+    }
+
+    /**
+     * Inserts a bounded entry in the R-tree, growing a new root when
+     * the root splits.
+     * @param entry Entry to insert
+     */
+    private void add(final ShapeIndex.Entry entry) {
+        final Optional<ShapeIndex.Node> sibling = this.root.insert(entry);
+        if (sibling.isPresent()) {
+            final ShapeIndex.Node grown = new ShapeIndex.Node(this.root.level + 1);
+            grown.children.add(this.root);
+            grown.children.add(sibling.get());
+            grown.refresh();
+            this.root = grown;
+        }
+    }
+
+    /**
+     * Packs entries into an R-tree with Sort-Tile-Recursive.
+     * @param entries Bounded entries
+     * @return Tree root
+     */
+    private static ShapeIndex.Node pack(final List<ShapeIndex.Entry> entries) {
+        List<ShapeIndex.Node> level = new ArrayList<>(entries.size() / ShapeIndex.MAX + 1);
+        for (final List<ShapeIndex.Entry> tile
+            : ShapeIndex.tiles(entries, entry -> entry.box.get())) {
+            final ShapeIndex.Node leaf = new ShapeIndex.Node(0);
+            leaf.entries.addAll(tile);
+            leaf.refresh();
+            level.add(leaf);
+        }
+        int height = 1;
+        while (level.size() > 1) {
+            final List<ShapeIndex.Node> parents = new ArrayList<>(level.size() / ShapeIndex.MAX + 1);
+            for (final List<ShapeIndex.Node> tile
+                : ShapeIndex.tiles(level, node -> node.box.get())) {
+                final ShapeIndex.Node parent = new ShapeIndex.Node(height);
+                parent.children.addAll(tile);
+                parent.refresh();
+                parents.add(parent);
+            }
+            level = parents;
+            height += 1;
+        }
+        final ShapeIndex.Node result;
+        if (level.isEmpty()) {
+            result = new ShapeIndex.Node(0);
+        } else {
+            result = level.get(0);
+        }
+        return result;
+    }
+
+    /**
+     * Groups items into tiles of at most {@link #MAX} items: items are
+     * sorted by X into vertical slices, then each slice is sorted by Y and
+     * cut into tiles.
+     * @param items Items to group
+     * @param box Items bounds
+     * @param <E> Items type
+     * @return Tiles
+     */
+    private static <E> List<List<E>> tiles(final List<E> items,
+        final Function<E, Bounds> box) {
+        final int pages = (items.size() + ShapeIndex.MAX - 1) / ShapeIndex.MAX;
+        final int slices = (int) Math.ceil(Math.sqrt(pages));
+        final List<List<E>> result = new ArrayList<>(pages);
+        if (pages > 0) {
+            final int width = ShapeIndex.MAX * ((pages + slices - 1) / slices);
+            final List<E> sorted = new ArrayList<>(items);
+            sorted.sort(Comparator.comparingDouble(item -> box.apply(item).centerx()));
+            for (int from = 0; from < sorted.size(); from += width) {
+                final List<E> slice = new ArrayList<>(
+                    sorted.subList(from, Math.min(from + width, sorted.size()))
+                );
+                slice.sort(Comparator.comparingDouble(item -> box.apply(item).centery()));
+                for (int start = 0; start < slice.size(); start += ShapeIndex.MAX) {
+                    result.add(
+                        slice.subList(start, Math.min(start + ShapeIndex.MAX, slice.size()))
+                    );
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the first entry holding a shape.
+     * @param entries Entries
+     * @param shape Shape to remove
+     * @return True if an entry was removed
+     */
+    private static boolean removeFirst(final List<ShapeIndex.Entry> entries,
+        final Resolved shape) {
+        boolean result = false;
+        final Iterator<ShapeIndex.Entry> iterator = entries.iterator();
+        while (!result && iterator.hasNext()) {
+            if (iterator.next().shape == shape) {
+                iterator.remove();
+                result = true;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * An indexed shape.
+     */
+    private static final class Entry {
+
+        /**
+         * Shape.
+         */
+        private final Resolved shape;
+
+        /**
+         * Shape bounds.
+         */
+        private final Optional<Bounds> box;
+
+        /**
+         * Insertion order.
+         */
+        private final long order;
+
+        /**
+         * Ctor.
+         * @param shape Shape
+         * @param order Insertion order
+         */
+        Entry(final Resolved shape, final long order) {
+            this.shape = shape;
+            this.box = shape.bounds();
+            this.order = order;
+        }
+    }
+
+    /**
+     * R-tree node. Leaves (level 0) hold entries, other nodes hold children
+     * one level below.
+     */
+    private static final class Node {
+
+        /**
+         * Node level.
+         */
+        private final int level;
+
+        /**
+         * Children nodes.
+         */
+        private final List<ShapeIndex.Node> children;
+
+        /**
+         * Leaf entries.
+         */
+        private final List<ShapeIndex.Entry> entries;
+
+        /**
+         * Node bounds, absent for an empty node.
+         */
+        private Optional<Bounds> box;
+
+        /**
+         * Ctor. Builds an empty node.
+         * @param level Node level
+         */
+        Node(final int level) {
+            this.level = level;
+            this.children = new ArrayList<>(ShapeIndex.MAX + 1);
+            this.entries = new ArrayList<>(0);
+            this.box = Optional.empty();
+        }
+
+        /**
+         * Tells if the node is a leaf.
+         * @return True for leaves
+         */
+        public boolean leaf() {
+            return this.level == 0;
+        }
+
+        /**
+         * Gives the number of children or entries.
+         * @return Node size
+         */
+        public int size() {
+            final int result;
+            if (this.leaf()) {
+                result = this.entries.size();
+            } else {
+                result = this.children.size();
+            }
+            return result;
+        }
+
+        /**
+         * Inserts an entry below this node.
+         * @param entry Entry to insert
+         * @return A new sibling node if this node was split
+         */
+        public Optional<ShapeIndex.Node> insert(final ShapeIndex.Entry entry) {
+            final Bounds bounds = entry.box.get();
+            this.box = Optional.of(this.box.map(bounds::union).orElse(bounds));
+            if (this.leaf()) {
+                this.entries.add(entry);
+            } else {
+                this.choose(bounds).insert(entry).ifPresent(this.children::add);
+            }
+            final Optional<ShapeIndex.Node> result;
+            if (this.size() > ShapeIndex.MAX) {
+                result = Optional.of(this.split());
+            } else {
+                result = Optional.empty();
+            }
+            return result;
+        }
+
+        /**
+         * Removes a shape below this node, collecting the entries of the
+         * dissolved underfull nodes.
+         * @param shape Shape to remove
+         * @param bounds Shape bounds
+         * @param orphans Entries to insert again
+         * @return True if the shape was found
+         */
+        public boolean remove(final Resolved shape, final Bounds bounds,
+            final List<ShapeIndex.Entry> orphans) {
+            boolean result = false;
+            if (this.box.isPresent() && this.box.get().contains(bounds)) {
+                if (this.leaf()) {
+                    result = ShapeIndex.removeFirst(this.entries, shape);
+                } else {
+                    final Iterator<ShapeIndex.Node> iterator = this.children.iterator();
+                    while (!result && iterator.hasNext()) {
+                        final ShapeIndex.Node child = iterator.next();
+                        result = child.remove(shape, bounds, orphans);
+                        if (result && child.size() < ShapeIndex.MIN) {
+                            iterator.remove();
+                            child.collect(orphans);
+                        }
+                    }
+                }
+                if (result) {
+                    this.refresh();
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Collects the entries intersecting a window.
+         * @param window Query window
+         * @param found Collected entries
+         */
+        public void query(final Bounds window, final List<ShapeIndex.Entry> found) {
+            if (this.box.isPresent() && this.box.get().intersects(window)) {
+                if (this.leaf()) {
+                    for (final ShapeIndex.Entry entry : this.entries) {
+                        if (entry.box.get().intersects(window)) {
+                            found.add(entry);
+                        }
+                    }
+                } else {
+                    for (final ShapeIndex.Node child : this.children) {
+                        child.query(window, found);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Collects all the entries below this node.
+         * @param found Collected entries
+         */
+        public void collect(final List<ShapeIndex.Entry> found) {
+            found.addAll(this.entries);
+            for (final ShapeIndex.Node child : this.children) {
+                child.collect(found);
+            }
+        }
+
+        /**
+         * Recomputes the node bounds.
+         */
+        public void refresh() {
+            this.box = this.entries.stream().map(entry -> entry.box.get())
+                .reduce(Bounds::union);
+            for (final ShapeIndex.Node child : this.children) {
+                this.box = Optional.of(
+                    this.box.map(child.box.get()::union).orElse(child.box.get())
+                );
+            }
+        }
+
+        /**
+         * Chooses the child needing the least enlargement to hold bounds,
+         * the smallest one on ties.
+         * @param bounds Bounds to hold
+         * @return Chosen child
+         */
+        private ShapeIndex.Node choose(final Bounds bounds) {
+            return this.children.stream().min(
+                Comparator.<ShapeIndex.Node>comparingDouble(
+                    child -> child.box.get().union(bounds).area() - child.box.get().area()
+                ).thenComparingDouble(child -> child.box.get().area())
+            ).get();
+        }
+
+        /**
+         * Splits this overfull node in two halves along its longest axis,
+         * keeping the lower half.
+         * @return The node holding the upper half
+         */
+        private ShapeIndex.Node split() {
+            final Bounds bounds = this.box.get();
+            final boolean horizontal =
+                bounds.maxx() - bounds.minx() >= bounds.maxy() - bounds.miny();
+            final Function<Bounds, Double> center;
+            if (horizontal) {
+                center = Bounds::centerx;
+            } else {
+                center = Bounds::centery;
+            }
+            final ShapeIndex.Node result = new ShapeIndex.Node(this.level);
+            if (this.leaf()) {
+                ShapeIndex.Node.halve(
+                    this.entries, result.entries, entry -> center.apply(entry.box.get())
+                );
+            } else {
+                ShapeIndex.Node.halve(
+                    this.children, result.children, child -> center.apply(child.box.get())
+                );
+            }
+            this.refresh();
+            result.refresh();
+            return result;
+        }
+
+        /**
+         * Sorts items and moves their upper half to another list.
+         * @param items Items to split
+         * @param upper List receiving the upper half
+         * @param key Sort key
+         * @param <E> Items type
+         */
+        private static <E> void halve(final List<E> items, final List<E> upper,
+            final Function<E, Double> key) {
+            items.sort(Comparator.comparing(key));
+            final List<E> moved = items.subList(items.size() / 2, items.size());
+            upper.addAll(moved);
+            moved.clear();
+        }
+    }
+}
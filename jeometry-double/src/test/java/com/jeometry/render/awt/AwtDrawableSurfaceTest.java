@@ -23,14 +23,21 @@
  */
 package com.jeometry.render.awt;
 
+import com.aljebra.field.Field;
 import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
 import com.jeometry.model.decimal.DblPoint;
 import com.jeometry.render.Surface;
 import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
+import com.jeometry.twod.arc.RadAngleArc;
+import com.jeometry.twod.circle.PtRadCircle;
 import com.jeometry.twod.line.Line;
 import com.jeometry.twod.mock.SpyLine;
+import com.jeometry.twod.point.FreePoint;
+import com.jeometry.twod.segment.PtsSegment;
 import java.awt.Graphics2D;
+import java.awt.Point;
 import java.awt.event.MouseListener;
 import java.util.concurrent.CountDownLatch;
 import org.hamcrest.MatcherAssert;
@@ -129,4 +136,118 @@ public final class AwtDrawableSurfaceTest {
         latch.await();
         MatcherAssert.assertThat(line.directioned(), Matchers.equalTo(true));
     }
+
+    /**
+     * {@link AwtDrawableSurface} draws the resolved figure.
+     */
+    @Test
+    public void drawsResolvedFigure() {
+        final AwtDrawableSurface surface = new AwtDrawableSurface();
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        surface.setFigure(
+            new Figure().add(new PtsSegment<>(new DblPoint(0., 0.), new DblPoint(1., 2.)))
+        );
+        surface.paint(graphics);
+        Mockito.verify(graphics).drawLine(0, 0, 10, -20);
+    }
+
+    /**
+     * {@link AwtDrawableSurface} resolves the figure again when shapes are
+     * added to it, or when refreshed after points moved.
+     */
+    @Test
+    public void redrawsChangedFigure() {
+        final AwtDrawableSurface surface = new AwtDrawableSurface();
+        final FreePoint<Double> start = new FreePoint<>(0., 0.);
+        final Figure figure = new Figure().add(new PtsSegment<>(start, new DblPoint(1., 2.)));
+        surface.setFigure(figure);
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        figure.add(new PtsSegment<>(new DblPoint(0., 0.), new DblPoint(2., 0.)));
+        surface.paint(graphics);
+        Mockito.verify(graphics).drawLine(0, 0, 20, 0);
+        start.move(0.5, 0.);
+        surface.refresh();
+        surface.paint(graphics);
+        Mockito.verify(graphics).drawLine(5, 0, 10, -20);
+    }
+
+    /**
+     * {@link AwtDrawableSurface} draws the free points it moves where
+     * they moved.
+     */
+    @Test
+    public void redrawsMovedPoints() {
+        final AwtDrawableSurface surface = new AwtDrawableSurface();
+        final FreePoint<Double> start = new FreePoint<>(0., 0.);
+        surface.setFigure(new Figure().add(new PtsSegment<>(start, new DblPoint(1., 2.))));
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        surface.move(start, 0.5, 0.);
+        surface.paint(graphics);
+        Mockito.verify(graphics).drawLine(5, 0, 10, -20);
+    }
+
+    /**
+     * {@link AwtDrawableSurface} evaluates figures with the given field.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void usesGivenField() {
+        final Field<Double> field = Mockito.mock(Field.class);
+        Mockito.when(field.actual(Mockito.any())).thenAnswer(
+            invocation -> new Decimal().actual(invocation.getArgumentAt(0, Scalar.class))
+        );
+        final AwtDrawableSurface surface = new AwtDrawableSurface(field);
+        surface.setFigure(new Figure().add(new DblPoint(0.5, 0.5)));
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        surface.paint(graphics);
+        Mockito.verify(graphics).drawRect(3, -7, 4, 4);
+        Mockito.verify(field, Mockito.atLeastOnce()).actual(Mockito.any());
+    }
+
+    /**
+     * {@link AwtDrawableSurface} picks arcs where it draws them.
+     */
+    @Test
+    public void picksDrawnArcs() {
+        final AwtDrawableSurface surface = new AwtDrawableSurface();
+        surface.setFigure(
+            new Figure().add(
+                new RadAngleArc<>(
+                    new PtRadCircle<>(new DblPoint(0., 0.), new Scalar.Default<>(1.)),
+                    0., Math.PI / 2.
+                )
+            )
+        );
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        surface.paint(graphics);
+        Mockito.verify(graphics).drawArc(-10, -10, 20, 20, 0, 90);
+        MatcherAssert.assertThat(surface.pick(new Point(7, -7), 2).isPresent(), Matchers.is(true));
+        MatcherAssert.assertThat(surface.pick(new Point(7, 7), 2).isPresent(), Matchers.is(false));
+    }
+
+    /**
+     * {@link AwtDrawableSurface} picks the figure shape near a surface point,
+     * and highlights the hovered and selected shapes.
+     */
+    @Test
+    public void picksShapes() {
+        final AwtDrawableSurface surface = new AwtDrawableSurface();
+        final Figure figure = new Figure().add(
+            new PtsSegment<>(new DblPoint(0., 0.), new DblPoint(1., 2.))
+        );
+        surface.setFigure(figure);
+        final Shape<?> segment = figure.iterator().next();
+        MatcherAssert.assertThat(surface.pick(new Point(2, -1), 4).get(), Matchers.is(segment));
+        MatcherAssert.assertThat(surface.pick(new Point(2, 5), 4).isPresent(), Matchers.is(false));
+        MatcherAssert.assertThat(surface.hover(new Point(1, 1)), Matchers.is(true));
+        MatcherAssert.assertThat(surface.hover(new Point(0, 0)), Matchers.is(false));
+        MatcherAssert.assertThat(surface.hovered().get(), Matchers.is(segment));
+        surface.select(new Point(5, -10));
+        MatcherAssert.assertThat(surface.selected().get(), Matchers.is(segment));
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        surface.paint(graphics);
+        Mockito.verify(graphics, Mockito.times(3)).drawLine(0, 0, 10, -20);
+        surface.select(new Point(50, 50));
+        MatcherAssert.assertThat(surface.selected().isPresent(), Matchers.is(false));
+    }
 }
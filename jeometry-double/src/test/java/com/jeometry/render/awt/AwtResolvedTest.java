@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.awt;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.render.Surface;
+import com.jeometry.render.resolved.ResolvedAngle;
+import com.jeometry.render.resolved.ResolvedFigure;
+import com.jeometry.render.resolved.ResolvedRay;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.line.PtDirLine;
+import com.jeometry.twod.ray.PtDirRay;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.style.Dash;
+import com.jeometry.twod.style.impl.StrokeStyle;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link AwtResolved}.
+ * @since 0.5
+ */
+public final class AwtResolvedTest {
+
+    /**
+     * Surface size.
+     */
+    private static final int SIZE = 100;
+
+    /**
+     * {@link AwtResolved} draws resolved points and segments.
+     */
+    @Test
+    public void drawsPointsAndSegments() {
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        AwtResolvedTest.painter().paint(
+            new ResolvedFigure(
+                new Figure().add(new DblPoint(1., 2.))
+                    .add(new PtsSegment<>(new DblPoint(0., 0.), new DblPoint(1., 2.))),
+                new Decimal()
+            ),
+            graphics
+        );
+        Mockito.verify(graphics).drawRect(58, 28, 4, 4);
+        Mockito.verify(graphics).drawLine(50, 50, 60, 30);
+    }
+
+    /**
+     * {@link AwtResolved} draws resolved lines and rays across the surface.
+     */
+    @Test
+    public void drawsLinesAndRays() {
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        AwtResolvedTest.painter().paint(
+            new ResolvedFigure(
+                new Figure().add(new PtDirLine<>(new DblPoint(2., 0.), new DblPoint(0., 1.)))
+                    .add(new PtDirLine<>(new DblPoint(0., 1.), new DblPoint(1., 0.)))
+                    .add(new PtDirRay<>(new DblPoint(0., 0.), new DblPoint(0., -1.)))
+                    .add(new PtDirRay<>(new DblPoint(0., 0.), new DblPoint(1., 1.))),
+                new Decimal()
+            ),
+            graphics
+        );
+        Mockito.verify(graphics).drawLine(70, 0, 70, AwtResolvedTest.SIZE);
+        Mockito.verify(graphics).drawLine(0, 40, AwtResolvedTest.SIZE, 40);
+        Mockito.verify(graphics).drawLine(50, 50, 50, AwtResolvedTest.SIZE);
+        Mockito.verify(graphics).drawLine(50, 50, AwtResolvedTest.SIZE, 0);
+    }
+
+    /**
+     * {@link AwtResolved} draws and fills resolved circles.
+     */
+    @Test
+    public void drawsCircles() {
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        AwtResolvedTest.painter().paint(
+            new ResolvedFigure(
+                new Figure().add(
+                    new PtRadCircle<>(new DblPoint(0., 0.), new Scalar.Default<>(1.))
+                ),
+                new Decimal()
+            ),
+            graphics
+        );
+        Mockito.verify(graphics).drawOval(40, 40, 20, 20);
+        Mockito.verify(graphics).fillOval(40, 40, 20, 20);
+    }
+
+    /**
+     * {@link AwtResolved} draws resolved angles as their two rays.
+     */
+    @Test
+    public void drawsAngles() {
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        final Shape<?> shape = new Shape<>(Mockito.mock(Renderable.class));
+        AwtResolvedTest.painter().paint(
+            new ResolvedAngle(
+                shape, new ResolvedRay(shape, 0., 0., 1., 0.),
+                new ResolvedRay(shape, 0., 0., 0., 1.)
+            ),
+            graphics
+        );
+        Mockito.verify(graphics).drawLine(50, 50, AwtResolvedTest.SIZE, 50);
+        Mockito.verify(graphics).drawLine(50, 50, 50, 0);
+    }
+
+    /**
+     * {@link AwtResolved} draws resolved shapes with their shape stroke.
+     */
+    @Test
+    public void usesShapeStroke() {
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        AwtResolvedTest.painter().paint(
+            new ResolvedFigure(
+                new Figure().add(
+                    new Shape<>(
+                        new DblPoint(1., 2.), new StrokeStyle(Color.CYAN, Dash.SOLID, 1.f)
+                    )
+                ),
+                new Decimal()
+            ),
+            graphics
+        );
+        Mockito.verify(graphics).setColor(Color.CYAN);
+        Mockito.verify(graphics).drawRect(58, 28, 4, 4);
+    }
+
+    /**
+     * Builds a painter on a 100x100 surface with a scale of 10.
+     * @return Painter
+     */
+    private static AwtResolved painter() {
+        return new AwtResolved(
+            new Surface(
+                new Dimension(AwtResolvedTest.SIZE, AwtResolvedTest.SIZE),
+                10., new DblPoint(0., 0.)
+            )
+        );
+    }
+}
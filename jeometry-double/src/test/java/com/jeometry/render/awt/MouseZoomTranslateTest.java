@@ -23,7 +23,12 @@
  */
 package com.jeometry.render.awt;
 
+import com.aljebra.field.impl.doubles.Decimal;
 import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.point.FreePoint;
+import com.jeometry.twod.point.XyPoint;
+import java.awt.Point;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
 import org.hamcrest.MatcherAssert;
@@ -66,6 +71,34 @@ public final class MouseZoomTranslateTest {
         );
     }
 
+    /**
+     * {@link MouseZoomTranslate} moves the free points the user drags.
+     */
+    @Test
+    public void dragsFreePoints() {
+        final AwtDrawableSurface surface = new AwtDrawableSurface();
+        final FreePoint<Double> point = new FreePoint<>(1., 1.);
+        surface.setFigure(new Figure().add(point));
+        final MouseZoomTranslate mouse = new MouseZoomTranslate(surface);
+        final MouseEvent pressed = Mockito.mock(MouseEvent.class);
+        Mockito.when(pressed.getX()).thenReturn(10);
+        Mockito.when(pressed.getY()).thenReturn(-10);
+        final MouseEvent dragged = Mockito.mock(MouseEvent.class);
+        Mockito.when(dragged.getX()).thenReturn(5);
+        Mockito.when(dragged.getY()).thenReturn(0);
+        mouse.mousePressed(pressed);
+        mouse.mouseDragged(dragged);
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(field.actual(point.xcoor()), Matchers.closeTo(0.5, 1.e-9));
+        MatcherAssert.assertThat(field.actual(point.ycoor()), Matchers.closeTo(0., 1.e-9));
+        MatcherAssert.assertThat(
+            surface.context().center(), Matchers.equalTo(new DblPoint(0., 0.))
+        );
+        MatcherAssert.assertThat(
+            surface.pick(new Point(5, 0), 1).isPresent(), Matchers.is(true)
+        );
+    }
+
     /**
      * {@link MouseZoomTranslate} zooms in and out when mouse wheel is rotated.
      */
@@ -89,4 +122,28 @@ public final class MouseZoomTranslateTest {
             Matchers.lessThan(scale)
         );
     }
+
+    /**
+     * {@link MouseZoomTranslate} hovers and selects shapes under the mouse.
+     */
+    @Test
+    public void hoversAndSelects() {
+        final AwtDrawableSurface surface = new AwtDrawableSurface();
+        final Figure figure = new Figure().add(new XyPoint<>(new DblPoint(1., 1.)));
+        surface.setFigure(figure);
+        final MouseZoomTranslate mouse = new MouseZoomTranslate(surface);
+        final MouseEvent event = Mockito.mock(MouseEvent.class);
+        Mockito.when(event.getPoint()).thenReturn(new Point(11, -9));
+        mouse.mouseMoved(event);
+        MatcherAssert.assertThat(
+            surface.hovered().get(), Matchers.is(figure.iterator().next())
+        );
+        mouse.mouseClicked(event);
+        MatcherAssert.assertThat(
+            surface.selected().get(), Matchers.is(figure.iterator().next())
+        );
+        Mockito.when(event.getPoint()).thenReturn(new Point(100, 100));
+        mouse.mouseMoved(event);
+        MatcherAssert.assertThat(surface.hovered().isPresent(), Matchers.is(false));
+    }
 }
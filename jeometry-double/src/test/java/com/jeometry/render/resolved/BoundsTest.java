@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Bounds}.
+ * @since 0.5
+ */
+public final class BoundsTest {
+
+    /**
+     * {@link Bounds} orders its coordinates.
+     */
+    @Test
+    public void ordersCoordinates() {
+        final Bounds bounds = new Bounds(3., -1., 1., 2.);
+        MatcherAssert.assertThat(bounds.minx(), Matchers.equalTo(1.));
+        MatcherAssert.assertThat(bounds.miny(), Matchers.equalTo(-1.));
+        MatcherAssert.assertThat(bounds.maxx(), Matchers.equalTo(3.));
+        MatcherAssert.assertThat(bounds.maxy(), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(bounds.area(), Matchers.equalTo(6.));
+        MatcherAssert.assertThat(bounds.centerx(), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(bounds.centery(), Matchers.equalTo(.5));
+    }
+
+    /**
+     * {@link Bounds} checks intersection and containment.
+     */
+    @Test
+    public void intersectsAndContains() {
+        final Bounds bounds = new Bounds(0., 0., 2., 2.);
+        MatcherAssert.assertThat(
+            bounds.intersects(new Bounds(2., 2., 3., 3.)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            bounds.intersects(new Bounds(2.5, 0., 3., 3.)), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            bounds.contains(new Bounds(.5, .5, 1., 2.)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            bounds.contains(new Bounds(.5, .5, 1., 2.5)), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            bounds.union(new Bounds(-1., 1., 1., 3.)),
+            Matchers.equalTo(new Bounds(-1., 0., 2., 3.))
+        );
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.angle.PtsAngle;
+import com.jeometry.twod.arc.RadAngleArc;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.line.PtDirLine;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.ray.PtDirRay;
+import com.jeometry.twod.segment.PtsSegment;
+import java.util.Arrays;
+import java.util.Iterator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link ResolvedFigure}.
+ * @since 0.5
+ */
+public final class ResolvedFigureTest {
+
+    /**
+     * {@link ResolvedFigure} resolves points, segments and circles.
+     */
+    @Test
+    public void resolvesPointsSegmentsAndCircles() {
+        final ResolvedFigure resolved = new ResolvedFigure(
+            new Figure().add(new DblPoint(1., 2.))
+                .add(new PtsSegment<>(new DblPoint(0., 1.), new DblPoint(3., 4.)))
+                .add(new PtRadCircle<>(new DblPoint(-1., 1.), new Scalar.Default<>(2.))),
+            new Decimal()
+        );
+        MatcherAssert.assertThat(resolved.size(), Matchers.equalTo(3));
+        final Iterator<Resolved> shapes = resolved.iterator();
+        final ResolvedPoint point = (ResolvedPoint) shapes.next();
+        MatcherAssert.assertThat(point.xcoor(), Matchers.equalTo(1.));
+        MatcherAssert.assertThat(point.ycoor(), Matchers.equalTo(2.));
+        final ResolvedSegment seg = (ResolvedSegment) shapes.next();
+        MatcherAssert.assertThat(
+            new double[] {seg.startx(), seg.starty(), seg.endx(), seg.endy()},
+            Matchers.equalTo(new double[] {0., 1., 3., 4.})
+        );
+        final ResolvedCircle circle = (ResolvedCircle) shapes.next();
+        MatcherAssert.assertThat(
+            new double[] {circle.centerx(), circle.centery(), circle.radius()},
+            Matchers.equalTo(new double[] {-1., 1., 2.})
+        );
+    }
+
+    /**
+     * {@link ResolvedFigure} resolves lines to their equations.
+     */
+    @Test
+    public void resolvesLines() {
+        final DblPoint first = new DblPoint(0., 1.);
+        final DblPoint second = new DblPoint(1., 3.);
+        final ResolvedFigure resolved = new ResolvedFigure(
+            new Figure().add(new PtsLine<>(first, second))
+                .add(new PtDirLine<>(new DblPoint(2., 5.), new DblPoint(0., 1.))),
+            new Decimal()
+        );
+        final Iterator<Resolved> shapes = resolved.iterator();
+        final ResolvedLine line = (ResolvedLine) shapes.next();
+        final double error = 1.e-9;
+        MatcherAssert.assertThat(line.vertical(), Matchers.is(false));
+        MatcherAssert.assertThat(
+            line.xcoef() * first.dblx() + line.ycoef() * first.dbly() + line.constant(),
+            Matchers.closeTo(0., error)
+        );
+        MatcherAssert.assertThat(
+            line.xcoef() * second.dblx() + line.ycoef() * second.dbly() + line.constant(),
+            Matchers.closeTo(0., error)
+        );
+        final ResolvedLine vertical = (ResolvedLine) shapes.next();
+        MatcherAssert.assertThat(vertical.vertical(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            -vertical.constant() / vertical.xcoef(), Matchers.closeTo(2., error)
+        );
+    }
+
+    /**
+     * {@link ResolvedFigure} resolves rays, angles, arcs and polylines.
+     */
+    @Test
+    public void resolvesRaysAnglesArcsAndPolylines() {
+        final ResolvedFigure resolved = new ResolvedFigure(
+            new Figure().add(new PtDirRay<>(new DblPoint(1., 1.), new DblPoint(2., 3.)))
+                .add(
+                    new PtsAngle<>(
+                        new DblPoint(0., 0.), new DblPoint(1., 0.), new DblPoint(0., 1.)
+                    )
+                )
+                .add(
+                    new RadAngleArc<>(
+                        new PtRadCircle<>(new DblPoint(0., 0.), new Scalar.Default<>(1.)),
+                        0., Math.PI
+                    )
+                )
+                .add(
+                    new PtsPolyline<>(
+                        Arrays.asList(
+                            new DblPoint(0., 0.), new DblPoint(1., 1.), new DblPoint(2., 0.)
+                        )
+                    )
+                ),
+            new Decimal()
+        );
+        final Iterator<Resolved> shapes = resolved.iterator();
+        final ResolvedRay ray = (ResolvedRay) shapes.next();
+        MatcherAssert.assertThat(
+            new double[] {ray.originx(), ray.originy(), ray.dirx(), ray.diry()},
+            Matchers.equalTo(new double[] {1., 1., 2., 3.})
+        );
+        final ResolvedAngle angle = (ResolvedAngle) shapes.next();
+        MatcherAssert.assertThat(angle.start().originx(), Matchers.equalTo(0.));
+        MatcherAssert.assertThat(angle.end().vertical(), Matchers.is(true));
+        final ResolvedArc arc = (ResolvedArc) shapes.next();
+        MatcherAssert.assertThat(arc.radius(), Matchers.equalTo(1.));
+        MatcherAssert.assertThat(arc.end(), Matchers.equalTo(Math.PI));
+        final ResolvedPolyline polyline = (ResolvedPolyline) shapes.next();
+        MatcherAssert.assertThat(polyline.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(polyline.xcoor(2), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(polyline.ycoor(1), Matchers.equalTo(1.));
+    }
+
+    /**
+     * {@link ResolvedFigure} evaluates shared quantities once.
+     */
+    @Test
+    public void evaluatesSharedQuantitiesOnce() {
+        final Scalar<Double> shared = Mockito.spy(new Scalar.Default<>(2.));
+        final XyPoint<Double> point = new XyPoint<>(shared, shared);
+        new ResolvedFigure(
+            new Figure().add(point).add(new PtsSegment<>(point, new DblPoint(0., 0.))),
+            new Decimal()
+        );
+        Mockito.verify(shared, Mockito.times(1)).value(Mockito.any());
+    }
+
+    /**
+     * {@link ResolvedFigure} keeps unsupported shapes aside.
+     */
+    @Test
+    public void keepsUnsupportedShapes() {
+        final Shape<?> shape = new Shape<>(Mockito.mock(Renderable.class));
+        final ResolvedFigure resolved = new ResolvedFigure(
+            new Figure().add(shape).add(new DblPoint(0., 0.)), new Decimal()
+        );
+        MatcherAssert.assertThat(resolved.unresolved(), Matchers.contains(shape));
+        MatcherAssert.assertThat(resolved.size(), Matchers.equalTo(1));
+    }
+
+    /**
+     * {@link ResolvedFigure} shapes give their bounds.
+     */
+    @Test
+    public void givesBounds() {
+        final Iterator<Resolved> shapes = new ResolvedFigure(
+            new Figure().add(new PtRadCircle<>(new DblPoint(1., 1.), new Scalar.Default<>(2.)))
+                .add(
+                    new PtsPolyline<>(
+                        Arrays.asList(
+                            new DblPoint(0., 3.), new DblPoint(1., -1.), new DblPoint(2., 0.)
+                        )
+                    )
+                )
+                .add(new PtDirLine<>(new DblPoint(0., 0.), new DblPoint(1., 1.))),
+            new Decimal()
+        ).iterator();
+        MatcherAssert.assertThat(
+            shapes.next().bounds().get(), Matchers.equalTo(new Bounds(-1., -1., 3., 3.))
+        );
+        MatcherAssert.assertThat(
+            shapes.next().bounds().get(), Matchers.equalTo(new Bounds(0., -1., 2., 3.))
+        );
+        MatcherAssert.assertThat(shapes.next().bounds().isPresent(), Matchers.is(false));
+    }
+
+    /**
+     * Resolved shapes give their exact distance to a point.
+     */
+    @Test
+    public void givesDistances() {
+        final Shape<?> shape = new Shape<>(Mockito.mock(Renderable.class));
+        final double error = 1.e-9;
+        MatcherAssert.assertThat(
+            new ResolvedPoint(shape, 1., 1.).distance(4., 5.), Matchers.closeTo(5., error)
+        );
+        MatcherAssert.assertThat(
+            new ResolvedLine(shape, 0., 1., -2.).distance(7., 5.), Matchers.closeTo(3., error)
+        );
+        final ResolvedSegment segment = new ResolvedSegment(shape, 0., 0., 2., 0.);
+        MatcherAssert.assertThat(segment.distance(1., 3.), Matchers.closeTo(3., error));
+        MatcherAssert.assertThat(segment.distance(5., 4.), Matchers.closeTo(5., error));
+        final ResolvedRay ray = new ResolvedRay(shape, 0., 0., 1., 0.);
+        MatcherAssert.assertThat(ray.distance(10., 2.), Matchers.closeTo(2., error));
+        MatcherAssert.assertThat(ray.distance(-3., 4.), Matchers.closeTo(5., error));
+        final ResolvedCircle circle = new ResolvedCircle(shape, 0., 0., 2.);
+        MatcherAssert.assertThat(circle.distance(0., 0.5), Matchers.closeTo(1.5, error));
+        MatcherAssert.assertThat(circle.distance(0., -5.), Matchers.closeTo(3., error));
+        final ResolvedArc arc = new ResolvedArc(shape, 0., 0., 1., 0., Math.PI / 2.);
+        MatcherAssert.assertThat(arc.distance(2., 0.), Matchers.closeTo(1., error));
+        MatcherAssert.assertThat(
+            arc.distance(1., 1.), Matchers.closeTo(Math.sqrt(2.) - 1., error)
+        );
+        MatcherAssert.assertThat(arc.distance(0., -2.), Matchers.closeTo(Math.sqrt(5.), error));
+        MatcherAssert.assertThat(
+            new ResolvedAngle(shape, ray, new ResolvedRay(shape, 0., 0., 0., 1.))
+                .distance(-1., 3.),
+            Matchers.closeTo(1., error)
+        );
+        final ResolvedPolyline polyline = new ResolvedPolyline(
+            shape, new double[] {0., 2., 2.}, new double[] {0., 0., 2.}
+        );
+        MatcherAssert.assertThat(polyline.distance(3., 1.), Matchers.closeTo(1., error));
+        MatcherAssert.assertThat(polyline.distance(1., -1.), Matchers.closeTo(1., error));
+    }
+}
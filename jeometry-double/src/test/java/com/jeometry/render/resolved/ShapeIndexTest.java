@@ -0,0 +1,254 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.resolved;
+
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link ShapeIndex}.
+ * @since 0.5
+ */
+public final class ShapeIndexTest {
+
+    /**
+     * Number of random shapes.
+     */
+    private static final int COUNT = 2000;
+
+    /**
+     * {@link ShapeIndex} bulk loaded answers window queries like
+     * a linear scan.
+     */
+    @Test
+    public void queriesBulkLoadedShapes() {
+        final Random random = new Random(42L);
+        final List<Resolved> shapes = ShapeIndexTest.shapes(random);
+        final ShapeIndex index = new ShapeIndex(shapes);
+        MatcherAssert.assertThat(index.size(), Matchers.equalTo(ShapeIndexTest.COUNT));
+        MatcherAssert.assertThat(index.height(), Matchers.greaterThan(1));
+        for (int query = 0; query < 50; ++query) {
+            final Bounds window = ShapeIndexTest.window(random);
+            MatcherAssert.assertThat(
+                index.query(window), Matchers.equalTo(ShapeIndexTest.scan(shapes, window))
+            );
+        }
+    }
+
+    /**
+     * {@link ShapeIndex} answers window queries like a linear scan
+     * after insertions and removals.
+     */
+    @Test
+    public void queriesAfterUpdates() {
+        final Random random = new Random(7L);
+        final List<Resolved> shapes = ShapeIndexTest.shapes(random);
+        final ShapeIndex index = new ShapeIndex();
+        for (final Resolved shape : shapes) {
+            index.insert(shape);
+        }
+        final List<Resolved> kept = new ArrayList<>(shapes.size());
+        for (int idx = 0; idx < shapes.size(); ++idx) {
+            if (idx % 3 == 0) {
+                MatcherAssert.assertThat(index.remove(shapes.get(idx)), Matchers.is(true));
+            } else {
+                kept.add(shapes.get(idx));
+            }
+        }
+        MatcherAssert.assertThat(index.size(), Matchers.equalTo(kept.size()));
+        MatcherAssert.assertThat(index.remove(shapes.get(0)), Matchers.is(false));
+        for (int query = 0; query < 50; ++query) {
+            final Bounds window = ShapeIndexTest.window(random);
+            MatcherAssert.assertThat(
+                index.query(window), Matchers.equalTo(ShapeIndexTest.scan(kept, window))
+            );
+        }
+        for (final Resolved shape : kept) {
+            index.remove(shape);
+        }
+        MatcherAssert.assertThat(index.size(), Matchers.equalTo(0));
+        MatcherAssert.assertThat(
+            index.query(new Bounds(-1.e9, -1.e9, 1.e9, 1.e9)), Matchers.empty()
+        );
+    }
+
+    /**
+     * {@link ShapeIndex} always gives back unbounded shapes.
+     */
+    @Test
+    public void keepsUnboundedShapes() {
+        final Resolved line = new ResolvedLine(ShapeIndexTest.shape(), 1., 1., 0.);
+        final Resolved point = new ResolvedPoint(ShapeIndexTest.shape(), 5., 5.);
+        final ShapeIndex index = new ShapeIndex();
+        index.insert(point);
+        index.insert(line);
+        MatcherAssert.assertThat(
+            index.query(new Bounds(100., 100., 101., 101.)), Matchers.contains(line)
+        );
+        MatcherAssert.assertThat(
+            index.query(new Bounds(4., 4., 6., 6.)), Matchers.contains(point, line)
+        );
+        MatcherAssert.assertThat(index.unbounded(), Matchers.contains(line));
+        MatcherAssert.assertThat(index.remove(line), Matchers.is(true));
+        MatcherAssert.assertThat(index.unbounded(), Matchers.empty());
+    }
+
+    /**
+     * {@link ShapeIndex} finds the nearest shape and the shapes within
+     * a distance like a linear scan.
+     */
+    @Test
+    public void findsNearestShapes() {
+        final Random random = new Random(11L);
+        final List<Resolved> shapes = ShapeIndexTest.shapes(random);
+        final ShapeIndex index = new ShapeIndex(shapes);
+        for (int query = 0; query < 50; ++query) {
+            final double xcoor = random.nextDouble() * 1000.;
+            final double ycoor = random.nextDouble() * 1000.;
+            final double best = shapes.stream().mapToDouble(
+                shape -> shape.distance(xcoor, ycoor)
+            ).min().getAsDouble();
+            MatcherAssert.assertThat(
+                index.nearest(xcoor, ycoor).get().distance(xcoor, ycoor),
+                Matchers.equalTo(best)
+            );
+            final double radius = random.nextDouble() * 30.;
+            final List<Resolved> within = index.within(xcoor, ycoor, radius);
+            MatcherAssert.assertThat(
+                within,
+                Matchers.containsInAnyOrder(
+                    shapes.stream().filter(
+                        shape -> shape.distance(xcoor, ycoor) <= radius
+                    ).toArray()
+                )
+            );
+            for (int idx = 1; idx < within.size(); ++idx) {
+                MatcherAssert.assertThat(
+                    within.get(idx).distance(xcoor, ycoor),
+                    Matchers.greaterThanOrEqualTo(within.get(idx - 1).distance(xcoor, ycoor))
+                );
+            }
+        }
+    }
+
+    /**
+     * {@link ShapeIndex} finds the nearest shape of a given kind.
+     */
+    @Test
+    public void findsNearestShapeOfKind() {
+        final Resolved point = new ResolvedPoint(ShapeIndexTest.shape(), 10., 0.);
+        final Resolved circle = new ResolvedCircle(ShapeIndexTest.shape(), 0., 0., 1.);
+        final Resolved line = new ResolvedLine(ShapeIndexTest.shape(), 0., 1., -3.);
+        final ShapeIndex index = new ShapeIndex();
+        index.insert(point);
+        index.insert(circle);
+        index.insert(line);
+        MatcherAssert.assertThat(index.nearest(0., 0.).get(), Matchers.is(circle));
+        MatcherAssert.assertThat(index.nearest(0., 2.5).get(), Matchers.is(line));
+        MatcherAssert.assertThat(
+            index.nearest(0., 0., ResolvedPoint.class::isInstance).get(), Matchers.is(point)
+        );
+        MatcherAssert.assertThat(
+            index.nearest(0., 0., ResolvedArc.class::isInstance).isPresent(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(new ShapeIndex().nearest(0., 0.).isPresent(), Matchers.is(false));
+    }
+
+    /**
+     * Filters shapes intersecting a window, or unbounded.
+     * @param shapes Shapes
+     * @param window Window
+     * @return Filtered shapes
+     */
+    private static List<Resolved> scan(final List<Resolved> shapes, final Bounds window) {
+        return shapes.stream().filter(
+            shape -> shape.bounds().map(window::intersects).orElse(true)
+        ).collect(Collectors.toList());
+    }
+
+    /**
+     * Builds random points, segments, circles and lines.
+     * @param random Random generator
+     * @return Shapes
+     */
+    private static List<Resolved> shapes(final Random random) {
+        final List<Resolved> result = new ArrayList<>(ShapeIndexTest.COUNT);
+        for (int idx = 0; idx < ShapeIndexTest.COUNT; ++idx) {
+            final double xcoor = random.nextDouble() * 1000.;
+            final double ycoor = random.nextDouble() * 1000.;
+            final int kind = idx % 4;
+            if (kind == 0) {
+                result.add(new ResolvedPoint(ShapeIndexTest.shape(), xcoor, ycoor));
+            } else if (kind == 1) {
+                result.add(
+                    new ResolvedSegment(
+                        ShapeIndexTest.shape(), xcoor, ycoor,
+                        xcoor + random.nextDouble() * 20., ycoor - random.nextDouble() * 20.
+                    )
+                );
+            } else if (kind == 2) {
+                result.add(
+                    new ResolvedCircle(
+                        ShapeIndexTest.shape(), xcoor, ycoor, random.nextDouble() * 10.
+                    )
+                );
+            } else if (idx % 100 == 3) {
+                result.add(new ResolvedLine(ShapeIndexTest.shape(), 1., 0., -xcoor));
+            } else {
+                result.add(new ResolvedPoint(ShapeIndexTest.shape(), xcoor, ycoor));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds a random window.
+     * @param random Random generator
+     * @return Window
+     */
+    private static Bounds window(final Random random) {
+        final double xcoor = random.nextDouble() * 1000.;
+        final double ycoor = random.nextDouble() * 1000.;
+        return new Bounds(
+            xcoor, ycoor, xcoor + random.nextDouble() * 100., ycoor + random.nextDouble() * 100.
+        );
+    }
+
+    /**
+     * Builds a shape.
+     * @return A shape
+     */
+    private static Shape<?> shape() {
+        return new Shape<>(Mockito.mock(Renderable.class));
+    }
+}